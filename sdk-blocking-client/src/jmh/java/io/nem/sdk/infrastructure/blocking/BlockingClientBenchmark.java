@@ -0,0 +1,155 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.blocking.BlockingChainRepository;
+import io.nem.sdk.api.blocking.BlockingRepositoryFactory;
+import io.nem.sdk.infrastructure.okhttp.RepositoryFactoryOkHttpImpl;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the blocking repositories against the Rx OkHttp repositories: the overhead of one
+ * request at a time and the throughput of many concurrent requests. The blocking requests run on
+ * virtual threads when the JVM has them (Java 21), on a cached thread pool otherwise. A local
+ * server answers the chain height. Run it with {@code ./gradlew :sdk-blocking-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingClientBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 512;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private ExecutorService executor;
+
+    private RepositoryFactory rxFactory;
+
+    private ChainRepository rxRepository;
+
+    private BlockingRepositoryFactory blockingFactory;
+
+    private BlockingChainRepository blockingRepository;
+
+    @Setup
+    public void setup() throws IOException {
+        // Without it the server's small responses wait for the delayed acks.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        byte[] body = "{\"height\":\"1000\"}".getBytes(StandardCharsets.UTF_8);
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        rxFactory = new RepositoryFactoryOkHttpImpl(baseUrl);
+        rxRepository = rxFactory.createChainRepository();
+        blockingFactory = new BlockingRepositoryFactoryImpl(baseUrl);
+        blockingRepository = blockingFactory.createChainRepository();
+        executor = createExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        rxFactory.close();
+        blockingFactory.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public BigInteger blockingRequest() {
+        return blockingRepository.getBlockchainHeight();
+    }
+
+    @Benchmark
+    public BigInteger rxRequest() {
+        return rxRepository.getBlockchainHeight().blockingFirst();
+    }
+
+    @Benchmark
+    public List<BigInteger> blockingConcurrentRequests()
+        throws InterruptedException, ExecutionException {
+        List<Future<BigInteger>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(blockingRepository::getBlockchainHeight));
+        }
+        List<BigInteger> heights = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (Future<BigInteger> future : futures) {
+            heights.add(future.get());
+        }
+        return heights;
+    }
+
+    @Benchmark
+    public List<BigInteger> rxConcurrentRequests() {
+        return Observable.range(0, CONCURRENT_REQUESTS)
+            .flatMap(i -> rxRepository.getBlockchainHeight()).toList().blockingGet();
+    }
+
+    /**
+     * Virtual threads are looked up reflectively so the module still builds for Java 11.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api.blocking;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import java.util.List;
+
+/**
+ * Blocking version of the {@link AccountRepository}. The calls block the calling thread until the
+ * response arrives and fail with a {@link io.nem.sdk.api.RepositoryCallException}.
+ */
+public interface BlockingAccountRepository {
+
+    /**
+     * Gets an AccountInfo for an account.
+     *
+     * @param address Address
+     * @return the {@link AccountInfo}
+     */
+    AccountInfo getAccountInfo(Address address);
+
+    /**
+     * Gets AccountsInfo for different accounts based on their addresses.
+     *
+     * @param addresses {@link List} of {@link Address}
+     * @return {@link List} of {@link AccountInfo}
+     */
+    List<AccountInfo> getAccountsInfo(List<Address> addresses);
+
+    /**
+     * Gets an list of confirmed transactions for which an account is signer or receiver. With
+     * pagination.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> transactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria);
+
+    /**
+     * Gets an list of transactions for which an account is the recipient of a transaction. With
+     * pagination.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> incomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria);
+
+    /**
+     * Gets an list of transactions for which an account is the sender a transaction. With
+     * pagination.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> outgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria);
+
+    /**
+     * Gets the list of transactions for which an account is the sender or receiver and which have
+     * not yet been included in a block. With pagination.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> unconfirmedTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria);
+
+    /**
+     * Gets an list of aggregate bonded transactions where the account is the sender or requires
+     * to cosign the transaction. With pagination.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return {@link List} of {@link AggregateTransaction}
+     */
+    List<AggregateTransaction> aggregateBondedTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria);
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api.blocking;
+
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Blocking version of the {@link BlockRepository}. The calls block the calling thread until the
+ * response arrives and fail with a {@link io.nem.sdk.api.RepositoryCallException}.
+ */
+public interface BlockingBlockRepository {
+
+    /**
+     * Gets a BlockInfo for a given block height.
+     *
+     * @param height BigInteger
+     * @return {@link BlockInfo}
+     */
+    BlockInfo getBlockByHeight(BigInteger height);
+
+    /**
+     * Gets a list of transactions for a specific block. With pagination.
+     *
+     * @param height BigInteger
+     * @param queryParams QueryParams
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> getBlockTransactions(BigInteger height, QueryParams queryParams);
+
+    /**
+     * Gets up to limit number of blocks after given block height.
+     *
+     * @param height BigInteger
+     * @param limit int
+     * @return {@link List} of {@link BlockInfo}
+     */
+    List<BlockInfo> getBlocksByHeightWithLimit(BigInteger height, int limit);
+
+    /**
+     * Get the merkle path for a given a transaction and block.
+     *
+     * @param height the height
+     * @param hash the hash.
+     * @return {@link MerkelProofInfo}
+     */
+    MerkelProofInfo getMerkleTransaction(BigInteger height, String hash);
+}
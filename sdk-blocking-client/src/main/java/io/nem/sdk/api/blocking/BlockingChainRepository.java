@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api.blocking;
+
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.model.blockchain.BlockchainScore;
+import java.math.BigInteger;
+
+/**
+ * Blocking version of the {@link ChainRepository}. The calls block the calling thread until the
+ * response arrives and fail with a {@link io.nem.sdk.api.RepositoryCallException}.
+ */
+public interface BlockingChainRepository {
+
+    /**
+     * Gets current blockchain height.
+     *
+     * @return the height.
+     */
+    BigInteger getBlockchainHeight();
+
+    /**
+     * Gets current blockchain score.
+     *
+     * @return the score.
+     */
+    BlockchainScore getChainScore();
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api.blocking;
+
+import java.io.Closeable;
+
+/**
+ * Creates the blocking repositories of a rest gateway. The blocking calls suit request/response
+ * code running on many threads, on virtual threads (Java 21) a blocked call doesn't hold a
+ * platform thread. The {@link io.nem.sdk.api.RepositoryFactory} repositories remain the way to
+ * compose and stream calls.
+ */
+public interface BlockingRepositoryFactory extends Closeable {
+
+    /**
+     * @return a newly created {@link BlockingAccountRepository}
+     */
+    BlockingAccountRepository createAccountRepository();
+
+    /**
+     * @return a newly created {@link BlockingTransactionRepository}
+     */
+    BlockingTransactionRepository createTransactionRepository();
+
+    /**
+     * @return a newly created {@link BlockingBlockRepository}
+     */
+    BlockingBlockRepository createBlockRepository();
+
+    /**
+     * @return a newly created {@link BlockingChainRepository}
+     */
+    BlockingChainRepository createChainRepository();
+
+    /**
+     * It closes the underling connection if necessary.
+     */
+    void close();
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api.blocking;
+
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.sdk.model.transaction.TransactionStatus;
+import java.util.List;
+
+/**
+ * Blocking version of the {@link TransactionRepository}. The calls block the calling thread until
+ * the response arrives and fail with a {@link io.nem.sdk.api.RepositoryCallException}.
+ */
+public interface BlockingTransactionRepository {
+
+    /**
+     * Gets a transaction for a transaction hash.
+     *
+     * @param transactionHash String
+     * @return {@link Transaction}
+     */
+    Transaction getTransaction(String transactionHash);
+
+    /**
+     * Gets an list of transactions for different transaction hashes.
+     *
+     * @param transactionHashes {@link List} of String
+     * @return {@link List} of {@link Transaction}
+     */
+    List<Transaction> getTransactions(List<String> transactionHashes);
+
+    /**
+     * Gets a transaction status for a transaction hash.
+     *
+     * @param transactionHash String
+     * @return {@link TransactionStatus}
+     */
+    TransactionStatus getTransactionStatus(String transactionHash);
+
+    /**
+     * Gets an list of transaction status for different transaction hashes.
+     *
+     * @param transactionHashes {@link List} of String
+     * @return {@link List} of {@link TransactionStatus}
+     */
+    List<TransactionStatus> getTransactionStatuses(List<String> transactionHashes);
+
+    /**
+     * Send a signed transaction.
+     *
+     * @param signedTransaction SignedTransaction
+     * @return {@link TransactionAnnounceResponse}
+     */
+    TransactionAnnounceResponse announce(SignedTransaction signedTransaction);
+
+    /**
+     * Send a signed transaction with missing signatures.
+     *
+     * @param signedTransaction SignedTransaction
+     * @return {@link TransactionAnnounceResponse}
+     */
+    TransactionAnnounceResponse announceAggregateBonded(SignedTransaction signedTransaction);
+
+    /**
+     * Send a cosignature signed transaction of an already announced transaction.
+     *
+     * @param cosignatureSignedTransaction CosignatureSignedTransaction
+     * @return {@link TransactionAnnounceResponse}
+     */
+    TransactionAnnounceResponse announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction);
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import static io.nem.sdk.infrastructure.blocking.BlockingApiClient.encode;
+
+import com.google.gson.reflect.TypeToken;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.api.blocking.BlockingAccountRepository;
+import io.nem.sdk.infrastructure.okhttp.AccountRepositoryOkHttpImpl;
+import io.nem.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.sdk.infrastructure.okhttp.mappers.TransactionMapper;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BlockingAccountRepository} over a {@link BlockingApiClient}.
+ */
+public class BlockingAccountRepositoryImpl implements BlockingAccountRepository {
+
+    private static final Type ACCOUNTS_TYPE = new TypeToken<List<AccountInfoDTO>>() {
+    }.getType();
+
+    private static final Type TRANSACTIONS_TYPE = new TypeToken<List<TransactionInfoDTO>>() {
+    }.getType();
+
+    private final BlockingApiClient apiClient;
+
+    private final TransactionMapper transactionMapper;
+
+    public BlockingAccountRepositoryImpl(BlockingApiClient apiClient) {
+        this.apiClient = apiClient;
+        this.transactionMapper = new GeneralTransactionMapper(apiClient.getJsonHelper());
+    }
+
+    @Override
+    public AccountInfo getAccountInfo(Address address) {
+        AccountInfoDTO dto = apiClient
+            .get("/account/" + encode(address.plain()), AccountInfoDTO.class);
+        return AccountRepositoryOkHttpImpl.toAccountInfo(dto.getAccount());
+    }
+
+    @Override
+    public List<AccountInfo> getAccountsInfo(List<Address> addresses) {
+        AccountIds accountIds = new AccountIds()
+            .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
+        List<AccountInfoDTO> dtos = apiClient.post("/account", accountIds, ACCOUNTS_TYPE);
+        return dtos.stream().map(AccountInfoDTO::getAccount)
+            .map(AccountRepositoryOkHttpImpl::toAccountInfo).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Transaction> transactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return getTransactions(publicAccount, "/transactions", criteria);
+    }
+
+    @Override
+    public List<Transaction> incomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return getTransactions(publicAccount, "/transactions/incoming", criteria);
+    }
+
+    @Override
+    public List<Transaction> outgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return getTransactions(publicAccount, "/transactions/outgoing", criteria);
+    }
+
+    @Override
+    public List<Transaction> unconfirmedTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return getTransactions(publicAccount, "/transactions/unconfirmed", criteria);
+    }
+
+    @Override
+    public List<AggregateTransaction> aggregateBondedTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return getTransactions(publicAccount, "/transactions/partial", criteria).stream()
+            .map(transaction -> (AggregateTransaction) transaction).collect(Collectors.toList());
+    }
+
+    private List<Transaction> getTransactions(PublicAccount publicAccount, String path,
+        TransactionSearchCriteria criteria) {
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        queryParams.put("pageSize", criteria.getPageSize());
+        queryParams.put("id", criteria.getId());
+        queryParams.put("ordering", criteria.getOrder());
+        queryParams.put("type", criteria.getTransactionType() == null ? null
+            : criteria.getTransactionType().getValue());
+        List<TransactionInfoDTO> dtos = apiClient
+            .get("/account/" + encode(publicAccount.getPublicKey().toHex()) + path, queryParams,
+                TRANSACTIONS_TYPE);
+        return dtos.stream().map(transactionMapper::map).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.nem.sdk.infrastructure.okhttp.JsonHelperGson;
+import io.nem.sdk.model.transaction.JsonHelper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * Sends the rest requests of the blocking repositories with a {@link HttpClient} and binds the
+ * json responses to the open api DTOs with the Gson set up of the OkHttp client.
+ *
+ * The calling thread waits for the response in {@link HttpClient#send}, which parks a virtual
+ * thread instead of pinning its carrier. The max requests per host of the {@link
+ * TransportConfiguration} is enforced with a semaphore, the extra callers wait for a permit. The
+ * JDK client pools its connections for the whole JVM, the pool size and keep alive are set with
+ * its {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}
+ * system properties, pipelining and the write timeout are not supported.
+ */
+public class BlockingApiClient {
+
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+
+    private final Gson gson;
+
+    private final JsonHelper jsonHelper;
+
+    private final Semaphore permits;
+
+    private final Duration readTimeout;
+
+    private final boolean compression;
+
+    private final boolean secure;
+
+    /**
+     * @param httpClient the http client, it can be shared by the clients of many gateways.
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     */
+    public BlockingApiClient(HttpClient httpClient, String baseUrl,
+        TransportConfiguration configuration) {
+        this.httpClient = httpClient;
+        this.baseUrl = StringUtils.removeEnd(baseUrl, "/");
+        this.gson = JsonHelperGson.creatGson(false);
+        this.jsonHelper = new JsonHelperGson(gson);
+        this.permits = new Semaphore(configuration.getMaxRequestsPerHost());
+        this.readTimeout = configuration.getReadTimeout();
+        this.compression = configuration.isCompression();
+        this.secure = this.baseUrl.startsWith("https");
+    }
+
+    /**
+     * @param configuration the transport configuration.
+     * @return a http client with the configured protocol and connect timeout. Like the other
+     * clients, HTTP/2 is only negotiated with https gateways, the requests to http gateways don't
+     * try the h2c upgrade.
+     */
+    public static HttpClient createHttpClient(TransportConfiguration configuration) {
+        HttpClient.Builder builder = HttpClient.newBuilder().version(
+            configuration.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+        if (!configuration.getConnectTimeout().isZero()) {
+            builder.connectTimeout(configuration.getConnectTimeout());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param path the path, its parameters already encoded.
+     * @param returnType the type of the response body.
+     * @param <T> the type of the response body.
+     * @return the response body.
+     */
+    public <T> T get(String path, Type returnType) {
+        return invoke(newRequest(path).GET(), returnType);
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param path the path, its parameters already encoded.
+     * @param queryParams the query parameters, the null ones are skipped.
+     * @param returnType the type of the response body.
+     * @param <T> the type of the response body.
+     * @return the response body.
+     */
+    public <T> T get(String path, Map<String, Object> queryParams, Type returnType) {
+        return invoke(newRequest(path + toQuery(queryParams)).GET(), returnType);
+    }
+
+    /**
+     * Sends a POST request.
+     *
+     * @param path the path, its parameters already encoded.
+     * @param body the DTO sent as json.
+     * @param returnType the type of the response body.
+     * @param <T> the type of the response body.
+     * @return the response body.
+     */
+    public <T> T post(String path, Object body, Type returnType) {
+        return invoke(newRequest(path).header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(gson.toJson(body))), returnType);
+    }
+
+    /**
+     * Sends a PUT request.
+     *
+     * @param path the path, its parameters already encoded.
+     * @param body the DTO sent as json.
+     * @param returnType the type of the response body.
+     * @param <T> the type of the response body.
+     * @return the response body.
+     */
+    public <T> T put(String path, Object body, Type returnType) {
+        return invoke(newRequest(path).header("Content-Type", "application/json")
+            .PUT(BodyPublishers.ofString(gson.toJson(body))), returnType);
+    }
+
+    /**
+     * @param value a path or query parameter.
+     * @return the url encoded value.
+     */
+    public static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the json helper of the Gson instance binding the DTOs.
+     */
+    public JsonHelper getJsonHelper() {
+        return jsonHelper;
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Accept", "application/json");
+        if (!secure) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        if (compression) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        if (!readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+        return builder;
+    }
+
+    private static String toQuery(Map<String, Object> queryParams) {
+        String query = queryParams.entrySet().stream().filter(e -> e.getValue() != null)
+            .map(e -> e.getKey() + "=" + encode(e.getValue())).collect(Collectors.joining("&"));
+        return query.isEmpty() ? "" : "?" + query;
+    }
+
+    private <T> T invoke(HttpRequest.Builder builder, Type returnType) {
+        HttpRequest request = builder.build();
+        try {
+            permits.acquire();
+            try {
+                HttpResponse<InputStream> response = httpClient
+                    .send(request, BodyHandlers.ofInputStream());
+                try (InputStream body = decode(response)) {
+                    if (response.statusCode() / 100 != 2) {
+                        throw new RepositoryCallException(
+                            getErrorMessage(response.statusCode(), body),
+                            response.statusCode(), null);
+                    }
+                    return gson.fromJson(new InputStreamReader(body, StandardCharsets.UTF_8),
+                        returnType);
+                }
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryCallException(ExceptionUtils.getMessage(e), 0, e);
+        } catch (IOException | JsonParseException e) {
+            throw new RepositoryCallException(ExceptionUtils.getMessage(e), 0, e);
+        }
+    }
+
+    private static InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+            .filter("gzip"::equalsIgnoreCase).isPresent();
+        return gzip ? new GZIPInputStream(response.body()) : response.body();
+    }
+
+    /**
+     * Builds the message like the OkHttp client does, with the code and message of the gateway
+     * error.
+     */
+    private String getErrorMessage(int statusCode, InputStream body) throws IOException {
+        List<String> messages = new ArrayList<>();
+        messages.add(String.valueOf(statusCode));
+        String responseBody;
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            responseBody = IOUtils.toString(reader);
+        }
+        try {
+            Object json = jsonHelper.parse(responseBody);
+            messages.add(jsonHelper.getString(json, "code"));
+            messages.add(jsonHelper.getString(json, "message"));
+        } catch (IllegalArgumentException ignore) {
+            messages.add(StringUtils.truncate(responseBody, 100));
+        }
+        return messages.stream().filter(StringUtils::isNotBlank).collect(Collectors.joining(" - "));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import static io.nem.sdk.infrastructure.blocking.BlockingApiClient.encode;
+
+import com.google.gson.reflect.TypeToken;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.blocking.BlockingBlockRepository;
+import io.nem.sdk.infrastructure.okhttp.BlockRepositoryOkHttpImpl;
+import io.nem.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.sdk.infrastructure.okhttp.mappers.TransactionMapper;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.MerkelPathItem;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MerkleProofInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BlockingBlockRepository} over a {@link BlockingApiClient}.
+ */
+public class BlockingBlockRepositoryImpl implements BlockingBlockRepository {
+
+    private static final Type BLOCKS_TYPE = new TypeToken<List<BlockInfoDTO>>() {
+    }.getType();
+
+    private static final Type TRANSACTIONS_TYPE = new TypeToken<List<TransactionInfoDTO>>() {
+    }.getType();
+
+    private final BlockingApiClient apiClient;
+
+    private final TransactionMapper transactionMapper;
+
+    public BlockingBlockRepositoryImpl(BlockingApiClient apiClient) {
+        this.apiClient = apiClient;
+        this.transactionMapper = new GeneralTransactionMapper(apiClient.getJsonHelper());
+    }
+
+    @Override
+    public BlockInfo getBlockByHeight(BigInteger height) {
+        return BlockRepositoryOkHttpImpl.toBlockInfo(
+            apiClient.get("/block/" + encode(height), BlockInfoDTO.class));
+    }
+
+    @Override
+    public List<Transaction> getBlockTransactions(BigInteger height, QueryParams queryParams) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("pageSize", queryParams.getPageSize());
+        params.put("id", queryParams.getId());
+        params.put("ordering", queryParams.getOrder());
+        List<TransactionInfoDTO> dtos = apiClient
+            .get("/block/" + encode(height) + "/transactions", params, TRANSACTIONS_TYPE);
+        return dtos.stream().map(transactionMapper::map).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BlockInfo> getBlocksByHeightWithLimit(BigInteger height, int limit) {
+        List<BlockInfoDTO> dtos = apiClient.get(
+            "/blocks/" + encode(height) + "/limit/" + limit, BLOCKS_TYPE);
+        return dtos.stream().map(BlockRepositoryOkHttpImpl::toBlockInfo)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public MerkelProofInfo getMerkleTransaction(BigInteger height, String hash) {
+        MerkleProofInfoDTO dto = apiClient.get(
+            "/block/" + encode(height) + "/transaction/" + encode(hash) + "/merkle",
+            MerkleProofInfoDTO.class);
+        return new MerkelProofInfo(dto.getMerklePath().stream()
+            .map(pathItem -> new MerkelPathItem(pathItem.getPosition(), pathItem.getHash()))
+            .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import io.nem.sdk.api.blocking.BlockingChainRepository;
+import io.nem.sdk.model.blockchain.BlockchainScore;
+import io.nem.sdk.openapi.okhttp_gson.model.ChainScoreDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
+import java.math.BigInteger;
+
+/**
+ * {@link BlockingChainRepository} over a {@link BlockingApiClient}.
+ */
+public class BlockingChainRepositoryImpl implements BlockingChainRepository {
+
+    private final BlockingApiClient apiClient;
+
+    public BlockingChainRepositoryImpl(BlockingApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    @Override
+    public BigInteger getBlockchainHeight() {
+        HeightInfoDTO dto = apiClient.get("/chain/height", HeightInfoDTO.class);
+        return dto.getHeight();
+    }
+
+    @Override
+    public BlockchainScore getChainScore() {
+        ChainScoreDTO dto = apiClient.get("/chain/score", ChainScoreDTO.class);
+        return new BlockchainScore(dto.getScoreLow(), dto.getScoreHigh());
+    }
+}
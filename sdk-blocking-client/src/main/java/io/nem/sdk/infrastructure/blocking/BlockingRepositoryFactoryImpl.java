@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import io.nem.sdk.api.blocking.BlockingAccountRepository;
+import io.nem.sdk.api.blocking.BlockingBlockRepository;
+import io.nem.sdk.api.blocking.BlockingChainRepository;
+import io.nem.sdk.api.blocking.BlockingRepositoryFactory;
+import io.nem.sdk.api.blocking.BlockingTransactionRepository;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import java.net.http.HttpClient;
+
+/**
+ * {@link java.net.http.HttpClient} implementation of a {@link BlockingRepositoryFactory}.
+ */
+public class BlockingRepositoryFactoryImpl implements BlockingRepositoryFactory {
+
+    private final BlockingApiClient apiClient;
+
+    private final HttpClient httpClient;
+
+    private final boolean ownsHttpClient;
+
+    public BlockingRepositoryFactoryImpl(String baseUrl) {
+        this(baseUrl, new TransportConfiguration());
+    }
+
+    /**
+     * Creates a factory with its own http client.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     */
+    public BlockingRepositoryFactoryImpl(String baseUrl, TransportConfiguration configuration) {
+        this(baseUrl, BlockingApiClient.createHttpClient(configuration), configuration, true);
+    }
+
+    /**
+     * Creates a factory that sends the requests with the given http client. The client is not
+     * closed with the factory, so one client can be shared by many factories.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param httpClient the http client.
+     * @param configuration the transport configuration.
+     */
+    public BlockingRepositoryFactoryImpl(String baseUrl, HttpClient httpClient,
+        TransportConfiguration configuration) {
+        this(baseUrl, httpClient, configuration, false);
+    }
+
+    private BlockingRepositoryFactoryImpl(String baseUrl, HttpClient httpClient,
+        TransportConfiguration configuration, boolean ownsHttpClient) {
+        this.apiClient = new BlockingApiClient(httpClient, baseUrl, configuration);
+        this.httpClient = httpClient;
+        this.ownsHttpClient = ownsHttpClient;
+    }
+
+    @Override
+    public BlockingAccountRepository createAccountRepository() {
+        return new BlockingAccountRepositoryImpl(apiClient);
+    }
+
+    @Override
+    public BlockingTransactionRepository createTransactionRepository() {
+        return new BlockingTransactionRepositoryImpl(apiClient);
+    }
+
+    @Override
+    public BlockingBlockRepository createBlockRepository() {
+        return new BlockingBlockRepositoryImpl(apiClient);
+    }
+
+    @Override
+    public BlockingChainRepository createChainRepository() {
+        return new BlockingChainRepositoryImpl(apiClient);
+    }
+
+    /**
+     * The http client is closeable from Java 21, before that its connections are closed once it
+     * is no longer referenced.
+     */
+    @Override
+    public void close() {
+        if (ownsHttpClient && httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                //Failing quietly
+            }
+        }
+    }
+}
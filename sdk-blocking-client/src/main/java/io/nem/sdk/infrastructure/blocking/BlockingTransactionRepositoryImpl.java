@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import static io.nem.sdk.infrastructure.blocking.BlockingApiClient.encode;
+
+import com.google.gson.reflect.TypeToken;
+import io.nem.sdk.api.blocking.BlockingTransactionRepository;
+import io.nem.sdk.infrastructure.okhttp.TransactionRepositoryOkHttpImpl;
+import io.nem.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.sdk.infrastructure.okhttp.mappers.TransactionMapper;
+import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.sdk.model.transaction.TransactionStatus;
+import io.nem.sdk.openapi.okhttp_gson.model.AnnounceTransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.Cosignature;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionHashes;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionIds;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionPayload;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionStatusDTO;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BlockingTransactionRepository} over a {@link BlockingApiClient}.
+ */
+public class BlockingTransactionRepositoryImpl implements BlockingTransactionRepository {
+
+    private static final Type TRANSACTIONS_TYPE = new TypeToken<List<TransactionInfoDTO>>() {
+    }.getType();
+
+    private static final Type STATUSES_TYPE = new TypeToken<List<TransactionStatusDTO>>() {
+    }.getType();
+
+    private final BlockingApiClient apiClient;
+
+    private final TransactionMapper transactionMapper;
+
+    public BlockingTransactionRepositoryImpl(BlockingApiClient apiClient) {
+        this.apiClient = apiClient;
+        this.transactionMapper = new GeneralTransactionMapper(apiClient.getJsonHelper());
+    }
+
+    @Override
+    public Transaction getTransaction(String transactionHash) {
+        TransactionInfoDTO dto = apiClient
+            .get("/transaction/" + encode(transactionHash), TransactionInfoDTO.class);
+        return transactionMapper.map(dto);
+    }
+
+    @Override
+    public List<Transaction> getTransactions(List<String> transactionHashes) {
+        List<TransactionInfoDTO> dtos = apiClient.post("/transaction",
+            new TransactionIds().transactionIds(transactionHashes), TRANSACTIONS_TYPE);
+        return dtos.stream().map(transactionMapper::map).collect(Collectors.toList());
+    }
+
+    @Override
+    public TransactionStatus getTransactionStatus(String transactionHash) {
+        return TransactionRepositoryOkHttpImpl.toTransactionStatus(apiClient.get(
+            "/transaction/" + encode(transactionHash) + "/status", TransactionStatusDTO.class));
+    }
+
+    @Override
+    public List<TransactionStatus> getTransactionStatuses(List<String> transactionHashes) {
+        List<TransactionStatusDTO> dtos = apiClient.post("/transaction/statuses",
+            new TransactionHashes().hashes(transactionHashes), STATUSES_TYPE);
+        return dtos.stream().map(TransactionRepositoryOkHttpImpl::toTransactionStatus)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public TransactionAnnounceResponse announce(SignedTransaction signedTransaction) {
+        return announce("/transaction",
+            new TransactionPayload().payload(signedTransaction.getPayload()));
+    }
+
+    @Override
+    public TransactionAnnounceResponse announceAggregateBonded(
+        SignedTransaction signedTransaction) {
+        return announce("/transaction/partial",
+            new TransactionPayload().payload(signedTransaction.getPayload()));
+    }
+
+    @Override
+    public TransactionAnnounceResponse announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return announce("/transaction/cosignature",
+            new Cosignature().parentHash(cosignatureSignedTransaction.getParentHash())
+                .signature(cosignatureSignedTransaction.getSignature())
+                .signerPublicKey(cosignatureSignedTransaction.getSigner()));
+    }
+
+    private TransactionAnnounceResponse announce(String path, Object body) {
+        AnnounceTransactionInfoDTO dto = apiClient
+            .put(path, body, AnnounceTransactionInfoDTO.class);
+        return new TransactionAnnounceResponse(dto.getMessage());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.blocking;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.api.blocking.BlockingRepositoryFactory;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link BlockingRepositoryFactoryImpl} against a local mock server.
+ */
+public class BlockingRepositoryFactoryImplTest {
+
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final AtomicInteger compressed = new AtomicInteger();
+
+    private HttpServer server;
+
+    private BlockingRepositoryFactory factory;
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldGetTheChainHeightAndScore() throws IOException {
+        responses.put("/chain/height", "{\"height\":\"100\"}");
+        responses.put("/chain/score", "{\"scoreHigh\":\"1\",\"scoreLow\":\"10\"}");
+        factory = new BlockingRepositoryFactoryImpl(start());
+
+        Assertions.assertEquals(BigInteger.valueOf(100),
+            factory.createChainRepository().getBlockchainHeight());
+        Assertions.assertEquals(BigInteger.ONE,
+            factory.createChainRepository().getChainScore().getScoreHigh());
+        Assertions.assertEquals(BigInteger.TEN,
+            factory.createChainRepository().getChainScore().getScoreLow());
+    }
+
+    @Test
+    void shouldSendTheSearchCriteria() throws IOException {
+        PublicAccount account = createAccount();
+        String path = "/account/" + account.getPublicKey().toHex() + "/transactions/incoming";
+        responses.put(path, "[]");
+        factory = new BlockingRepositoryFactoryImpl(start());
+
+        Assertions.assertEquals(Collections.emptyList(), factory.createAccountRepository()
+            .incomingTransactions(account, new TransactionSearchCriteria().pageSize(20).id("ABC")
+                .transactionType(TransactionType.TRANSFER)));
+
+        Assertions.assertEquals(
+            Collections.singletonList("GET " + path + "?pageSize=20&id=ABC&type=16724"), requests);
+    }
+
+    @Test
+    void shouldAnnounceTransactions() throws IOException {
+        responses.put("/transaction", "{\"message\":\"packet 9 was pushed to the network\"}");
+        factory = new BlockingRepositoryFactoryImpl(start());
+
+        Assertions.assertEquals("packet 9 was pushed to the network",
+            factory.createTransactionRepository().announce(new SignedTransaction(
+                createAccount(), "AABB", "CCDD", TransactionType.TRANSFER)).getMessage());
+
+        Assertions.assertEquals(
+            Collections.singletonList("PUT /transaction {\"payload\":\"AABB\"}"), requests);
+    }
+
+    @Test
+    void shouldDecodeCompressedResponses() throws IOException {
+        responses.put("/chain/height", "{\"height\":\"100\"}");
+        factory = new BlockingRepositoryFactoryImpl(start());
+
+        Assertions.assertEquals(BigInteger.valueOf(100),
+            factory.createChainRepository().getBlockchainHeight());
+        Assertions.assertEquals(BigInteger.valueOf(100),
+            new BlockingRepositoryFactoryImpl(getUrl(),
+                new TransportConfiguration().compression(false)).createChainRepository()
+                .getBlockchainHeight());
+        Assertions.assertEquals(Collections.nCopies(2, "GET /chain/height"), requests);
+        Assertions.assertEquals(1, compressed.get());
+    }
+
+    @Test
+    void shouldFailWithTheGatewayError() throws IOException {
+        factory = new BlockingRepositoryFactoryImpl(start());
+
+        RepositoryCallException e = Assertions.assertThrows(RepositoryCallException.class,
+            () -> factory.createBlockRepository().getBlockByHeight(BigInteger.TEN));
+
+        Assertions.assertEquals(404, e.getStatusCode());
+        Assertions.assertEquals("404 - ResourceNotFound - /block/10", e.getMessage());
+    }
+
+    @Test
+    void shouldLimitTheConcurrentRequestsPerHost() throws Exception {
+        responses.put("/chain/height", "{\"height\":\"100\"}");
+        factory = new BlockingRepositoryFactoryImpl(start(),
+            new TransportConfiguration().maxRequestsPerHost(2));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BigInteger>> heights = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                heights.add(executor
+                    .submit(() -> factory.createChainRepository().getBlockchainHeight()));
+            }
+            for (Future<BigInteger> height : heights) {
+                Assertions.assertEquals(BigInteger.valueOf(100), height.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(16, requests.size());
+        Assertions.assertTrue(maxInFlight.get() <= 2, "In flight: " + maxInFlight.get());
+    }
+
+    private static PublicAccount createAccount() {
+        return PublicAccount.createFromPublicKey(
+            "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+            NetworkType.MIJIN_TEST);
+    }
+
+    private String start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        return getUrl();
+    }
+
+    private String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            requests.add(exchange.getRequestMethod() + " " + path + (query == null ? ""
+                : "?" + query) + (body.isEmpty() ? "" : " " + body));
+            Thread.sleep(20);
+            String response = responses.get(path);
+            int status = response == null ? 404 : 200;
+            if (response == null) {
+                response = "{\"code\":\"ResourceNotFound\",\"message\":\"" + path + "\"}";
+            }
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if ("gzip".equals(acceptEncoding)) {
+                compressed.incrementAndGet();
+                bytes = gzip(bytes);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        }
+        return output.toByteArray();
+    }
+}
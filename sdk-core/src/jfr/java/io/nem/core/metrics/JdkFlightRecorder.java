@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.metrics;
+
+/**
+ * The {@link FlightRecorder} of the jdk.jfr events, {@link SdkEvents} loads it by name.
+ */
+final class JdkFlightRecorder implements FlightRecorder {
+
+    @Override
+    public Object startRestCall() {
+        return RestCallEvent.start();
+    }
+
+    @Override
+    public void commitRestCall(Object event, String method, String path, int status) {
+        RestCallEvent.commit(event, method, path, status);
+    }
+
+    @Override
+    public Object startListenerMessage() {
+        return ListenerMessageEvent.start();
+    }
+
+    @Override
+    public void listenerMessageMapped(Object event) {
+        ListenerMessageEvent.mapped(event);
+    }
+
+    @Override
+    public void commitListenerMessage(Object event, Object channel) {
+        ListenerMessageEvent.commit(event, channel);
+    }
+
+    @Override
+    public Object startSerialization() {
+        return SerializationEvent.start();
+    }
+
+    @Override
+    public void commitSerialization(Object event, String operation, Object transactionType,
+        int size) {
+        SerializationEvent.commit(event, operation, transactionType, size);
+    }
+
+    @Override
+    public Object startSignature() {
+        return SignatureEvent.start();
+    }
+
+    @Override
+    public void commitSignature(Object event, String operation, Object signSchema, int dataSize,
+        boolean valid) {
+        SignatureEvent.commit(event, operation, signSchema, dataSize, valid);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flight recorder event of a listener message, from its mapping to the end of its dispatch
+ * to the subscribers.
+ */
+@Name("io.nem.sdk.ListenerMessage")
+@Label("Listener Message")
+@Category("NEM SDK")
+@Description("The mapping and the dispatch of a listener message")
+@StackTrace(false)
+final class ListenerMessageEvent extends Event {
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Mapping Time")
+    @Description("The time to map the message, the rest of the event is its dispatch")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    private transient long mappingStart;
+
+    /**
+     * @return the started event, null if the event is not recorded.
+     */
+    static Object start() {
+        ListenerMessageEvent event = new ListenerMessageEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        event.mappingStart = System.nanoTime();
+        return event;
+    }
+
+    static void mapped(Object started) {
+        ListenerMessageEvent event = (ListenerMessageEvent) started;
+        event.mappingTime = System.nanoTime() - event.mappingStart;
+    }
+
+    static void commit(Object started, Object channel) {
+        ListenerMessageEvent event = (ListenerMessageEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.channel = String.valueOf(channel);
+            event.commit();
+        }
+    }
+}
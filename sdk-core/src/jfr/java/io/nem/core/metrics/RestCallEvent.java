@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event of a rest call, from sending the request to receiving the response.
+ */
+@Name("io.nem.sdk.RestCall")
+@Label("REST Call")
+@Category("NEM SDK")
+@Description("A call to the rest gateway, from sending the request to receiving the response")
+@StackTrace(false)
+final class RestCallEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("The http method and the path, with the ids replaced by {id}")
+    String endpoint;
+
+    @Label("Status")
+    @Description("The http status code, 0 if no response was received")
+    int status;
+
+    /**
+     * @return the started event, null if the event is not recorded.
+     */
+    static Object start() {
+        RestCallEvent event = new RestCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, String method, String path, int status) {
+        RestCallEvent event = (RestCallEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = method == null ? SdkMetrics.UNKNOWN
+                : SdkMetrics.endpoint(method, path);
+            event.status = status;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event of the serialization of a transaction to its catapult payload, or
+ * of its deserialization.
+ */
+@Name("io.nem.sdk.Serialization")
+@Label("Transaction Serialization")
+@Category("NEM SDK")
+@Description("The serialization or the deserialization of a transaction payload")
+@StackTrace(false)
+final class SerializationEvent extends Event {
+
+    @Label("Operation")
+    @Description("serialize or deserialize")
+    String operation;
+
+    @Label("Transaction Type")
+    String transactionType;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    int size;
+
+    /**
+     * @return the started event, null if the event is not recorded.
+     */
+    static Object start() {
+        SerializationEvent event = new SerializationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, String operation, Object transactionType, int size) {
+        SerializationEvent event = (SerializationEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.transactionType = String.valueOf(transactionType);
+            event.size = size;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event of signing data or verifying a signature.
+ */
+@Name("io.nem.sdk.Signature")
+@Label("Signature")
+@Category("NEM SDK")
+@Description("The signing of data or the verification of a signature")
+@StackTrace(false)
+final class SignatureEvent extends Event {
+
+    @Label("Operation")
+    @Description("sign or verify")
+    String operation;
+
+    @Label("Sign Schema")
+    String signSchema;
+
+    @Label("Data Size")
+    @DataAmount(DataAmount.BYTES)
+    int dataSize;
+
+    @Label("Valid")
+    @Description("If the signature was verified, always true when signing")
+    boolean valid;
+
+    /**
+     * @return the started event, null if the event is not recorded.
+     */
+    static Object start() {
+        SignatureEvent event = new SignatureEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, String operation, Object signSchema, int dataSize,
+        boolean valid) {
+        SignatureEvent event = (SignatureEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.signSchema = String.valueOf(signSchema);
+            event.dataSize = dataSize;
+            event.valid = valid;
+            event.commit();
+        }
+    }
+}
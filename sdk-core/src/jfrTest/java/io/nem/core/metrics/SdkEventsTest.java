@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.SignSchema;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.message.PlainMessage;
+import io.nem.sdk.model.transaction.TransferTransaction;
+import io.nem.sdk.model.transaction.TransferTransactionFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SdkEvents}
+ */
+public class SdkEventsTest {
+
+    @Test
+    void shouldNotStartTheEventsWhenNotRecording() {
+        Assertions.assertTrue(SdkEvents.isFlightRecorderAvailable());
+        Assertions.assertNull(SdkEvents.startRestCall());
+        Assertions.assertNull(SdkEvents.startListenerMessage());
+        Assertions.assertNull(SdkEvents.startSerialization());
+        Assertions.assertNull(SdkEvents.startSignature());
+        SdkEvents.commitRestCall(null, "GET", "/chain/height", 200);
+    }
+
+    @Test
+    void shouldRecordTheSignatureEvents() throws IOException {
+        KeyPair keyPair = KeyPair.random(CryptoEngines.ed25519Engine(), SignSchema.SHA3);
+        Ed25519DsaSigner signer = new Ed25519DsaSigner(keyPair, SignSchema.SHA3);
+
+        List<RecordedEvent> events = record("io.nem.sdk.Signature", () -> {
+            Signature signature = signer.sign(new byte[]{1, 2, 3});
+            signer.verify(new byte[]{1, 2, 3, 4}, signature);
+        });
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("sign", events.get(0).getString("operation"));
+        Assertions.assertEquals("SHA3", events.get(0).getString("signSchema"));
+        Assertions.assertEquals(3, events.get(0).getInt("dataSize"));
+        Assertions.assertTrue(events.get(0).getBoolean("valid"));
+        Assertions.assertEquals("verify", events.get(1).getString("operation"));
+        Assertions.assertFalse(events.get(1).getBoolean("valid"));
+    }
+
+    @Test
+    void shouldRecordTheSerializationEvents() throws IOException {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        TransferTransaction transaction = TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+            new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+            Collections.emptyList(), new PlainMessage("Some Message")).build();
+
+        List<RecordedEvent> events = record("io.nem.sdk.Serialization",
+            () -> binarySerialization.deserialize(binarySerialization.serialize(transaction)));
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("serialize", events.get(0).getString("operation"));
+        Assertions.assertEquals("deserialize", events.get(1).getString("operation"));
+        Assertions.assertEquals("TRANSFER", events.get(1).getString("transactionType"));
+        Assertions.assertEquals(events.get(0).getInt("size"), events.get(1).getInt("size"));
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable runnable)
+        throws IOException {
+        Path file = Files.createTempFile("sdk-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
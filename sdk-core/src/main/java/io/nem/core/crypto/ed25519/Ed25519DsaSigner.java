@@ -27,6 +27,9 @@ import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.core.utils.ArrayUtils;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -61,8 +64,27 @@ public class Ed25519DsaSigner implements DsaSigner {
     }
 
     @Override
-    @SuppressWarnings("squid:S00117")
     public Signature sign(final byte[] data) {
+        final long start = SdkMetrics.start();
+        final Object event = SdkEvents.startSignature();
+        final Signature signature = this.signData(data);
+        SdkMetrics.recordTime(SdkMetric.SIGN, String.valueOf(this.signSchema), start);
+        SdkEvents.commitSignature(event, "sign", this.signSchema, data.length, true);
+        return signature;
+    }
+
+    @Override
+    public boolean verify(final byte[] data, final Signature signature) {
+        final long start = SdkMetrics.start();
+        final Object event = SdkEvents.startSignature();
+        final boolean verified = this.verifyData(data, signature);
+        SdkMetrics.recordTime(SdkMetric.VERIFY, String.valueOf(this.signSchema), start);
+        SdkEvents.commitSignature(event, "verify", this.signSchema, data.length, verified);
+        return verified;
+    }
+
+    @SuppressWarnings("squid:S00117")
+    private Signature signData(final byte[] data) {
         if (!this.getKeyPair().hasPrivateKey()) {
             throw new CryptoException("cannot sign without private key");
         }
@@ -110,8 +132,7 @@ public class Ed25519DsaSigner implements DsaSigner {
         return signature;
     }
 
-    @Override
-    public boolean verify(final byte[] data, final Signature signature) {
+    private boolean verifyData(final byte[] data, final Signature signature) {
         if (!this.isCanonicalSignature(signature)) {
             return false;
         }
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.metrics;
+
+/**
+ * The flight recorder events behind {@link SdkEvents}. Its implementation extends the jdk.jfr
+ * classes, it's compiled for Java 11 apart from the Java 8 classes and loaded reflectively.
+ */
+interface FlightRecorder {
+
+    Object startRestCall();
+
+    void commitRestCall(Object event, String method, String path, int status);
+
+    Object startListenerMessage();
+
+    void listenerMessageMapped(Object event);
+
+    void commitListenerMessage(Object event, Object channel);
+
+    Object startSerialization();
+
+    void commitSerialization(Object event, String operation, Object transactionType, int size);
+
+    Object startSignature();
+
+    void commitSignature(Object event, String operation, Object signSchema, int dataSize,
+        boolean valid);
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+/**
+ * Receives the measures of the SDK, it's the extension point to publish them to a metrics
+ * library. Set it with {@link SdkMetrics#setRecorder(MetricsRecorder)}.
+ *
+ * The methods are called on the SDK hot paths, like the event loop or the OkHttp dispatcher
+ * threads, so they must be thread safe and must not block.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records a duration.
+     *
+     * @param metric the timed metric.
+     * @param tag the tag value, like the endpoint or the transaction type.
+     * @param nanos the duration in nanoseconds.
+     */
+    void recordTime(SdkMetric metric, String tag, long nanos);
+
+    /**
+     * Increments a counter.
+     *
+     * @param metric the counted metric.
+     * @param tag the tag value, like the endpoint.
+     * @param amount the amount to add.
+     */
+    void count(SdkMetric metric, String tag, long amount);
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+/**
+ * Emits the Java Flight Recorder events of the SDK, they're in the "NEM SDK" category of a
+ * recording:
+ *
+ * <ul>
+ * <li>io.nem.sdk.RestCall: a rest call with its endpoint and http status.</li>
+ * <li>io.nem.sdk.ListenerMessage: the mapping and the dispatch of a listener message with its
+ * channel and mapping time.</li>
+ * <li>io.nem.sdk.Serialization: a transaction serialization or deserialization with its type and
+ * payload size.</li>
+ * <li>io.nem.sdk.Signature: the signing of data or the verification of a signature.</li>
+ * </ul>
+ *
+ * The events are started with an opaque handle, null when the event is not being recorded, and
+ * committed with the same handle. When nothing records them, starting an event is a check of its
+ * enabled flag and committing it a null check.
+ *
+ * The flight recorder api is only present from Java 8u262 and 11. The event classes are compiled
+ * for Java 11 apart from the Java 8 classes, only the builds running on Java 11 package them, and
+ * they're loaded reflectively. Every start returns null when the api or the events are missing.
+ */
+public final class SdkEvents {
+
+    private static final FlightRecorder RECORDER = loadRecorder();
+
+    private static final boolean AVAILABLE = RECORDER != null;
+
+    private SdkEvents() {
+    }
+
+    /**
+     * @return if the flight recorder api is present in this JVM and the events in the SDK.
+     */
+    public static boolean isFlightRecorderAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @return the handle of the rest call event, null if it is not recorded.
+     */
+    public static Object startRestCall() {
+        return AVAILABLE ? RECORDER.startRestCall() : null;
+    }
+
+    /**
+     * @param event the handle of the event, it's ignored if null.
+     * @param method the http method, null if it's unknown.
+     * @param path the path of the request.
+     * @param status the http status code, 0 if no response was received.
+     */
+    public static void commitRestCall(Object event, String method, String path, int status) {
+        if (event != null) {
+            RECORDER.commitRestCall(event, method, path, status);
+        }
+    }
+
+    /**
+     * @return the handle of the listener message event, null if it is not recorded.
+     */
+    public static Object startListenerMessage() {
+        return AVAILABLE ? RECORDER.startListenerMessage() : null;
+    }
+
+    /**
+     * Ends the mapping of the message, its dispatch starts.
+     *
+     * @param event the handle of the event, it's ignored if null.
+     */
+    public static void listenerMessageMapped(Object event) {
+        if (event != null) {
+            RECORDER.listenerMessageMapped(event);
+        }
+    }
+
+    /**
+     * @param event the handle of the event, it's ignored if null.
+     * @param channel the listener channel.
+     */
+    public static void commitListenerMessage(Object event, Object channel) {
+        if (event != null) {
+            RECORDER.commitListenerMessage(event, channel);
+        }
+    }
+
+    /**
+     * @return the handle of the serialization event, null if it is not recorded.
+     */
+    public static Object startSerialization() {
+        return AVAILABLE ? RECORDER.startSerialization() : null;
+    }
+
+    /**
+     * @param event the handle of the event, it's ignored if null.
+     * @param operation serialize or deserialize.
+     * @param transactionType the transaction type.
+     * @param size the size of the payload.
+     */
+    public static void commitSerialization(Object event, String operation,
+        Object transactionType, int size) {
+        if (event != null) {
+            RECORDER.commitSerialization(event, operation, transactionType, size);
+        }
+    }
+
+    /**
+     * @return the handle of the signature event, null if it is not recorded.
+     */
+    public static Object startSignature() {
+        return AVAILABLE ? RECORDER.startSignature() : null;
+    }
+
+    /**
+     * @param event the handle of the event, it's ignored if null.
+     * @param operation sign or verify.
+     * @param signSchema the sign schema.
+     * @param dataSize the size of the signed data.
+     * @param valid if the signature was verified.
+     */
+    public static void commitSignature(Object event, String operation, Object signSchema,
+        int dataSize, boolean valid) {
+        if (event != null) {
+            RECORDER.commitSignature(event, operation, signSchema, dataSize, valid);
+        }
+    }
+
+    private static FlightRecorder loadRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event", false, SdkEvents.class.getClassLoader());
+            return (FlightRecorder) Class.forName("io.nem.core.metrics.JdkFlightRecorder")
+                .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+/**
+ * The metrics the SDK records, each one with the name and the tag key a {@link MetricsRecorder}
+ * can publish it with.
+ */
+public enum SdkMetric {
+
+    /**
+     * The time from sending a rest request to receiving its response, tagged by endpoint like
+     * "GET /account/{id}".
+     */
+    REPOSITORY_CALL("nem.repository.call", "endpoint"),
+
+    /**
+     * The bytes of the rest response bodies, tagged by endpoint.
+     */
+    REPOSITORY_RESPONSE_BYTES("nem.repository.response.bytes", "endpoint"),
+
+    /**
+     * The time to map a transaction dto to its model, tagged by transaction type.
+     */
+    TRANSACTION_MAPPING("nem.transaction.mapping", "type"),
+
+    /**
+     * The time to decode and dispatch a listener message, tagged by listener channel. Its count
+     * is the message rate of the channel.
+     */
+    LISTENER_MESSAGE("nem.listener.message", "channel"),
+
+    /**
+     * The time to serialize a transaction to its catapult payload, tagged by transaction type.
+     */
+    TRANSACTION_SERIALIZATION("nem.transaction.serialization", "type"),
+
+    /**
+     * The time to deserialize a catapult payload, tagged by transaction type.
+     */
+    TRANSACTION_DESERIALIZATION("nem.transaction.deserialization", "type"),
+
+    /**
+     * The time to sign data, tagged by sign schema.
+     */
+    SIGN("nem.crypto.sign", "schema"),
+
+    /**
+     * The time to verify a signature, tagged by sign schema.
+     */
+    VERIFY("nem.crypto.verify", "schema");
+
+    private final String metricName;
+
+    private final String tagKey;
+
+    SdkMetric(String metricName, String tagKey) {
+        this.metricName = metricName;
+        this.tagKey = tagKey;
+    }
+
+    /**
+     * @return the metric name, like "nem.crypto.sign".
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * @return the key of the tag of the metric, like "schema".
+     */
+    public String getTagKey() {
+        return tagKey;
+    }
+}
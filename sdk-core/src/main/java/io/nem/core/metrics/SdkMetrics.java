@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+/**
+ * The entry point of the SDK instrumentation. The metrics are disabled until a {@link
+ * MetricsRecorder} is set, then the instrumented code only reads a volatile field: {@link
+ * #start()} returns 0 and the recording methods return right away. The tags are only computed
+ * when the metrics are enabled.
+ */
+public final class SdkMetrics {
+
+    /**
+     * The tag of the calls whose endpoint is not known.
+     */
+    public static final String UNKNOWN = "unknown";
+
+    /**
+     * The alphanumeric path segments with digits at least this long are ids, like hashes, public
+     * keys or addresses.
+     */
+    private static final int MIN_ID_LENGTH = 16;
+
+    private static volatile MetricsRecorder recorder;
+
+    private SdkMetrics() {
+    }
+
+    /**
+     * @param recorder the recorder of the SDK metrics, null to disable them.
+     */
+    public static void setRecorder(MetricsRecorder recorder) {
+        SdkMetrics.recorder = recorder;
+    }
+
+    /**
+     * @return the recorder of the SDK metrics, null if they are disabled.
+     */
+    public static MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * @return if a recorder has been set.
+     */
+    public static boolean isEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * @return the start of a measure, 0 if the metrics are disabled.
+     */
+    public static long start() {
+        return recorder == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since the start. Nothing is recorded if the start is 0, the
+     * metrics were disabled when the measure started.
+     *
+     * @param metric the timed metric.
+     * @param tag the tag value.
+     * @param start the value returned by {@link #start()}.
+     */
+    public static void recordTime(SdkMetric metric, String tag, long start) {
+        MetricsRecorder current = recorder;
+        if (current != null && start != 0L) {
+            current.recordTime(metric, tag, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Increments a counter if the metrics are enabled.
+     *
+     * @param metric the counted metric.
+     * @param tag the tag value.
+     * @param amount the amount to add.
+     */
+    public static void count(SdkMetric metric, String tag, long amount) {
+        MetricsRecorder current = recorder;
+        if (current != null) {
+            current.count(metric, tag, amount);
+        }
+    }
+
+    /**
+     * The endpoint tag of a rest call. The path segments that are ids, the numbers and the long
+     * alphanumeric values with digits like hashes and addresses, are replaced by "{id}" so the
+     * calls of one endpoint share their tag, for example "GET /account/{id}/transactions".
+     *
+     * @param method the http method.
+     * @param path the request path without the query.
+     * @return the endpoint tag.
+     */
+    public static String endpoint(String method, String path) {
+        StringBuilder endpoint = new StringBuilder(method).append(' ');
+        int start = path.startsWith("/") ? 1 : 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            endpoint.append('/');
+            if (isId(path, start, end)) {
+                endpoint.append("{id}");
+            } else {
+                endpoint.append(path, start, end);
+            }
+            start = end + 1;
+        }
+        return endpoint.toString();
+    }
+
+    private static boolean isId(String path, int start, int end) {
+        boolean digits = false;
+        boolean letters = false;
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (Character.isDigit(c)) {
+                digits = true;
+            } else if (Character.isLetter(c)) {
+                letters = true;
+            } else {
+                return false;
+            }
+        }
+        return digits && (!letters || end - start >= MIN_ID_LENGTH);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api;
+
+import io.nem.sdk.model.account.Address;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The id of the last consumed transaction of each account of an {@link AccountHistoryService}
+ * fetch. The ids can be stored and given back to resume the fetch where it stopped.
+ */
+public class AccountHistoryCheckpoints {
+
+    private final Map<Address, String> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Creates checkpoints that start every account from the beginning.
+     */
+    public AccountHistoryCheckpoints() {
+    }
+
+    /**
+     * Creates checkpoints from stored ids.
+     *
+     * @param ids the id of the last consumed transaction of each account.
+     */
+    public AccountHistoryCheckpoints(Map<Address, String> ids) {
+        Validate.notNull(ids, "ids must not be null");
+        this.ids.putAll(ids);
+    }
+
+    /**
+     * @param address the account address.
+     * @return the id of the last consumed transaction of the account if any.
+     */
+    public Optional<String> getId(Address address) {
+        return Optional.ofNullable(ids.get(address));
+    }
+
+    /**
+     * Moves the checkpoint of an account.
+     *
+     * @param address the account address.
+     * @param id the id of the last consumed transaction of the account.
+     */
+    public void update(Address address, String id) {
+        Validate.notNull(address, "address must not be null");
+        Validate.notNull(id, "id must not be null");
+        ids.put(address, id);
+    }
+
+    /**
+     * @return a copy of the id of the last consumed transaction of each account.
+     */
+    public Map<Address, String> getIds() {
+        return Collections.unmodifiableMap(new HashMap<>(ids));
+    }
+
+    @Override
+    public String toString() {
+        return "AccountHistoryCheckpoints{ids=" + ids + '}';
+    }
+}
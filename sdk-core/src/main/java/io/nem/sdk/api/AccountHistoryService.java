@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api;
+
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
+import java.util.List;
+
+/**
+ * Service used to fetch the confirmed transactions of many accounts at once.
+ */
+public interface AccountHistoryService {
+
+    /**
+     * This method fetches the confirmed transactions of the given accounts and returns them as a
+     * single stream ordered by height and index in the block, like {@link
+     * AccountRepository#transactions(PublicAccount, TransactionSearchCriteria)} does for one
+     * account. A transaction of several of the accounts is only returned once.
+     *
+     * The pages of the accounts are fetched concurrently but the number of requests in flight and
+     * the requests per second are limited. Every account is walked from its checkpoint, and the
+     * checkpoint is moved as the transactions of the account are consumed, so a failed or
+     * cancelled fetch can be resumed with the same checkpoints. A resumed fetch may return again
+     * the transactions shared with an account whose checkpoint was behind.
+     *
+     * @param accounts the accounts.
+     * @param criteria the page size, order and type filter. The id is where the accounts without
+     * checkpoint start.
+     * @param checkpoints the id of the last consumed transaction of each account.
+     * @return the transactions of all the accounts.
+     */
+    Flowable<Transaction> transactions(List<PublicAccount> accounts,
+        TransactionSearchCriteria criteria, AccountHistoryCheckpoints checkpoints);
+}
@@ -110,6 +110,47 @@ public interface AccountRepository {
     Observable<List<Transaction>> outgoingTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria);
 
+    /**
+     * Streams the confirmed transactions for which an account is signer or receiver. Unlike {@link
+     * #transactions(PublicAccount, TransactionSearchCriteria)}, the transactions are emitted one by
+     * one while the page is being read, without collecting the page into a list. Implementations
+     * that can't read the page incrementally emit the transactions of the list call.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return Observable of {@link Transaction}
+     */
+    default Observable<Transaction> streamTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return transactions(publicAccount, criteria).flatMapIterable(page -> page);
+    }
+
+    /**
+     * Streams the transactions for which an account is the recipient of a transaction. The
+     * transactions are emitted one by one while the page is being read.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return Observable of {@link Transaction}
+     */
+    default Observable<Transaction> streamIncomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return incomingTransactions(publicAccount, criteria).flatMapIterable(page -> page);
+    }
+
+    /**
+     * Streams the transactions for which an account is the sender a transaction. The transactions
+     * are emitted one by one while the page is being read.
+     *
+     * @param publicAccount PublicAccount
+     * @param criteria the criteria used to filter and order transactions
+     * @return Observable of {@link Transaction}
+     */
+    default Observable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return outgoingTransactions(publicAccount, criteria).flatMapIterable(page -> page);
+    }
+
     /**
      * Gets an list of aggregate bonded transactions where the account is the sender or requires to
      * cosign the transaction.
@@ -55,6 +55,21 @@ public interface BlockRepository {
      */
     Observable<List<Transaction>> getBlockTransactions(BigInteger height, QueryParams queryParams);
 
+    /**
+     * Streams the transactions included in a block for a block height. Unlike {@link
+     * #getBlockTransactions(BigInteger, QueryParams)}, the transactions are emitted one by one while
+     * the page is being read, without collecting the page into a list. Implementations that can't
+     * read the page incrementally emit the transactions of the list call.
+     *
+     * @param height BigInteger
+     * @param queryParams QueryParams
+     * @return {@link Observable} of {@link Transaction}
+     */
+    default Observable<Transaction> streamBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        return getBlockTransactions(height, queryParams).flatMapIterable(page -> page);
+    }
+
     /**
      * Get the merkle path for a given a receipt statement hash and block Returns the merkle path
      * for a [receipt statement or resolution](https://nemtech.github.io/concepts/receipt.html)
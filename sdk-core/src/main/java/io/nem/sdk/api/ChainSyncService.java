@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.api;
+
+import io.nem.sdk.model.blockchain.SyncedBlock;
+import io.reactivex.Flowable;
+import java.math.BigInteger;
+
+/**
+ * Service used to download a range of the chain.
+ */
+public interface ChainSyncService {
+
+    /**
+     * This method fetches the blocks of a height range with their transactions and receipts.
+     *
+     * The range is split in windows of consecutive heights. The headers of a window are fetched
+     * with one {@link BlockRepository#getBlocksByHeightWithLimit(BigInteger, int)} call, then the
+     * transactions and receipts of its blocks are fetched concurrently. Several windows are fetched
+     * at once but the blocks are returned in strict height order, and only as fast as they are
+     * consumed.
+     *
+     * @param fromHeight the first height of the range.
+     * @param toHeight the last height of the range.
+     * @return the blocks of the range in height order.
+     */
+    Flowable<SyncedBlock> sync(BigInteger fromHeight, BigInteger toHeight);
+}
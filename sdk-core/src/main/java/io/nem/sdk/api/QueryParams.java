@@ -16,6 +16,8 @@
 
 package io.nem.sdk.api;
 
+import java.util.Objects;
+
 /**
  * The query params structure describes pagination params for requests.
  *
@@ -67,4 +69,21 @@ public class QueryParams {
         return order;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryParams that = (QueryParams) o;
+        return Objects.equals(pageSize, that.pageSize) && Objects.equals(id, that.id) && Objects
+            .equals(order, that.order);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageSize, id, order);
+    }
 }
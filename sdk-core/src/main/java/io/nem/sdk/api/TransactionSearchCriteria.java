@@ -17,6 +17,7 @@
 package io.nem.sdk.api;
 
 import io.nem.sdk.model.transaction.TransactionType;
+import java.util.Objects;
 
 /**
  * Defines the params used to search transactions. With is criteria, you can sort and filter
@@ -121,4 +122,22 @@ public class TransactionSearchCriteria {
         this.transactionType = transactionType;
         return this;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TransactionSearchCriteria that = (TransactionSearchCriteria) o;
+        return Objects.equals(pageSize, that.pageSize) && Objects.equals(id, that.id) && Objects
+            .equals(order, that.order) && transactionType == that.transactionType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageSize, id, order, transactionType);
+    }
 }
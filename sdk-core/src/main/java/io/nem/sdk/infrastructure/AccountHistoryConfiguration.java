@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how many requests an {@link AccountHistoryServiceImpl} sends to the node.
+ */
+public class AccountHistoryConfiguration {
+
+    /**
+     * Max number of page requests in flight. (optional, default to 8)
+     */
+    private int maxConcurrentRequests = 8;
+
+    /**
+     * Max number of page requests started per second, 0 for no limit. (optional, default to 0)
+     */
+    private int maxRequestsPerSecond = 0;
+
+    /**
+     * The scheduler that delays the requests over the rate limit. (optional, default to the
+     * computation scheduler)
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the max concurrent requests returning this configuration to nest configuration.
+     *
+     * @param maxConcurrentRequests max number of page requests in flight.
+     * @return this configuration
+     */
+    public AccountHistoryConfiguration maxConcurrentRequests(int maxConcurrentRequests) {
+        Validate.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * Sets the max requests per second returning this configuration to nest configuration.
+     *
+     * @param maxRequestsPerSecond max number of page requests started per second, 0 for no
+     * limit.
+     * @return this configuration
+     */
+    public AccountHistoryConfiguration maxRequestsPerSecond(int maxRequestsPerSecond) {
+        Validate.isTrue(maxRequestsPerSecond >= 0, "maxRequestsPerSecond must not be negative");
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler returning this configuration to nest configuration.
+     *
+     * @param scheduler the scheduler that delays the requests over the rate limit.
+     * @return this configuration
+     */
+    public AccountHistoryConfiguration scheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+        return this;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountHistoryCheckpoints;
+import io.nem.sdk.api.AccountHistoryService;
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Flowable;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Implementation of the account history service.
+ *
+ * Every account is walked with a {@link Paginator} whose page requests go through a {@link
+ * RequestLimiter} shared by all the fetches of this service, and the walks are merged with a
+ * {@link SortedMerge}. The merge needs the next transaction of every account, so all the accounts
+ * are walked at once and each of them holds a few pages. A transaction of several accounts is
+ * merged from all of them with the same height and index, the copies after the first are dropped.
+ */
+public class AccountHistoryServiceImpl implements AccountHistoryService {
+
+    private static final Comparator<Transaction> BY_POSITION = Comparator
+        .comparing((Transaction t) -> getInfo(t).getHeight())
+        .thenComparing(t -> getInfo(t).getIndex().orElse(0));
+
+    private final AccountRepository accountRepository;
+
+    private final RequestLimiter limiter;
+
+    /**
+     * Constructor
+     *
+     * @param repositoryFactory repository factory.
+     */
+    public AccountHistoryServiceImpl(RepositoryFactory repositoryFactory) {
+        this(repositoryFactory, new AccountHistoryConfiguration());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param repositoryFactory repository factory.
+     * @param configuration the limits of the requests sent to the node.
+     */
+    public AccountHistoryServiceImpl(RepositoryFactory repositoryFactory,
+        AccountHistoryConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.accountRepository = repositoryFactory.createAccountRepository();
+        this.limiter = new RequestLimiter(configuration.getMaxConcurrentRequests(),
+            configuration.getMaxRequestsPerSecond(), configuration.getScheduler());
+    }
+
+    @Override
+    public Flowable<Transaction> transactions(List<PublicAccount> accounts,
+        TransactionSearchCriteria criteria, AccountHistoryCheckpoints checkpoints) {
+        Validate.notNull(accounts, "accounts must not be null");
+        Validate.notNull(criteria, "criteria must not be null");
+        Validate.notNull(checkpoints, "checkpoints must not be null");
+        int pageSize = Paginator.getPageSize(criteria);
+        boolean descending = criteria.getOrder() == null || criteria.getOrder().startsWith("-");
+        Comparator<Pair<Address, Transaction>> order = Comparator
+            .comparing(Pair::getRight, descending ? BY_POSITION.reversed() : BY_POSITION);
+        return Flowable.defer(() -> {
+            List<Flowable<Pair<Address, Transaction>>> walks = accounts.stream().distinct()
+                .map(account -> walk(account, criteria, checkpoints, pageSize))
+                .collect(Collectors.toList());
+            Set<String> hashes = new HashSet<>();
+            BigInteger[] height = new BigInteger[1];
+            return new SortedMerge<>(walks, order, pageSize).doOnNext(
+                pair -> checkpoints.update(pair.getLeft(), Paginator.getTransactionId(
+                    pair.getRight()))).filter(pair -> {
+                        TransactionInfo info = getInfo(pair.getRight());
+                        if (!info.getHeight().equals(height[0])) {
+                            height[0] = info.getHeight();
+                            hashes.clear();
+                        }
+                        return info.getHash().map(hashes::add).orElse(true);
+                    }).map(Pair::getRight);
+        });
+    }
+
+    private Flowable<Pair<Address, Transaction>> walk(PublicAccount account,
+        TransactionSearchCriteria criteria, AccountHistoryCheckpoints checkpoints, int pageSize) {
+        Address address = account.getAddress();
+        String start = checkpoints.getId(address).orElse(criteria.getId());
+        return Paginator.stream(start, pageSize, id -> limiter.limit(
+            () -> accountRepository.transactions(account, Paginator.withId(criteria, id))),
+            Paginator::getTransactionId).map(transaction -> Pair.of(address, transaction));
+    }
+
+    private static TransactionInfo getInfo(Transaction transaction) {
+        return transaction.getTransactionInfo()
+            .orElseThrow(() -> new IllegalStateException("Transaction info is not available"));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how an {@link AdaptiveConcurrencyLimiter} moves its limit and how long the calls over
+ * the limit wait.
+ */
+public class AdaptiveConcurrencyConfiguration {
+
+    /**
+     * The limit before any call has finished. (optional, default to 20)
+     */
+    private int initialLimit = 20;
+
+    /**
+     * The lowest limit. (optional, default to 1)
+     */
+    private int minLimit = 1;
+
+    /**
+     * The highest limit. (optional, default to 200)
+     */
+    private int maxLimit = 200;
+
+    /**
+     * The factor applied to the limit when the server is overloaded. (optional, default to 0.9)
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * The response time over which the server is considered overloaded. (optional, default to 2
+     * seconds)
+     */
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+
+    /**
+     * Max number of calls waiting for the limit, the calls over it fail right away. (optional,
+     * default to 1000)
+     */
+    private int maxQueueSize = 1000;
+
+    /**
+     * How long a call waits for the limit before it fails. (optional, default to 10 seconds)
+     */
+    private Duration maxWait = Duration.ofSeconds(10);
+
+    /**
+     * The scheduler that measures the response times and expires the waiting calls. (optional,
+     * default to the computation scheduler)
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the initial limit returning this configuration to nest configuration.
+     *
+     * @param initialLimit the limit before any call has finished.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration initialLimit(int initialLimit) {
+        Validate.isTrue(initialLimit > 0, "initialLimit must be positive");
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Sets the min limit returning this configuration to nest configuration.
+     *
+     * @param minLimit the lowest limit.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration minLimit(int minLimit) {
+        Validate.isTrue(minLimit > 0, "minLimit must be positive");
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * Sets the max limit returning this configuration to nest configuration.
+     *
+     * @param maxLimit the highest limit.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration maxLimit(int maxLimit) {
+        Validate.isTrue(maxLimit > 0, "maxLimit must be positive");
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets the backoff ratio returning this configuration to nest configuration.
+     *
+     * @param backoffRatio the factor applied to the limit when the server is overloaded.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration backoffRatio(double backoffRatio) {
+        Validate.isTrue(backoffRatio > 0 && backoffRatio < 1,
+            "backoffRatio must be between 0 and 1");
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets the latency threshold returning this configuration to nest configuration.
+     *
+     * @param latencyThreshold the response time over which the server is considered overloaded.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration latencyThreshold(Duration latencyThreshold) {
+        Validate.isTrue(latencyThreshold != null && !latencyThreshold.isNegative()
+            && !latencyThreshold.isZero(), "latencyThreshold must be positive");
+        this.latencyThreshold = latencyThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the max queue size returning this configuration to nest configuration.
+     *
+     * @param maxQueueSize max number of calls waiting for the limit.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration maxQueueSize(int maxQueueSize) {
+        Validate.isTrue(maxQueueSize >= 0, "maxQueueSize must not be negative");
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Sets the max wait returning this configuration to nest configuration.
+     *
+     * @param maxWait how long a call waits for the limit before it fails.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration maxWait(Duration maxWait) {
+        Validate.isTrue(maxWait != null && !maxWait.isNegative() && !maxWait.isZero(),
+            "maxWait must be positive");
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler returning this configuration to nest configuration.
+     *
+     * @param scheduler the scheduler that measures the response times and expires the waiting
+     * calls.
+     * @return this configuration
+     */
+    public AdaptiveConcurrencyConfiguration scheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+        return this;
+    }
+}
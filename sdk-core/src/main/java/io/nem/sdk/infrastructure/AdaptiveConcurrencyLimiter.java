@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.RepositoryCallException;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * A {@link ConcurrencyLimiter} that adapts its limit to the server with AIMD (additive increase,
+ * multiplicative decrease).
+ *
+ * A call that fails with 429, 503 or 504, with a connection error or timeout, or that takes
+ * longer than the latency threshold means the server is overloaded, and the limit is multiplied
+ * by the backoff ratio. Any other finished call raises the limit by one per limit calls, as long
+ * as the limit was being used. The calls over the limit wait in order, but only up to the max
+ * queue size and the max wait, then they fail with a {@link RepositoryCallException}.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private final RequestLimiter limiter;
+
+    /**
+     * Creates a limiter with the default configuration.
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(new AdaptiveConcurrencyConfiguration());
+    }
+
+    /**
+     * @param configuration the limits and the backoff.
+     */
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyConfiguration configuration) {
+        Validate.notNull(configuration, "configuration must not be null");
+        Validate.isTrue(configuration.getMinLimit() <= configuration.getInitialLimit()
+                && configuration.getInitialLimit() <= configuration.getMaxLimit(),
+            "initialLimit must be between minLimit and maxLimit");
+        this.limiter = new RequestLimiter(new AimdLimit(configuration), 0,
+            configuration.getMaxQueueSize(), configuration.getMaxWait(),
+            configuration.getScheduler());
+    }
+
+    @Override
+    public <T> Observable<T> limit(Observable<T> call) {
+        return limiter.limit(() -> call);
+    }
+
+    @Override
+    public ConcurrencyLimiterMetrics getMetrics() {
+        return limiter.getMetrics();
+    }
+
+    /**
+     * The limit moved by the outcome of the calls.
+     */
+    private static class AimdLimit implements RequestLimiter.Limit {
+
+        private final int minLimit;
+
+        private final int maxLimit;
+
+        private final double backoffRatio;
+
+        private final long latencyThreshold;
+
+        private double limit;
+
+        AimdLimit(AdaptiveConcurrencyConfiguration configuration) {
+            this.minLimit = configuration.getMinLimit();
+            this.maxLimit = configuration.getMaxLimit();
+            this.backoffRatio = configuration.getBackoffRatio();
+            this.latencyThreshold = configuration.getLatencyThreshold().toNanos();
+            this.limit = configuration.getInitialLimit();
+        }
+
+        @Override
+        public int get() {
+            return (int) limit;
+        }
+
+        @Override
+        public void onFinish(int inFlight, long latency, Throwable error) {
+            if ((error != null && isOverload(error)) || latency > latencyThreshold) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+
+        private static boolean isOverload(Throwable e) {
+            if (e instanceof RepositoryCallException) {
+                int statusCode = ((RepositoryCallException) e).getStatusCode();
+                if (statusCode == 429 || statusCode == 503 || statusCode == 504) {
+                    return true;
+                }
+            }
+            return ExceptionUtils.indexOfType(e, IOException.class) != -1
+                || ExceptionUtils.indexOfType(e, TimeoutException.class) != -1;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.RepositoryCallException;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.subjects.AsyncSubject;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collects the single item lookups of one repository method of a {@link
+ * BatchingRepositoryFactory} and sends them in one bulk request, answering each lookup with its
+ * item from the response.
+ *
+ * A batch is sent when its window ends or when it's full. The lookups of the same key in a batch
+ * share its item. A key missing from the response fails its lookups with a 404 {@link
+ * RepositoryCallException} like the single item endpoint would. A bulk request rejected with a
+ * client error, like a malformed key, is split and sent again until the keys failing it are alone,
+ * so that only their lookups fail. A throttled (429) or timed out (408) bulk request fails its
+ * lookups instead, splitting it would only send more requests to a busy node.
+ *
+ * @param <K> the key type, like an address.
+ * @param <V> the item type, like an account info.
+ */
+class BatchLoader<K, V> {
+
+    private static final int REQUEST_TIMEOUT = 408;
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final Function<List<K>, Observable<List<V>>> bulkCall;
+
+    private final Function<V, K> keyOf;
+
+    private final UnaryOperator<K> normalizer;
+
+    private final int maxBatchSize;
+
+    private final long window;
+
+    private final Scheduler scheduler;
+
+    private final AtomicLong lookups;
+
+    private final AtomicLong batches;
+
+    private Map<K, AsyncSubject<V>> batch = new LinkedHashMap<>();
+
+    /**
+     * @param bulkCall the bulk request.
+     * @param keyOf the key of an item of the response.
+     * @param normalizer the key used to match the lookups and the items, like an upper case hash.
+     * @param configuration the window and the max batch size.
+     * @param lookups the lookups counter.
+     * @param batches the bulk requests counter.
+     */
+    BatchLoader(Function<List<K>, Observable<List<V>>> bulkCall, Function<V, K> keyOf,
+        UnaryOperator<K> normalizer, BatchingConfiguration configuration, AtomicLong lookups,
+        AtomicLong batches) {
+        this.bulkCall = bulkCall;
+        this.keyOf = keyOf;
+        this.normalizer = normalizer;
+        this.maxBatchSize = configuration.getMaxBatchSize();
+        this.window = configuration.getWindow().toNanos();
+        this.scheduler = configuration.getScheduler();
+        this.lookups = lookups;
+        this.batches = batches;
+    }
+
+    /**
+     * @param key the key of the item.
+     * @return the item once the batch of the lookup has been answered.
+     */
+    Observable<V> load(K key) {
+        return Observable.defer(() -> {
+            K normalized = normalizer.apply(key);
+            AsyncSubject<V> subject;
+            Map<K, AsyncSubject<V>> started = null;
+            Map<K, AsyncSubject<V>> full = null;
+            synchronized (this) {
+                lookups.incrementAndGet();
+                if (batch.isEmpty()) {
+                    started = batch;
+                }
+                subject = batch.computeIfAbsent(normalized, k -> AsyncSubject.create());
+                if (batch.size() >= maxBatchSize) {
+                    full = batch;
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (full != null) {
+                send(full);
+            } else if (started != null) {
+                Map<K, AsyncSubject<V>> pending = started;
+                scheduler.scheduleDirect(() -> flush(pending), window, TimeUnit.NANOSECONDS);
+            }
+            return subject;
+        });
+    }
+
+    /**
+     * Sends the batch if it has not been sent because it was full.
+     */
+    private void flush(Map<K, AsyncSubject<V>> pending) {
+        synchronized (this) {
+            if (batch != pending) {
+                return;
+            }
+            batch = new LinkedHashMap<>();
+        }
+        send(pending);
+    }
+
+    /**
+     * The request is not cancelled when the lookups are disposed, other lookups may need it.
+     */
+    private void send(Map<K, AsyncSubject<V>> subjects) {
+        batches.incrementAndGet();
+        List<K> keys = new ArrayList<>(subjects.keySet());
+        Set<K> answered = new HashSet<>();
+        Observable.defer(() -> bulkCall.apply(keys)).subscribe(items -> {
+            for (V item : items) {
+                K key = normalizer.apply(keyOf.apply(item));
+                AsyncSubject<V> subject = subjects.get(key);
+                if (subject != null) {
+                    answered.add(key);
+                    subject.onNext(item);
+                }
+            }
+        }, e -> fail(subjects, answered, e),
+            () -> subjects.forEach((key, subject) -> {
+                if (answered.contains(key)) {
+                    subject.onComplete();
+                } else {
+                    subject.onError(new RepositoryCallException("Not Found: " + key, 404, null));
+                }
+            }));
+    }
+
+    /**
+     * Sends the two halves of the unanswered keys again when the bulk request was rejected with a
+     * client error other than a throttling or a timeout, fails their lookups otherwise.
+     */
+    private void fail(Map<K, AsyncSubject<V>> subjects, Set<K> answered, Throwable e) {
+        Map<K, AsyncSubject<V>> pending = new LinkedHashMap<>();
+        subjects.forEach((key, subject) -> {
+            if (answered.contains(key)) {
+                subject.onComplete();
+            } else {
+                pending.put(key, subject);
+            }
+        });
+        if (pending.size() > 1 && isClientError(e)) {
+            List<K> keys = new ArrayList<>(pending.keySet());
+            int half = keys.size() / 2;
+            send(select(pending, keys.subList(0, half)));
+            send(select(pending, keys.subList(half, keys.size())));
+        } else {
+            pending.values().forEach(subject -> subject.onError(e));
+        }
+    }
+
+    private Map<K, AsyncSubject<V>> select(Map<K, AsyncSubject<V>> subjects, List<K> keys) {
+        Map<K, AsyncSubject<V>> selected = new LinkedHashMap<>();
+        keys.forEach(key -> selected.put(key, subjects.get(key)));
+        return selected;
+    }
+
+    private static boolean isClientError(Throwable e) {
+        if (!(e instanceof RepositoryCallException)) {
+            return false;
+        }
+        int statusCode = ((RepositoryCallException) e).getStatusCode();
+        return statusCode >= 400 && statusCode < 500 && statusCode != REQUEST_TIMEOUT
+            && statusCode != TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how long a {@link BatchingRepositoryFactory} collects single lookups and how many it
+ * sends in one bulk request.
+ */
+public class BatchingConfiguration {
+
+    /**
+     * How long the first lookup of a batch waits for others before the bulk request is sent.
+     * (optional, default to 5 milliseconds)
+     */
+    private Duration window = Duration.ofMillis(5);
+
+    /**
+     * Max number of lookups in a bulk request, a full batch is sent right away. (optional,
+     * default to 100)
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * The scheduler that sends the batches when their window ends. (optional, default to the
+     * computation scheduler)
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the window returning this configuration to nest configuration.
+     *
+     * @param window how long the first lookup of a batch waits for others.
+     * @return this configuration
+     */
+    public BatchingConfiguration window(Duration window) {
+        Validate.isTrue(window != null && !window.isNegative(), "window must not be negative");
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Sets the max batch size returning this configuration to nest configuration.
+     *
+     * @param maxBatchSize max number of lookups in a bulk request.
+     * @return this configuration
+     */
+    public BatchingConfiguration maxBatchSize(int maxBatchSize) {
+        Validate.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler returning this configuration to nest configuration.
+     *
+     * @param scheduler the scheduler that sends the batches.
+     * @return this configuration
+     */
+    public BatchingConfiguration scheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+        return this;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+/**
+ * A snapshot of the counters of a {@link BatchingRepositoryFactory}.
+ */
+public class BatchingMetrics {
+
+    private final long lookups;
+
+    private final long batches;
+
+    public BatchingMetrics(long lookups, long batches) {
+        this.lookups = lookups;
+        this.batches = batches;
+    }
+
+    /**
+     * @return the number of single item lookups.
+     */
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return the number of bulk requests sent for them.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return the average number of lookups per bulk request, 0 if there were no requests.
+     */
+    public double getAverageBatchSize() {
+        return batches == 0 ? 0 : (double) lookups / batches;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingMetrics{lookups=" + lookups + ", batches=" + batches + '}';
+    }
+}
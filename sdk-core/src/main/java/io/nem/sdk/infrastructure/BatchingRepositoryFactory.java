@@ -0,0 +1,265 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.DiagnosticRepository;
+import io.nem.sdk.api.JsonSerialization;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.MultisigRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.RestrictionAccountRepository;
+import io.nem.sdk.api.RestrictionMosaicRepository;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.AccountRestrictions;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.restriction.MosaicGlobalRestriction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} decorator that batches the single item lookups that have a bulk
+ * endpoint. The lookups made within a short window are sent in one bulk request and each lookup
+ * gets its item from the response. The batched lookups are:
+ *
+ * <ul>
+ * <li>{@link AccountRepository#getAccountInfo} with {@link AccountRepository#getAccountsInfo}</li>
+ * <li>{@link MosaicRepository#getMosaic} with {@link MosaicRepository#getMosaics}</li>
+ * <li>{@link TransactionRepository#getTransaction} with {@link
+ * TransactionRepository#getTransactions}</li>
+ * <li>{@link TransactionRepository#getTransactionStatus} with {@link
+ * TransactionRepository#getTransactionStatuses}</li>
+ * <li>{@link RestrictionAccountRepository#getAccountRestrictions} with {@link
+ * RestrictionAccountRepository#getAccountsRestrictions}</li>
+ * <li>{@link RestrictionMosaicRepository#getMosaicGlobalRestriction} with {@link
+ * RestrictionMosaicRepository#getMosaicGlobalRestrictions}</li>
+ * </ul>
+ *
+ * Only the lookups subscribed concurrently are batched, for example 1000 account lookups merged
+ * with flatMap become 10 requests with the default max batch size. A lookup only waits for the
+ * window when it starts a batch. Any other call goes to the decorated factory's repositories.
+ */
+public class BatchingRepositoryFactory implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    private final BatchingConfiguration configuration;
+
+    private final Map<Method, BatchLoader<?, ?>> loaders = new HashMap<>();
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * @param delegate the decorated factory.
+     */
+    public BatchingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new BatchingConfiguration());
+    }
+
+    /**
+     * @param delegate the decorated factory.
+     * @param configuration the batching window and max batch size.
+     */
+    public BatchingRepositoryFactory(RepositoryFactory delegate,
+        BatchingConfiguration configuration) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.delegate = delegate;
+        this.configuration = configuration;
+        AccountRepository accountRepository = delegate.createAccountRepository();
+        register(AccountRepository.class, "getAccountInfo", Address.class,
+            keys -> accountRepository.getAccountsInfo(keys), AccountInfo::getAddress,
+            UnaryOperator.identity());
+        MosaicRepository mosaicRepository = delegate.createMosaicRepository();
+        register(MosaicRepository.class, "getMosaic", MosaicId.class,
+            keys -> mosaicRepository.getMosaics(keys), MosaicInfo::getMosaicId,
+            UnaryOperator.identity());
+        TransactionRepository transactionRepository = delegate.createTransactionRepository();
+        this.<String, Transaction>register(TransactionRepository.class, "getTransaction",
+            String.class, keys -> transactionRepository.getTransactions(keys),
+            transaction -> transaction.getTransactionInfo()
+                .flatMap(TransactionInfo::getHash).orElse(""), String::toUpperCase);
+        this.<String, TransactionStatus>register(TransactionRepository.class,
+            "getTransactionStatus", String.class,
+            keys -> transactionRepository.getTransactionStatuses(keys),
+            TransactionStatus::getHash, String::toUpperCase);
+        RestrictionAccountRepository restrictionAccountRepository = delegate
+            .createRestrictionAccountRepository();
+        register(RestrictionAccountRepository.class, "getAccountRestrictions", Address.class,
+            keys -> restrictionAccountRepository.getAccountsRestrictions(keys),
+            AccountRestrictions::getAddress, UnaryOperator.identity());
+        RestrictionMosaicRepository restrictionMosaicRepository = delegate
+            .createRestrictionMosaicRepository();
+        register(RestrictionMosaicRepository.class, "getMosaicGlobalRestriction", MosaicId.class,
+            keys -> restrictionMosaicRepository.getMosaicGlobalRestrictions(keys),
+            MosaicGlobalRestriction::getMosaicId, UnaryOperator.identity());
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return createRepository(AccountRepository.class,
+            RepositoryFactory::createAccountRepository);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return delegate.createMultisigRepository();
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return delegate.createBlockRepository();
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return delegate.createReceiptRepository();
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return delegate.createChainRepository();
+    }
+
+    @Override
+    public DiagnosticRepository createDiagnosticRepository() {
+        return delegate.createDiagnosticRepository();
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return delegate.createNamespaceRepository();
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return delegate.createNetworkRepository();
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return delegate.createNodeRepository();
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return createRepository(TransactionRepository.class,
+            RepositoryFactory::createTransactionRepository);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return delegate.createMetadataRepository();
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return createRepository(RestrictionAccountRepository.class,
+            RepositoryFactory::createRestrictionAccountRepository);
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return createRepository(RestrictionMosaicRepository.class,
+            RepositoryFactory::createRestrictionMosaicRepository);
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    /**
+     * @return the number of single item lookups and of the bulk requests sent for them.
+     */
+    public BatchingMetrics getBatchingMetrics() {
+        return new BatchingMetrics(lookups.get(), batches.get());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <K, V> void register(Class<?> type, String methodName, Class<K> keyType,
+        Function<List<K>, Observable<List<V>>> bulkCall, Function<V, K> keyOf,
+        UnaryOperator<K> normalizer) {
+        try {
+            loaders.put(type.getMethod(methodName, keyType),
+                new BatchLoader<>(bulkCall, keyOf, normalizer, configuration, lookups, batches));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R createRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+        R repository = creator.apply(delegate);
+        return RepositoryProxy.create(type, "Batching", (method, args) -> {
+            BatchLoader<Object, ?> loader = (BatchLoader<Object, ?>) loaders.get(method);
+            if (loader == null || args[0] == null) {
+                return RepositoryProxy.invoke(repository, method, args);
+            }
+            return loader.load(args[0]);
+        });
+    }
+}
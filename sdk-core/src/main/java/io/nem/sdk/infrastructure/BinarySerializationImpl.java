@@ -63,6 +63,9 @@ import io.nem.catapult.builders.TransferTransactionBodyBuilder;
 import io.nem.catapult.builders.UnresolvedAddressDto;
 import io.nem.catapult.builders.UnresolvedMosaicBuilder;
 import io.nem.catapult.builders.UnresolvedMosaicIdDto;
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.core.utils.ConvertUtils;
 import io.nem.core.utils.ExceptionUtils;
 import io.nem.core.utils.StringEncoder;
@@ -233,8 +236,14 @@ public class BinarySerializationImpl implements BinarySerialization {
     @Override
     public <T extends Transaction> byte[] serialize(T transaction) {
         Validate.notNull(transaction, "Transaction must not be null");
+        long start = SdkMetrics.start();
+        Object event = SdkEvents.startSerialization();
         TransactionBuilder transactionBuilder = getTransactionBuilder(transaction);
-        return serializeTransaction(transactionBuilder.serialize(), transaction);
+        byte[] payload = serializeTransaction(transactionBuilder.serialize(), transaction);
+        SdkMetrics
+            .recordTime(SdkMetric.TRANSACTION_SERIALIZATION, transaction.getType().name(), start);
+        SdkEvents.commitSerialization(event, "serialize", transaction.getType(), payload.length);
+        return payload;
     }
 
 
@@ -346,11 +355,17 @@ public class BinarySerializationImpl implements BinarySerialization {
     @SuppressWarnings("squid:S1192")
     public Transaction deserialize(byte[] payload) {
         Validate.notNull(payload, "Payload must not be null");
+        long start = SdkMetrics.start();
+        Object event = SdkEvents.startSerialization();
         DataInputStream stream = SerializationUtils.toDataInput(payload);
         TransactionBuilder builder = TransactionBuilderFactory
             .createTransactionBuilder(stream);
 
-        return toTransaction(builder);
+        Transaction transaction = toTransaction(builder);
+        SdkMetrics.recordTime(SdkMetric.TRANSACTION_DESERIALIZATION,
+            transaction.getType().name(), start);
+        SdkEvents.commitSerialization(event, "deserialize", transaction.getType(), payload.length);
+        return transaction;
     }
 
     /**
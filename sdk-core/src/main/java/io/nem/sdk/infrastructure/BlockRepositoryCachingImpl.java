@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * {@link BlockRepository} of a {@link CachingRepositoryFactory}. Final blocks and transaction
+ * merkle proofs are cached.
+ */
+class BlockRepositoryCachingImpl implements BlockRepository {
+
+    private final BlockRepository delegate;
+
+    private final CachingRepositoryFactory factory;
+
+    BlockRepositoryCachingImpl(BlockRepository delegate, CachingRepositoryFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+        return factory.getBlockCache().get(height, () -> delegate.getBlockByHeight(height),
+            block -> factory.isFinal(height));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height) {
+        return delegate.getBlockTransactions(height);
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        return delegate.getBlockTransactions(height, queryParams);
+    }
+
+    @Override
+    public Observable<Transaction> streamBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        return delegate.streamBlockTransactions(height, queryParams);
+    }
+
+    @Override
+    public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, int limit) {
+        return delegate.getBlocksByHeightWithLimit(height, limit).doOnNext(blocks -> {
+            for (BlockInfo block : blocks) {
+                if (factory.isFinal(block.getHeight())) {
+                    factory.getBlockCache().put(block.getHeight(), block);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Observable<MerkelProofInfo> getMerkleTransaction(BigInteger height, String hash) {
+        return factory.getMerkleTransactionCache()
+            .get(Pair.of(height, CachingRepositoryFactory.toKey(hash)),
+                () -> delegate.getMerkleTransaction(height, hash),
+                proof -> factory.isFinal(height));
+    }
+}
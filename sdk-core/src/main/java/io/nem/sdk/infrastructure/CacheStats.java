@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+/**
+ * A snapshot of the counters of one of the caches of a {@link CachingRepositoryFactory}.
+ */
+public class CacheStats {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final long size;
+
+    private final long weight;
+
+    public CacheStats(long hits, long misses, long evictions, long size, long weight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /**
+     * @return the number of lookups answered by the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that went to the server.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entries removed to keep the cache within its size and weight.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the total weight of the cached entries.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the fraction of the lookups answered by the cache, 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+            + ", size=" + size + ", weight=" + weight + '}';
+    }
+}
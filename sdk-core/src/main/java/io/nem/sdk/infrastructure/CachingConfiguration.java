@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how much a {@link CachingRepositoryFactory} caches and when chain data is final.
+ */
+public class CachingConfiguration {
+
+    /**
+     * How many blocks the network may roll back. Data of the latest blocks is not cached as it
+     * may still change. (optional, default to 398)
+     */
+    private long maxRollbackBlocks = 398;
+
+    /**
+     * How often, at most, the chain height is refreshed to know which blocks are final.
+     * (optional, default to 10 seconds)
+     */
+    private Duration chainHeightRefreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * Max number of cached blocks. (optional, default to 10000)
+     */
+    private long blockCacheSize = 10_000;
+
+    /**
+     * Max number of cached transactions. (optional, default to 10000)
+     */
+    private long transactionCacheSize = 10_000;
+
+    /**
+     * Max weight of the cached transactions, an aggregate transaction weighs one plus its inner
+     * transactions. (optional, default to 50000)
+     */
+    private long transactionCacheWeight = 50_000;
+
+    /**
+     * Max number of cached block statements. (optional, default to 1000)
+     */
+    private long receiptCacheSize = 1_000;
+
+    /**
+     * Max weight of the cached block statements, a statement weighs its receipts and resolution
+     * entries. (optional, default to 100000)
+     */
+    private long receiptCacheWeight = 100_000;
+
+    /**
+     * Max number of cached merkle proofs of each kind. (optional, default to 10000)
+     */
+    private long merkleCacheSize = 10_000;
+
+    public long getMaxRollbackBlocks() {
+        return maxRollbackBlocks;
+    }
+
+    public Duration getChainHeightRefreshInterval() {
+        return chainHeightRefreshInterval;
+    }
+
+    public long getBlockCacheSize() {
+        return blockCacheSize;
+    }
+
+    public long getTransactionCacheSize() {
+        return transactionCacheSize;
+    }
+
+    public long getTransactionCacheWeight() {
+        return transactionCacheWeight;
+    }
+
+    public long getReceiptCacheSize() {
+        return receiptCacheSize;
+    }
+
+    public long getReceiptCacheWeight() {
+        return receiptCacheWeight;
+    }
+
+    public long getMerkleCacheSize() {
+        return merkleCacheSize;
+    }
+
+    /**
+     * Sets the max rollback blocks returning this configuration to nest configuration.
+     *
+     * @param maxRollbackBlocks how many blocks the network may roll back, 0 caches every block.
+     * @return this configuration
+     */
+    public CachingConfiguration maxRollbackBlocks(long maxRollbackBlocks) {
+        Validate.isTrue(maxRollbackBlocks >= 0, "maxRollbackBlocks must not be negative");
+        this.maxRollbackBlocks = maxRollbackBlocks;
+        return this;
+    }
+
+    /**
+     * Sets the chain height refresh interval returning this configuration to nest configuration.
+     *
+     * @param chainHeightRefreshInterval how often, at most, the chain height is refreshed.
+     * @return this configuration
+     */
+    public CachingConfiguration chainHeightRefreshInterval(Duration chainHeightRefreshInterval) {
+        Validate.notNull(chainHeightRefreshInterval, "chainHeightRefreshInterval must not be null");
+        this.chainHeightRefreshInterval = chainHeightRefreshInterval;
+        return this;
+    }
+
+    /**
+     * Sets the block cache size returning this configuration to nest configuration.
+     *
+     * @param blockCacheSize max number of cached blocks.
+     * @return this configuration
+     */
+    public CachingConfiguration blockCacheSize(long blockCacheSize) {
+        Validate.isTrue(blockCacheSize >= 0, "blockCacheSize must not be negative");
+        this.blockCacheSize = blockCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the transaction cache size returning this configuration to nest configuration.
+     *
+     * @param transactionCacheSize max number of cached transactions.
+     * @return this configuration
+     */
+    public CachingConfiguration transactionCacheSize(long transactionCacheSize) {
+        Validate.isTrue(transactionCacheSize >= 0, "transactionCacheSize must not be negative");
+        this.transactionCacheSize = transactionCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the transaction cache weight returning this configuration to nest configuration.
+     *
+     * @param transactionCacheWeight max weight of the cached transactions.
+     * @return this configuration
+     */
+    public CachingConfiguration transactionCacheWeight(long transactionCacheWeight) {
+        Validate.isTrue(transactionCacheWeight >= 0, "transactionCacheWeight must not be negative");
+        this.transactionCacheWeight = transactionCacheWeight;
+        return this;
+    }
+
+    /**
+     * Sets the receipt cache size returning this configuration to nest configuration.
+     *
+     * @param receiptCacheSize max number of cached block statements.
+     * @return this configuration
+     */
+    public CachingConfiguration receiptCacheSize(long receiptCacheSize) {
+        Validate.isTrue(receiptCacheSize >= 0, "receiptCacheSize must not be negative");
+        this.receiptCacheSize = receiptCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the receipt cache weight returning this configuration to nest configuration.
+     *
+     * @param receiptCacheWeight max weight of the cached block statements.
+     * @return this configuration
+     */
+    public CachingConfiguration receiptCacheWeight(long receiptCacheWeight) {
+        Validate.isTrue(receiptCacheWeight >= 0, "receiptCacheWeight must not be negative");
+        this.receiptCacheWeight = receiptCacheWeight;
+        return this;
+    }
+
+    /**
+     * Sets the merkle cache size returning this configuration to nest configuration.
+     *
+     * @param merkleCacheSize max number of cached merkle proofs of each kind.
+     * @return this configuration
+     */
+    public CachingConfiguration merkleCacheSize(long merkleCacheSize) {
+        Validate.isTrue(merkleCacheSize >= 0, "merkleCacheSize must not be negative");
+        this.merkleCacheSize = merkleCacheSize;
+        return this;
+    }
+}
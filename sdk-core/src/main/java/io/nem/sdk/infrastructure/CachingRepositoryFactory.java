@@ -0,0 +1,355 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.DiagnosticRepository;
+import io.nem.sdk.api.JsonSerialization;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.MultisigRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.RestrictionAccountRepository;
+import io.nem.sdk.api.RestrictionMosaicRepository;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.receipt.TransactionStatement;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * A {@link RepositoryFactory} decorator that caches the chain data that doesn't change once its
+ * block is final: blocks by height, confirmed transactions by hash, block statements, merkle
+ * proofs, the network type and the generation hash.
+ *
+ * The caches are least recently used caches bounded by size and weight. They belong to the
+ * factory, so all the repositories it creates share them. Data of the blocks the network may
+ * still roll back is not cached. The chain height that tells which blocks are final is refreshed
+ * in the background when a not final block is requested and is also updated by the chain heights
+ * read through this factory's {@link ChainRepository}s. The other repositories are the ones of the
+ * decorated factory.
+ */
+public class CachingRepositoryFactory implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    private final long maxRollbackBlocks;
+
+    private final long chainHeightRefreshInterval;
+
+    private final LruCache<BigInteger, BlockInfo> blockCache;
+
+    private final LruCache<String, Transaction> transactionCache;
+
+    private final LruCache<BigInteger, Statement> receiptCache;
+
+    private final LruCache<Pair<BigInteger, String>, MerkelProofInfo> merkleTransactionCache;
+
+    private final LruCache<Pair<BigInteger, String>, MerkelProofInfo> merkleReceiptCache;
+
+    private final AtomicReference<NetworkType> networkType = new AtomicReference<>();
+
+    private final AtomicReference<String> generationHash = new AtomicReference<>();
+
+    private final AtomicReference<BigInteger> chainHeight = new AtomicReference<>(BigInteger.ZERO);
+
+    private final AtomicLong nextChainHeightRefresh = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param delegate the decorated factory.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new CachingConfiguration());
+    }
+
+    /**
+     * @param delegate the decorated factory.
+     * @param configuration the cache sizes and when chain data is final.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate,
+        CachingConfiguration configuration) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.delegate = delegate;
+        this.maxRollbackBlocks = configuration.getMaxRollbackBlocks();
+        this.chainHeightRefreshInterval = configuration.getChainHeightRefreshInterval().toNanos();
+        this.blockCache = new LruCache<>(configuration.getBlockCacheSize(), Long.MAX_VALUE,
+            block -> 1);
+        this.transactionCache = new LruCache<>(configuration.getTransactionCacheSize(),
+            configuration.getTransactionCacheWeight(), CachingRepositoryFactory::weigh);
+        this.receiptCache = new LruCache<>(configuration.getReceiptCacheSize(),
+            configuration.getReceiptCacheWeight(), CachingRepositoryFactory::weigh);
+        this.merkleTransactionCache = new LruCache<>(configuration.getMerkleCacheSize(),
+            Long.MAX_VALUE, proof -> 1);
+        this.merkleReceiptCache = new LruCache<>(configuration.getMerkleCacheSize(),
+            Long.MAX_VALUE, proof -> 1);
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return memoize(networkType, delegate::getNetworkType);
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return memoize(generationHash, delegate::getGenerationHash);
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return delegate.createAccountRepository();
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return delegate.createMultisigRepository();
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return new BlockRepositoryCachingImpl(delegate.createBlockRepository(), this);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return new ReceiptRepositoryCachingImpl(delegate.createReceiptRepository(), this);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return new ChainRepositoryCachingImpl(delegate.createChainRepository(), this);
+    }
+
+    @Override
+    public DiagnosticRepository createDiagnosticRepository() {
+        return delegate.createDiagnosticRepository();
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return delegate.createMosaicRepository();
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return delegate.createNamespaceRepository();
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return new NetworkRepositoryCachingImpl(delegate.createNetworkRepository(), this);
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return delegate.createNodeRepository();
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return new TransactionRepositoryCachingImpl(delegate.createTransactionRepository(), this);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return delegate.createMetadataRepository();
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return delegate.createRestrictionAccountRepository();
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return delegate.createRestrictionMosaicRepository();
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * @return the counters of the caches by name: blocks, transactions, receipts,
+     * merkleTransactions and merkleReceipts.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("blocks", blockCache.getStats());
+        stats.put("transactions", transactionCache.getStats());
+        stats.put("receipts", receiptCache.getStats());
+        stats.put("merkleTransactions", merkleTransactionCache.getStats());
+        stats.put("merkleReceipts", merkleReceiptCache.getStats());
+        return stats;
+    }
+
+    /**
+     * Removes every cached entry, the network type and the generation hash are kept.
+     */
+    public void invalidateAll() {
+        blockCache.invalidateAll();
+        transactionCache.invalidateAll();
+        receiptCache.invalidateAll();
+        merkleTransactionCache.invalidateAll();
+        merkleReceiptCache.invalidateAll();
+    }
+
+    /**
+     * Removes the cached entries of the given block and the blocks after it, for example after
+     * the network has rolled back deeper than the configured max rollback blocks.
+     *
+     * @param height the first invalidated block height.
+     */
+    public void invalidateFrom(BigInteger height) {
+        Validate.notNull(height, "height must not be null");
+        blockCache.invalidateIf((key, block) -> key.compareTo(height) >= 0);
+        transactionCache.invalidateIf(
+            (key, transaction) -> getHeight(transaction).compareTo(height) >= 0);
+        receiptCache.invalidateIf((key, statement) -> key.compareTo(height) >= 0);
+        merkleTransactionCache.invalidateIf((key, proof) -> key.getLeft().compareTo(height) >= 0);
+        merkleReceiptCache.invalidateIf((key, proof) -> key.getLeft().compareTo(height) >= 0);
+    }
+
+    LruCache<BigInteger, BlockInfo> getBlockCache() {
+        return blockCache;
+    }
+
+    LruCache<String, Transaction> getTransactionCache() {
+        return transactionCache;
+    }
+
+    LruCache<BigInteger, Statement> getReceiptCache() {
+        return receiptCache;
+    }
+
+    LruCache<Pair<BigInteger, String>, MerkelProofInfo> getMerkleTransactionCache() {
+        return merkleTransactionCache;
+    }
+
+    LruCache<Pair<BigInteger, String>, MerkelProofInfo> getMerkleReceiptCache() {
+        return merkleReceiptCache;
+    }
+
+    Observable<NetworkType> getNetworkType(NetworkRepository networkRepository) {
+        return memoize(networkType, networkRepository::getNetworkType);
+    }
+
+    /**
+     * @param height the block height.
+     * @return if the block can't be rolled back anymore. If it may, the known chain height is
+     * refreshed in the background when it's older than the refresh interval.
+     */
+    boolean isFinal(BigInteger height) {
+        if (height.add(BigInteger.valueOf(maxRollbackBlocks)).compareTo(chainHeight.get()) <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long next = nextChainHeightRefresh.get();
+        if (now - next >= 0 && nextChainHeightRefresh
+            .compareAndSet(next, now + chainHeightRefreshInterval)) {
+            delegate.createChainRepository().getBlockchainHeight()
+                .subscribe(this::onChainHeight, e -> {
+                    // The block is not cached this time, the next refresh may succeed.
+                });
+        }
+        return false;
+    }
+
+    /**
+     * @param transaction the transaction.
+     * @return if it's confirmed in a final block.
+     */
+    boolean isFinal(Transaction transaction) {
+        BigInteger height = getHeight(transaction);
+        return height.signum() > 0 && isFinal(height);
+    }
+
+    void onChainHeight(BigInteger height) {
+        chainHeight.accumulateAndGet(height, BigInteger::max);
+    }
+
+    /**
+     * @param transactionHash the transaction hash.
+     * @return the transaction cache key of the hash.
+     */
+    static String toKey(String transactionHash) {
+        return transactionHash.toUpperCase();
+    }
+
+    private static BigInteger getHeight(Transaction transaction) {
+        return transaction.getTransactionInfo().map(TransactionInfo::getHeight)
+            .orElse(BigInteger.ZERO);
+    }
+
+    private static long weigh(Transaction transaction) {
+        if (transaction instanceof AggregateTransaction) {
+            return 1L + ((AggregateTransaction) transaction).getInnerTransactions().size();
+        }
+        return 1;
+    }
+
+    private static long weigh(Statement statement) {
+        long weight = 1;
+        for (TransactionStatement transactionStatement : statement.getTransactionStatements()) {
+            weight += transactionStatement.getReceipts().size();
+        }
+        weight += statement.getAddressResolutionStatements().stream()
+            .mapToLong(resolution -> resolution.getResolutionEntries().size()).sum();
+        weight += statement.getMosaicResolutionStatement().stream()
+            .mapToLong(resolution -> resolution.getResolutionEntries().size()).sum();
+        return weight;
+    }
+
+    private static <T> Observable<T> memoize(AtomicReference<T> value,
+        Supplier<Observable<T>> loader) {
+        return Observable.defer(() -> {
+            T loaded = value.get();
+            return loaded == null ? loader.get().doOnNext(value::set) : Observable.just(loaded);
+        });
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.model.blockchain.BlockchainScore;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+
+/**
+ * {@link ChainRepository} of a {@link CachingRepositoryFactory}. Nothing is cached, the chain
+ * heights it reads tell the factory which blocks are final.
+ */
+class ChainRepositoryCachingImpl implements ChainRepository {
+
+    private final ChainRepository delegate;
+
+    private final CachingRepositoryFactory factory;
+
+    ChainRepositoryCachingImpl(ChainRepository delegate, CachingRepositoryFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public Observable<BigInteger> getBlockchainHeight() {
+        return delegate.getBlockchainHeight().doOnNext(factory::onChainHeight);
+    }
+
+    @Override
+    public Observable<BlockchainScore> getChainScore() {
+        return delegate.getChainScore();
+    }
+}
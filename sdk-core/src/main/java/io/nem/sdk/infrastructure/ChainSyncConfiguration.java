@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how a {@link ChainSyncServiceImpl} splits a height range and how much of it is fetched
+ * at once.
+ */
+public class ChainSyncConfiguration {
+
+    /**
+     * Number of consecutive blocks whose headers are fetched with one request, 100 is the largest
+     * the rest gateway returns. (optional, default to 100)
+     */
+    private int windowSize = 100;
+
+    /**
+     * Number of windows fetched at once. The blocks of the windows ahead are kept until the
+     * blocks before them are returned. (optional, default to 2)
+     */
+    private int parallelism = 2;
+
+    /**
+     * Max number of blocks of a window whose transactions and receipts are fetched at once.
+     * (optional, default to 8)
+     */
+    private int maxConcurrentBlocks = 8;
+
+    /**
+     * The scheduler on which the transactions and receipts of each block are fetched and
+     * assembled. (optional, default to the io scheduler)
+     */
+    private Scheduler scheduler = Schedulers.io();
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getMaxConcurrentBlocks() {
+        return maxConcurrentBlocks;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the window size returning this configuration to nest configuration.
+     *
+     * @param windowSize number of consecutive blocks whose headers are fetched with one request.
+     * @return this configuration
+     */
+    public ChainSyncConfiguration windowSize(int windowSize) {
+        Validate.isTrue(windowSize > 0 && windowSize <= 100,
+            "windowSize must be between 1 and 100");
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Sets the parallelism returning this configuration to nest configuration.
+     *
+     * @param parallelism number of windows fetched at once.
+     * @return this configuration
+     */
+    public ChainSyncConfiguration parallelism(int parallelism) {
+        Validate.isTrue(parallelism > 0, "parallelism must be positive");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the max concurrent blocks returning this configuration to nest configuration.
+     *
+     * @param maxConcurrentBlocks max number of blocks of a window fetched at once.
+     * @return this configuration
+     */
+    public ChainSyncConfiguration maxConcurrentBlocks(int maxConcurrentBlocks) {
+        Validate.isTrue(maxConcurrentBlocks > 0, "maxConcurrentBlocks must be positive");
+        this.maxConcurrentBlocks = maxConcurrentBlocks;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler returning this configuration to nest configuration.
+     *
+     * @param scheduler the scheduler on which the blocks are fetched and assembled.
+     * @return this configuration
+     */
+    public ChainSyncConfiguration scheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+        return this;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the counters of a {@link ChainSyncServiceImpl}.
+ */
+public class ChainSyncMetrics {
+
+    private final long blocks;
+
+    private final long transactions;
+
+    private final Duration elapsed;
+
+    public ChainSyncMetrics(long blocks, long transactions, Duration elapsed) {
+        this.blocks = blocks;
+        this.transactions = transactions;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the number of blocks returned.
+     */
+    public long getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * @return the number of transactions of the returned blocks.
+     */
+    public long getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * @return the time during which at least one sync was running.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the blocks returned per second of sync, 0 if no sync has run.
+     */
+    public double getBlocksPerSecond() {
+        return perSecond(blocks);
+    }
+
+    /**
+     * @return the transactions returned per second of sync, 0 if no sync has run.
+     */
+    public double getTransactionsPerSecond() {
+        return perSecond(transactions);
+    }
+
+    private double perSecond(long count) {
+        return elapsed.isZero() ? 0 : count * 1_000_000_000d / elapsed.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return "ChainSyncMetrics{blocks=" + blocks + ", transactions=" + transactions
+            + ", elapsed=" + elapsed + '}';
+    }
+}
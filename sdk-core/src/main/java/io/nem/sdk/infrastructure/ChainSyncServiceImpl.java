@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainSyncService;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.SyncedBlock;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of the chain sync service.
+ *
+ * The windows are fetched with {@link Flowable#concatMapEager}, the blocks of the windows ahead
+ * wait in its buffers until the windows before them are returned, so the reorder buffer holds at
+ * most the blocks of the parallel windows. The transactions and receipts of each block are
+ * fetched on the configured scheduler, where the client mappings that run on the subscribing
+ * thread decode them in parallel.
+ */
+public class ChainSyncServiceImpl implements ChainSyncService {
+
+    /**
+     * The largest page of block transactions of the rest gateway.
+     */
+    private static final int TRANSACTIONS_PAGE_SIZE = 100;
+
+    private final BlockRepository blockRepository;
+
+    private final ReceiptRepository receiptRepository;
+
+    private final ChainSyncConfiguration configuration;
+
+    private final AtomicLong blocks = new AtomicLong();
+
+    private final AtomicLong transactions = new AtomicLong();
+
+    private int running;
+
+    private long runningSince;
+
+    private long elapsed;
+
+    /**
+     * Constructor
+     *
+     * @param repositoryFactory repository factory.
+     */
+    public ChainSyncServiceImpl(RepositoryFactory repositoryFactory) {
+        this(repositoryFactory, new ChainSyncConfiguration());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param repositoryFactory repository factory.
+     * @param configuration the window size and the parallelism.
+     */
+    public ChainSyncServiceImpl(RepositoryFactory repositoryFactory,
+        ChainSyncConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.blockRepository = repositoryFactory.createBlockRepository();
+        this.receiptRepository = repositoryFactory.createReceiptRepository();
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Flowable<SyncedBlock> sync(BigInteger fromHeight, BigInteger toHeight) {
+        Validate.notNull(fromHeight, "fromHeight must not be null");
+        Validate.notNull(toHeight, "toHeight must not be null");
+        Validate.isTrue(fromHeight.signum() > 0, "fromHeight must be positive");
+        Validate.isTrue(fromHeight.compareTo(toHeight) <= 0,
+            "fromHeight must not be greater than toHeight");
+        int windowSize = configuration.getWindowSize();
+        BigInteger size = BigInteger.valueOf(windowSize);
+        long windows = toHeight.subtract(fromHeight).divide(size).longValueExact() + 1;
+        return Flowable.rangeLong(0, windows)
+            .map(window -> fromHeight.add(size.multiply(BigInteger.valueOf(window))))
+            .concatMapEager(start -> getWindow(start, toHeight.min(start.add(size).subtract(
+                BigInteger.ONE))), configuration.getParallelism(), windowSize)
+            .doOnNext(block -> {
+                blocks.incrementAndGet();
+                transactions.addAndGet(block.getTransactions().size());
+            }).doOnSubscribe(s -> started()).doFinally(this::finished);
+    }
+
+    /**
+     * @return the number of blocks returned by the syncs and the time they took.
+     */
+    public ChainSyncMetrics getChainSyncMetrics() {
+        long total;
+        synchronized (this) {
+            total = elapsed + (running == 0 ? 0 : System.nanoTime() - runningSince);
+        }
+        return new ChainSyncMetrics(blocks.get(), transactions.get(), Duration.ofNanos(total));
+    }
+
+    private Flowable<SyncedBlock> getWindow(BigInteger start, BigInteger end) {
+        return getHeaders(start, end).toFlowable(BackpressureStrategy.BUFFER)
+            .concatMapIterable(headers -> headers)
+            .concatMapEager(header -> getBlock(header).toFlowable(BackpressureStrategy.BUFFER)
+                    .subscribeOn(configuration.getScheduler()),
+                configuration.getMaxConcurrentBlocks(), 1);
+    }
+
+    /**
+     * The headers of the window in height order. The heights missing from the limit call, if
+     * any, are fetched one by one.
+     */
+    private Observable<List<BlockInfo>> getHeaders(BigInteger start, BigInteger end) {
+        return blockRepository.getBlocksByHeightWithLimit(start, configuration.getWindowSize())
+            .flatMap(headers -> {
+                Map<BigInteger, BlockInfo> byHeight = new HashMap<>();
+                headers.forEach(header -> byHeight.put(header.getHeight(), header));
+                List<Observable<BlockInfo>> window = new ArrayList<>();
+                for (BigInteger height = start; height.compareTo(end) <= 0;
+                    height = height.add(BigInteger.ONE)) {
+                    BlockInfo header = byHeight.get(height);
+                    window.add(header == null ? blockRepository.getBlockByHeight(height)
+                        : Observable.just(header));
+                }
+                return Observable.concat(window).toList().toObservable();
+            });
+    }
+
+    private Observable<SyncedBlock> getBlock(BlockInfo header) {
+        Observable<List<Transaction>> blockTransactions =
+            Integer.valueOf(0).equals(header.getNumTransactions()) ? Observable
+                .just(Collections.emptyList()) : Paginator.blockTransactions(blockRepository,
+                header.getHeight(), new QueryParams(TRANSACTIONS_PAGE_SIZE, null, "id")).toList()
+                .toObservable();
+        Observable<Statement> statement = receiptRepository.getBlockReceipts(header.getHeight());
+        return Observable.zip(blockTransactions, statement,
+            (list, receipts) -> new SyncedBlock(header, list, receipts));
+    }
+
+    private synchronized void started() {
+        if (running++ == 0) {
+            runningSince = System.nanoTime();
+        }
+    }
+
+    private synchronized void finished() {
+        if (--running == 0) {
+            elapsed += System.nanoTime() - runningSince;
+        }
+    }
+}
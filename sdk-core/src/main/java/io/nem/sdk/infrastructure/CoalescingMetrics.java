@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+/**
+ * A snapshot of the counters of a {@link CoalescingRepositoryFactory}.
+ */
+public class CoalescingMetrics {
+
+    private final long calls;
+
+    private final long coalesced;
+
+    private final long inFlight;
+
+    public CoalescingMetrics(long calls, long coalesced, long inFlight) {
+        this.calls = calls;
+        this.coalesced = coalesced;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * @return the number of subscribed read calls.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return the number of calls that joined an identical call in flight instead of calling the
+     * server.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * @return the number of distinct calls currently waiting for the server.
+     */
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the fraction of the calls that were coalesced, 0 if there were no calls.
+     */
+    public double getCoalescingRatio() {
+        return calls == 0 ? 0 : (double) coalesced / calls;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingMetrics{calls=" + calls + ", coalesced=" + coalesced + ", inFlight="
+            + inFlight + '}';
+    }
+}
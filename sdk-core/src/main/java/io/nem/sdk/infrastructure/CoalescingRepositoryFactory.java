@@ -0,0 +1,248 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.DiagnosticRepository;
+import io.nem.sdk.api.JsonSerialization;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.MultisigRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.RestrictionAccountRepository;
+import io.nem.sdk.api.RestrictionMosaicRepository;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Observable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} decorator that coalesces identical concurrent read calls: a call with
+ * the same repository method and arguments as a call still waiting for the server joins it
+ * instead of sending another request. Calls made after the shared call has finished go to the
+ * server again, the calls are not cached.
+ *
+ * The shared call is cancelled when all its subscribers are disposed. Announcements are never
+ * coalesced.
+ *
+ * It combines with a {@link CachingRepositoryFactory}: decorated by the caching factory, the cache
+ * misses of the same data share one request.
+ */
+public class CoalescingRepositoryFactory implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    private final Map<List<Object>, Observable<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * @param delegate the decorated factory.
+     */
+    public CoalescingRepositoryFactory(RepositoryFactory delegate) {
+        Validate.notNull(delegate, "delegate must not be null");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return createRepository(AccountRepository.class,
+            RepositoryFactory::createAccountRepository);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return createRepository(MultisigRepository.class,
+            RepositoryFactory::createMultisigRepository);
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return createRepository(BlockRepository.class, RepositoryFactory::createBlockRepository);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return createRepository(ReceiptRepository.class,
+            RepositoryFactory::createReceiptRepository);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return createRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+    }
+
+    @Override
+    public DiagnosticRepository createDiagnosticRepository() {
+        return createRepository(DiagnosticRepository.class,
+            RepositoryFactory::createDiagnosticRepository);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return createRepository(NamespaceRepository.class,
+            RepositoryFactory::createNamespaceRepository);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return createRepository(NetworkRepository.class,
+            RepositoryFactory::createNetworkRepository);
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return createRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return createRepository(TransactionRepository.class,
+            RepositoryFactory::createTransactionRepository);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return createRepository(MetadataRepository.class,
+            RepositoryFactory::createMetadataRepository);
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return createRepository(RestrictionAccountRepository.class,
+            RepositoryFactory::createRestrictionAccountRepository);
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return createRepository(RestrictionMosaicRepository.class,
+            RepositoryFactory::createRestrictionMosaicRepository);
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    /**
+     * @return the number of calls and how many of them were coalesced.
+     */
+    public CoalescingMetrics getCoalescingMetrics() {
+        return new CoalescingMetrics(calls.get(), coalesced.get(), inFlight.size());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <R> R createRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+        R repository = creator.apply(delegate);
+        return RepositoryProxy.create(type, "Coalescing", (method, args) -> {
+            if (!Observable.class.equals(method.getReturnType()) || !RepositoryProxy
+                .isRead(method)) {
+                return RepositoryProxy.invoke(repository, method, args);
+            }
+            return coalesce(getKey(method, args),
+                () -> (Observable<?>) RepositoryProxy.invoke(repository, method, args));
+        });
+    }
+
+    /**
+     * Joins the identical call in flight or starts a new one.
+     *
+     * The shared call replays its values to the calls that join it after it has emitted. It
+     * leaves the in flight calls before its terminal event is emitted, so a call that arrives
+     * later starts a new request rather than joining a finished one.
+     */
+    private Observable<Object> coalesce(List<Object> key, Supplier<Observable<?>> call) {
+        return Observable.defer(() -> {
+            calls.incrementAndGet();
+            AtomicReference<Observable<Object>> created = new AtomicReference<>();
+            Observable<Object> shared = inFlight.computeIfAbsent(key, k -> {
+                Runnable leave = () -> inFlight.remove(k, created.get());
+                created.set(call.get().<Object>map(value -> value).doOnTerminate(leave::run)
+                    .doOnDispose(leave::run).replay().refCount());
+                return created.get();
+            });
+            if (shared != created.get()) {
+                coalesced.incrementAndGet();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * The search criteria are mutable, the key holds a copy so a caller changing them afterwards
+     * doesn't change the key of a call in flight.
+     */
+    private static List<Object> getKey(Method method, Object[] args) {
+        if (args == null) {
+            return Arrays.asList(method, Collections.emptyList());
+        }
+        return Arrays.asList(method, Arrays.stream(args)
+            .map(arg -> arg instanceof TransactionSearchCriteria ? copy(
+                (TransactionSearchCriteria) arg) : arg).collect(Collectors.toList()));
+    }
+
+    private static TransactionSearchCriteria copy(TransactionSearchCriteria criteria) {
+        return new TransactionSearchCriteria().pageSize(criteria.getPageSize())
+            .id(criteria.getId()).order(criteria.getOrder())
+            .transactionType(criteria.getTransactionType());
+    }
+}
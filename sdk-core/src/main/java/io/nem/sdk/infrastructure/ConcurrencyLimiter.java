@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Observable;
+
+/**
+ * Limits how many repository calls are sent concurrently, the calls over the limit wait for a
+ * running call to finish. It's plugged into the call path with a {@link
+ * ConcurrencyLimitingRepositoryFactory}.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * @param call the call.
+     * @param <T> the result type.
+     * @return the call, subscribed once the limit allows it.
+     */
+    <T> Observable<T> limit(Observable<T> call);
+
+    /**
+     * @return the current limit and the calls running and waiting.
+     */
+    ConcurrencyLimiterMetrics getMetrics();
+}
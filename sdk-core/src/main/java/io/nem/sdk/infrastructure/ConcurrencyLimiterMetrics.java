@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+/**
+ * A snapshot of the state of a {@link ConcurrencyLimiter}.
+ */
+public class ConcurrencyLimiterMetrics {
+
+    private final int limit;
+
+    private final int inFlight;
+
+    private final int queueDepth;
+
+    private final long rejected;
+
+    public ConcurrencyLimiterMetrics(int limit, int inFlight, int queueDepth, long rejected) {
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.queueDepth = queueDepth;
+        this.rejected = rejected;
+    }
+
+    /**
+     * @return the max number of concurrent calls.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of running calls.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of calls waiting for the limit.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return the number of calls failed because the queue was full or they waited too long.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiterMetrics{limit=" + limit + ", inFlight=" + inFlight
+            + ", queueDepth=" + queueDepth + ", rejected=" + rejected + '}';
+    }
+}
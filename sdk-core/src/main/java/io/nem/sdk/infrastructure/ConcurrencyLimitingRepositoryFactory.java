@@ -0,0 +1,200 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.DiagnosticRepository;
+import io.nem.sdk.api.JsonSerialization;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.MultisigRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.RestrictionAccountRepository;
+import io.nem.sdk.api.RestrictionMosaicRepository;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Observable;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} decorator that sends every repository call through a {@link
+ * ConcurrencyLimiter}, reads and announcements alike. Each repository call is one request to the
+ * rest gateway, so the limiter bounds the concurrent requests whatever the client is.
+ *
+ * The limit applies to the decorated factory. Decorating the factory of each node of a {@link
+ * MultiNodeRepositoryFactory} gives every rest gateway its own limit.
+ */
+public class ConcurrencyLimitingRepositoryFactory implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * Creates a factory limited by an {@link AdaptiveConcurrencyLimiter} with the default
+     * configuration.
+     *
+     * @param delegate the decorated factory.
+     */
+    public ConcurrencyLimitingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new AdaptiveConcurrencyLimiter());
+    }
+
+    /**
+     * @param delegate the decorated factory.
+     * @param limiter the limiter of the calls.
+     */
+    public ConcurrencyLimitingRepositoryFactory(RepositoryFactory delegate,
+        ConcurrencyLimiter limiter) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.notNull(limiter, "limiter must not be null");
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return createRepository(AccountRepository.class,
+            RepositoryFactory::createAccountRepository);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return createRepository(MultisigRepository.class,
+            RepositoryFactory::createMultisigRepository);
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return createRepository(BlockRepository.class, RepositoryFactory::createBlockRepository);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return createRepository(ReceiptRepository.class,
+            RepositoryFactory::createReceiptRepository);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return createRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+    }
+
+    @Override
+    public DiagnosticRepository createDiagnosticRepository() {
+        return createRepository(DiagnosticRepository.class,
+            RepositoryFactory::createDiagnosticRepository);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return createRepository(NamespaceRepository.class,
+            RepositoryFactory::createNamespaceRepository);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return createRepository(NetworkRepository.class,
+            RepositoryFactory::createNetworkRepository);
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return createRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return createRepository(TransactionRepository.class,
+            RepositoryFactory::createTransactionRepository);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return createRepository(MetadataRepository.class,
+            RepositoryFactory::createMetadataRepository);
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return createRepository(RestrictionAccountRepository.class,
+            RepositoryFactory::createRestrictionAccountRepository);
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return createRepository(RestrictionMosaicRepository.class,
+            RepositoryFactory::createRestrictionMosaicRepository);
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    /**
+     * @return the current limit and the calls running and waiting.
+     */
+    public ConcurrencyLimiterMetrics getConcurrencyLimiterMetrics() {
+        return limiter.getMetrics();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <R> R createRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+        R repository = creator.apply(delegate);
+        return RepositoryProxy.create(type, "ConcurrencyLimiting", (method, args) -> {
+            Object result = RepositoryProxy.invoke(repository, method, args);
+            if (!Observable.class.equals(method.getReturnType())) {
+                return result;
+            }
+            return limiter.limit((Observable<?>) result);
+        });
+    }
+}
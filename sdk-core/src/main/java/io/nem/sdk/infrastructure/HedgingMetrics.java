@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+/**
+ * A snapshot of the hedging counters of a {@link MultiNodeRepositoryFactory}.
+ */
+public class HedgingMetrics {
+
+    private final long issued;
+
+    private final long won;
+
+    private final long rejected;
+
+    private final double delay;
+
+    public HedgingMetrics(long issued, long won, long rejected, double delay) {
+        this.issued = issued;
+        this.won = won;
+        this.rejected = rejected;
+        this.delay = delay;
+    }
+
+    /**
+     * @return the number of duplicated calls sent because the original call was too slow.
+     */
+    public long getIssued() {
+        return issued;
+    }
+
+    /**
+     * @return the number of duplicated calls that answered before the original call.
+     */
+    public long getWon() {
+        return won;
+    }
+
+    /**
+     * @return the number of hedges not sent because the budget was exhausted.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return the current hedging delay in milliseconds, 0 until enough calls are measured.
+     */
+    public double getDelay() {
+        return delay;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingMetrics{issued=" + issued + ", won=" + won + ", rejected=" + rejected
+            + ", delay=" + delay + '}';
+    }
+}
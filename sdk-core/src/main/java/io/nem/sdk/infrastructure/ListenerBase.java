@@ -16,9 +16,13 @@
 
 package io.nem.sdk.infrastructure;
 
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.core.utils.MapperUtils;
 import io.nem.sdk.api.Listener;
 import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.UnresolvedAddress;
 import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.transaction.AggregateTransaction;
 import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
@@ -33,6 +37,10 @@ import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang3.Validate;
 
@@ -45,6 +53,8 @@ public abstract class ListenerBase implements Listener {
 
     private final Subject<ListenerMessage> messageSubject = PublishSubject.create();
 
+    private final ListenerDispatcher dispatcher = new ListenerDispatcher(this::subscribeIfOpen,
+        this::unsubscribeIfOpen);
 
     private final JsonHelper jsonHelper;
 
@@ -56,23 +66,30 @@ public abstract class ListenerBase implements Listener {
 
     /**
      * It knows how to handle a ws message coming from the server. Each subclass is responsible of
-     * hooking the web socket implementation with this method.
+     * hooking the web socket implementation with this method. The time to decode and dispatch
+     * the message is recorded as the {@link SdkMetric#LISTENER_MESSAGE} of its channel and as a
+     * listener message flight recorder event of {@link SdkEvents}. The addresses a message
+     * involves are computed once and the message only goes to the observers of its channel and of
+     * those addresses.
      *
      * @param message the generic json with the message.
      * @param future to tell the user that the connection to the ws has been stabilised.
      */
     public void handle(Object message, CompletableFuture<Void> future) {
+        long start = SdkMetrics.start();
+        Object event = SdkEvents.startListenerMessage();
         if (jsonHelper.contains(message, "uid")) {
             uid = jsonHelper.getString(message, "uid");
+            dispatcher.resubscribe();
             future.complete(null);
         } else if (jsonHelper.contains(message, "transaction")) {
             Transaction messageObject = toTransaction(message);
             ListenerChannel channel = ListenerChannel
                 .rawValueOf(jsonHelper.getString(message, "meta", "channelName"));
-            onNext(channel, messageObject);
+            onNext(channel, messageObject, getAddresses(messageObject), start, event);
         } else if (jsonHelper.contains(message, "block")) {
             BlockInfo messageObject = toBlockInfo(message);
-            onNext(ListenerChannel.BLOCK, messageObject);
+            onNext(ListenerChannel.BLOCK, messageObject, Collections.emptySet(), start, event);
         } else if (jsonHelper.contains(message, "code")) {
             TransactionStatusError messageObject = new TransactionStatusError(
                 MapperUtils
@@ -81,17 +98,20 @@ public abstract class ListenerBase implements Listener {
                 jsonHelper.getString(message, "code"),
                 new Deadline(
                     new BigInteger(jsonHelper.getString(message, "deadline"))));
-            onNext(ListenerChannel.STATUS, messageObject);
+            onNext(ListenerChannel.STATUS, messageObject,
+                Collections.singleton(messageObject.getAddress()), start, event);
         } else if (jsonHelper.contains(message, "parentHash")) {
             CosignatureSignedTransaction messageObject = new CosignatureSignedTransaction(
                 jsonHelper.getString(message, "parenthash"),
                 jsonHelper.getString(message, "signature"),
                 jsonHelper.getString(message, "signer"));
-            onNext(ListenerChannel.COSIGNATURE, messageObject);
+            onNext(ListenerChannel.COSIGNATURE, messageObject, Collections.emptySet(), start,
+                event);
         } else if (jsonHelper.contains(message, "meta")) {
             onNext(ListenerChannel.rawValueOf(
                 jsonHelper.getString(message, "meta", "channelName")),
-                jsonHelper.getString(message, "meta", "hash"));
+                jsonHelper.getString(message, "meta", "hash"), Collections.emptySet(), start,
+                event);
         }
     }
 
@@ -99,10 +119,8 @@ public abstract class ListenerBase implements Listener {
     @Override
     public Observable<BlockInfo> newBlock() {
         validateOpen();
-        this.subscribeTo(ListenerChannel.BLOCK.toString());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.BLOCK))
-            .map(rawMessage -> (BlockInfo) rawMessage.getMessage());
+        return dispatcher.observe(ListenerChannel.BLOCK, null, ListenerChannel.BLOCK.toString(),
+            BlockInfo.class);
     }
 
     /**
@@ -117,11 +135,8 @@ public abstract class ListenerBase implements Listener {
     public Observable<Transaction> confirmed(final Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.CONFIRMED_ADDED.toString() + "/" + address.plain());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.CONFIRMED_ADDED))
-            .map(rawMessage -> (Transaction) rawMessage.getMessage())
-            .filter(transaction -> this.transactionFromAddress(transaction, address));
+        return dispatcher.observe(ListenerChannel.CONFIRMED_ADDED, address,
+            ListenerChannel.CONFIRMED_ADDED + "/" + address.plain(), Transaction.class);
     }
 
 
@@ -137,11 +152,8 @@ public abstract class ListenerBase implements Listener {
     public Observable<Transaction> unconfirmedAdded(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.UNCONFIRMED_ADDED + "/" + address.plain());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.UNCONFIRMED_ADDED))
-            .map(rawMessage -> (Transaction) rawMessage.getMessage())
-            .filter(transaction -> this.transactionFromAddress(transaction, address));
+        return dispatcher.observe(ListenerChannel.UNCONFIRMED_ADDED, address,
+            ListenerChannel.UNCONFIRMED_ADDED + "/" + address.plain(), Transaction.class);
     }
 
     /**
@@ -156,11 +168,8 @@ public abstract class ListenerBase implements Listener {
     public Observable<String> unconfirmedRemoved(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.UNCONFIRMED_REMOVED + "/" + address.plain());
-        return getMessageSubject()
-            .filter(
-                rawMessage -> rawMessage.getChannel().equals(ListenerChannel.UNCONFIRMED_REMOVED))
-            .map(rawMessage -> (String) rawMessage.getMessage());
+        return dispatcher.observe(ListenerChannel.UNCONFIRMED_REMOVED, null,
+            ListenerChannel.UNCONFIRMED_REMOVED + "/" + address.plain(), String.class);
     }
 
     /**
@@ -175,12 +184,9 @@ public abstract class ListenerBase implements Listener {
     public Observable<AggregateTransaction> aggregateBondedAdded(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.AGGREGATE_BONDED_ADDED + "/" + address.plain());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel()
-                .equals(ListenerChannel.AGGREGATE_BONDED_ADDED))
-            .map(rawMessage -> (AggregateTransaction) rawMessage.getMessage())
-            .filter(transaction -> this.transactionFromAddress(transaction, address));
+        return dispatcher.observe(ListenerChannel.AGGREGATE_BONDED_ADDED, address,
+            ListenerChannel.AGGREGATE_BONDED_ADDED + "/" + address.plain(),
+            AggregateTransaction.class);
     }
 
     /**
@@ -195,12 +201,8 @@ public abstract class ListenerBase implements Listener {
     public Observable<String> aggregateBondedRemoved(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.AGGREGATE_BONDED_REMOVED + "/" + address.plain());
-        return getMessageSubject()
-            .filter(
-                rawMessage -> rawMessage.getChannel()
-                    .equals(ListenerChannel.AGGREGATE_BONDED_REMOVED))
-            .map(rawMessage -> (String) rawMessage.getMessage());
+        return dispatcher.observe(ListenerChannel.AGGREGATE_BONDED_REMOVED, null,
+            ListenerChannel.AGGREGATE_BONDED_REMOVED + "/" + address.plain(), String.class);
     }
 
     /**
@@ -215,11 +217,8 @@ public abstract class ListenerBase implements Listener {
     public Observable<TransactionStatusError> status(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.STATUS + "/" + address.plain());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.STATUS))
-            .map(rawMessage -> (TransactionStatusError) rawMessage.getMessage())
-            .filter(status -> address.equals(status.getAddress()));
+        return dispatcher.observe(ListenerChannel.STATUS, address,
+            ListenerChannel.STATUS + "/" + address.plain(), TransactionStatusError.class);
     }
 
     /**
@@ -235,10 +234,9 @@ public abstract class ListenerBase implements Listener {
     public Observable<CosignatureSignedTransaction> cosignatureAdded(Address address) {
         Validate.notNull(address, "Address is required");
         validateOpen();
-        this.subscribeTo(ListenerChannel.CONFIRMED_ADDED + "/" + address.plain());
-        return getMessageSubject()
-            .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.COSIGNATURE))
-            .map(rawMessage -> (CosignatureSignedTransaction) rawMessage.getMessage());
+        return dispatcher.observe(ListenerChannel.COSIGNATURE, null,
+            ListenerChannel.CONFIRMED_ADDED + "/" + address.plain(),
+            CosignatureSignedTransaction.class);
     }
 
     private void validateOpen() {
@@ -300,29 +298,39 @@ public abstract class ListenerBase implements Listener {
 
 
     public boolean transactionFromAddress(final Transaction transaction, final Address address) {
-        if (transaction.getSigner().filter(s -> s.getAddress().equals(address)).isPresent()) {
-            return true;
-        }
+        return getAddresses(transaction).contains(address);
+    }
+
+    /**
+     * @param transaction the transaction.
+     * @return the signers, recipients, cosignatories and added cosignatories of the transaction and
+     * of its inner transactions.
+     */
+    public static Set<Address> getAddresses(Transaction transaction) {
+        Set<Address> addresses = new HashSet<>();
+        addAddresses(transaction, addresses);
+        return addresses;
+    }
 
+    private static void addAddresses(Transaction transaction, Set<Address> addresses) {
+        transaction.getSigner().ifPresent(signer -> addresses.add(signer.getAddress()));
         if (transaction instanceof TransferTransaction) {
-            return ((TransferTransaction) transaction).getRecipient().equals(address);
+            UnresolvedAddress recipient = ((TransferTransaction) transaction).getRecipient();
+            if (recipient instanceof Address) {
+                addresses.add((Address) recipient);
+            }
         }
-
         if (transaction instanceof MultisigAccountModificationTransaction) {
-            return ((MultisigAccountModificationTransaction) transaction).getPublicKeyAdditions()
-                .stream().anyMatch(m -> m.getAddress().equals(address));
+            ((MultisigAccountModificationTransaction) transaction).getPublicKeyAdditions()
+                .forEach(m -> addresses.add(m.getAddress()));
         }
         if (transaction instanceof AggregateTransaction) {
             final AggregateTransaction aggregateTransaction = (AggregateTransaction) transaction;
-            if (aggregateTransaction.getCosignatures()
-                .stream().anyMatch(c -> c.getSigner().getAddress().equals(address))) {
-                return true;
-            }
+            aggregateTransaction.getCosignatures()
+                .forEach(c -> addresses.add(c.getSigner().getAddress()));
             //Recursion...
-            return aggregateTransaction.getInnerTransactions()
-                .stream().anyMatch(t -> this.transactionFromAddress(t, address));
+            aggregateTransaction.getInnerTransactions().forEach(t -> addAddresses(t, addresses));
         }
-        return false;
     }
 
 
@@ -331,9 +339,19 @@ public abstract class ListenerBase implements Listener {
      *
      * @param channel the channel
      * @param messageObject the message object.
+     * @param addresses the addresses the message involves.
+     * @param start the start of the handling of the message.
+     * @param event the handle of the flight recorder event of the message.
      */
-    private void onNext(ListenerChannel channel, Object messageObject) {
-        this.getMessageSubject().onNext(new ListenerMessage(channel, messageObject));
+    private void onNext(ListenerChannel channel, Object messageObject,
+        Collection<Address> addresses, long start, Object event) {
+        SdkEvents.listenerMessageMapped(event);
+        if (messageSubject.hasObservers()) {
+            messageSubject.onNext(new ListenerMessage(channel, messageObject));
+        }
+        dispatcher.dispatch(channel, messageObject, addresses);
+        SdkMetrics.recordTime(SdkMetric.LISTENER_MESSAGE, String.valueOf(channel), start);
+        SdkEvents.commitListenerMessage(event, channel);
     }
 
     /**
@@ -356,6 +374,26 @@ public abstract class ListenerBase implements Listener {
 
     protected abstract void subscribeTo(String channel);
 
+    protected abstract void unsubscribeTo(String channel);
+
+    /**
+     * A closed listener subscribes its observed channels again when it's opened.
+     */
+    private void subscribeIfOpen(String channel) {
+        if (getUid() != null) {
+            subscribeTo(channel);
+        }
+    }
+
+    private void unsubscribeIfOpen(String channel) {
+        if (getUid() != null) {
+            unsubscribeTo(channel);
+        }
+    }
+
+    /**
+     * @return all the messages, the subscriptions of this listener don't use it.
+     */
     public Subject<ListenerMessage> getMessageSubject() {
         return messageSubject;
     }
@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.account.Address;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Routes the messages of a {@link ListenerBase} to the observers of their channel and address.
+ *
+ * A message is looked up by its channel and by each address it involves, so its cost doesn't
+ * grow with the number of observed addresses. The messages that don't tell their address, like
+ * the blocks or the removed hashes, go to the observers of the whole channel. A web socket
+ * channel is subscribed when its first observer subscribes and unsubscribed when its last
+ * observer is disposed.
+ *
+ * The web socket isn't written holding the lock of the routes, the web socket implementations
+ * lock their connection while they hand a message to this dispatcher. The subscriptions are
+ * queued in the order of their changes and sent by one thread at a time.
+ */
+class ListenerDispatcher {
+
+    private final Consumer<String> subscribe;
+
+    private final Consumer<String> unsubscribe;
+
+    /**
+     * The number of observers of each web socket channel.
+     */
+    private final Map<String, Integer> subscriptions = new HashMap<>();
+
+    /**
+     * The subscribe and unsubscribe messages not sent yet.
+     */
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    private final Map<ListenerChannel, Route> channelRoutes = new EnumMap<>(
+        ListenerChannel.class);
+
+    private final Map<ListenerChannel, Map<Address, Route>> addressRoutes = new EnumMap<>(
+        ListenerChannel.class);
+
+    /**
+     * @param subscribe subscribes the web socket to a channel.
+     * @param unsubscribe unsubscribes the web socket from a channel.
+     */
+    ListenerDispatcher(Consumer<String> subscribe, Consumer<String> unsubscribe) {
+        this.subscribe = subscribe;
+        this.unsubscribe = unsubscribe;
+    }
+
+    /**
+     * @param channel the channel of the messages.
+     * @param address the address the messages involve, null for all the messages of the channel.
+     * @param subscription the web socket channel the messages come from.
+     * @param type the message type.
+     * @param <T> the message type.
+     * @return the messages, the web socket channel is subscribed while it has observers.
+     */
+    <T> Observable<T> observe(ListenerChannel channel, Address address, String subscription,
+        Class<T> type) {
+        return Observable.defer(() -> {
+            Route route;
+            synchronized (this) {
+                route = address == null ? channelRoutes.computeIfAbsent(channel, c -> new Route())
+                    : addressRoutes.computeIfAbsent(channel, c -> new HashMap<>())
+                        .computeIfAbsent(address, a -> new Route());
+                route.observers++;
+                if (subscriptions.merge(subscription, 1, Integer::sum) == 1) {
+                    commands.add(() -> subscribe.accept(subscription));
+                }
+            }
+            drain();
+            return route.subject.doFinally(() -> release(channel, address, subscription, route))
+                .cast(type);
+        });
+    }
+
+    /**
+     * Sends the message to the observers of its channel and of the addresses it involves.
+     *
+     * @param channel the channel of the message.
+     * @param message the message.
+     * @param addresses the addresses the message involves, computed once for all the observers.
+     */
+    void dispatch(ListenerChannel channel, Object message, Collection<Address> addresses) {
+        List<Subject<Object>> targets = new ArrayList<>();
+        synchronized (this) {
+            Route channelRoute = channelRoutes.get(channel);
+            if (channelRoute != null) {
+                targets.add(channelRoute.subject);
+            }
+            Map<Address, Route> routes = addressRoutes.get(channel);
+            if (routes != null) {
+                for (Address address : addresses) {
+                    Route route = routes.get(address);
+                    if (route != null) {
+                        targets.add(route.subject);
+                    }
+                }
+            }
+        }
+        targets.forEach(subject -> subject.onNext(message));
+    }
+
+    /**
+     * Subscribes a new web socket connection to the channels that still have observers.
+     */
+    void resubscribe() {
+        synchronized (this) {
+            subscriptions.keySet()
+                .forEach(subscription -> commands.add(() -> subscribe.accept(subscription)));
+        }
+        drain();
+    }
+
+    private void release(ListenerChannel channel, Address address, String subscription,
+        Route route) {
+        synchronized (this) {
+            if (--route.observers == 0) {
+                if (address == null) {
+                    channelRoutes.remove(channel, route);
+                } else {
+                    Map<Address, Route> routes = addressRoutes.get(channel);
+                    routes.remove(address, route);
+                    if (routes.isEmpty()) {
+                        addressRoutes.remove(channel);
+                    }
+                }
+            }
+            if (subscriptions.computeIfPresent(subscription, (key, count) -> count == 1 ? null
+                : count - 1) == null) {
+                commands.add(() -> unsubscribe.accept(subscription));
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Sends the queued subscriptions unless another thread is already sending them.
+     */
+    private void drain() {
+        if (pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+        } while (pendingDrains.decrementAndGet() != 0);
+    }
+
+    /**
+     * The observers of a channel or of an address of a channel.
+     */
+    private static class Route {
+
+        private final Subject<Object> subject = PublishSubject.create();
+
+        private int observers;
+    }
+}
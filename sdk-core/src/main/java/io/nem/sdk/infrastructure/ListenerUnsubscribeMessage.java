@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+public class ListenerUnsubscribeMessage {
+
+    private final String uid;
+    private final String unsubscribe;
+
+    public ListenerUnsubscribeMessage(String uid, String unsubscribe) {
+        this.uid = uid;
+        this.unsubscribe = unsubscribe;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public String getUnsubscribe() {
+        return unsubscribe;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A least recently used cache bounded by its number of entries and by the total weight of its
+ * values, used by the {@link CachingRepositoryFactory}.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+class LruCache<K, V> {
+
+    private final long maxSize;
+
+    private final long maxWeight;
+
+    private final ToLongFunction<V> weigher;
+
+    /**
+     * The entries in access order, the least recently used first.
+     */
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    LruCache(long maxSize, long maxWeight, ToLongFunction<V> weigher) {
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached value of the key or loads it, caching the loaded value if it can be
+     * cached. Failed loads are not cached.
+     *
+     * @param key the key.
+     * @param loader the server call that loads the value.
+     * @param cacheable if a loaded value can be cached, for example because it's final.
+     * @return the cached or loaded value.
+     */
+    Observable<V> get(K key, Supplier<Observable<V>> loader, Predicate<V> cacheable) {
+        return Observable.defer(() -> {
+            V cached = get(key);
+            if (cached != null) {
+                return Observable.just(cached);
+            }
+            return loader.get().doOnNext(value -> {
+                if (cacheable.test(value)) {
+                    put(key, value);
+                }
+            });
+        });
+    }
+
+    /**
+     * @param key the key.
+     * @return the cached value or null if it's not cached.
+     */
+    synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value evicting the least recently used entries if the cache gets too big.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    synchronized void put(K key, V value) {
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += weigher.applyAsLong(value);
+        Iterator<Entry<K, V>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxSize || weight > maxWeight) && iterator.hasNext()) {
+            weight -= weigher.applyAsLong(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes the entries matching the predicate.
+     *
+     * @param predicate the predicate of the entries to remove.
+     */
+    synchronized void invalidateIf(BiPredicate<K, V> predicate) {
+        Iterator<Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<K, V> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue())) {
+                weight -= weigher.applyAsLong(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    synchronized CacheStats getStats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), weight);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines how a {@link MultiNodeRepositoryFactory} measures, routes to, ejects and probes its
+ * nodes and how it hedges read calls.
+ */
+public class MultiNodeConfiguration {
+
+    /**
+     * The weight of the newest sample in the latency and error rate moving averages. (optional,
+     * default to 0.3)
+     */
+    private double decay = 0.3;
+
+    /**
+     * Number of consecutive failed calls that eject a node. (optional, default to 3)
+     */
+    private int maxConsecutiveFailures = 3;
+
+    /**
+     * How long an ejected node doesn't receive calls unless a probe readmits it. (optional, default
+     * to 30 seconds)
+     */
+    private Duration ejectionTime = Duration.ofSeconds(30);
+
+    /**
+     * How often the nodes are probed for their chain height. (optional, default to 10 seconds)
+     */
+    private Duration probeInterval = Duration.ofSeconds(10);
+
+    /**
+     * How many blocks a node may be behind the highest known chain height before it stops
+     * receiving calls. (optional, default to 2)
+     */
+    private long maxHeightLag = 2;
+
+    /**
+     * How many nodes a call is tried on before its error is returned. (optional, default to 3)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * The latency percentile, between 0 and 1, after which a read call is hedged: a duplicate is
+     * sent to another node and the first answer wins. (optional, default to 0, no hedging)
+     */
+    private double hedgingPercentile;
+
+    /**
+     * The extra calls hedging may add, as a fraction of the read calls. (optional, default to
+     * 0.05)
+     */
+    private double hedgingBudget = 0.05;
+
+    /**
+     * The minimum delay before a read call is hedged. (optional, default to 10 milliseconds)
+     */
+    private Duration minHedgingDelay = Duration.ofMillis(10);
+
+    /**
+     * The scheduler that runs the probes and provides the clock. (optional, default to the
+     * computation scheduler)
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public double getDecay() {
+        return decay;
+    }
+
+    public int getMaxConsecutiveFailures() {
+        return maxConsecutiveFailures;
+    }
+
+    public Duration getEjectionTime() {
+        return ejectionTime;
+    }
+
+    public Duration getProbeInterval() {
+        return probeInterval;
+    }
+
+    public long getMaxHeightLag() {
+        return maxHeightLag;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public double getHedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    public double getHedgingBudget() {
+        return hedgingBudget;
+    }
+
+    public Duration getMinHedgingDelay() {
+        return minHedgingDelay;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the decay returning this configuration to nest configuration.
+     *
+     * @param decay the weight of the newest sample, between 0 (exclusive) and 1 (inclusive).
+     * @return this configuration
+     */
+    public MultiNodeConfiguration decay(double decay) {
+        Validate.isTrue(decay > 0 && decay <= 1, "decay must be in (0, 1]");
+        this.decay = decay;
+        return this;
+    }
+
+    /**
+     * Sets the max consecutive failures returning this configuration to nest configuration.
+     *
+     * @param maxConsecutiveFailures number of consecutive failed calls that eject a node.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration maxConsecutiveFailures(int maxConsecutiveFailures) {
+        Validate.isTrue(maxConsecutiveFailures > 0, "maxConsecutiveFailures must be positive");
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        return this;
+    }
+
+    /**
+     * Sets the ejection time returning this configuration to nest configuration.
+     *
+     * @param ejectionTime how long an ejected node doesn't receive calls.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration ejectionTime(Duration ejectionTime) {
+        Validate.notNull(ejectionTime, "ejectionTime must not be null");
+        this.ejectionTime = ejectionTime;
+        return this;
+    }
+
+    /**
+     * Sets the probe interval returning this configuration to nest configuration.
+     *
+     * @param probeInterval how often the nodes are probed.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration probeInterval(Duration probeInterval) {
+        Validate.isTrue(probeInterval != null && !probeInterval.isNegative()
+            && !probeInterval.isZero(), "probeInterval must be positive");
+        this.probeInterval = probeInterval;
+        return this;
+    }
+
+    /**
+     * Sets the max height lag returning this configuration to nest configuration.
+     *
+     * @param maxHeightLag how many blocks a node may be behind the highest known height.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration maxHeightLag(long maxHeightLag) {
+        Validate.isTrue(maxHeightLag >= 0, "maxHeightLag must not be negative");
+        this.maxHeightLag = maxHeightLag;
+        return this;
+    }
+
+    /**
+     * Sets the max attempts returning this configuration to nest configuration.
+     *
+     * @param maxAttempts how many nodes a call is tried on.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration maxAttempts(int maxAttempts) {
+        Validate.isTrue(maxAttempts > 0, "maxAttempts must be positive");
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the hedging percentile returning this configuration to nest configuration.
+     *
+     * @param hedgingPercentile the latency percentile after which a read call is hedged, like 0.95.
+     * 0 disables hedging.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration hedgingPercentile(double hedgingPercentile) {
+        Validate.isTrue(hedgingPercentile >= 0 && hedgingPercentile < 1,
+            "hedgingPercentile must be in [0, 1)");
+        this.hedgingPercentile = hedgingPercentile;
+        return this;
+    }
+
+    /**
+     * Sets the hedging budget returning this configuration to nest configuration.
+     *
+     * @param hedgingBudget the extra calls hedging may add, as a fraction of the read calls.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration hedgingBudget(double hedgingBudget) {
+        Validate.isTrue(hedgingBudget >= 0 && hedgingBudget <= 1,
+            "hedgingBudget must be in [0, 1]");
+        this.hedgingBudget = hedgingBudget;
+        return this;
+    }
+
+    /**
+     * Sets the min hedging delay returning this configuration to nest configuration.
+     *
+     * @param minHedgingDelay the minimum delay before a read call is hedged.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration minHedgingDelay(Duration minHedgingDelay) {
+        Validate.notNull(minHedgingDelay, "minHedgingDelay must not be null");
+        this.minHedgingDelay = minHedgingDelay;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler returning this configuration to nest configuration.
+     *
+     * @param scheduler the scheduler that runs the probes and provides the clock.
+     * @return this configuration
+     */
+    public MultiNodeConfiguration scheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+        return this;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.DiagnosticRepository;
+import io.nem.sdk.api.JsonSerialization;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.MultisigRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.RestrictionAccountRepository;
+import io.nem.sdk.api.RestrictionMosaicRepository;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Action;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * A {@link RepositoryFactory} that spreads the repository calls over several nodes.
+ *
+ * Each node is accessed through its own repository factory (OkHttp, Vertx or any other
+ * implementation). Every call is routed to the best node: the one with the lowest latency moving
+ * average, weighted by its running calls and its error rate, among the nodes that are not ejected
+ * and not behind the highest known chain height. A call that fails because of the node (a
+ * connection error, a timeout or a 5xx status) before emitting anything is retried on the next
+ * best node. Announces are only retried when the connection could not be established, the
+ * request was not sent then.
+ *
+ * Nodes are ejected after too many consecutive failures. They are probed periodically with {@link
+ * NodeRepository#getNodeInfo()} and {@link ChainRepository#getBlockchainHeight()}, a successful
+ * probe readmits them. The routing statistics are exposed by {@link #getNodeMetrics()}.
+ *
+ * Read calls can be hedged, see {@link MultiNodeConfiguration#hedgingPercentile(double)}. A
+ * factory with a single url hedges to the same node, the duplicated call uses another connection.
+ */
+public class MultiNodeRepositoryFactory implements RepositoryFactory {
+
+    private final MultiNodeConfiguration configuration;
+
+    private final List<RepositoryNode> nodes;
+
+    private final Observable<NetworkType> networkTypeObservable;
+
+    private final Observable<String> generationHashObservable;
+
+    private final RequestHedging hedging;
+
+    private final Disposable probes;
+
+    /**
+     * Creates a factory with the default {@link MultiNodeConfiguration}.
+     *
+     * @param urls the base urls of the nodes.
+     * @param factoryCreator creates the repository factory of a node from its url, like {@code
+     * RepositoryFactoryOkHttpImpl::new}.
+     */
+    public MultiNodeRepositoryFactory(Collection<String> urls,
+        Function<String, RepositoryFactory> factoryCreator) {
+        this(urls, factoryCreator, new MultiNodeConfiguration());
+    }
+
+    /**
+     * @param urls the base urls of the nodes.
+     * @param factoryCreator creates the repository factory of a node from its url, like {@code
+     * RepositoryFactoryOkHttpImpl::new}.
+     * @param configuration the routing, ejection and probing configuration.
+     */
+    public MultiNodeRepositoryFactory(Collection<String> urls,
+        Function<String, RepositoryFactory> factoryCreator,
+        MultiNodeConfiguration configuration) {
+        Validate.notEmpty(urls, "urls must not be empty");
+        Validate.notNull(factoryCreator, "factoryCreator must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.configuration = configuration;
+        this.hedging = new RequestHedging(configuration);
+        this.nodes = Collections.unmodifiableList(urls.stream().distinct()
+            .map(url -> new RepositoryNode(url, factoryCreator.apply(url), configuration))
+            .collect(Collectors.toList()));
+        this.networkTypeObservable = createNetworkRepository().getNetworkType().cache();
+        this.generationHashObservable = createBlockRepository().getBlockByHeight(BigInteger.ONE)
+            .map(BlockInfo::getGenerationHash).cache();
+        long probeInterval = configuration.getProbeInterval().toNanos();
+        this.probes = Observable
+            .interval(0, probeInterval, TimeUnit.NANOSECONDS, configuration.getScheduler())
+            .flatMap(tick -> Observable.fromIterable(nodes).flatMap(this::probe))
+            .subscribe();
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return networkTypeObservable;
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return generationHashObservable;
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return createRepository(AccountRepository.class,
+            RepositoryFactory::createAccountRepository);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return createRepository(MultisigRepository.class,
+            RepositoryFactory::createMultisigRepository);
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return createRepository(BlockRepository.class, RepositoryFactory::createBlockRepository);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return createRepository(ReceiptRepository.class,
+            RepositoryFactory::createReceiptRepository);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return createRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+    }
+
+    @Override
+    public DiagnosticRepository createDiagnosticRepository() {
+        return createRepository(DiagnosticRepository.class,
+            RepositoryFactory::createDiagnosticRepository);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return createRepository(NamespaceRepository.class,
+            RepositoryFactory::createNamespaceRepository);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return createRepository(NetworkRepository.class,
+            RepositoryFactory::createNetworkRepository);
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return createRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return createRepository(TransactionRepository.class,
+            RepositoryFactory::createTransactionRepository);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return createRepository(MetadataRepository.class,
+            RepositoryFactory::createMetadataRepository);
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return createRepository(RestrictionAccountRepository.class,
+            RepositoryFactory::createRestrictionAccountRepository);
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return createRepository(RestrictionMosaicRepository.class,
+            RepositoryFactory::createRestrictionMosaicRepository);
+    }
+
+    /**
+     * The listener keeps a web socket open, it connects to the best node at the time it's
+     * created.
+     */
+    @Override
+    public Listener createListener() {
+        return selectNode(Collections.emptySet()).getRepositoryFactory().createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return nodes.get(0).getRepositoryFactory().createJsonSerialization();
+    }
+
+    /**
+     * @return the routing statistics of each node, in the order the urls were given.
+     */
+    public List<NodeMetrics> getNodeMetrics() {
+        long now = now();
+        BigInteger minHeight = getMinHeight(now);
+        return nodes.stream()
+            .map(node -> node.getMetrics(now, node.getChainHeight().compareTo(minHeight) >= 0))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the hedging counters, they stay at 0 unless a hedging percentile is configured.
+     */
+    public HedgingMetrics getHedgingMetrics() {
+        return hedging.getMetrics();
+    }
+
+    @Override
+    public void close() {
+        probes.dispose();
+        nodes.forEach(node -> node.getRepositoryFactory().close());
+    }
+
+    private <R> R createRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+        return RepositoryProxy.create(type, "MultiNode", (method, args) -> {
+            if (!Observable.class.equals(method.getReturnType())) {
+                return RepositoryProxy.invoke(
+                    selectNode(Collections.emptySet()).getRepository(type, creator), method, args);
+            }
+            return route(node -> (Observable<?>) RepositoryProxy
+                    .invoke(node.getRepository(type, creator), method, args),
+                RepositoryProxy.isRead(method));
+        });
+    }
+
+    private <T> Observable<T> route(Function<RepositoryNode, Observable<T>> call, boolean read) {
+        if (!read || !hedging.isEnabled()) {
+            return Observable.defer(() -> attempt(call, new HashSet<>(), read));
+        }
+        return Observable.defer(() -> hedge(call));
+    }
+
+    /**
+     * Runs the call and, if it hasn't answered after the hedging delay and the budget allows it,
+     * runs it again on another node (or on the same node when there is a single one). The first
+     * call to answer wins and the other one is disposed.
+     */
+    private <T> Observable<T> hedge(Function<RepositoryNode, Observable<T>> call) {
+        long delay = hedging.onCall();
+        Set<RepositoryNode> tried = ConcurrentHashMap.newKeySet();
+        Observable<T> primary = attempt(call, tried, true);
+        if (delay < 0) {
+            return primary;
+        }
+        AtomicBoolean answered = new AtomicBoolean();
+        Observable<T> hedge = Observable.timer(delay, TimeUnit.NANOSECONDS,
+            configuration.getScheduler()).flatMap(tick -> {
+            if (!hedging.tryHedge()) {
+                return Observable.<T>never();
+            }
+            return attempt(call,
+                tried.size() < nodes.size() ? new HashSet<>(tried) : new HashSet<>(), true);
+        }).doOnNext(value -> {
+            if (answered.compareAndSet(false, true)) {
+                hedging.onHedgeWon();
+            }
+        }).onErrorResumeNext(Observable.never());
+        return Observable
+            .amb(Arrays.asList(primary.doOnEach(notification -> answered.set(true)), hedge));
+    }
+
+    /**
+     * Runs the call on the best node not tried yet. If the node fails before anything is emitted,
+     * the call is attempted again on another node. Calls that are not reads are attempted again
+     * only if they could not connect to the node.
+     */
+    private <T> Observable<T> attempt(Function<RepositoryNode, Observable<T>> call,
+        Set<RepositoryNode> tried, boolean read) {
+        RepositoryNode node = selectNode(tried);
+        tried.add(node);
+        AtomicBoolean answered = new AtomicBoolean();
+        return Observable.defer(() -> {
+            long start = now();
+            node.onCallStarted();
+            // The latency is the time to the first value, callers like blockingFirst dispose the
+            // call before it completes.
+            Action onAnswer = () -> {
+                if (answered.compareAndSet(false, true)) {
+                    long elapsed = now() - start;
+                    node.onSuccess(elapsed);
+                    if (hedging.isEnabled()) {
+                        hedging.onLatency(elapsed);
+                    }
+                }
+            };
+            return Observable.defer(() -> call.apply(node))
+                .doOnNext(value -> onAnswer.run())
+                .doOnComplete(onAnswer)
+                .doOnError(e -> {
+                    if (answered.get()) {
+                        return;
+                    }
+                    if (isNodeFailure(e)) {
+                        node.onFailure(now());
+                    } else {
+                        node.onSuccess(now() - start);
+                    }
+                })
+                .doFinally(node::onCallFinished);
+        }).onErrorResumeNext((Throwable e) -> {
+            if (answered.get() || !(read ? isNodeFailure(e) : isConnectionFailure(e))
+                || tried.size() >= Math.min(configuration.getMaxAttempts(), nodes.size())) {
+                return Observable.error(e);
+            }
+            node.onFailover();
+            return attempt(call, tried, read);
+        });
+    }
+
+    /**
+     * Probes the node chain height. The node information is requested too the first time and
+     * after the node has been ejected. Probe errors are recorded as node failures.
+     */
+    private Observable<BigInteger> probe(RepositoryNode node) {
+        Observable<BigInteger> height = Observable.defer(() -> {
+            long start = now();
+            return node.getRepository(ChainRepository.class,
+                RepositoryFactory::createChainRepository).getBlockchainHeight()
+                .doOnNext(chainHeight -> {
+                    node.onChainHeight(chainHeight);
+                    node.onSuccess(now() - start);
+                });
+        });
+        Observable<BigInteger> probe = node.hasNodeInfo() ? height : node
+            .getRepository(NodeRepository.class, RepositoryFactory::createNodeRepository)
+            .getNodeInfo().doOnNext(node::onNodeInfo).flatMap(nodeInfo -> height);
+        return probe.timeout(configuration.getProbeInterval().toNanos(), TimeUnit.NANOSECONDS,
+            configuration.getScheduler()).doOnError(e -> node.onFailure(now()))
+            .onErrorResumeNext(Observable.empty());
+    }
+
+    /**
+     * Selects the node with the best score among the healthy nodes, then among the nodes that are
+     * behind the chain and finally among the ejected nodes.
+     */
+    private RepositoryNode selectNode(Set<RepositoryNode> excluded) {
+        long now = now();
+        BigInteger minHeight = getMinHeight(now);
+        return nodes.stream().filter(node -> !excluded.contains(node))
+            .min(Comparator.comparingInt((RepositoryNode node) -> getTier(node, now, minHeight))
+                .thenComparingDouble(RepositoryNode::getScore))
+            .orElseThrow(() -> new IllegalStateException("All the nodes have been tried"));
+    }
+
+    private static int getTier(RepositoryNode node, long now, BigInteger minHeight) {
+        if (node.isEjected(now)) {
+            return 2;
+        }
+        return node.getChainHeight().compareTo(minHeight) >= 0 ? 0 : 1;
+    }
+
+    private BigInteger getMinHeight(long now) {
+        return nodes.stream().filter(node -> !node.isEjected(now))
+            .map(RepositoryNode::getChainHeight).max(Comparator.naturalOrder())
+            .orElse(BigInteger.ZERO).subtract(BigInteger.valueOf(configuration.getMaxHeightLag()));
+    }
+
+    /**
+     * 5xx responses and the errors caused by an I/O error or a timeout are failures of the node.
+     * Other errors, like a 404 or a response the client fails to map, are valid answers and are
+     * returned as they are.
+     */
+    private static boolean isNodeFailure(Throwable e) {
+        if (e instanceof RepositoryCallException
+            && ((RepositoryCallException) e).getStatusCode() >= 500) {
+            return true;
+        }
+        return isCausedBy(e, IOException.class) || isCausedBy(e, TimeoutException.class);
+    }
+
+    /**
+     * The errors caused by a failed connection happen before the request is sent.
+     */
+    private static boolean isConnectionFailure(Throwable e) {
+        return isCausedBy(e, ConnectException.class) || isCausedBy(e, UnknownHostException.class);
+    }
+
+    /**
+     * The clients may keep the error of the call as a suppressed exception when the cause is its
+     * call site, the suppressed exceptions of the chain are checked too.
+     */
+    private static boolean isCausedBy(Throwable e, Class<? extends Throwable> type) {
+        return ExceptionUtils.getThrowableList(e).stream().anyMatch(
+            cause -> type.isInstance(cause) || Arrays.stream(cause.getSuppressed())
+                .anyMatch(type::isInstance));
+    }
+
+    private long now() {
+        return configuration.getScheduler().now(TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.model.blockchain.NetworkInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Observable;
+
+/**
+ * {@link NetworkRepository} of a {@link CachingRepositoryFactory}. The network type is cached
+ * once it has been loaded.
+ */
+class NetworkRepositoryCachingImpl implements NetworkRepository {
+
+    private final NetworkRepository delegate;
+
+    private final CachingRepositoryFactory factory;
+
+    NetworkRepositoryCachingImpl(NetworkRepository delegate, CachingRepositoryFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return factory.getNetworkType(delegate);
+    }
+
+    @Override
+    public Observable<NetworkInfo> getNetworkInfo() {
+        return delegate.getNetworkInfo();
+    }
+}
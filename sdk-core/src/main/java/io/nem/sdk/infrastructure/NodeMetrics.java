@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.node.NodeInfo;
+import java.math.BigInteger;
+import java.util.Optional;
+
+/**
+ * A snapshot of the routing state of one node of a {@link MultiNodeRepositoryFactory}.
+ */
+public class NodeMetrics {
+
+    private final String url;
+
+    private final boolean healthy;
+
+    private final double latency;
+
+    private final double errorRate;
+
+    private final BigInteger chainHeight;
+
+    private final Optional<NodeInfo> nodeInfo;
+
+    private final long requests;
+
+    private final long failures;
+
+    private final long failovers;
+
+    private final long ejections;
+
+    private final int inFlight;
+
+    @SuppressWarnings("squid:S00107")
+    public NodeMetrics(String url, boolean healthy, double latency, double errorRate,
+        BigInteger chainHeight, Optional<NodeInfo> nodeInfo, long requests, long failures,
+        long failovers, long ejections, int inFlight) {
+        this.url = url;
+        this.healthy = healthy;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.chainHeight = chainHeight;
+        this.nodeInfo = nodeInfo;
+        this.requests = requests;
+        this.failures = failures;
+        this.failovers = failovers;
+        this.ejections = ejections;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * @return the base url of the node.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return if the node is receiving calls, it's neither ejected nor behind the chain.
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return the moving average of the call latency in milliseconds.
+     */
+    public double getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the moving average of the failed calls, between 0 and 1.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @return the last chain height the node reported, zero if it hasn't been probed yet.
+     */
+    public BigInteger getChainHeight() {
+        return chainHeight;
+    }
+
+    /**
+     * @return the node information of the last successful probe.
+     */
+    public Optional<NodeInfo> getNodeInfo() {
+        return nodeInfo;
+    }
+
+    /**
+     * @return the number of calls routed to the node.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return the number of calls that failed because of the node.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the number of failed calls that were retried on another node.
+     */
+    public long getFailovers() {
+        return failovers;
+    }
+
+    /**
+     * @return the number of times the node has been ejected.
+     */
+    public long getEjections() {
+        return ejections;
+    }
+
+    /**
+     * @return the number of calls currently running on the node.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeMetrics{url='" + url + "', healthy=" + healthy + ", latency=" + latency
+            + ", errorRate=" + errorRate + ", chainHeight=" + chainHeight + ", requests="
+            + requests + ", failures=" + failures + ", failovers=" + failovers + ", ejections="
+            + ejections + ", inFlight=" + inFlight + '}';
+    }
+}
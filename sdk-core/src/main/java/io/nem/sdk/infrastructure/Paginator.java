@@ -0,0 +1,240 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.MetadataRepository;
+import io.nem.sdk.api.NamespaceRepository;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.metadata.Metadata;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.processors.BehaviorProcessor;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Walks all the pages of the paginated repository calls as a {@link Flowable} of their items.
+ *
+ * The next page is requested with the id of the last item of the current page as soon as the
+ * current page arrives, so it's loaded while the current page is consumed. No further page is
+ * requested until the consumer reaches that page, a walk holds at most three pages however long
+ * it is. Cancelling the subscription cancels the page call in flight. The walk ends with a page
+ * shorter than the page size.
+ */
+public final class Paginator {
+
+    /**
+     * The page size of the server when the criteria doesn't define one.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    /**
+     * The smallest page size of the server, a smaller size is raised to it.
+     */
+    private static final int MIN_PAGE_SIZE = 10;
+
+    /**
+     * The largest page size of the server, a larger size is lowered to it.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private Paginator() {
+    }
+
+    /**
+     * Walks the pages of a paginated call.
+     *
+     * @param id the id after which the first page starts, null to start from the beginning.
+     * @param pageSize the number of items per page.
+     * @param pageCall the call that returns the page after the given id.
+     * @param cursorOf the id of an item.
+     * @param <T> the item type.
+     * @return the items of all the pages.
+     */
+    public static <T> Flowable<T> stream(String id, int pageSize,
+        Function<String, Observable<List<T>>> pageCall, Function<T, String> cursorOf) {
+        Validate.isTrue(pageSize > 0, "pageSize must be positive");
+        Validate.notNull(pageCall, "pageCall must not be null");
+        Validate.notNull(cursorOf, "cursorOf must not be null");
+        return Flowable.defer(() -> {
+            BehaviorProcessor<Optional<String>> cursors = BehaviorProcessor
+                .createDefault(Optional.ofNullable(id));
+            return cursors.concatMap(cursor -> pageCall.apply(cursor.orElse(null))
+                .toFlowable(BackpressureStrategy.BUFFER)).doOnNext(page -> {
+                    if (page.size() < pageSize) {
+                        cursors.onComplete();
+                    } else {
+                        cursors.onNext(Optional.of(cursorOf.apply(page.get(page.size() - 1))));
+                    }
+                }).concatMapIterable(page -> page, 1);
+        });
+    }
+
+    /**
+     * @param repository the account repository.
+     * @param publicAccount the account.
+     * @param criteria the page size, order and type filter, the id is where the walk starts.
+     * @return all the confirmed transactions for which the account is signer or receiver.
+     */
+    public static Flowable<Transaction> transactions(AccountRepository repository,
+        PublicAccount publicAccount, TransactionSearchCriteria criteria) {
+        return stream(repository::transactions, publicAccount, criteria);
+    }
+
+    /**
+     * @param repository the account repository.
+     * @param publicAccount the account.
+     * @param criteria the page size, order and type filter, the id is where the walk starts.
+     * @return all the transactions for which the account is the recipient.
+     */
+    public static Flowable<Transaction> incomingTransactions(AccountRepository repository,
+        PublicAccount publicAccount, TransactionSearchCriteria criteria) {
+        return stream(repository::incomingTransactions, publicAccount, criteria);
+    }
+
+    /**
+     * @param repository the account repository.
+     * @param publicAccount the account.
+     * @param criteria the page size, order and type filter, the id is where the walk starts.
+     * @return all the transactions for which the account is the sender.
+     */
+    public static Flowable<Transaction> outgoingTransactions(AccountRepository repository,
+        PublicAccount publicAccount, TransactionSearchCriteria criteria) {
+        return stream(repository::outgoingTransactions, publicAccount, criteria);
+    }
+
+    /**
+     * @param repository the block repository.
+     * @param height the block height.
+     * @param queryParams the page size and order, the id is where the walk starts.
+     * @return all the transactions of the block.
+     */
+    public static Flowable<Transaction> blockTransactions(BlockRepository repository,
+        BigInteger height, QueryParams queryParams) {
+        return stream(queryParams, params -> repository.getBlockTransactions(height, params),
+            Paginator::getTransactionId);
+    }
+
+    /**
+     * @param repository the namespace repository.
+     * @param address the owner address.
+     * @param queryParams the page size and order, the id is where the walk starts.
+     * @return all the namespaces of the account.
+     */
+    public static Flowable<NamespaceInfo> namespacesFromAccount(NamespaceRepository repository,
+        Address address, QueryParams queryParams) {
+        return stream(queryParams, params -> repository.getNamespacesFromAccount(address, params),
+            NamespaceInfo::getMetaId);
+    }
+
+    /**
+     * @param repository the metadata repository.
+     * @param targetAddress the address that holds the metadata.
+     * @param queryParams the page size and order, the id is where the walk starts.
+     * @return all the metadata of the account.
+     */
+    public static Flowable<Metadata> accountMetadata(MetadataRepository repository,
+        Address targetAddress, QueryParams queryParams) {
+        return stream(queryParams,
+            params -> repository.getAccountMetadata(targetAddress, Optional.of(params)),
+            Metadata::getId);
+    }
+
+    /**
+     * @param repository the metadata repository.
+     * @param targetMosaicId the mosaic that holds the metadata.
+     * @param queryParams the page size and order, the id is where the walk starts.
+     * @return all the metadata of the mosaic.
+     */
+    public static Flowable<Metadata> mosaicMetadata(MetadataRepository repository,
+        MosaicId targetMosaicId, QueryParams queryParams) {
+        return stream(queryParams,
+            params -> repository.getMosaicMetadata(targetMosaicId, Optional.of(params)),
+            Metadata::getId);
+    }
+
+    /**
+     * @param repository the metadata repository.
+     * @param targetNamespaceId the namespace that holds the metadata.
+     * @param queryParams the page size and order, the id is where the walk starts.
+     * @return all the metadata of the namespace.
+     */
+    public static Flowable<Metadata> namespaceMetadata(MetadataRepository repository,
+        NamespaceId targetNamespaceId, QueryParams queryParams) {
+        return stream(queryParams,
+            params -> repository.getNamespaceMetadata(targetNamespaceId, Optional.of(params)),
+            Metadata::getId);
+    }
+
+    private static Flowable<Transaction> stream(
+        BiFunction<PublicAccount, TransactionSearchCriteria, Observable<List<Transaction>>> call,
+        PublicAccount publicAccount, TransactionSearchCriteria criteria) {
+        Validate.notNull(criteria, "criteria must not be null");
+        return stream(criteria.getId(), getPageSize(criteria),
+            id -> call.apply(publicAccount, withId(criteria, id)), Paginator::getTransactionId);
+    }
+
+    /**
+     * The server clamps the page size, a walk expecting pages of the requested size would end
+     * after the first page.
+     *
+     * @param criteria the criteria.
+     * @return the page size of the criteria clamped like the server does, or the server's default.
+     */
+    static int getPageSize(TransactionSearchCriteria criteria) {
+        return criteria.getPageSize() == null ? DEFAULT_PAGE_SIZE
+            : Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, criteria.getPageSize()));
+    }
+
+    /**
+     * @param criteria the criteria.
+     * @param id the id after which the page starts.
+     * @return a copy of the criteria with the given id and the clamped page size.
+     */
+    static TransactionSearchCriteria withId(TransactionSearchCriteria criteria, String id) {
+        return new TransactionSearchCriteria().pageSize(getPageSize(criteria))
+            .order(criteria.getOrder()).transactionType(criteria.getTransactionType()).id(id);
+    }
+
+    private static <T> Flowable<T> stream(QueryParams queryParams,
+        Function<QueryParams, Observable<List<T>>> call, Function<T, String> cursorOf) {
+        Validate.notNull(queryParams, "queryParams must not be null");
+        return stream(queryParams.getId(), queryParams.getPageSize(),
+            id -> call.apply(new QueryParams(queryParams.getPageSize(), id,
+                queryParams.getOrder())), cursorOf);
+    }
+
+    static String getTransactionId(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getId)
+            .orElseThrow(() -> new IllegalStateException("Transaction id is not available"));
+    }
+}
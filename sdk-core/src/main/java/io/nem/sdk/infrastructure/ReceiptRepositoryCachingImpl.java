@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.receipt.Statement;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * {@link ReceiptRepository} of a {@link CachingRepositoryFactory}. The statements and receipt
+ * merkle proofs of final blocks are cached.
+ */
+class ReceiptRepositoryCachingImpl implements ReceiptRepository {
+
+    private final ReceiptRepository delegate;
+
+    private final CachingRepositoryFactory factory;
+
+    ReceiptRepositoryCachingImpl(ReceiptRepository delegate, CachingRepositoryFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public Observable<Statement> getBlockReceipts(BigInteger height) {
+        return factory.getReceiptCache().get(height, () -> delegate.getBlockReceipts(height),
+            statement -> factory.isFinal(height));
+    }
+
+    @Override
+    public Observable<MerkelProofInfo> getMerkleReceipts(BigInteger height, String hash) {
+        return factory.getMerkleReceiptCache()
+            .get(Pair.of(height, CachingRepositoryFactory.toKey(hash)),
+                () -> delegate.getMerkleReceipts(height, hash), proof -> factory.isFinal(height));
+    }
+}
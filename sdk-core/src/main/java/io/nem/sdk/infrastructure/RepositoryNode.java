@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.model.node.NodeInfo;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * One node of a {@link MultiNodeRepositoryFactory}: the repository factory that talks to it, the
+ * repositories created from that factory and the statistics the calls are routed with.
+ *
+ * Times are in nanoseconds of the configuration scheduler clock.
+ */
+class RepositoryNode {
+
+    /**
+     * Error rate used when ranking nodes so a node failing every call still has a finite score.
+     */
+    private static final double MAX_ERROR_RATE = 0.95;
+
+    private final String url;
+
+    private final RepositoryFactory repositoryFactory;
+
+    private final double decay;
+
+    private final int maxConsecutiveFailures;
+
+    private final long ejectionTime;
+
+    private final Map<Class<?>, Object> repositories = new ConcurrentHashMap<>();
+
+    private double latency;
+
+    private boolean latencySampled;
+
+    private double errorRate;
+
+    private int consecutiveFailures;
+
+    private long ejectedUntil;
+
+    private boolean ejected;
+
+    private BigInteger chainHeight = BigInteger.ZERO;
+
+    private NodeInfo nodeInfo;
+
+    private long requests;
+
+    private long failures;
+
+    private long failovers;
+
+    private long ejections;
+
+    private int inFlight;
+
+    RepositoryNode(String url, RepositoryFactory repositoryFactory,
+        MultiNodeConfiguration configuration) {
+        this.url = url;
+        this.repositoryFactory = repositoryFactory;
+        this.decay = configuration.getDecay();
+        this.maxConsecutiveFailures = configuration.getMaxConsecutiveFailures();
+        this.ejectionTime = configuration.getEjectionTime().toNanos();
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    RepositoryFactory getRepositoryFactory() {
+        return repositoryFactory;
+    }
+
+    /**
+     * Returns the node's repository of the given type, it's created the first time.
+     *
+     * @param type the repository type.
+     * @param creator the factory method that creates the repository.
+     * @param <R> the repository type.
+     * @return the repository.
+     */
+    <R> R getRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+        return type.cast(repositories.computeIfAbsent(type, t -> creator.apply(repositoryFactory)));
+    }
+
+    /**
+     * @param now the current time.
+     * @return if the node is ejected at the given time.
+     */
+    synchronized boolean isEjected(long now) {
+        return ejected && now < ejectedUntil;
+    }
+
+    synchronized BigInteger getChainHeight() {
+        return chainHeight;
+    }
+
+    synchronized boolean hasNodeInfo() {
+        return nodeInfo != null;
+    }
+
+    /**
+     * The expected cost of a new call: the latency scaled by the calls already running and by the
+     * chance of having to retry it somewhere else. Nodes without latency samples score 0 so they
+     * get sampled.
+     *
+     * @return the score, lower is better.
+     */
+    synchronized double getScore() {
+        return latency * (inFlight + 1) / (1 - Math.min(errorRate, MAX_ERROR_RATE));
+    }
+
+    synchronized void onCallStarted() {
+        requests++;
+        inFlight++;
+    }
+
+    synchronized void onCallFinished() {
+        inFlight--;
+    }
+
+    synchronized void onFailover() {
+        failovers++;
+    }
+
+    /**
+     * Records a successful call or probe. Readmits the node if it was ejected.
+     *
+     * @param elapsed the call latency.
+     */
+    synchronized void onSuccess(long elapsed) {
+        double millis = elapsed / 1_000_000.0;
+        latency = latencySampled ? decay * millis + (1 - decay) * latency : millis;
+        latencySampled = true;
+        errorRate = (1 - decay) * errorRate;
+        consecutiveFailures = 0;
+        ejected = false;
+    }
+
+    /**
+     * Records a call or probe that failed because of the node, ejecting it after too many
+     * consecutive failures.
+     *
+     * @param now the current time.
+     */
+    synchronized void onFailure(long now) {
+        failures++;
+        errorRate = decay + (1 - decay) * errorRate;
+        consecutiveFailures++;
+        if (consecutiveFailures >= maxConsecutiveFailures && !isEjected(now)) {
+            ejected = true;
+            ejectedUntil = now + ejectionTime;
+            ejections++;
+            nodeInfo = null;
+        }
+    }
+
+    synchronized void onNodeInfo(NodeInfo nodeInfo) {
+        this.nodeInfo = nodeInfo;
+    }
+
+    synchronized void onChainHeight(BigInteger chainHeight) {
+        this.chainHeight = chainHeight;
+    }
+
+    /**
+     * @param now the current time.
+     * @param healthy if the node is receiving calls.
+     * @return the snapshot of the node statistics.
+     */
+    synchronized NodeMetrics getMetrics(long now, boolean healthy) {
+        return new NodeMetrics(url, healthy && !isEjected(now), latency, errorRate, chainHeight,
+            Optional.ofNullable(nodeInfo), requests, failures, failovers, ejections, inFlight);
+    }
+}
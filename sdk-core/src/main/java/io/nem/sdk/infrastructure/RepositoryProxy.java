@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates the repository proxies of the {@link io.nem.sdk.api.RepositoryFactory} decorators that
+ * handle every repository method the same way.
+ */
+final class RepositoryProxy {
+
+    /**
+     * Handles the calls to the repository methods, the {@link Object} methods are handled by the
+     * proxy.
+     */
+    interface Handler {
+
+        Object handle(Method method, Object[] args);
+    }
+
+    private RepositoryProxy() {
+    }
+
+    /**
+     * @param type the repository interface.
+     * @param prefix the prefix of the proxy's toString.
+     * @param handler the handler of the repository methods.
+     * @param <R> the repository type.
+     * @return the repository proxy.
+     */
+    static <R> R create(Class<R> type, String prefix, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() != Object.class) {
+                    return handler.handle(method, args);
+                }
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return prefix + type.getSimpleName();
+                }
+            }));
+    }
+
+    /**
+     * Calls the method on the repository, rethrowing the exception the method throws.
+     *
+     * @param repository the repository.
+     * @param method the method.
+     * @param args the arguments.
+     * @return the returned value.
+     */
+    static Object invoke(Object repository, Method method, Object[] args) {
+        try {
+            return method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            // The repository methods don't declare checked exceptions.
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The announce methods are the only repository calls that change the chain state, any other
+     * call can be sent twice.
+     *
+     * @param method the repository method.
+     * @return if the method only reads.
+     */
+    static boolean isRead(Method method) {
+        return !method.getName().startsWith("announce");
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import java.util.Arrays;
+
+/**
+ * The hedging state of a {@link MultiNodeRepositoryFactory}: the window of recent call latencies
+ * the hedging delay is computed from, the budget that caps the extra calls and the hedging
+ * counters.
+ *
+ * The budget is a token bucket: every hedgeable call deposits the configured hedging budget and
+ * every hedge withdraws one token, so the hedges are at most that fraction of the calls.
+ */
+class RequestHedging {
+
+    /**
+     * Number of recent latencies the percentile is computed from.
+     */
+    private static final int WINDOW_SIZE = 256;
+
+    /**
+     * Latencies recorded before the first delay is computed, there is no hedging until then.
+     */
+    private static final int MIN_SAMPLES = 16;
+
+    /**
+     * The delay is recomputed every this many samples rather than on every call.
+     */
+    private static final int REFRESH_SAMPLES = 16;
+
+    /**
+     * Maximum tokens of the budget, the hedges a burst of slow calls can issue at once.
+     */
+    private static final double MAX_TOKENS = 10;
+
+    private final double percentile;
+
+    private final double budget;
+
+    private final long minDelay;
+
+    private final long[] window = new long[WINDOW_SIZE];
+
+    /**
+     * The window slot of the next latency, the oldest latency is overwritten once it's full.
+     */
+    private int next;
+
+    /**
+     * The latencies in the window, up to its size.
+     */
+    private int filled;
+
+    private int sinceRefresh;
+
+    private long delay = -1;
+
+    private double tokens;
+
+    private long issued;
+
+    private long won;
+
+    private long rejected;
+
+    RequestHedging(MultiNodeConfiguration configuration) {
+        this.percentile = configuration.getHedgingPercentile();
+        this.budget = configuration.getHedgingBudget();
+        this.minDelay = configuration.getMinHedgingDelay().toNanos();
+    }
+
+    /**
+     * @return if the configuration enables hedging.
+     */
+    boolean isEnabled() {
+        return percentile > 0;
+    }
+
+    /**
+     * Records the latency of a completed call.
+     *
+     * @param elapsed the latency in nanoseconds.
+     */
+    synchronized void onLatency(long elapsed) {
+        window[next] = elapsed;
+        next = (next + 1) % WINDOW_SIZE;
+        filled = Math.min(filled + 1, WINDOW_SIZE);
+        if (++sinceRefresh >= REFRESH_SAMPLES && filled >= MIN_SAMPLES) {
+            sinceRefresh = 0;
+            long[] sorted = Arrays.copyOf(window, filled);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            delay = Math.max(minDelay, sorted[Math.max(0, index)]);
+        }
+    }
+
+    /**
+     * Deposits the tokens of a new hedgeable call and returns how long to wait before hedging it.
+     *
+     * @return the delay in nanoseconds, negative if there are not enough latency samples yet.
+     */
+    synchronized long onCall() {
+        tokens = Math.min(MAX_TOKENS, tokens + budget);
+        return delay;
+    }
+
+    /**
+     * Withdraws a token for a hedge.
+     *
+     * @return true if the hedge can be issued, false if the budget is exhausted.
+     */
+    synchronized boolean tryHedge() {
+        if (tokens < 1) {
+            rejected++;
+            return false;
+        }
+        tokens--;
+        issued++;
+        return true;
+    }
+
+    synchronized void onHedgeWon() {
+        won++;
+    }
+
+    synchronized HedgingMetrics getMetrics() {
+        return new HedgingMetrics(issued, won, rejected, delay < 0 ? 0 : delay / 1_000_000.0);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.RepositoryCallException;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of calls in flight and the rate at which they are started. The calls over the
+ * limits wait in order of subscription, a call disposed while waiting is never started.
+ *
+ * The number of calls in flight is given by a {@link Limit}, that is told the outcome of every
+ * finished call. The waiting calls can be bounded in number and in time, the calls over those
+ * bounds fail with a {@link RepositoryCallException}.
+ */
+class RequestLimiter {
+
+    private final Limit limit;
+
+    private final long interval;
+
+    private final int maxQueueSize;
+
+    private final Duration maxWait;
+
+    private final Scheduler scheduler;
+
+    private final Queue<Waiter<?>> waiting = new ArrayDeque<>();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private int running;
+
+    private long nextStart;
+
+    private long rejected;
+
+    /**
+     * Creates a limiter with a fixed limit and no bound on the waiting calls.
+     *
+     * @param maxConcurrentRequests max number of calls in flight.
+     * @param maxRequestsPerSecond max number of calls started per second, 0 for no limit.
+     * @param scheduler the scheduler that delays the calls over the rate limit.
+     */
+    RequestLimiter(int maxConcurrentRequests, int maxRequestsPerSecond, Scheduler scheduler) {
+        this(() -> maxConcurrentRequests, maxRequestsPerSecond, Integer.MAX_VALUE, null,
+            scheduler);
+    }
+
+    /**
+     * @param limit the max number of calls in flight.
+     * @param maxRequestsPerSecond max number of calls started per second, 0 for no limit.
+     * @param maxQueueSize max number of waiting calls.
+     * @param maxWait max time a call waits, null for no limit.
+     * @param scheduler the scheduler that delays and expires the waiting calls.
+     */
+    RequestLimiter(Limit limit, int maxRequestsPerSecond, int maxQueueSize, Duration maxWait,
+        Scheduler scheduler) {
+        this.limit = limit;
+        this.interval =
+            maxRequestsPerSecond == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param call the call.
+     * @param <T> the result type.
+     * @return the call started once the limits allow it.
+     */
+    <T> Observable<T> limit(Supplier<Observable<T>> call) {
+        return Observable.create(emitter -> {
+            Waiter<T> waiter = new Waiter<>(call, emitter);
+            Disposable timeout = maxWait == null ? Disposables.disposed() : scheduler
+                .scheduleDirect(() -> expire(waiter), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            // Set before queueing, a call started by another thread must not be cancelled here.
+            emitter.setCancellable(() -> {
+                timeout.dispose();
+                synchronized (this) {
+                    waiting.remove(waiter);
+                }
+            });
+            boolean reject;
+            synchronized (this) {
+                reject = (!waiting.isEmpty() || running >= limit.get())
+                    && waiting.size() >= maxQueueSize;
+                if (reject) {
+                    rejected++;
+                } else {
+                    waiting.add(waiter);
+                }
+            }
+            if (reject) {
+                emitter.tryOnError(new RepositoryCallException(
+                    "Too many calls waiting for the concurrency limit", 0, null));
+            } else {
+                drain();
+            }
+        });
+    }
+
+    /**
+     * @return the limit, the calls in flight and waiting, and the rejected calls.
+     */
+    synchronized ConcurrencyLimiterMetrics getMetrics() {
+        return new ConcurrencyLimiterMetrics(limit.get(), running, waiting.size(), rejected);
+    }
+
+    private void expire(Waiter<?> waiter) {
+        synchronized (this) {
+            if (!waiting.remove(waiter)) {
+                return;
+            }
+            rejected++;
+        }
+        waiter.emitter.tryOnError(new RepositoryCallException(
+            "Call waited more than " + maxWait + " for the concurrency limit", 0, null));
+    }
+
+    /**
+     * Starts the waiting calls the limits allow. The calls that complete right away don't drain
+     * recursively, the thread already draining starts the next ones.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            while (true) {
+                Waiter<?> waiter;
+                long delay;
+                synchronized (this) {
+                    if (running >= limit.get() || waiting.isEmpty()) {
+                        break;
+                    }
+                    waiter = waiting.poll();
+                    running++;
+                    waiter.inFlight = running;
+                    long now = scheduler.now(TimeUnit.NANOSECONDS);
+                    delay = Math.max(0, nextStart - now);
+                    nextStart = Math.max(now, nextStart) + interval;
+                }
+                if (delay == 0) {
+                    start(waiter);
+                } else {
+                    scheduler.scheduleDirect(() -> start(waiter), delay, TimeUnit.NANOSECONDS);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private <T> void start(Waiter<T> waiter) {
+        ObservableEmitter<T> emitter = waiter.emitter;
+        if (emitter.isDisposed()) {
+            finish(waiter, false, null);
+            return;
+        }
+        waiter.started = scheduler.now(TimeUnit.NANOSECONDS);
+        emitter.setDisposable(Observable.defer(waiter.call::get)
+            .doOnDispose(() -> finish(waiter, false, null))
+            .subscribe(emitter::onNext, e -> {
+                finish(waiter, true, e);
+                emitter.tryOnError(e);
+            }, () -> {
+                finish(waiter, true, null);
+                emitter.onComplete();
+            }));
+    }
+
+    /**
+     * Releases the slot of the call and tells the limit its outcome, a disposed call doesn't tell
+     * anything about the server.
+     */
+    private void finish(Waiter<?> waiter, boolean finished, Throwable error) {
+        if (!waiter.done.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (this) {
+            running--;
+            if (finished) {
+                limit.onFinish(waiter.inFlight,
+                    scheduler.now(TimeUnit.NANOSECONDS) - waiter.started, error);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * The max number of calls in flight. It's only used while holding the lock of the limiter.
+     */
+    interface Limit {
+
+        /**
+         * @return the max number of calls in flight.
+         */
+        int get();
+
+        /**
+         * Called when a call finishes. A fixed limit ignores it.
+         *
+         * @param inFlight the calls in flight when the call started.
+         * @param latency the duration of the call in nanoseconds.
+         * @param error the error of the call, null if it completed.
+         */
+        default void onFinish(int inFlight, long latency, Throwable error) {
+        }
+    }
+
+    /**
+     * A call and its subscriber.
+     */
+    private static class Waiter<T> {
+
+        private final Supplier<Observable<T>> call;
+
+        private final ObservableEmitter<T> emitter;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        /**
+         * The calls in flight when the call started.
+         */
+        private int inFlight;
+
+        private long started;
+
+        Waiter(Supplier<Observable<T>> call, ObservableEmitter<T> emitter) {
+            this.call = call;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines the threads the repositories of a repository factory map their responses on. By default
+ * the responses leave the I/O threads, the Vert.x event loop or the OkHttp dispatcher threads, as
+ * soon as they are received, so mapping a big page doesn't delay the other requests.
+ */
+public class SchedulerConfiguration {
+
+    /**
+     * The scheduler the responses are emitted on and mapped to the model objects. {@link
+     * Schedulers#trampoline()} keeps the work on the I/O thread that received the response.
+     * (optional, default to the computation scheduler)
+     */
+    private Scheduler mappingScheduler = Schedulers.computation();
+
+    public Scheduler getMappingScheduler() {
+        return mappingScheduler;
+    }
+
+    /**
+     * Sets the mapping scheduler returning this configuration to nest configuration.
+     *
+     * @param mappingScheduler the scheduler the responses are mapped on.
+     * @return this configuration
+     */
+    public SchedulerConfiguration mappingScheduler(Scheduler mappingScheduler) {
+        Validate.notNull(mappingScheduler, "mappingScheduler must not be null");
+        this.mappingScheduler = mappingScheduler;
+        return this;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.reactivex.Flowable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Merges sorted sources into one sorted {@link Flowable}. An item is emitted once the next item or
+ * the completion of every source is known, the smallest head is emitted first.
+ *
+ * Each source is only requested a prefetch of items ahead, and the heads are kept in a priority
+ * queue so merging thousands of sources costs a log of their number per item. The first error of
+ * a source cancels the others.
+ *
+ * @param <T> the item type.
+ */
+final class SortedMerge<T> extends Flowable<T> {
+
+    private final List<? extends Publisher<? extends T>> sources;
+
+    private final Comparator<? super T> comparator;
+
+    private final int prefetch;
+
+    /**
+     * @param sources the sorted sources.
+     * @param comparator the order of the items of the sources.
+     * @param prefetch the number of items requested ahead from each source.
+     */
+    SortedMerge(List<? extends Publisher<? extends T>> sources, Comparator<? super T> comparator,
+        int prefetch) {
+        this.sources = sources;
+        this.comparator = comparator;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super T> subscriber) {
+        MergeSubscription<T> subscription = new MergeSubscription<>(subscriber, sources.size(),
+            comparator, prefetch);
+        subscriber.onSubscribe(subscription);
+        subscription.subscribe(sources);
+    }
+
+    private static final class MergeSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> actual;
+
+        private final List<InnerSubscriber<T>> inners;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /**
+         * The sources without known next item, only used by the draining thread.
+         */
+        private final Deque<InnerSubscriber<T>> pending;
+
+        /**
+         * The sources by next item, only used by the draining thread.
+         */
+        private final Queue<InnerSubscriber<T>> ready;
+
+        private volatile boolean cancelled;
+
+        private long emitted;
+
+        MergeSubscription(Subscriber<? super T> actual, int size,
+            Comparator<? super T> comparator, int prefetch) {
+            this.actual = actual;
+            this.inners = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                inners.add(new InnerSubscriber<>(this, prefetch));
+            }
+            this.pending = new ArrayDeque<>(inners);
+            this.ready = new PriorityQueue<>(Math.max(1, size),
+                (a, b) -> comparator.compare(a.queue.peek(), b.queue.peek()));
+        }
+
+        void subscribe(List<? extends Publisher<? extends T>> sources) {
+            for (int i = 0; i < sources.size() && !cancelled; i++) {
+                sources.get(i).subscribe(inners.get(i));
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error.compareAndSet(null,
+                    new IllegalArgumentException("n must be positive"));
+            } else {
+                long current;
+                do {
+                    current = requested.get();
+                } while (!requested.compareAndSet(current,
+                    current + n < 0 ? Long.MAX_VALUE : current + n));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                inners.forEach(InnerSubscriber::cancel);
+                if (wip.getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        void onError(Throwable e) {
+            error.compareAndSet(null, e);
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                while (true) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    Throwable e = error.get();
+                    if (e != null) {
+                        cancelled = true;
+                        inners.forEach(InnerSubscriber::cancel);
+                        clear();
+                        actual.onError(e);
+                        return;
+                    }
+                    while (!pending.isEmpty()) {
+                        InnerSubscriber<T> inner = pending.peekFirst();
+                        boolean done = inner.done;
+                        if (inner.queue.peek() != null) {
+                            ready.add(pending.pollFirst());
+                        } else if (done) {
+                            pending.pollFirst();
+                        } else {
+                            break;
+                        }
+                    }
+                    if (!pending.isEmpty()) {
+                        break;
+                    }
+                    if (ready.isEmpty()) {
+                        cancelled = true;
+                        actual.onComplete();
+                        return;
+                    }
+                    if (emitted == requested.get()) {
+                        break;
+                    }
+                    InnerSubscriber<T> inner = ready.poll();
+                    actual.onNext(inner.queue.poll());
+                    emitted++;
+                    inner.consumed();
+                    pending.addFirst(inner);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void clear() {
+            pending.clear();
+            ready.clear();
+            inners.forEach(inner -> inner.queue.clear());
+        }
+    }
+
+    private static final class InnerSubscriber<T> implements Subscriber<T> {
+
+        private static final Subscription CANCELLED = new Subscription() {
+            @Override
+            public void request(long n) {
+                // The subscription is cancelled.
+            }
+
+            @Override
+            public void cancel() {
+                // The subscription is cancelled.
+            }
+        };
+
+        private final MergeSubscription<T> parent;
+
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        private final int prefetch;
+
+        private final int limit;
+
+        private volatile boolean done;
+
+        private int consumed;
+
+        InnerSubscriber(MergeSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                s.request(prefetch);
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            done = true;
+            parent.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        /**
+         * Requests more items once enough of the prefetched ones have been emitted.
+         */
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+                subscription.get().request(limit);
+            }
+        }
+
+        void cancel() {
+            Subscription current = subscription.getAndSet(CANCELLED);
+            if (current != null && current != CANCELLED) {
+                current.cancel();
+            }
+        }
+    }
+}
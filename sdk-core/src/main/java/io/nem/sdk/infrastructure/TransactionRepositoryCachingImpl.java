@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link TransactionRepository} of a {@link CachingRepositoryFactory}. Transactions confirmed in
+ * final blocks are cached, statuses and announcements always go to the server.
+ */
+class TransactionRepositoryCachingImpl implements TransactionRepository {
+
+    private final TransactionRepository delegate;
+
+    private final CachingRepositoryFactory factory;
+
+    TransactionRepositoryCachingImpl(TransactionRepository delegate,
+        CachingRepositoryFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public Observable<Transaction> getTransaction(String transactionHash) {
+        return factory.getTransactionCache()
+            .get(CachingRepositoryFactory.toKey(transactionHash),
+                () -> delegate.getTransaction(transactionHash), factory::isFinal);
+    }
+
+    /**
+     * Only the transactions that are not cached are requested. The transactions are returned in
+     * the requested order, followed by the ones the server returned without hash.
+     */
+    @Override
+    public Observable<List<Transaction>> getTransactions(List<String> transactionHashes) {
+        return Observable.defer(() -> {
+            Map<String, Transaction> transactions = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String transactionHash : transactionHashes) {
+                String key = CachingRepositoryFactory.toKey(transactionHash);
+                Transaction cached = factory.getTransactionCache().get(key);
+                if (cached == null) {
+                    missing.add(transactionHash);
+                } else {
+                    transactions.put(key, cached);
+                }
+            }
+            if (missing.isEmpty()) {
+                return Observable.just(collect(transactionHashes, transactions, new ArrayList<>()));
+            }
+            return delegate.getTransactions(missing).map(loaded -> {
+                List<Transaction> unknown = new ArrayList<>();
+                for (Transaction transaction : loaded) {
+                    Optional<String> hash = transaction.getTransactionInfo()
+                        .flatMap(TransactionInfo::getHash).map(CachingRepositoryFactory::toKey);
+                    if (!hash.isPresent()) {
+                        unknown.add(transaction);
+                        continue;
+                    }
+                    transactions.put(hash.get(), transaction);
+                    if (factory.isFinal(transaction)) {
+                        factory.getTransactionCache().put(hash.get(), transaction);
+                    }
+                }
+                return collect(transactionHashes, transactions, unknown);
+            });
+        });
+    }
+
+    @Override
+    public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+        return delegate.getTransactionStatus(transactionHash);
+    }
+
+    @Override
+    public Observable<List<TransactionStatus>> getTransactionStatuses(
+        List<String> transactionHashes) {
+        return delegate.getTransactionStatuses(transactionHashes);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+        return delegate.announce(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBonded(
+        SignedTransaction signedTransaction) {
+        return delegate.announceAggregateBonded(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+    }
+
+    private static List<Transaction> collect(List<String> transactionHashes,
+        Map<String, Transaction> transactions, List<Transaction> unknown) {
+        List<Transaction> list = new ArrayList<>();
+        for (String transactionHash : transactionHashes) {
+            Transaction transaction = transactions
+                .remove(CachingRepositoryFactory.toKey(transactionHash));
+            if (transaction != null) {
+                list.add(transaction);
+            }
+        }
+        list.addAll(unknown);
+        return list;
+    }
+}
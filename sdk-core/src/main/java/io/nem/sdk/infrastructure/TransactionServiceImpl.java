@@ -59,7 +59,10 @@ import io.nem.sdk.model.transaction.TransferTransaction;
 import io.nem.sdk.model.transaction.TransferTransactionFactory;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
+import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -128,76 +131,79 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public Observable<List<Transaction>> resolveAliases(List<String> transactionHashes) {
+        // The transactions of the same block share its statement, it's loaded once per call.
+        Map<BigInteger, Observable<Statement>> statements = new ConcurrentHashMap<>();
         return transactionRepository.getTransactions(transactionHashes).flatMapIterable(a -> a)
             .flatMap(transaction -> resolveTransaction(transaction,
-                createExpectedReceiptSource(transaction))).toList().toObservable();
+                createExpectedReceiptSource(transaction), statements)).toList().toObservable();
     }
 
 
     private Observable<Transaction> resolveTransaction(Transaction transaction,
-        ReceiptSource expectedSource) {
-        return basicTransactionFactory(transaction, expectedSource).map(
+        ReceiptSource expectedSource, Map<BigInteger, Observable<Statement>> statements) {
+        return basicTransactionFactory(transaction, expectedSource, statements).map(
             transactionTransactionFactory -> completeAndBuild(transactionTransactionFactory,
                 transaction));
     }
 
     private Observable<TransactionFactory<? extends Transaction>> basicTransactionFactory(
-        Transaction transaction, ReceiptSource expectedReceiptSource) {
+        Transaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
 
         if (transaction.getType() == TransactionType.TRANSFER) {
             return resolveTransactionFactory((TransferTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.LOCK) {
             return resolveTransactionFactory((HashLockTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.SECRET_LOCK) {
             return resolveTransactionFactory((SecretLockTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.SECRET_PROOF) {
             return resolveTransactionFactory((SecretProofTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_GLOBAL_RESTRICTION) {
             return resolveTransactionFactory((MosaicGlobalRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_ADDRESS_RESTRICTION) {
             return resolveTransactionFactory((MosaicAddressRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.ACCOUNT_MOSAIC_RESTRICTION) {
             return resolveTransactionFactory((AccountMosaicRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_METADATA_TRANSACTION) {
             return resolveTransactionFactory((MosaicMetadataTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.ACCOUNT_ADDRESS_RESTRICTION) {
             return resolveTransactionFactory((AccountAddressRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_SUPPLY_CHANGE) {
             return resolveTransactionFactory((MosaicSupplyChangeTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         if (transaction.getType() == TransactionType.AGGREGATE_COMPLETE
             || transaction.getType() == TransactionType.AGGREGATE_BONDED) {
             return resolveTransactionFactory((AggregateTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statements);
         }
 
         return Observable.just(new TransactionFactory<Transaction>(transaction.getType(),
@@ -210,8 +216,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        HashLockTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        HashLockTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
 
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
             statementObservable, expectedReceiptSource
@@ -223,8 +230,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        SecretLockTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        SecretLockTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<Address> resolvedAddress = getResolvedAddress(transaction,
             transaction.getRecipient(), statementObservable, expectedReceiptSource);
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
@@ -241,8 +249,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        SecretProofTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        SecretProofTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<Address> resolvedAddress = getResolvedAddress(transaction,
             transaction.getRecipient(), statementObservable, expectedReceiptSource);
         return resolvedAddress.map(address -> SecretProofTransactionFactory
@@ -251,8 +260,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        TransferTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        TransferTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<List<Mosaic>> resolvedMosaics = Observable
             .fromIterable(transaction.getMosaics()).flatMap(
                 m -> getResolvedMosaic(transaction, m, statementObservable, expectedReceiptSource))
@@ -269,8 +279,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicGlobalRestrictionTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        MosaicGlobalRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(),
             statementObservable, expectedReceiptSource);
@@ -296,8 +307,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicAddressRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource, Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(),
             statementObservable, expectedReceiptSource);
@@ -318,8 +329,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountMosaicRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource, Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<List<UnresolvedMosaicId>> unresolvedAdditions = getResolvedMosaicIds(transaction,
             transaction.getRestrictionAdditions(), statementObservable, expectedReceiptSource);
 
@@ -335,8 +346,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountAddressRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource, Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
         Observable<List<UnresolvedAddress>> unresolvedAdditions = getResolvedAddresses(transaction,
             transaction.getRestrictionAdditions(), statementObservable, expectedReceiptSource);
 
@@ -352,8 +363,9 @@ public class TransactionServiceImpl implements TransactionService {
 
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicMetadataTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        MosaicMetadataTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
 
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getTargetMosaicId(), statementObservable, expectedReceiptSource);
@@ -365,8 +377,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicSupplyChangeTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        MosaicSupplyChangeTransaction transaction, ReceiptSource expectedReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
+        Observable<Statement> statementObservable = getStatement(transaction, statements);
 
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(), statementObservable, expectedReceiptSource);
@@ -378,11 +391,13 @@ public class TransactionServiceImpl implements TransactionService {
 
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        AggregateTransaction transaction, ReceiptSource aggregateTransactionReceiptSource) {
+        AggregateTransaction transaction, ReceiptSource aggregateTransactionReceiptSource,
+        Map<BigInteger, Observable<Statement>> statements) {
         Observable<List<Transaction>> innerTransactions = Observable
             .just(transaction.getInnerTransactions()).flatMapIterable(m -> m)
             .flatMap(innerTransaction -> resolveTransaction(innerTransaction,
-                createExpectedReceiptSource(aggregateTransactionReceiptSource, innerTransaction)))
+                createExpectedReceiptSource(aggregateTransactionReceiptSource, innerTransaction),
+                statements))
             .toList().toObservable();
 
         return innerTransactions.map(txs -> AggregateTransactionFactory
@@ -401,9 +416,10 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionFactory.build();
     }
 
-    private Observable<Statement> getStatement(Transaction transaction) {
-        return receiptRepository.getBlockReceipts(getTransactionInfo(transaction)
-            .getHeight()).cache();
+    private Observable<Statement> getStatement(Transaction transaction,
+        Map<BigInteger, Observable<Statement>> statements) {
+        return statements.computeIfAbsent(getTransactionInfo(transaction).getHeight(),
+            height -> receiptRepository.getBlockReceipts(height).cache());
     }
 
 
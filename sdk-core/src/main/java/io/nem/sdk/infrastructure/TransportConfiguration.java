@@ -0,0 +1,220 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines the http transport of the client {@link io.nem.sdk.api.RepositoryFactory}
+ * implementations: connection pool, concurrency, protocol, compression and timeouts. Each client
+ * maps the settings to its own http client options, the settings a client doesn't support are
+ * documented by the client's factory.
+ */
+public class TransportConfiguration {
+
+    /**
+     * Max number of connections kept open to the rest gateway. (optional, default to 20)
+     */
+    private int maxConnections = 20;
+
+    /**
+     * How long an idle connection is kept open for later requests. (optional, default to 5
+     * minutes)
+     */
+    private Duration keepAlive = Duration.ofMinutes(5);
+
+    /**
+     * Max number of requests sent concurrently to the rest gateway, the others wait in the
+     * client. (optional, default to 64)
+     */
+    private int maxRequestsPerHost = 64;
+
+    /**
+     * If HTTP/2 is negotiated with the gateway, many requests then share a connection. (optional,
+     * default to true)
+     */
+    private boolean http2 = true;
+
+    /**
+     * If HTTP/1.1 requests are pipelined on the pooled connections. (optional, default to false)
+     */
+    private boolean pipelining = false;
+
+    /**
+     * If gzip compressed responses are requested. (optional, default to true)
+     */
+    private boolean compression = true;
+
+    /**
+     * Max time to open a connection. (optional, default to 10 seconds)
+     */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Max time without receiving data from an open connection. (optional, default to 10 seconds)
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Max time without sending data on an open connection. (optional, default to 10 seconds)
+     */
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Sets the max connections returning this configuration to nest configuration.
+     *
+     * @param maxConnections max number of connections kept open to the rest gateway.
+     * @return this configuration
+     */
+    public TransportConfiguration maxConnections(int maxConnections) {
+        Validate.isTrue(maxConnections > 0, "maxConnections must be positive");
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Sets the keep alive returning this configuration to nest configuration.
+     *
+     * @param keepAlive how long an idle connection is kept open, zero to close it right away.
+     * @return this configuration
+     */
+    public TransportConfiguration keepAlive(Duration keepAlive) {
+        this.keepAlive = validateNotNegative(keepAlive, "keepAlive");
+        return this;
+    }
+
+    /**
+     * Sets the max requests per host returning this configuration to nest configuration.
+     *
+     * @param maxRequestsPerHost max number of requests sent concurrently to the rest gateway.
+     * @return this configuration
+     */
+    public TransportConfiguration maxRequestsPerHost(int maxRequestsPerHost) {
+        Validate.isTrue(maxRequestsPerHost > 0, "maxRequestsPerHost must be positive");
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Sets the HTTP/2 flag returning this configuration to nest configuration.
+     *
+     * @param http2 if HTTP/2 is negotiated with the gateway.
+     * @return this configuration
+     */
+    public TransportConfiguration http2(boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    /**
+     * Sets the pipelining flag returning this configuration to nest configuration.
+     *
+     * @param pipelining if HTTP/1.1 requests are pipelined.
+     * @return this configuration
+     */
+    public TransportConfiguration pipelining(boolean pipelining) {
+        this.pipelining = pipelining;
+        return this;
+    }
+
+    /**
+     * Sets the compression flag returning this configuration to nest configuration.
+     *
+     * @param compression if gzip compressed responses are requested.
+     * @return this configuration
+     */
+    public TransportConfiguration compression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * Sets the connect timeout returning this configuration to nest configuration.
+     *
+     * @param connectTimeout max time to open a connection, zero for no timeout.
+     * @return this configuration
+     */
+    public TransportConfiguration connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = validateNotNegative(connectTimeout, "connectTimeout");
+        return this;
+    }
+
+    /**
+     * Sets the read timeout returning this configuration to nest configuration.
+     *
+     * @param readTimeout max time without receiving data, zero for no timeout.
+     * @return this configuration
+     */
+    public TransportConfiguration readTimeout(Duration readTimeout) {
+        this.readTimeout = validateNotNegative(readTimeout, "readTimeout");
+        return this;
+    }
+
+    /**
+     * Sets the write timeout returning this configuration to nest configuration.
+     *
+     * @param writeTimeout max time without sending data, zero for no timeout.
+     * @return this configuration
+     */
+    public TransportConfiguration writeTimeout(Duration writeTimeout) {
+        this.writeTimeout = validateNotNegative(writeTimeout, "writeTimeout");
+        return this;
+    }
+
+    private static Duration validateNotNegative(Duration duration, String name) {
+        Validate.isTrue(duration != null && !duration.isNegative(), name + " must not be negative");
+        return duration;
+    }
+}
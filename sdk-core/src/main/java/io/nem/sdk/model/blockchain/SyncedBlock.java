@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.model.blockchain;
+
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import java.util.List;
+
+/**
+ * A block with its transactions and receipts, as returned by a chain sync.
+ */
+public class SyncedBlock {
+
+    private final BlockInfo blockInfo;
+
+    private final List<Transaction> transactions;
+
+    private final Statement statement;
+
+    /**
+     * Constructor
+     *
+     * @param blockInfo the block header.
+     * @param transactions the transactions of the block.
+     * @param statement the receipts of the block.
+     */
+    public SyncedBlock(BlockInfo blockInfo, List<Transaction> transactions, Statement statement) {
+        this.blockInfo = blockInfo;
+        this.transactions = transactions;
+        this.statement = statement;
+    }
+
+    /**
+     * Get the block header
+     *
+     * @return {@link BlockInfo}
+     */
+    public BlockInfo getBlockInfo() {
+        return blockInfo;
+    }
+
+    /**
+     * Get the transactions of the block
+     *
+     * @return {@link List} of {@link Transaction}
+     */
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Get the receipts of the block
+     *
+     * @return {@link Statement}
+     */
+    public Statement getStatement() {
+        return statement;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.metrics;
+
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.SignSchema;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.message.PlainMessage;
+import io.nem.sdk.model.transaction.TransferTransaction;
+import io.nem.sdk.model.transaction.TransferTransactionFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SdkMetrics}
+ */
+public class SdkMetricsTest {
+
+    private final List<String> records = new ArrayList<>();
+
+    private final MetricsRecorder recorder = new MetricsRecorder() {
+        @Override
+        public void recordTime(SdkMetric metric, String tag, long nanos) {
+            Assertions.assertTrue(nanos >= 0);
+            records.add(metric.getMetricName() + " " + tag);
+        }
+
+        @Override
+        public void count(SdkMetric metric, String tag, long amount) {
+            records.add(metric.getMetricName() + " " + tag + " " + amount);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        SdkMetrics.setRecorder(null);
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        long start = SdkMetrics.start();
+        SdkMetrics.setRecorder(recorder);
+        SdkMetrics.recordTime(SdkMetric.SIGN, "SHA3", start);
+        SdkMetrics.setRecorder(null);
+        SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, "GET /chain/height", 10);
+
+        Assertions.assertEquals(0, start);
+        Assertions.assertFalse(SdkMetrics.isEnabled());
+        Assertions.assertEquals(Collections.emptyList(), records);
+    }
+
+    @Test
+    void shouldRecordWhenEnabled() {
+        SdkMetrics.setRecorder(recorder);
+        SdkMetrics.recordTime(SdkMetric.SIGN, "SHA3", SdkMetrics.start());
+        SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, "GET /chain/height", 10);
+
+        Assertions.assertSame(recorder, SdkMetrics.getRecorder());
+        Assertions.assertEquals(Arrays.asList("nem.crypto.sign SHA3",
+            "nem.repository.response.bytes GET /chain/height 10"), records);
+    }
+
+    @Test
+    void shouldReplaceTheIdsOfTheEndpoints() {
+        Assertions.assertEquals("GET /chain/height", SdkMetrics.endpoint("GET", "/chain/height"));
+        Assertions.assertEquals("GET /block/{id}/transactions",
+            SdkMetrics.endpoint("GET", "/block/12/transactions"));
+        Assertions.assertEquals("GET /account/{id}/transactions/outgoing",
+            SdkMetrics.endpoint("GET",
+                "/account/SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM/transactions/outgoing"));
+        Assertions.assertEquals("GET /transaction/{id}/status", SdkMetrics.endpoint("GET",
+            "/transaction/0A1B2C3D4E5F60718293A4B5C6D7E8F90A1B2C3D4E5F60718293A4B5C6D7E8/status"));
+        Assertions.assertEquals("GET /mosaic/{id}", SdkMetrics.endpoint("GET",
+            "/mosaic/85BBEA6CC462B244"));
+        Assertions.assertEquals("POST /account/properties/addresses",
+            SdkMetrics.endpoint("POST", "/account/properties/addresses"));
+        Assertions.assertEquals("GET /network/v2", SdkMetrics.endpoint("GET", "/network/v2"));
+        Assertions.assertEquals("GET /", SdkMetrics.endpoint("GET", "/"));
+    }
+
+    @Test
+    void shouldRecordTheSignAndVerifyTimes() {
+        KeyPair keyPair = KeyPair.random(CryptoEngines.ed25519Engine(), SignSchema.SHA3);
+        Ed25519DsaSigner signer = new Ed25519DsaSigner(keyPair, SignSchema.SHA3);
+        SdkMetrics.setRecorder(recorder);
+
+        Signature signature = signer.sign(new byte[]{1, 2, 3});
+        Assertions.assertTrue(signer.verify(new byte[]{1, 2, 3}, signature));
+
+        Assertions.assertEquals(Arrays.asList("nem.crypto.sign SHA3", "nem.crypto.verify SHA3"),
+            records);
+    }
+
+    @Test
+    void shouldRecordTheSerializationTimes() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        TransferTransaction transaction = TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+            new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+            Collections.emptyList(), new PlainMessage("Some Message")).build();
+        SdkMetrics.setRecorder(recorder);
+
+        binarySerialization.deserialize(binarySerialization.serialize(transaction));
+
+        Assertions.assertEquals(Arrays.asList("nem.transaction.serialization TRANSFER",
+            "nem.transaction.deserialization TRANSFER"), records);
+    }
+}
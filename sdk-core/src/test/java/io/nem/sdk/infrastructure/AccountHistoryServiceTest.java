@@ -0,0 +1,274 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.AccountHistoryCheckpoints;
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link AccountHistoryServiceImpl}
+ */
+public class AccountHistoryServiceTest {
+
+    private final PublicAccount account1 = createAccount(1);
+
+    private final PublicAccount account2 = createAccount(2);
+
+    private final PublicAccount account3 = createAccount(3);
+
+    private final Map<PublicAccount, List<Transaction>> histories = new HashMap<>();
+
+    private final List<String> requests = new ArrayList<>();
+
+    private RepositoryFactory factory;
+
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setup() {
+        factory = mock(RepositoryFactory.class);
+        accountRepository = mock(AccountRepository.class);
+        when(factory.createAccountRepository()).thenReturn(accountRepository);
+        when(accountRepository
+            .transactions(any(PublicAccount.class), any(TransactionSearchCriteria.class)))
+            .thenAnswer(invocation -> {
+                PublicAccount account = (PublicAccount) invocation.getArguments()[0];
+                TransactionSearchCriteria criteria = (TransactionSearchCriteria) invocation
+                    .getArguments()[1];
+                if (account == null) {
+                    return Observable.empty();
+                }
+                requests.add(account.getPublicKey().toHex().substring(63) + ":"
+                    + criteria.getId());
+                return Observable.just(page(histories.get(account), criteria));
+            });
+        Transaction shared = createTransaction(5, 1);
+        histories.put(account1, Arrays
+            .asList(createTransaction(9, 0), shared, createTransaction(3, 0),
+                createTransaction(1, 2)));
+        histories.put(account2, Arrays
+            .asList(createTransaction(9, 1), createTransaction(7, 0), shared,
+                createTransaction(5, 0), createTransaction(2, 0)));
+        histories.put(account3, Collections.emptyList());
+    }
+
+    @Test
+    void shouldMergeTheHistoriesByHeightAndIndex() {
+        AccountHistoryCheckpoints checkpoints = new AccountHistoryCheckpoints();
+
+        List<Transaction> transactions = new AccountHistoryServiceImpl(factory)
+            .transactions(Arrays.asList(account1, account2, account3),
+                new TransactionSearchCriteria().pageSize(2), checkpoints).toList().blockingGet();
+
+        Assertions.assertEquals(
+            Arrays.asList("9-1", "9-0", "7-0", "5-1", "5-0", "3-0", "2-0", "1-2"),
+            positions(transactions));
+        Assertions.assertEquals(id(1, 2), checkpoints.getId(account1.getAddress()).get());
+        Assertions.assertEquals(id(2, 0), checkpoints.getId(account2.getAddress()).get());
+        Assertions.assertFalse(checkpoints.getId(account3.getAddress()).isPresent());
+    }
+
+    @Test
+    void shouldMergeInAscendingOrder() {
+        histories.replaceAll((account, history) -> reverse(history));
+
+        List<Transaction> transactions = new AccountHistoryServiceImpl(factory)
+            .transactions(Arrays.asList(account1, account2),
+                new TransactionSearchCriteria().order("id"), new AccountHistoryCheckpoints())
+            .toList().blockingGet();
+
+        Assertions.assertEquals(
+            Arrays.asList("1-2", "2-0", "3-0", "5-0", "5-1", "7-0", "9-0", "9-1"),
+            positions(transactions));
+    }
+
+    @Test
+    void shouldResumeFromTheCheckpoints() {
+        Map<Address, String> ids = new HashMap<>();
+        ids.put(account1.getAddress(), id(5, 1));
+        AccountHistoryCheckpoints checkpoints = new AccountHistoryCheckpoints(ids);
+
+        List<Transaction> transactions = new AccountHistoryServiceImpl(factory)
+            .transactions(Arrays.asList(account1, account2),
+                new TransactionSearchCriteria().pageSize(10), checkpoints).toList().blockingGet();
+
+        Assertions.assertEquals(Arrays.asList("9-1", "7-0", "5-1", "5-0", "3-0", "2-0", "1-2"),
+            positions(transactions));
+        Assertions.assertTrue(requests.contains("1:" + id(5, 1)));
+        Assertions.assertTrue(requests.contains("2:null"));
+    }
+
+    @Test
+    void shouldLimitTheRequestsInFlight() {
+        List<PublishSubject<List<Transaction>>> calls = new ArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(accountRepository
+            .transactions(any(PublicAccount.class), any(TransactionSearchCriteria.class)))
+            .thenAnswer(invocation -> {
+                PublishSubject<List<Transaction>> call = PublishSubject.create();
+                calls.add(call);
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return call.doOnTerminate(inFlight::decrementAndGet);
+            });
+        List<PublicAccount> accounts = Stream.iterate(1, i -> i + 1).limit(5)
+            .map(AccountHistoryServiceTest::createAccount).collect(Collectors.toList());
+
+        TestSubscriber<Transaction> subscriber = new AccountHistoryServiceImpl(factory,
+            new AccountHistoryConfiguration().maxConcurrentRequests(2))
+            .transactions(accounts, new TransactionSearchCriteria(),
+                new AccountHistoryCheckpoints()).test();
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(i + 2 > 5 ? 5 : i + 2, calls.size());
+            calls.get(i).onNext(Collections.singletonList(createTransaction(i, 0)));
+            calls.get(i).onComplete();
+        }
+        subscriber.assertValueCount(5).assertComplete();
+        Assertions.assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void shouldLimitTheRequestsPerSecond() {
+        TestScheduler scheduler = new TestScheduler();
+
+        TestSubscriber<Transaction> subscriber = new AccountHistoryServiceImpl(factory,
+            new AccountHistoryConfiguration().maxRequestsPerSecond(2).scheduler(scheduler))
+            .transactions(Arrays.asList(account1, account2, account3),
+                new TransactionSearchCriteria().pageSize(10), new AccountHistoryCheckpoints())
+            .test();
+
+        Assertions.assertEquals(1, requests.size());
+        scheduler.advanceTimeBy(499, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(1, requests.size());
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(2, requests.size());
+        scheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        subscriber.assertValueCount(8).assertComplete();
+    }
+
+    @Test
+    void shouldMergeThousandsOfAccounts() {
+        List<PublicAccount> accounts = Stream.iterate(1, i -> i + 1).limit(2000)
+            .map(AccountHistoryServiceTest::createAccount).collect(Collectors.toList());
+        for (int i = 0; i < accounts.size(); i++) {
+            histories.put(accounts.get(i),
+                Arrays.asList(createTransaction(4000 - i, 0), createTransaction(2000 - i, 0)));
+        }
+
+        List<Transaction> transactions = new AccountHistoryServiceImpl(factory,
+            new AccountHistoryConfiguration().maxConcurrentRequests(16))
+            .transactions(accounts, new TransactionSearchCriteria().pageSize(1),
+                new AccountHistoryCheckpoints()).toList().blockingGet();
+
+        Assertions.assertEquals(4000, transactions.size());
+        List<String> positions = positions(transactions);
+        Assertions.assertEquals("4000-0", positions.get(0));
+        Assertions.assertEquals("1-0", positions.get(3999));
+    }
+
+    @Test
+    void shouldFailWhenAnAccountFails() {
+        when(accountRepository.transactions(any(PublicAccount.class),
+            any(TransactionSearchCriteria.class)))
+            .thenReturn(Observable.error(new IllegalStateException("Node is down")));
+
+        new AccountHistoryServiceImpl(factory)
+            .transactions(Arrays.asList(account1, account2), new TransactionSearchCriteria(),
+                new AccountHistoryCheckpoints()).test()
+            .assertError(IllegalStateException.class);
+    }
+
+    private static List<Transaction> page(List<Transaction> history,
+        TransactionSearchCriteria criteria) {
+        int start = 0;
+        if (criteria.getId() != null) {
+            while (start < history.size() && !getId(history.get(start)).equals(criteria.getId())) {
+                start++;
+            }
+            start++;
+        }
+        int pageSize = criteria.getPageSize() == null ? 10 : criteria.getPageSize();
+        return new ArrayList<>(
+            history.subList(Math.min(start, history.size()),
+                Math.min(start + pageSize, history.size())));
+    }
+
+    private static List<Transaction> reverse(List<Transaction> history) {
+        List<Transaction> reversed = new ArrayList<>(history);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static List<String> positions(List<Transaction> transactions) {
+        return transactions.stream().map(t -> t.getTransactionInfo().get())
+            .map(info -> info.getHeight() + "-" + info.getIndex().get())
+            .collect(Collectors.toList());
+    }
+
+    private static String getId(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getId).get();
+    }
+
+    private static String id(int height, int index) {
+        return String.format("%04d%04d", height, index);
+    }
+
+    private static Transaction createTransaction(int height, int index) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getTransactionInfo()).thenReturn(Optional.of(TransactionInfo
+            .create(BigInteger.valueOf(height), index, id(height, index),
+                "HASH" + height + "-" + index, "")));
+        return transaction;
+    }
+
+    private static PublicAccount createAccount(int i) {
+        return PublicAccount
+            .createFromPublicKey(String.format("%064X", i), NetworkType.MIJIN_TEST);
+    }
+}
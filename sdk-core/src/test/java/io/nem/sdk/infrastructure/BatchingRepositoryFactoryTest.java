@@ -0,0 +1,249 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.AccountType;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Deadline;
+import io.nem.sdk.model.transaction.TransactionState;
+import io.nem.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link BatchingRepositoryFactory}
+ */
+public class BatchingRepositoryFactoryTest {
+
+    private final List<List<Address>> requests = new ArrayList<>();
+
+    private final Address missing = createAddresses(1001).get(1000);
+
+    private RepositoryFactory delegate;
+
+    private AccountRepository accountRepository;
+
+    private TransactionRepository transactionRepository;
+
+    private TestScheduler scheduler;
+
+    private BatchingRepositoryFactory factory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        delegate = mock(RepositoryFactory.class);
+        accountRepository = mock(AccountRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        when(delegate.createTransactionRepository()).thenReturn(transactionRepository);
+        when(accountRepository.getAccountsInfo(any(List.class))).thenAnswer(invocation -> {
+            List<Address> addresses = (List<Address>) invocation.getArguments()[0];
+            requests.add(addresses);
+            return Observable.just(addresses.stream().filter(a -> !a.equals(missing))
+                .map(BatchingRepositoryFactoryTest::createAccountInfo)
+                .collect(Collectors.toList()));
+        });
+        scheduler = new TestScheduler();
+        factory = new BatchingRepositoryFactory(delegate,
+            new BatchingConfiguration().window(Duration.ofMillis(5)).maxBatchSize(100)
+                .scheduler(scheduler));
+    }
+
+    @Test
+    void shouldBatchTheLookupsOfTheWindow() {
+        List<Address> addresses = createAddresses(1000);
+
+        TestObserver<List<AccountInfo>> observer = Observable.fromIterable(addresses)
+            .concatMapEager(address -> factory.createAccountRepository().getAccountInfo(address))
+            .toList().test();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observer.assertValueCount(1);
+        Assertions.assertEquals(addresses, observer.values().get(0).stream()
+            .map(AccountInfo::getAddress).collect(Collectors.toList()));
+        Assertions.assertEquals(10, requests.size());
+        Assertions.assertEquals(1000, factory.getBatchingMetrics().getLookups());
+        Assertions.assertEquals(10, factory.getBatchingMetrics().getBatches());
+        Assertions.assertEquals(100, factory.getBatchingMetrics().getAverageBatchSize(), 0.01);
+    }
+
+    @Test
+    void shouldWaitForTheWindowBeforeSendingTheBatch() {
+        List<Address> addresses = createAddresses(3);
+        AccountRepository repository = factory.createAccountRepository();
+
+        TestObserver<AccountInfo> first = repository.getAccountInfo(addresses.get(0)).test();
+        TestObserver<AccountInfo> second = repository.getAccountInfo(addresses.get(1)).test();
+        TestObserver<AccountInfo> duplicate = repository.getAccountInfo(addresses.get(1)).test();
+        scheduler.advanceTimeBy(4, TimeUnit.MILLISECONDS);
+        first.assertNoValues();
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        TestObserver<AccountInfo> third = repository.getAccountInfo(addresses.get(2)).test();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        first.assertValueCount(1).assertComplete();
+        second.assertValueCount(1).assertComplete();
+        duplicate.assertValue(second.values().get(0));
+        third.assertValueCount(1).assertComplete();
+        Assertions.assertEquals(
+            Arrays.asList(addresses.subList(0, 2), addresses.subList(2, 3)), requests);
+    }
+
+    @Test
+    void shouldFailTheLookupsMissingFromTheResponse() {
+        TestObserver<AccountInfo> observer = factory.createAccountRepository()
+            .getAccountInfo(missing).test();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observer.assertError(e -> e instanceof RepositoryCallException
+            && ((RepositoryCallException) e).getStatusCode() == 404);
+    }
+
+    @Test
+    void shouldFailTheBatchWhenTheBulkRequestFails() {
+        when(transactionRepository.getTransactionStatuses(any(List.class)))
+            .thenReturn(Observable.error(new RepositoryCallException("Timeout", 0, null)));
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        TestObserver<TransactionStatus> first = repository.getTransactionStatus("aaaa").test();
+        TestObserver<TransactionStatus> second = repository.getTransactionStatus("BBBB").test();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        first.assertError(RepositoryCallException.class);
+        second.assertError(RepositoryCallException.class);
+        verify(transactionRepository).getTransactionStatuses(Arrays.asList("AAAA", "BBBB"));
+        verify(transactionRepository, never()).getTransactionStatus(any(String.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSplitTheBatchWhenTheBulkRequestIsRejected() {
+        when(transactionRepository.getTransactionStatuses(any(List.class))).thenAnswer(
+            invocation -> {
+                List<String> hashes = (List<String>) invocation.getArguments()[0];
+                if (hashes.contains("INVALID")) {
+                    return Observable
+                        .error(new RepositoryCallException("Bad Request", 409, null));
+                }
+                return Observable.just(hashes.stream()
+                    .map(BatchingRepositoryFactoryTest::createTransactionStatus)
+                    .collect(Collectors.toList()));
+            });
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        List<TestObserver<TransactionStatus>> observers = Stream
+            .of("AAAA", "BBBB", "invalid", "CCCC", "DDDD")
+            .map(hash -> repository.getTransactionStatus(hash).test())
+            .collect(Collectors.toList());
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observers.get(0).assertValueCount(1).assertComplete();
+        observers.get(1).assertValueCount(1).assertComplete();
+        observers.get(2).assertError(e -> e instanceof RepositoryCallException
+            && ((RepositoryCallException) e).getStatusCode() == 409);
+        observers.get(3).assertValueCount(1).assertComplete();
+        observers.get(4).assertValueCount(1).assertComplete();
+        verify(transactionRepository)
+            .getTransactionStatuses(Arrays.asList("AAAA", "BBBB", "INVALID", "CCCC", "DDDD"));
+        verify(transactionRepository).getTransactionStatuses(Arrays.asList("AAAA", "BBBB"));
+        verify(transactionRepository)
+            .getTransactionStatuses(Arrays.asList("INVALID", "CCCC", "DDDD"));
+        verify(transactionRepository).getTransactionStatuses(Collections.singletonList("INVALID"));
+        verify(transactionRepository).getTransactionStatuses(Arrays.asList("CCCC", "DDDD"));
+        Assertions.assertEquals(5, factory.getBatchingMetrics().getBatches());
+    }
+
+    @Test
+    void shouldNotSplitTheBatchWhenTheBulkRequestIsThrottled() {
+        when(transactionRepository.getTransactionStatuses(any(List.class))).thenReturn(
+            Observable.error(new RepositoryCallException("Too Many Requests", 429, null)));
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        List<TestObserver<TransactionStatus>> observers = Stream.of("AAAA", "BBBB", "CCCC")
+            .map(hash -> repository.getTransactionStatus(hash).test())
+            .collect(Collectors.toList());
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observers.forEach(observer -> observer.assertError(e -> e instanceof RepositoryCallException
+            && ((RepositoryCallException) e).getStatusCode() == 429));
+        verify(transactionRepository, times(1)).getTransactionStatuses(any(List.class));
+        Assertions.assertEquals(1, factory.getBatchingMetrics().getBatches());
+    }
+
+    @Test
+    void shouldNotBatchOtherCalls() {
+        PublicAccount account = PublicAccount.createFromPublicKey(
+            "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+            NetworkType.MIJIN_TEST);
+        when(accountRepository.transactions(account))
+            .thenReturn(Observable.just(Collections.emptyList()));
+
+        factory.createAccountRepository().transactions(account).test()
+            .assertValue(Collections.emptyList());
+
+        verify(accountRepository, times(1)).transactions(account);
+        Assertions.assertEquals(0, factory.getBatchingMetrics().getLookups());
+    }
+
+    private static List<Address> createAddresses(int count) {
+        List<Address> addresses = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            addresses.add(PublicAccount
+                .createFromPublicKey(String.format("%064X", i), NetworkType.MIJIN_TEST)
+                .getAddress());
+        }
+        return addresses;
+    }
+
+    private static AccountInfo createAccountInfo(Address address) {
+        return new AccountInfo(address, BigInteger.ONE, "", BigInteger.ONE, BigInteger.ZERO,
+            BigInteger.ZERO, Collections.emptyList(), AccountType.UNLINKED);
+    }
+
+    private static TransactionStatus createTransactionStatus(String hash) {
+        return new TransactionStatus(TransactionState.CONFIRMED, "Success", hash,
+            new Deadline(BigInteger.ONE), BigInteger.ONE);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.NetworkRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.MerkelProofInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CachingRepositoryFactory}
+ */
+public class CachingRepositoryFactoryTest {
+
+    private RepositoryFactory delegate;
+
+    private BlockRepository blockRepository;
+
+    private ReceiptRepository receiptRepository;
+
+    private TransactionRepository transactionRepository;
+
+    private ChainRepository chainRepository;
+
+    private CachingRepositoryFactory factory;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(RepositoryFactory.class);
+        blockRepository = mock(BlockRepository.class);
+        receiptRepository = mock(ReceiptRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        chainRepository = mock(ChainRepository.class);
+        when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        when(delegate.createReceiptRepository()).thenReturn(receiptRepository);
+        when(delegate.createTransactionRepository()).thenReturn(transactionRepository);
+        when(delegate.createChainRepository()).thenReturn(chainRepository);
+        when(chainRepository.getBlockchainHeight())
+            .thenReturn(Observable.just(BigInteger.valueOf(1000)));
+        factory = new CachingRepositoryFactory(delegate,
+            new CachingConfiguration().maxRollbackBlocks(100).blockCacheSize(2));
+        factory.createChainRepository().getBlockchainHeight().blockingFirst();
+    }
+
+    @Test
+    void shouldCacheFinalBlocks() {
+        BlockInfo block = mockBlock(10);
+
+        BlockRepository repository = factory.createBlockRepository();
+        Assertions.assertSame(block, repository.getBlockByHeight(BigInteger.TEN).blockingFirst());
+        Assertions.assertSame(block, factory.createBlockRepository()
+            .getBlockByHeight(BigInteger.TEN).blockingFirst());
+
+        verify(blockRepository).getBlockByHeight(BigInteger.TEN);
+        CacheStats stats = factory.getCacheStats().get("blocks");
+        Assertions.assertEquals(1, stats.getHits());
+        Assertions.assertEquals(1, stats.getMisses());
+        Assertions.assertEquals(1, stats.getSize());
+        Assertions.assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void shouldNotCacheBlocksThatMayBeRolledBack() {
+        mockBlock(950);
+
+        BlockRepository repository = factory.createBlockRepository();
+        repository.getBlockByHeight(BigInteger.valueOf(950)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(950)).blockingFirst();
+
+        verify(blockRepository, times(2)).getBlockByHeight(BigInteger.valueOf(950));
+        Assertions.assertEquals(0, factory.getCacheStats().get("blocks").getSize());
+    }
+
+    @Test
+    void shouldRefreshTheChainHeightWhenTheBlockIsNotFinal() {
+        factory = new CachingRepositoryFactory(delegate,
+            new CachingConfiguration().maxRollbackBlocks(100));
+        mockBlock(10);
+
+        BlockRepository repository = factory.createBlockRepository();
+        repository.getBlockByHeight(BigInteger.TEN).blockingFirst();
+        repository.getBlockByHeight(BigInteger.TEN).blockingFirst();
+        repository.getBlockByHeight(BigInteger.TEN).blockingFirst();
+
+        // The first block is loaded before the chain height is known.
+        verify(blockRepository, times(2)).getBlockByHeight(BigInteger.TEN);
+        Assertions.assertEquals(1, factory.getCacheStats().get("blocks").getHits());
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedBlock() {
+        mockBlock(1);
+        mockBlock(2);
+        mockBlock(3);
+
+        BlockRepository repository = factory.createBlockRepository();
+        repository.getBlockByHeight(BigInteger.valueOf(1)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(2)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(1)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(3)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(1)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(2)).blockingFirst();
+
+        verify(blockRepository).getBlockByHeight(BigInteger.valueOf(1));
+        verify(blockRepository, times(2)).getBlockByHeight(BigInteger.valueOf(2));
+        Assertions.assertEquals(2, factory.getCacheStats().get("blocks").getEvictions());
+    }
+
+    @Test
+    void shouldNotCacheErrors() {
+        when(receiptRepository.getBlockReceipts(BigInteger.TEN))
+            .thenReturn(Observable.error(new RepositoryCallException("Timeout", 0, null)));
+
+        ReceiptRepository repository = factory.createReceiptRepository();
+        Assertions.assertThrows(RepositoryCallException.class,
+            () -> repository.getBlockReceipts(BigInteger.TEN).blockingFirst());
+        Statement statement = new Statement(Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyList());
+        when(receiptRepository.getBlockReceipts(BigInteger.TEN))
+            .thenReturn(Observable.just(statement));
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertSame(statement,
+                repository.getBlockReceipts(BigInteger.TEN).blockingFirst());
+        }
+        verify(receiptRepository, times(2)).getBlockReceipts(BigInteger.TEN);
+    }
+
+    @Test
+    void shouldCacheMerkleProofsByHeightAndHash() {
+        MerkelProofInfo proof = new MerkelProofInfo(Collections.emptyList());
+        when(blockRepository.getMerkleTransaction(BigInteger.TEN, "aaaa"))
+            .thenReturn(Observable.just(proof));
+
+        BlockRepository repository = factory.createBlockRepository();
+        repository.getMerkleTransaction(BigInteger.TEN, "aaaa").blockingFirst();
+        Assertions.assertSame(proof,
+            repository.getMerkleTransaction(BigInteger.TEN, "AAAA").blockingFirst());
+
+        verify(blockRepository).getMerkleTransaction(BigInteger.TEN, "aaaa");
+    }
+
+    @Test
+    void shouldOnlyCacheConfirmedTransactions() {
+        Transaction confirmed = mockTransaction("AAAA", 10);
+        Transaction unconfirmed = mockTransaction("BBBB", 0);
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertSame(confirmed, repository.getTransaction("AAAA").blockingFirst());
+            Assertions.assertSame(unconfirmed, repository.getTransaction("BBBB").blockingFirst());
+        }
+
+        verify(transactionRepository).getTransaction("AAAA");
+        verify(transactionRepository, times(2)).getTransaction("BBBB");
+    }
+
+    @Test
+    void shouldOnlyRequestTheTransactionsThatAreNotCached() {
+        Transaction first = mockTransaction("AAAA", 10);
+        Transaction second = mockTransaction("BBBB", 20);
+        TransactionRepository repository = factory.createTransactionRepository();
+        repository.getTransaction("AAAA").blockingFirst();
+        when(transactionRepository.getTransactions(Collections.singletonList("BBBB")))
+            .thenReturn(Observable.just(Collections.singletonList(second)));
+
+        List<Transaction> transactions = repository
+            .getTransactions(Arrays.asList("BBBB", "AAAA")).blockingFirst();
+
+        Assertions.assertEquals(Arrays.asList(second, first), transactions);
+        Assertions.assertEquals(Arrays.asList(second, first), repository
+            .getTransactions(Arrays.asList("BBBB", "AAAA")).blockingFirst());
+        verify(transactionRepository).getTransactions(Collections.singletonList("BBBB"));
+    }
+
+    @Test
+    void shouldInvalidateFromHeight() {
+        mockBlock(1);
+        mockBlock(2);
+        mockTransaction("AAAA", 1);
+        mockTransaction("BBBB", 2);
+        factory.createBlockRepository().getBlockByHeight(BigInteger.valueOf(1)).blockingFirst();
+        factory.createBlockRepository().getBlockByHeight(BigInteger.valueOf(2)).blockingFirst();
+        factory.createTransactionRepository().getTransaction("AAAA").blockingFirst();
+        factory.createTransactionRepository().getTransaction("BBBB").blockingFirst();
+
+        factory.invalidateFrom(BigInteger.valueOf(2));
+
+        Assertions.assertEquals(1, factory.getCacheStats().get("blocks").getSize());
+        Assertions.assertEquals(1, factory.getCacheStats().get("transactions").getSize());
+
+        factory.invalidateAll();
+
+        Assertions.assertEquals(0, factory.getCacheStats().get("blocks").getSize());
+        Assertions.assertEquals(0, factory.getCacheStats().get("transactions").getSize());
+    }
+
+    @Test
+    void shouldCacheTheNetworkTypeOnceLoaded() {
+        NetworkRepository networkRepository = mock(NetworkRepository.class);
+        when(delegate.createNetworkRepository()).thenReturn(networkRepository);
+        when(networkRepository.getNetworkType())
+            .thenReturn(Observable.error(new RepositoryCallException("Timeout", 0, null)))
+            .thenReturn(Observable.just(NetworkType.MIJIN_TEST));
+
+        NetworkRepository repository = factory.createNetworkRepository();
+        Assertions.assertThrows(RepositoryCallException.class,
+            () -> repository.getNetworkType().blockingFirst());
+        Assertions
+            .assertEquals(NetworkType.MIJIN_TEST, repository.getNetworkType().blockingFirst());
+        Assertions.assertEquals(NetworkType.MIJIN_TEST, factory.getNetworkType().blockingFirst());
+
+        verify(networkRepository, times(2)).getNetworkType();
+    }
+
+    @Test
+    void shouldEvictWhenTooHeavy() {
+        LruCache<String, String> cache = new LruCache<>(10, 5, String::length);
+        cache.put("a", "aa");
+        cache.put("b", "bb");
+        cache.put("c", "cc");
+
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals("bb", cache.get("b"));
+        Assertions.assertEquals(4, cache.getStats().getWeight());
+        Assertions.assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    private BlockInfo mockBlock(long height) {
+        BlockInfo block = mock(BlockInfo.class);
+        when(block.getHeight()).thenReturn(BigInteger.valueOf(height));
+        when(blockRepository.getBlockByHeight(BigInteger.valueOf(height)))
+            .thenReturn(Observable.just(block));
+        return block;
+    }
+
+    private Transaction mockTransaction(String hash, long height) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getTransactionInfo()).thenReturn(
+            Optional.of(TransactionInfo.create(BigInteger.valueOf(height), hash, "")));
+        when(transactionRepository.getTransaction(hash)).thenReturn(Observable.just(transaction));
+        return transaction;
+    }
+}
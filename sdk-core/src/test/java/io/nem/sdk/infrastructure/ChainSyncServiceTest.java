@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.SyncedBlock;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subscribers.TestSubscriber;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ChainSyncServiceImpl}
+ */
+public class ChainSyncServiceTest {
+
+    private final List<BigInteger> windows = new ArrayList<>();
+
+    private RepositoryFactory factory;
+
+    private BlockRepository blockRepository;
+
+    private ReceiptRepository receiptRepository;
+
+    @BeforeEach
+    void setup() {
+        factory = mock(RepositoryFactory.class);
+        blockRepository = mock(BlockRepository.class);
+        receiptRepository = mock(ReceiptRepository.class);
+        when(factory.createBlockRepository()).thenReturn(blockRepository);
+        when(factory.createReceiptRepository()).thenReturn(receiptRepository);
+        when(blockRepository.getBlocksByHeightWithLimit(any(BigInteger.class), anyInt()))
+            .thenAnswer(invocation -> {
+                BigInteger start = (BigInteger) invocation.getArguments()[0];
+                int limit = (Integer) invocation.getArguments()[1];
+                windows.add(start);
+                List<BlockInfo> headers = IntStream.range(0, limit)
+                    .mapToObj(i -> createHeader(start.intValue() + i))
+                    .collect(Collectors.toList());
+                Collections.reverse(headers);
+                return Observable.just(headers);
+            });
+        when(blockRepository.getBlockTransactions(any(BigInteger.class), any(QueryParams.class)))
+            .thenAnswer(invocation -> {
+                BigInteger height = (BigInteger) invocation.getArguments()[0];
+                return Observable.just(IntStream.range(0, height.intValue() % 3)
+                    .mapToObj(i -> mock(Transaction.class)).collect(Collectors.toList()));
+            });
+        when(receiptRepository.getBlockReceipts(any(BigInteger.class)))
+            .thenReturn(Observable.just(mock(Statement.class)));
+    }
+
+    @Test
+    void shouldSyncTheRangeInHeightOrder() {
+        ChainSyncServiceImpl service = new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(100).scheduler(Schedulers.trampoline()));
+
+        List<SyncedBlock> blocks = service.sync(BigInteger.ONE, BigInteger.valueOf(250)).toList()
+            .blockingGet();
+
+        Assertions.assertEquals(IntStream.rangeClosed(1, 250).boxed().collect(Collectors.toList()),
+            heights(blocks));
+        blocks.forEach(block -> Assertions.assertEquals(
+            block.getBlockInfo().getHeight().intValue() % 3, block.getTransactions().size()));
+        Assertions.assertEquals(BigInteger.valueOf(201), windows.get(2));
+        Assertions.assertEquals(3, windows.size());
+        Assertions.assertEquals(250, service.getChainSyncMetrics().getBlocks());
+        Assertions.assertEquals(250, service.getChainSyncMetrics().getTransactions());
+        Assertions.assertTrue(service.getChainSyncMetrics().getBlocksPerSecond() > 0);
+    }
+
+    @Test
+    void shouldKeepTheHeightOrderWhenTheBlocksArriveOutOfOrder() {
+        when(receiptRepository.getBlockReceipts(any(BigInteger.class))).thenAnswer(
+            invocation -> Observable.just(mock(Statement.class))
+                .delay(ThreadLocalRandom.current().nextInt(5), TimeUnit.MILLISECONDS));
+        ChainSyncServiceImpl service = new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(10).parallelism(4).maxConcurrentBlocks(4));
+
+        List<SyncedBlock> blocks = service.sync(BigInteger.valueOf(5), BigInteger.valueOf(104))
+            .toList().blockingGet();
+
+        Assertions.assertEquals(IntStream.rangeClosed(5, 104).boxed().collect(Collectors.toList()),
+            heights(blocks));
+    }
+
+    @Test
+    void shouldOnlyFetchTheWindowsAhead() {
+        ChainSyncServiceImpl service = new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(10).parallelism(2)
+                .scheduler(Schedulers.trampoline()));
+
+        TestSubscriber<SyncedBlock> subscriber = service
+            .sync(BigInteger.ONE, BigInteger.valueOf(1000)).test(0);
+
+        Assertions.assertEquals(2, windows.size());
+        subscriber.request(10);
+        subscriber.assertValueCount(10);
+        Assertions.assertEquals(3, windows.size());
+        subscriber.cancel();
+    }
+
+    @Test
+    void shouldFetchTheHeadersMissingFromTheWindow() {
+        BlockInfo first = createHeader(1);
+        BlockInfo second = createHeader(2);
+        BlockInfo header = createHeader(3);
+        doReturn(Observable.just(Collections.singletonList(first))).when(blockRepository)
+            .getBlocksByHeightWithLimit(BigInteger.ONE, 5);
+        when(blockRepository.getBlockByHeight(BigInteger.valueOf(2)))
+            .thenReturn(Observable.just(second));
+        when(blockRepository.getBlockByHeight(BigInteger.valueOf(3)))
+            .thenReturn(Observable.just(header));
+
+        List<SyncedBlock> blocks = new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(5).scheduler(Schedulers.trampoline()))
+            .sync(BigInteger.ONE, BigInteger.valueOf(3)).toList().blockingGet();
+
+        Assertions.assertEquals(header.getHeight(), blocks.get(2).getBlockInfo().getHeight());
+        verify(blockRepository, never()).getBlockByHeight(BigInteger.ONE);
+        verify(blockRepository).getBlockByHeight(BigInteger.valueOf(2));
+        verify(blockRepository).getBlockByHeight(BigInteger.valueOf(3));
+    }
+
+    @Test
+    void shouldNotFetchTheTransactionsOfEmptyBlocks() {
+        new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(3).scheduler(Schedulers.trampoline()))
+            .sync(BigInteger.valueOf(3), BigInteger.valueOf(3)).test()
+            .assertValueCount(1).assertComplete();
+
+        verify(blockRepository, never())
+            .getBlockTransactions(eq(BigInteger.valueOf(3)), any(QueryParams.class));
+    }
+
+    @Test
+    void shouldFailWhenABlockFails() {
+        when(receiptRepository.getBlockReceipts(BigInteger.valueOf(7)))
+            .thenReturn(Observable.error(new IllegalStateException("Node is down")));
+
+        new ChainSyncServiceImpl(factory,
+            new ChainSyncConfiguration().windowSize(5).scheduler(Schedulers.trampoline()))
+            .sync(BigInteger.ONE, BigInteger.valueOf(20)).test()
+            .assertValueCount(6).assertError(IllegalStateException.class);
+    }
+
+    private static List<Integer> heights(List<SyncedBlock> blocks) {
+        return blocks.stream().map(block -> block.getBlockInfo().getHeight().intValue())
+            .collect(Collectors.toList());
+    }
+
+    private static BlockInfo createHeader(int height) {
+        BlockInfo header = mock(BlockInfo.class);
+        when(header.getHeight()).thenReturn(BigInteger.valueOf(height));
+        when(header.getNumTransactions()).thenReturn(height % 3);
+        return header;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.BlockRepository;
+import io.nem.sdk.api.MosaicRepository;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CoalescingRepositoryFactory}
+ */
+public class CoalescingRepositoryFactoryTest {
+
+    private final MosaicId mosaicId = new MosaicId(BigInteger.TEN);
+
+    private RepositoryFactory delegate;
+
+    private MosaicRepository mosaicRepository;
+
+    private PublishSubject<MosaicInfo> response;
+
+    private AtomicInteger requests;
+
+    private CoalescingRepositoryFactory factory;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(RepositoryFactory.class);
+        mosaicRepository = mock(MosaicRepository.class);
+        when(delegate.createMosaicRepository()).thenReturn(mosaicRepository);
+        response = PublishSubject.create();
+        requests = new AtomicInteger();
+        when(mosaicRepository.getMosaic(mosaicId))
+            .thenReturn(response.doOnSubscribe(d -> requests.incrementAndGet()));
+        factory = new CoalescingRepositoryFactory(delegate);
+    }
+
+    @Test
+    void shouldShareTheCallInFlight() {
+        MosaicInfo mosaicInfo = mock(MosaicInfo.class);
+
+        TestObserver<MosaicInfo> first = factory.createMosaicRepository().getMosaic(mosaicId)
+            .test();
+        TestObserver<MosaicInfo> second = factory.createMosaicRepository()
+            .getMosaic(new MosaicId(BigInteger.TEN)).test();
+        response.onNext(mosaicInfo);
+        TestObserver<MosaicInfo> third = factory.createMosaicRepository().getMosaic(mosaicId)
+            .test();
+        response.onComplete();
+
+        first.assertResult(mosaicInfo);
+        second.assertResult(mosaicInfo);
+        third.assertResult(mosaicInfo);
+        Assertions.assertEquals(1, requests.get());
+        CoalescingMetrics metrics = factory.getCoalescingMetrics();
+        Assertions.assertEquals(3, metrics.getCalls());
+        Assertions.assertEquals(2, metrics.getCoalesced());
+        Assertions.assertEquals(0, metrics.getInFlight());
+        Assertions.assertEquals(2.0 / 3, metrics.getCoalescingRatio(), 0.001);
+    }
+
+    @Test
+    void shouldShareThePagedCallInFlight() {
+        BlockRepository blockRepository = mock(BlockRepository.class);
+        when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        when(blockRepository.getBlockTransactions(any(), any())).thenReturn(Observable.never());
+
+        BlockRepository repository = factory.createBlockRepository();
+        repository.getBlockTransactions(BigInteger.ONE, new QueryParams(20, "id")).test();
+        repository.getBlockTransactions(BigInteger.ONE, new QueryParams(20, "id")).test();
+        repository.getBlockTransactions(BigInteger.ONE, new QueryParams(20, "other")).test();
+
+        verify(blockRepository, times(2)).getBlockTransactions(any(), any());
+        Assertions.assertEquals(1, factory.getCoalescingMetrics().getCoalesced());
+    }
+
+    @Test
+    void shouldKeyTheCallWithTheCriteriaWhenItWasMade() {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        when(accountRepository.transactions(any(), any())).thenReturn(Observable.never());
+        PublicAccount publicAccount = mock(PublicAccount.class);
+
+        AccountRepository repository = factory.createAccountRepository();
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria().pageSize(20);
+        repository.transactions(publicAccount, criteria).test();
+        criteria.id("changed");
+        repository.transactions(publicAccount, new TransactionSearchCriteria().pageSize(20))
+            .test();
+
+        verify(accountRepository, times(1)).transactions(any(), any());
+        Assertions.assertEquals(1, factory.getCoalescingMetrics().getCoalesced());
+    }
+
+    @Test
+    void shouldCallAgainOnceTheCallHasFinished() {
+        MosaicRepository repository = factory.createMosaicRepository();
+        TestObserver<MosaicInfo> first = repository.getMosaic(mosaicId).test();
+        response.onError(new RepositoryCallException("Timeout", 0, null));
+
+        TestObserver<MosaicInfo> second = repository.getMosaic(mosaicId).test();
+
+        first.assertError(RepositoryCallException.class);
+        second.assertError(RepositoryCallException.class);
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertEquals(0, factory.getCoalescingMetrics().getCoalesced());
+    }
+
+    @Test
+    void shouldCancelTheCallWhenAllTheCallersAreDisposed() {
+        MosaicRepository repository = factory.createMosaicRepository();
+        TestObserver<MosaicInfo> first = repository.getMosaic(mosaicId).test();
+        TestObserver<MosaicInfo> second = repository.getMosaic(mosaicId).test();
+
+        first.dispose();
+        Assertions.assertTrue(response.hasObservers());
+        second.dispose();
+
+        Assertions.assertFalse(response.hasObservers());
+        Assertions.assertEquals(0, factory.getCoalescingMetrics().getInFlight());
+    }
+
+    @Test
+    void shouldNotCoalesceAnnouncements() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(delegate.createTransactionRepository()).thenReturn(transactionRepository);
+        SignedTransaction signedTransaction = mock(SignedTransaction.class);
+        when(transactionRepository.announce(signedTransaction))
+            .thenReturn(Observable.never());
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        TestObserver<TransactionAnnounceResponse> first = repository.announce(signedTransaction)
+            .test();
+        TestObserver<TransactionAnnounceResponse> second = repository.announce(signedTransaction)
+            .test();
+
+        verify(transactionRepository, times(2)).announce(signedTransaction);
+        Assertions.assertEquals(0, factory.getCoalescingMetrics().getCalls());
+        first.dispose();
+        second.dispose();
+    }
+}
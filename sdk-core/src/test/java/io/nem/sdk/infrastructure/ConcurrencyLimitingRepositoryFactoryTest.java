@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ConcurrencyLimitingRepositoryFactory} and {@link AdaptiveConcurrencyLimiter}
+ */
+public class ConcurrencyLimitingRepositoryFactoryTest {
+
+    private TestScheduler scheduler;
+
+    private AdaptiveConcurrencyConfiguration configuration;
+
+    @BeforeEach
+    void setup() {
+        scheduler = new TestScheduler();
+        configuration = new AdaptiveConcurrencyConfiguration().initialLimit(2).maxLimit(3)
+            .latencyThreshold(Duration.ofSeconds(1)).maxQueueSize(2)
+            .maxWait(Duration.ofSeconds(5)).scheduler(scheduler);
+    }
+
+    @Test
+    void shouldQueueTheCallsOverTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(configuration);
+        PublishSubject<String> first = PublishSubject.create();
+        PublishSubject<String> second = PublishSubject.create();
+        PublishSubject<String> third = PublishSubject.create();
+
+        limiter.limit(first).test();
+        limiter.limit(second).test();
+        TestObserver<String> observer = limiter.limit(third).test();
+
+        Assertions.assertTrue(second.hasObservers());
+        Assertions.assertFalse(third.hasObservers());
+        assertMetrics(limiter, 2, 2, 1);
+        first.onComplete();
+        Assertions.assertTrue(third.hasObservers());
+        third.onNext("value");
+        third.onComplete();
+        observer.assertValue("value").assertComplete();
+        assertMetrics(limiter, 2, 1, 0);
+    }
+
+    @Test
+    void shouldRaiseTheLimitWhileItIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(configuration);
+        PublishSubject<Integer> running = PublishSubject.create();
+        limiter.limit(running).test();
+
+        for (int i = 0; i < 10; i++) {
+            PublishSubject<Integer> next = PublishSubject.create();
+            limiter.limit(next).test();
+            running.onComplete();
+            running = next;
+        }
+
+        Assertions.assertEquals(3, limiter.getMetrics().getLimit());
+    }
+
+    @Test
+    void shouldNotRaiseTheLimitWhenItIsNotUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(configuration);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(Observable.just(i)).test().assertValue(i);
+        }
+
+        Assertions.assertEquals(2, limiter.getMetrics().getLimit());
+    }
+
+    @Test
+    void shouldLowerTheLimitWhenTheServerIsOverloaded() {
+        assertLimitAfter(Observable.error(new RepositoryCallException("Busy", 503, null)), 1);
+        assertLimitAfter(Observable.error(new RepositoryCallException("Too many", 429, null)), 1);
+        assertLimitAfter(Observable.error(
+            new RepositoryCallException("Timeout", 0, new SocketTimeoutException())), 1);
+        assertLimitAfter(Observable.error(new RepositoryCallException("Not Found", 404, null)),
+            2);
+        assertLimitAfter(Observable.just("fast").delay(999, TimeUnit.MILLISECONDS, scheduler), 2);
+        assertLimitAfter(Observable.just("slow").delay(2, TimeUnit.SECONDS, scheduler), 1);
+    }
+
+    @Test
+    void shouldRejectTheCallsOverTheQueue() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            configuration.initialLimit(1).minLimit(1));
+        PublishSubject<String> running = PublishSubject.create();
+        limiter.limit(running).test();
+
+        TestObserver<String> expired = limiter.limit(Observable.just("expired")).test();
+        TestObserver<String> waiting = limiter.limit(Observable.just("waiting")).test();
+        limiter.limit(Observable.just("rejected")).test()
+            .assertError(RepositoryCallException.class);
+        scheduler.advanceTimeBy(4, TimeUnit.SECONDS);
+        waiting.dispose();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        expired.assertError(RepositoryCallException.class);
+        assertMetrics(limiter, 1, 1, 0);
+        Assertions.assertEquals(2, limiter.getMetrics().getRejected());
+    }
+
+    @Test
+    void shouldReleaseTheDisposedCalls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(configuration);
+        PublishSubject<String> running = PublishSubject.create();
+
+        TestObserver<String> observer = limiter.limit(running).test();
+        observer.dispose();
+
+        Assertions.assertFalse(running.hasObservers());
+        assertMetrics(limiter, 2, 0, 0);
+    }
+
+    @Test
+    void shouldLimitTheRepositoryCalls() {
+        RepositoryFactory delegate = mock(RepositoryFactory.class);
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        Address address1 = createAddress(1);
+        Address address2 = createAddress(2);
+        PublishSubject<AccountInfo> first = PublishSubject.create();
+        PublishSubject<AccountInfo> second = PublishSubject.create();
+        when(accountRepository.getAccountInfo(address1)).thenReturn(first);
+        when(accountRepository.getAccountInfo(address2)).thenReturn(second);
+        ConcurrencyLimitingRepositoryFactory factory = new ConcurrencyLimitingRepositoryFactory(
+            delegate, new AdaptiveConcurrencyLimiter(configuration.initialLimit(1).minLimit(1)));
+
+        AccountRepository repository = factory.createAccountRepository();
+        repository.getAccountInfo(address1).test();
+        repository.getAccountInfo(address2).test();
+
+        Assertions.assertTrue(first.hasObservers());
+        Assertions.assertFalse(second.hasObservers());
+        Assertions.assertEquals(1, factory.getConcurrencyLimiterMetrics().getQueueDepth());
+        first.onComplete();
+        Assertions.assertTrue(second.hasObservers());
+    }
+
+    private void assertLimitAfter(Observable<String> call, int limit) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            configuration.backoffRatio(0.5));
+
+        limiter.limit(call).test();
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+
+        assertMetrics(limiter, limit, 0, 0);
+    }
+
+    private static void assertMetrics(ConcurrencyLimiter limiter, int limit, int inFlight,
+        int queueDepth) {
+        ConcurrencyLimiterMetrics metrics = limiter.getMetrics();
+        Assertions.assertEquals(limit, metrics.getLimit(), metrics.toString());
+        Assertions.assertEquals(inFlight, metrics.getInFlight(), metrics.toString());
+        Assertions.assertEquals(queueDepth, metrics.getQueueDepth(), metrics.toString());
+    }
+
+    private static Address createAddress(int i) {
+        return PublicAccount.createFromPublicKey(String.format("%064X", i), NetworkType.MIJIN_TEST)
+            .getAddress();
+    }
+}
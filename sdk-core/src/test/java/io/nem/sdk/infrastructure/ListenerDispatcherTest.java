@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.observers.TestObserver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ListenerDispatcher}
+ */
+public class ListenerDispatcherTest {
+
+    private final List<String> subscribed = new ArrayList<>();
+
+    private final List<String> unsubscribed = new ArrayList<>();
+
+    private final ListenerDispatcher dispatcher = new ListenerDispatcher(subscribed::add,
+        unsubscribed::add);
+
+    private final Address address1 = createAddress(1);
+
+    private final Address address2 = createAddress(2);
+
+    @Test
+    void shouldRouteByChannelAndAddress() {
+        TestObserver<String> first = dispatcher
+            .observe(ListenerChannel.CONFIRMED_ADDED, address1, "confirmedAdded/1", String.class)
+            .test();
+        TestObserver<String> second = dispatcher
+            .observe(ListenerChannel.CONFIRMED_ADDED, address2, "confirmedAdded/2", String.class)
+            .test();
+        TestObserver<String> unconfirmed = dispatcher
+            .observe(ListenerChannel.UNCONFIRMED_ADDED, address1, "unconfirmedAdded/1",
+                String.class).test();
+
+        dispatcher.dispatch(ListenerChannel.CONFIRMED_ADDED, "a", Collections.singleton(address1));
+        dispatcher.dispatch(ListenerChannel.CONFIRMED_ADDED, "b",
+            Arrays.asList(address1, address2));
+        dispatcher.dispatch(ListenerChannel.CONFIRMED_ADDED, "c", Collections.emptySet());
+
+        first.assertValues("a", "b");
+        second.assertValues("b");
+        unconfirmed.assertNoValues();
+    }
+
+    @Test
+    void shouldRouteTheWholeChannel() {
+        TestObserver<String> observer = dispatcher
+            .observe(ListenerChannel.BLOCK, null, "block", String.class).test();
+
+        dispatcher.dispatch(ListenerChannel.BLOCK, "a", Collections.emptySet());
+        dispatcher.dispatch(ListenerChannel.BLOCK, "b", Collections.singleton(address1));
+        dispatcher.dispatch(ListenerChannel.STATUS, "c", Collections.singleton(address1));
+
+        observer.assertValues("a", "b");
+    }
+
+    @Test
+    void shouldUnsubscribeWhenTheLastObserverIsDisposed() {
+        TestObserver<String> first = dispatcher
+            .observe(ListenerChannel.CONFIRMED_ADDED, address1, "confirmedAdded/1", String.class)
+            .test();
+        TestObserver<String> second = dispatcher
+            .observe(ListenerChannel.COSIGNATURE, null, "confirmedAdded/1", String.class).test();
+        Assertions.assertEquals(Collections.singletonList("confirmedAdded/1"), subscribed);
+
+        first.dispose();
+        Assertions.assertTrue(unsubscribed.isEmpty());
+        dispatcher.dispatch(ListenerChannel.CONFIRMED_ADDED, "a", Collections.singleton(address1));
+        first.assertNoValues();
+
+        second.dispose();
+        Assertions.assertEquals(Collections.singletonList("confirmedAdded/1"), unsubscribed);
+
+        dispatcher
+            .observe(ListenerChannel.CONFIRMED_ADDED, address1, "confirmedAdded/1", String.class)
+            .test();
+        Assertions.assertEquals(Arrays.asList("confirmedAdded/1", "confirmedAdded/1"), subscribed);
+    }
+
+    @Test
+    void shouldResubscribeTheObservedChannels() {
+        dispatcher.observe(ListenerChannel.BLOCK, null, "block", String.class).test();
+        dispatcher.observe(ListenerChannel.STATUS, address1, "status/1", String.class).test()
+            .dispose();
+        subscribed.clear();
+
+        dispatcher.resubscribe();
+
+        Assertions.assertEquals(Collections.singletonList("block"), subscribed);
+    }
+
+    private static Address createAddress(int index) {
+        return PublicAccount
+            .createFromPublicKey(String.format("%064X", index), NetworkType.MIJIN_TEST)
+            .getAddress();
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.NodeRepository;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.model.blockchain.BlockchainScore;
+import io.nem.sdk.model.node.NodeInfo;
+import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.math.BigInteger;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link MultiNodeRepositoryFactory}
+ */
+public class MultiNodeRepositoryFactoryTest {
+
+    private final BlockchainScore score = new BlockchainScore(BigInteger.ONE, BigInteger.TEN);
+
+    private final Map<String, ChainRepository> chainRepositories = new LinkedHashMap<>();
+
+    private final Map<String, TransactionRepository> transactionRepositories =
+        new LinkedHashMap<>();
+
+    private TestScheduler scheduler;
+
+    private MultiNodeRepositoryFactory factory;
+
+    @BeforeEach
+    void setup() {
+        scheduler = new TestScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.close();
+        }
+    }
+
+    @Test
+    void shouldRouteToTheFastestNode() {
+        mockNode("slow", 50, 100);
+        mockNode("fast", 10, 100);
+        createFactory();
+
+        ChainRepository chainRepository = factory.createChainRepository();
+        Assertions.assertEquals(score, chainRepository.getChainScore().blockingFirst());
+
+        verify(chainRepositories.get("fast")).getChainScore();
+        verify(chainRepositories.get("slow"), never()).getChainScore();
+        List<NodeMetrics> metrics = factory.getNodeMetrics();
+        Assertions.assertEquals(50, metrics.get(0).getLatency(), 0.1);
+        // The 10 ms probe and the instant call, with the default 0.3 decay.
+        Assertions.assertEquals(7, metrics.get(1).getLatency(), 0.1);
+        Assertions.assertEquals(1, metrics.get(1).getRequests());
+    }
+
+    @Test
+    void shouldAvoidNodesBehindTheChain() {
+        mockNode("behind", 10, 90);
+        mockNode("synced", 50, 100);
+        createFactory();
+
+        factory.createChainRepository().getChainScore().blockingFirst();
+
+        verify(chainRepositories.get("synced")).getChainScore();
+        Assertions.assertFalse(factory.getNodeMetrics().get(0).isHealthy());
+        Assertions.assertTrue(factory.getNodeMetrics().get(1).isHealthy());
+        Assertions.assertEquals(BigInteger.valueOf(90),
+            factory.getNodeMetrics().get(0).getChainHeight());
+    }
+
+    @Test
+    void shouldFailoverWhenTheNodeFails() {
+        mockNode("failing", 10, 100);
+        mockNode("working", 50, 100);
+        createFactory();
+        when(chainRepositories.get("failing").getChainScore())
+            .thenReturn(Observable.error(new RepositoryCallException("Connection refused", 0,
+                new ConnectException("Connection refused"))));
+
+        Assertions.assertEquals(score,
+            factory.createChainRepository().getChainScore().blockingFirst());
+
+        List<NodeMetrics> metrics = factory.getNodeMetrics();
+        Assertions.assertEquals(1, metrics.get(0).getFailures());
+        Assertions.assertEquals(1, metrics.get(0).getFailovers());
+        Assertions.assertEquals(1, metrics.get(1).getRequests());
+        Assertions.assertEquals(0, metrics.get(1).getInFlight());
+    }
+
+    @Test
+    void shouldNotFailoverOnClientErrors() {
+        mockNode("first", 10, 100);
+        mockNode("second", 50, 100);
+        createFactory();
+        when(chainRepositories.get("first").getChainScore())
+            .thenReturn(Observable.error(new RepositoryCallException("Not Found", 404, null)));
+
+        TestObserver<BlockchainScore> observer = factory.createChainRepository().getChainScore()
+            .test();
+
+        observer.assertError(RepositoryCallException.class);
+        verify(chainRepositories.get("second"), never()).getChainScore();
+        Assertions.assertEquals(0, factory.getNodeMetrics().get(0).getFailures());
+    }
+
+    @Test
+    void shouldNotFailoverOnClientSideErrors() {
+        mockNode("first", 10, 100);
+        mockNode("second", 50, 100);
+        createFactory();
+        when(chainRepositories.get("first").getChainScore())
+            .thenReturn(Observable.error(new RepositoryCallException("Invalid json", 0,
+                new IllegalArgumentException("Invalid json"))));
+
+        factory.createChainRepository().getChainScore().test()
+            .assertError(RepositoryCallException.class);
+
+        verify(chainRepositories.get("second"), never()).getChainScore();
+        Assertions.assertEquals(0, factory.getNodeMetrics().get(0).getFailures());
+    }
+
+    @Test
+    void shouldFailoverAnnouncesOnlyWhenTheConnectionFails() {
+        mockNode("first", 10, 100);
+        mockNode("second", 50, 100);
+        createFactory();
+        TransactionAnnounceResponse response = new TransactionAnnounceResponse("ok");
+        when(transactionRepositories.get("second").announce(null))
+            .thenReturn(Observable.just(response));
+        when(transactionRepositories.get("first").announce(null))
+            .thenReturn(Observable.error(new RepositoryCallException("Bad Gateway", 502, null)));
+
+        TransactionRepository transactionRepository = factory.createTransactionRepository();
+        transactionRepository.announce(null).test().assertError(RepositoryCallException.class);
+        verify(transactionRepositories.get("second"), never()).announce(null);
+
+        when(transactionRepositories.get("first").announce(null)).thenReturn(Observable.error(
+            new RepositoryCallException("Connection refused", 0,
+                new ConnectException("Connection refused"))));
+
+        transactionRepository.announce(null).test().assertValue(response);
+    }
+
+    @Test
+    void shouldReturnTheErrorWhenAllTheNodesFail() {
+        mockNode("first", 10, 100);
+        mockNode("second", 50, 100);
+        createFactory();
+        RepositoryCallException exception = new RepositoryCallException("Internal", 500, null);
+        when(chainRepositories.get("first").getChainScore())
+            .thenReturn(Observable.error(exception));
+        when(chainRepositories.get("second").getChainScore())
+            .thenReturn(Observable.error(exception));
+
+        factory.createChainRepository().getChainScore().test().assertError(exception);
+
+        Assertions.assertEquals(1, factory.getNodeMetrics().get(0).getFailovers());
+        Assertions.assertEquals(0, factory.getNodeMetrics().get(1).getFailovers());
+    }
+
+    @Test
+    void shouldEjectAndReadmitNodes() {
+        ChainRepository flaky = mockNode("flaky", 10, 100);
+        mockNode("stable", 50, 100);
+        createFactory();
+        when(flaky.getChainScore())
+            .thenReturn(Observable.error(new RepositoryCallException("Bad Gateway", 502, null)));
+
+        factory.createChainRepository().getChainScore().blockingFirst();
+        factory.createChainRepository().getChainScore().blockingFirst();
+        NodeMetrics ejected = factory.getNodeMetrics().get(0);
+        Assertions.assertFalse(ejected.isHealthy());
+        Assertions.assertEquals(1, ejected.getEjections());
+        Assertions.assertFalse(ejected.getNodeInfo().isPresent());
+
+        factory.createChainRepository().getChainScore().blockingFirst();
+        Assertions.assertEquals(2, factory.getNodeMetrics().get(0).getRequests());
+
+        // The next probe succeeds and readmits the node.
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        NodeMetrics readmitted = factory.getNodeMetrics().get(0);
+        Assertions.assertTrue(readmitted.isHealthy());
+        Assertions.assertTrue(readmitted.getNodeInfo().isPresent());
+        Assertions.assertEquals(1, readmitted.getEjections());
+    }
+
+    @Test
+    void shouldEjectNodesWhoseProbesFail() {
+        ChainRepository dead = mockNode("dead", 10, 100);
+        mockNode("alive", 50, 100);
+        when(dead.getBlockchainHeight())
+            .thenReturn(Observable.error(new RepositoryCallException("Timeout", 0, null)));
+        createFactory();
+
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+
+        NodeMetrics metrics = factory.getNodeMetrics().get(0);
+        Assertions.assertFalse(metrics.isHealthy());
+        Assertions.assertEquals(3, metrics.getFailures());
+        Assertions.assertEquals(1, metrics.getEjections());
+    }
+
+    @Test
+    void shouldHedgeSlowReads() {
+        ChainRepository stalled = mockNode("stalled", 10, 100);
+        mockNode("other", 50, 100);
+        createFactory(new MultiNodeConfiguration().hedgingPercentile(0.9).hedgingBudget(1)
+            .minHedgingDelay(Duration.ofMillis(5)));
+        measureLatencies();
+        when(stalled.getChainScore()).thenReturn(Observable.never());
+
+        TestObserver<BlockchainScore> observer = factory.createChainRepository().getChainScore()
+            .test();
+        observer.assertNoValues();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observer.assertValue(score);
+        HedgingMetrics metrics = factory.getHedgingMetrics();
+        Assertions.assertEquals(1, metrics.getIssued());
+        Assertions.assertEquals(1, metrics.getWon());
+        Assertions.assertEquals(5, metrics.getDelay(), 0.1);
+        Assertions.assertEquals(0, factory.getNodeMetrics().get(0).getInFlight());
+    }
+
+    @Test
+    void shouldNotCountHedgesThatLose() {
+        ChainRepository slow = mockNode("slow", 10, 100);
+        mockNode("other", 50, 100);
+        createFactory(new MultiNodeConfiguration().hedgingPercentile(0.9).hedgingBudget(1)
+            .minHedgingDelay(Duration.ofMillis(5)));
+        measureLatencies();
+        when(slow.getChainScore()).thenReturn(
+            Observable.timer(6, TimeUnit.MILLISECONDS, scheduler).map(tick -> score));
+        when(chainRepositories.get("other").getChainScore()).thenReturn(
+            Observable.timer(10, TimeUnit.MILLISECONDS, scheduler).map(tick -> score));
+
+        TestObserver<BlockchainScore> observer = factory.createChainRepository().getChainScore()
+            .test();
+        scheduler.advanceTimeBy(20, TimeUnit.MILLISECONDS);
+
+        observer.assertValue(score);
+        Assertions.assertEquals(1, factory.getHedgingMetrics().getIssued());
+        Assertions.assertEquals(0, factory.getHedgingMetrics().getWon());
+        Assertions.assertEquals(0, factory.getNodeMetrics().get(1).getInFlight());
+    }
+
+    @Test
+    void shouldNotHedgeOverTheBudget() {
+        ChainRepository stalled = mockNode("stalled", 10, 100);
+        mockNode("other", 50, 100);
+        createFactory(new MultiNodeConfiguration().hedgingPercentile(0.9).hedgingBudget(0.05)
+            .minHedgingDelay(Duration.ofMillis(5)));
+        measureLatencies();
+        when(stalled.getChainScore()).thenReturn(Observable.never());
+
+        TestObserver<BlockchainScore> observer = factory.createChainRepository().getChainScore()
+            .test();
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+
+        observer.assertNoValues();
+        Assertions.assertEquals(0, factory.getHedgingMetrics().getIssued());
+        Assertions.assertEquals(1, factory.getHedgingMetrics().getRejected());
+    }
+
+    @Test
+    void shouldRejectEmptyUrls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new MultiNodeRepositoryFactory(Collections.emptyList(),
+                url -> mock(RepositoryFactory.class)));
+    }
+
+    private void createFactory() {
+        createFactory(new MultiNodeConfiguration());
+    }
+
+    private void createFactory(MultiNodeConfiguration configuration) {
+        factory = new MultiNodeRepositoryFactory(chainRepositories.keySet(),
+            this::createRepositoryFactory,
+            configuration.maxConsecutiveFailures(2).ejectionTime(Duration.ofSeconds(30))
+                .probeInterval(Duration.ofSeconds(1)).scheduler(scheduler));
+        // Runs the first probe, the slowest node answers in 50 ms.
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs enough calls for the hedging delay to be computed, they answer right away.
+     */
+    private void measureLatencies() {
+        ChainRepository chainRepository = factory.createChainRepository();
+        for (int i = 0; i < 16; i++) {
+            chainRepository.getChainScore().blockingFirst();
+        }
+    }
+
+    private ChainRepository mockNode(String url, long latency, long height) {
+        ChainRepository chainRepository = mock(ChainRepository.class);
+        when(chainRepository.getBlockchainHeight()).thenReturn(
+            Observable.timer(latency, TimeUnit.MILLISECONDS, scheduler)
+                .map(tick -> BigInteger.valueOf(height)));
+        when(chainRepository.getChainScore()).thenReturn(Observable.just(score));
+        chainRepositories.put(url, chainRepository);
+        transactionRepositories.put(url, mock(TransactionRepository.class));
+        return chainRepository;
+    }
+
+    private RepositoryFactory createRepositoryFactory(String url) {
+        RepositoryFactory repositoryFactory = mock(RepositoryFactory.class);
+        NodeRepository nodeRepository = mock(NodeRepository.class);
+        when(nodeRepository.getNodeInfo()).thenReturn(Observable.just(mock(NodeInfo.class)));
+        when(repositoryFactory.createNodeRepository()).thenReturn(nodeRepository);
+        when(repositoryFactory.createChainRepository()).thenReturn(chainRepositories.get(url));
+        when(repositoryFactory.createTransactionRepository())
+            .thenReturn(transactionRepositories.get(url));
+        return repositoryFactory;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Paginator}
+ */
+public class PaginatorTest {
+
+    private final List<String> cursors = new ArrayList<>();
+
+    @Test
+    void shouldWalkAllThePages() {
+        List<Integer> items = Paginator.stream(null, 10, id -> page(id, 25), String::valueOf)
+            .toList().blockingGet();
+
+        Assertions.assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toList()),
+            items);
+        Assertions.assertEquals(Arrays.asList(null, "9", "19"), cursors);
+    }
+
+    @Test
+    void shouldStopWithAnEmptyPage() {
+        List<Integer> items = Paginator.stream("4", 5, id -> page(id, 10), String::valueOf)
+            .toList().blockingGet();
+
+        Assertions.assertEquals(Arrays.asList(5, 6, 7, 8, 9), items);
+        Assertions.assertEquals(Arrays.asList("4", "9"), cursors);
+    }
+
+    @Test
+    void shouldOnlyLoadAheadOfTheConsumer() {
+        TestSubscriber<Integer> subscriber = Paginator
+            .stream(null, 10, id -> page(id, Integer.MAX_VALUE), String::valueOf).test(0);
+
+        int loaded = cursors.size();
+        Assertions.assertTrue(loaded <= 3, "Loaded pages: " + loaded);
+        subscriber.request(5);
+        subscriber.assertValues(0, 1, 2, 3, 4);
+        Assertions.assertEquals(loaded, cursors.size());
+
+        subscriber.request(100);
+        subscriber.assertValueCount(105);
+        Assertions.assertTrue(cursors.size() <= 14, "Loaded pages: " + cursors.size());
+        subscriber.cancel();
+    }
+
+    @Test
+    void shouldCancelThePageInFlight() {
+        PublishSubject<List<Integer>> secondPage = PublishSubject.create();
+
+        TestSubscriber<Integer> subscriber = Paginator.stream(null, 10,
+            id -> id == null ? page(null, 100) : secondPage, String::valueOf).take(5).test();
+
+        subscriber.assertValueCount(5).assertComplete();
+        Assertions.assertFalse(secondPage.hasObservers());
+    }
+
+    @Test
+    void shouldWalkTheAccountTransactions() {
+        AccountRepository repository = mock(AccountRepository.class);
+        PublicAccount account = PublicAccount.createFromPublicKey(
+            "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+            NetworkType.MIJIN_TEST);
+        List<Transaction> firstPage = IntStream.range(0, 10).mapToObj(i -> mockTransaction("A" + i))
+            .collect(Collectors.toList());
+        Transaction last = mockTransaction("B0");
+        when(repository.transactions(eq(account), any(TransactionSearchCriteria.class)))
+            .thenAnswer(invocation -> {
+                TransactionSearchCriteria criteria = (TransactionSearchCriteria) invocation
+                    .getArguments()[1];
+                Assertions.assertEquals(10, criteria.getPageSize().intValue());
+                Assertions.assertEquals(TransactionType.TRANSFER, criteria.getTransactionType());
+                cursors.add(criteria.getId());
+                return Observable.just(criteria.getId() == null ? firstPage
+                    : Collections.singletonList(last));
+            });
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria().pageSize(10)
+            .transactionType(TransactionType.TRANSFER);
+
+        List<Transaction> transactions = Paginator.transactions(repository, account, criteria)
+            .toList().blockingGet();
+
+        Assertions.assertEquals(11, transactions.size());
+        Assertions.assertSame(last, transactions.get(10));
+        Assertions.assertEquals(Arrays.asList(null, "A9"), cursors);
+        Assertions.assertNull(criteria.getId());
+    }
+
+    private Observable<List<Integer>> page(String id, int total) {
+        cursors.add(id);
+        int first = id == null ? 0 : Integer.parseInt(id) + 1;
+        return Observable.just(IntStream.range(first, (int) Math.min(first + 10L, total)).boxed()
+            .collect(Collectors.toList()));
+    }
+
+    private static Transaction mockTransaction(String id) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getTransactionInfo()).thenReturn(Optional.of(TransactionInfo
+            .create(BigInteger.ONE, 0, id, "", "")));
+        return transaction;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RequestHedging}
+ */
+public class RequestHedgingTest {
+
+    private final RequestHedging hedging = new RequestHedging(new MultiNodeConfiguration()
+        .hedgingPercentile(0.5).minHedgingDelay(Duration.ZERO));
+
+    @Test
+    void shouldNotHedgeBeforeTheMinSamples() {
+        for (int i = 0; i < 15; i++) {
+            hedging.onLatency(1_000_000);
+        }
+        Assertions.assertTrue(hedging.onCall() < 0);
+
+        hedging.onLatency(1_000_000);
+        Assertions.assertEquals(1_000_000, hedging.onCall());
+    }
+
+    @Test
+    void shouldComputeTheDelayFromTheRecentLatencies() {
+        for (int i = 0; i < 100_000; i++) {
+            hedging.onLatency(1_000_000);
+        }
+        for (int i = 0; i < 256; i++) {
+            hedging.onLatency(3_000_000);
+        }
+
+        Assertions.assertEquals(3_000_000, hedging.onCall());
+    }
+}
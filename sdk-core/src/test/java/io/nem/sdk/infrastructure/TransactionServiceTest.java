@@ -773,6 +773,8 @@ class TransactionServiceTest {
 
         Assertions.assertEquals(address1, resolvedTransaction.getRecipient());
 
+        // The inner transactions of the same block share the statement.
+        Mockito.verify(receiptRepositoryMock).getBlockReceipts(height);
     }
 
     @Test
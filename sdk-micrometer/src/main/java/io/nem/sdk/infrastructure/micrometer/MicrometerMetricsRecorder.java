@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.nem.core.metrics.MetricsRecorder;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Publishes the SDK metrics to a Micrometer registry. The timed metrics become timers and the
+ * counted ones counters, named after the {@link SdkMetric} and tagged with its tag key.
+ *
+ * <pre>
+ * SdkMetrics.setRecorder(new MicrometerMetricsRecorder(registry));
+ * </pre>
+ *
+ * The meters are cached per metric and tag, so the hot paths don't build them again.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    private final MeterRegistry registry;
+
+    private final Map<SdkMetric, Map<String, Timer>> timers = new EnumMap<>(SdkMetric.class);
+
+    private final Map<SdkMetric, Map<String, Counter>> counters = new EnumMap<>(SdkMetric.class);
+
+    /**
+     * @param registry the registry the meters are registered to.
+     */
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        Validate.notNull(registry, "registry must not be null");
+        this.registry = registry;
+        for (SdkMetric metric : SdkMetric.values()) {
+            timers.put(metric, new ConcurrentHashMap<>());
+            counters.put(metric, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Creates the recorder and sets it as the recorder of the SDK metrics.
+     *
+     * @param registry the registry the meters are registered to.
+     * @return the recorder.
+     */
+    public static MicrometerMetricsRecorder bindTo(MeterRegistry registry) {
+        MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+        SdkMetrics.setRecorder(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void recordTime(SdkMetric metric, String tag, long nanos) {
+        timers.get(metric).computeIfAbsent(tag,
+            value -> Timer.builder(metric.getMetricName()).tag(metric.getTagKey(), value)
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void count(SdkMetric metric, String tag, long amount) {
+        counters.get(metric).computeIfAbsent(tag,
+            value -> Counter.builder(metric.getMetricName()).tag(metric.getTagKey(), value)
+                .register(registry)).increment(amount);
+    }
+
+    /**
+     * @return the registry the meters are registered to.
+     */
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link MicrometerMetricsRecorder}
+ */
+public class MicrometerMetricsRecorderTest {
+
+    private SimpleMeterRegistry registry;
+
+    private MicrometerMetricsRecorder recorder;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        recorder = MicrometerMetricsRecorder.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SdkMetrics.setRecorder(null);
+    }
+
+    @Test
+    void shouldBindTheRecorderToTheSdkMetrics() {
+        Assertions.assertSame(recorder, SdkMetrics.getRecorder());
+        Assertions.assertSame(registry, recorder.getRegistry());
+    }
+
+    @Test
+    void shouldRecordTheTimesInTimers() {
+        recorder.recordTime(SdkMetric.SIGN, "SHA3", 1500);
+        recorder.recordTime(SdkMetric.SIGN, "SHA3", 500);
+        recorder.recordTime(SdkMetric.SIGN, "KECCAK_REVERSED_KEY", 700);
+
+        Timer sha3 = registry.get("nem.crypto.sign").tag("schema", "SHA3").timer();
+        Assertions.assertEquals(2, sha3.count());
+        Assertions.assertEquals(2000, sha3.totalTime(TimeUnit.NANOSECONDS), 0.01);
+        Assertions.assertEquals(1500, sha3.max(TimeUnit.NANOSECONDS), 0.01);
+        Timer keccak = registry.get("nem.crypto.sign").tag("schema", "KECCAK_REVERSED_KEY")
+            .timer();
+        Assertions.assertEquals(1, keccak.count());
+        Assertions.assertEquals(700, keccak.totalTime(TimeUnit.NANOSECONDS), 0.01);
+        Assertions.assertEquals(2, registry.getMeters().size());
+    }
+
+    @Test
+    void shouldCountTheAmountsInCounters() {
+        SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, "GET /chain/height", 10);
+        SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, "GET /chain/height", 32);
+        SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, "GET /block/{id}", 100);
+
+        Counter height = registry.get("nem.repository.response.bytes")
+            .tag("endpoint", "GET /chain/height").counter();
+        Assertions.assertEquals(42, height.count(), 0.01);
+        Counter block = registry.get("nem.repository.response.bytes")
+            .tag("endpoint", "GET /block/{id}").counter();
+        Assertions.assertEquals(100, block.count(), 0.01);
+        Assertions.assertEquals(2, registry.getMeters().size());
+    }
+
+    @Test
+    void shouldRecordTheSdkTimesOnceEnabled() {
+        SdkMetrics.recordTime(SdkMetric.TRANSACTION_MAPPING, "TRANSFER", SdkMetrics.start());
+
+        Timer timer = registry.get("nem.transaction.mapping").tag("type", "TRANSFER").timer();
+        Assertions.assertEquals(1, timer.count());
+        Assertions.assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) >= 0);
+    }
+}
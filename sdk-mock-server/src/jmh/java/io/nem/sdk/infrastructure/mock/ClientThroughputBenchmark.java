@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.sdk.api.AccountRepository;
+import io.nem.sdk.api.ReceiptRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end repository calls of each client against a {@link MockCatapultServer} in the same
+ * JVM, without latency. The throughput mode gives the requests per millisecond of 4 concurrent
+ * callers and the sample time mode the p50 and p99 latencies, the gc profiler the bytes
+ * allocated per request. The server caches its responses, most of the time and of the
+ * allocations are the client's.
+ *
+ * Run it with {@code ./gradlew :sdk-mock-server:jmh}, the results are written as json to
+ * build/reports/jmh/results.json to track them across releases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ClientThroughputBenchmark {
+
+    @Param({"OKHTTP", "VERTX"})
+    private ClientType client;
+
+    private MockCatapultServer server;
+
+    private RepositoryFactory repositoryFactory;
+
+    private AccountRepository accountRepository;
+
+    private ReceiptRepository receiptRepository;
+
+    private PublicAccount account;
+
+    private List<Address> addresses;
+
+    private TransactionSearchCriteria page;
+
+    @Setup
+    public void setup() {
+        server = new MockCatapultServer(new MockServerConfiguration().accountTransactions(100)
+            .receiptsPerBlock(1000));
+        repositoryFactory = client.create(server.start());
+        accountRepository = repositoryFactory.createAccountRepository();
+        receiptRepository = repositoryFactory.createReceiptRepository();
+        account = PublicAccount.createFromPublicKey(
+            "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+            NetworkType.MIJIN_TEST);
+        addresses = IntStream.range(1, 101).mapToObj(
+            i -> Address.createFromPublicKey(String.format("%064X", i), NetworkType.MIJIN_TEST))
+            .collect(Collectors.toList());
+        page = new TransactionSearchCriteria().pageSize(100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        repositoryFactory.close();
+        server.close();
+    }
+
+    @Benchmark
+    public AccountInfo accountInfo() {
+        return accountRepository.getAccountInfo(account.getAddress()).blockingFirst();
+    }
+
+    /**
+     * 100 addresses in one request.
+     */
+    @Benchmark
+    public List<AccountInfo> accountsInfo() {
+        return accountRepository.getAccountsInfo(addresses).blockingFirst();
+    }
+
+    /**
+     * A page of 100 transfer transactions.
+     */
+    @Benchmark
+    public List<Transaction> accountTransactionsPage() {
+        return accountRepository.transactions(account, page).blockingFirst();
+    }
+
+    /**
+     * A statement of 1000 balance change receipts.
+     */
+    @Benchmark
+    public Statement blockReceipts() {
+        return receiptRepository.getBlockReceipts(BigInteger.TEN).blockingFirst();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.okhttp.RepositoryFactoryOkHttpImpl;
+import io.nem.sdk.infrastructure.vertx.RepositoryFactoryVertxImpl;
+
+/**
+ * The client implementations compared by the benchmarks.
+ */
+public enum ClientType {
+
+    OKHTTP {
+        @Override
+        RepositoryFactory create(String baseUrl) {
+            return new RepositoryFactoryOkHttpImpl(baseUrl);
+        }
+    },
+
+    VERTX {
+        @Override
+        RepositoryFactory create(String baseUrl) {
+            return new RepositoryFactoryVertxImpl(baseUrl);
+        }
+    };
+
+    /**
+     * @param baseUrl the url of the mock server.
+     * @return the repository factory of the client with its default transport configuration.
+     */
+    abstract RepositoryFactory create(String baseUrl);
+}
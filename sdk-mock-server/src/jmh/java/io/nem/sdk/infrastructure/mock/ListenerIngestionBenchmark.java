@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Transaction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Websocket ingestion of each client's listener: a {@link MockCatapultServer} pushes 10000
+ * confirmed transfers per second (100 every 10 milliseconds) and each operation is one transfer
+ * mapped and delivered to the subscriber. A listener that keeps up reports about 10 operations
+ * per millisecond, less means the messages queue up in the client. The gc profiler gives the
+ * bytes allocated per message.
+ *
+ * Run it with {@code ./gradlew :sdk-mock-server:jmh}, the results are written as json to
+ * build/reports/jmh/results.json to track them across releases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenerIngestionBenchmark {
+
+    private static final int MESSAGES = 1000;
+
+    @Param({"OKHTTP", "VERTX"})
+    private ClientType client;
+
+    private MockCatapultServer server;
+
+    private RepositoryFactory repositoryFactory;
+
+    private Listener listener;
+
+    private Address address;
+
+    @Setup
+    public void setup() throws InterruptedException, ExecutionException, TimeoutException {
+        server = new MockCatapultServer(new MockServerConfiguration()
+            .listenerInterval(Duration.ofMillis(10)).listenerBatchSize(100));
+        repositoryFactory = client.create(server.start());
+        listener = repositoryFactory.createListener();
+        listener.open().get(10, TimeUnit.SECONDS);
+        address = PublicAccount.createFromPublicKey(
+            "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+            NetworkType.MIJIN_TEST).getAddress();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        listener.close();
+        repositoryFactory.close();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public Transaction confirmedTransactions() {
+        return listener.confirmed(address).take(MESSAGES).blockingLast();
+    }
+}
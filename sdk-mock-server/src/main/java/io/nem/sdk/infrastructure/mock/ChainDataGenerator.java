@@ -0,0 +1,322 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.core.utils.ConvertUtils;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.AccountType;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.message.PlainMessage;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.namespace.MosaicAlias;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.namespace.NamespaceName;
+import io.nem.sdk.model.namespace.NamespaceRegistrationType;
+import io.nem.sdk.model.receipt.BalanceChangeReceipt;
+import io.nem.sdk.model.receipt.Receipt;
+import io.nem.sdk.model.receipt.ReceiptSource;
+import io.nem.sdk.model.receipt.ReceiptType;
+import io.nem.sdk.model.receipt.ReceiptVersion;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.receipt.TransactionStatement;
+import io.nem.sdk.model.transaction.Deadline;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Generates the models of the chain served by a {@link MockCatapultServer}.
+ *
+ * The data is not stored, every model is created from the seed and its position in the chain, so
+ * the same block or transaction is equal each time it's generated and a chain of any height costs
+ * no memory. The hashes, keys and signatures are random hex of the right size, they are not
+ * computed from the content.
+ *
+ * The transaction ids are the 16 hex of the height followed by the 8 hex of the index in the
+ * block, the transaction hashes start with the same 24 hex. The transactions of the blocks can
+ * then be found by id or hash, the account transactions have an index out of the blocks and are
+ * only served by the account endpoints.
+ */
+public class ChainDataGenerator {
+
+    /**
+     * The mosaic of the transfers, receipts and namespace aliases.
+     */
+    public static final MosaicId MOSAIC_ID = new MosaicId("75AF035421401EF0");
+
+    /**
+     * The first index of the account transactions.
+     */
+    private static final int ACCOUNT_INDEX = 0x10000000;
+
+    private static final int NEMESIS_BLOCK_TYPE = 32835;
+
+    private static final int BLOCK_TYPE = 33091;
+
+    private static final long BLOCK_TIME = 15000;
+
+    private final MockServerConfiguration configuration;
+
+    private final NetworkType networkType;
+
+    private final String message;
+
+    /**
+     * @param configuration the chain height, the sizes and the seed.
+     */
+    public ChainDataGenerator(MockServerConfiguration configuration) {
+        Validate.notNull(configuration, "configuration must not be null");
+        this.configuration = configuration;
+        this.networkType = configuration.getNetworkType();
+        this.message = StringUtils.repeat('x', configuration.getMessageSize());
+    }
+
+    public MockServerConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @param address the account address.
+     * @return an account known since the first block holding {@link #MOSAIC_ID}, its public key
+     * is unknown like for accounts that have not announced any transaction.
+     */
+    public AccountInfo getAccountInfo(Address address) {
+        BigInteger amount = new BigInteger(1, ConvertUtils.fromHexToBytes(
+            hex(4, "balance", address.plain())));
+        return new AccountInfo(address, BigInteger.ONE, StringUtils.repeat('0', 64),
+            BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+            Collections.singletonList(new Mosaic(MOSAIC_ID, amount)), AccountType.UNLINKED);
+    }
+
+    /**
+     * @param height the block height.
+     * @return the block or empty if the height is above the chain height.
+     */
+    public Optional<BlockInfo> getBlock(BigInteger height) {
+        if (!isInChain(height)) {
+            return Optional.empty();
+        }
+        return Optional.of(createBlock(height));
+    }
+
+    /**
+     * Creates a block at any height, like the new blocks sent to the listeners.
+     *
+     * @param height the block height.
+     * @return the block.
+     */
+    public BlockInfo createBlock(BigInteger height) {
+        BigInteger previousHeight = height.subtract(BigInteger.ONE);
+        return BlockInfo.create(
+            hex(32, "block", height),
+            hex(32, "generationHash", height),
+            BigInteger.valueOf(configuration.getTransactionsPerBlock()),
+            configuration.getTransactionsPerBlock(),
+            Collections.singletonList(hex(32, "stateHashSubCache", height)),
+            hex(64, "blockSignature", height),
+            hex(32, "harvester", height),
+            networkType,
+            1,
+            height.equals(BigInteger.ONE) ? NEMESIS_BLOCK_TYPE : BLOCK_TYPE,
+            height,
+            height.multiply(BigInteger.valueOf(BLOCK_TIME)),
+            BigInteger.TEN.pow(14),
+            0,
+            previousHeight.signum() > 0 ? hex(32, "block", previousHeight) : StringUtils
+                .repeat('0', 64),
+            hex(32, "transactionsHash", height),
+            hex(32, "receiptsHash", height),
+            hex(32, "stateHash", height),
+            hex(32, "beneficiary", height));
+    }
+
+    /**
+     * @param height the block height.
+     * @return the transactions of the block sorted by id, empty above the chain height.
+     */
+    public List<Transaction> getBlockTransactions(BigInteger height) {
+        if (!isInChain(height)) {
+            return Collections.emptyList();
+        }
+        List<Transaction> transactions = new ArrayList<>();
+        for (int index = 0; index < configuration.getTransactionsPerBlock(); index++) {
+            PublicAccount signer = new PublicAccount(hex(32, "signer", height, index),
+                networkType);
+            Address recipient = Address
+                .createFromPublicKey(hex(32, "recipient", height, index), networkType);
+            transactions.add(createTransaction(signer, recipient, height, index));
+        }
+        return transactions;
+    }
+
+    /**
+     * @param id the transaction id or hash.
+     * @return the transaction of a block with that id or hash.
+     */
+    public Optional<Transaction> getTransaction(String id) {
+        if (id.length() < 24 || !id.substring(0, 24).matches("[0-9A-Fa-f]+")) {
+            return Optional.empty();
+        }
+        BigInteger height = new BigInteger(id.substring(0, 16), 16);
+        long index = Long.parseLong(id.substring(16, 24), 16);
+        if (index >= configuration.getTransactionsPerBlock()) {
+            return Optional.empty();
+        }
+        return getBlockTransactions(height).stream()
+            .filter(transaction -> transaction.getTransactionInfo().flatMap(
+                info -> id.length() == 24 ? info.getId() : info.getHash())
+                .filter(id::equalsIgnoreCase).isPresent()).findFirst();
+    }
+
+    /**
+     * @param account the signer.
+     * @return the confirmed transactions the account has signed sorted by id, one per block up
+     * to the chain height.
+     */
+    public List<Transaction> getOutgoingTransactions(PublicAccount account) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < configuration.getAccountTransactions(); i++) {
+            Address recipient = Address.createFromPublicKey(
+                hex(32, "recipient", account.getPublicKey().toHex(), i), networkType);
+            transactions.add(createTransaction(account, recipient, getAccountHeight(i),
+                ACCOUNT_INDEX + i));
+        }
+        return transactions;
+    }
+
+    /**
+     * @param address the recipient.
+     * @return the confirmed transactions the address has received sorted by id, one per block up
+     * to the chain height.
+     */
+    public List<Transaction> getIncomingTransactions(Address address) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < configuration.getAccountTransactions(); i++) {
+            PublicAccount signer = new PublicAccount(hex(32, "signer", address.plain(), i),
+                networkType);
+            transactions.add(createTransaction(signer, address, getAccountHeight(i),
+                ACCOUNT_INDEX + i));
+        }
+        return transactions;
+    }
+
+    /**
+     * Creates a transfer transaction, like the ones sent to the listeners.
+     *
+     * @param signer the signer.
+     * @param recipient the recipient.
+     * @param height the height of the block that includes the transaction.
+     * @param index the index of the transaction in the block.
+     * @return the transfer transaction.
+     */
+    public Transaction createTransaction(PublicAccount signer, Address recipient,
+        BigInteger height, int index) {
+        String id = String.format("%016X%08X", height, index);
+        return TransferTransactionFactory.create(networkType, recipient,
+            Collections.singletonList(new Mosaic(MOSAIC_ID, BigInteger.valueOf(index + 1))),
+            PlainMessage.create(message))
+            .signer(signer)
+            .signature(hex(64, "signature", height, index))
+            .deadline(new Deadline(height.multiply(BigInteger.valueOf(BLOCK_TIME))))
+            .maxFee(BigInteger.valueOf(100))
+            .transactionInfo(TransactionInfo.create(height, index, id,
+                id + hex(20, "hash", height, index), hex(32, "merkle", height, index)))
+            .build();
+    }
+
+    /**
+     * @param height the block height.
+     * @return the statement of the block, empty above the chain height.
+     */
+    public Statement getStatement(BigInteger height) {
+        List<TransactionStatement> transactionStatements = new ArrayList<>();
+        if (isInChain(height) && configuration.getReceiptsPerBlock() > 0) {
+            List<Receipt> receipts = new ArrayList<>();
+            for (int i = 0; i < configuration.getReceiptsPerBlock(); i++) {
+                receipts.add(new BalanceChangeReceipt(
+                    new PublicAccount(hex(32, "harvester", height, i), networkType),
+                    MOSAIC_ID, BigInteger.valueOf(i + 1), ReceiptType.HARVEST_FEE,
+                    ReceiptVersion.BALANCE_CHANGE));
+            }
+            transactionStatements
+                .add(new TransactionStatement(height, new ReceiptSource(0, 0), receipts));
+        }
+        return new Statement(transactionStatements, Collections.emptyList(),
+            Collections.emptyList());
+    }
+
+    /**
+     * @param namespaceId the namespace id.
+     * @return an active root namespace owned since the first block, aliased to {@link
+     * #MOSAIC_ID}.
+     */
+    public NamespaceInfo getNamespace(NamespaceId namespaceId) {
+        return new NamespaceInfo(true, 0, hex(12, "namespace", namespaceId.getId()),
+            NamespaceRegistrationType.ROOT_NAMESPACE, 1,
+            Collections.singletonList(namespaceId), NamespaceId.createFromId(BigInteger.ZERO),
+            new PublicAccount(hex(32, "owner", namespaceId.getId()), networkType),
+            BigInteger.ONE, configuration.getChainHeight().add(BigInteger.valueOf(100000)),
+            new MosaicAlias(MOSAIC_ID));
+    }
+
+    /**
+     * @param namespaceId the namespace id.
+     * @return the name of a root namespace, it's not the name the id was created from.
+     */
+    public NamespaceName getNamespaceName(NamespaceId namespaceId) {
+        return new NamespaceName(namespaceId, "mock" + namespaceId.getIdAsHex().toLowerCase(),
+            Optional.empty());
+    }
+
+    private boolean isInChain(BigInteger height) {
+        return height.signum() > 0 && height.compareTo(configuration.getChainHeight()) <= 0;
+    }
+
+    /**
+     * The account transactions are in the last blocks, the oldest first.
+     */
+    private BigInteger getAccountHeight(int i) {
+        return configuration.getChainHeight()
+            .subtract(BigInteger.valueOf(configuration.getAccountTransactions() - 1L - i))
+            .max(BigInteger.ONE);
+    }
+
+    /**
+     * @return random upper case hex of the given number of bytes, always the same for the same
+     * seed and parts.
+     */
+    private String hex(int size, Object... parts) {
+        Random random = new Random(configuration.getSeed() * 31 + Arrays.deepHashCode(parts));
+        byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return ConvertUtils.toHex(bytes).toUpperCase();
+    }
+}
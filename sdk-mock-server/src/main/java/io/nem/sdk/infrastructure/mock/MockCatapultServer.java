@@ -0,0 +1,532 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.nem.sdk.openapi.vertx.model.AnnounceTransactionInfoDTO;
+import io.nem.sdk.openapi.vertx.model.HeightInfoDTO;
+import io.nem.sdk.openapi.vertx.model.NetworkTypeDTO;
+import io.nem.sdk.openapi.vertx.model.NodeInfoDTO;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.ServerWebSocket;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * An embeddable catapult rest server that serves the synthetic chain of a {@link
+ * ChainDataGenerator} on localhost, so the clients can be tested and benchmarked without a node.
+ *
+ * The served endpoints are the node info, network, chain height, accounts, blocks, block
+ * transactions and receipts, account transactions, transactions by id or hash, transactions
+ * announce, namespaces and namespace names. The transaction pages honour the page size (10 to
+ * 100), the id and the ordering like catapult rest. Any other path is not found.
+ *
+ * The websocket at /ws answers the subscriptions to the block and to the confirmed and
+ * unconfirmed added channels of an address: each listener interval a batch of new blocks is sent
+ * to the block subscribers and as many transfers to the address to each subscribed address
+ * channel.
+ *
+ * Each response waits for the configured latency and a random fraction of the requests, given by
+ * the error rate, is answered with the configured error status. The responses are cached, the
+ * server mostly measures the client.
+ */
+public class MockCatapultServer implements AutoCloseable {
+
+    private static final int MAX_CACHED_RESPONSES = 1000;
+
+    private static final String TRANSFER_TYPE = String.valueOf(TransactionType.TRANSFER.getValue());
+
+    private final Vertx vertx;
+
+    private final boolean ownVertx;
+
+    private final MockServerConfiguration configuration;
+
+    private final ChainDataGenerator chainData;
+
+    private final MockDtoMapper mapper = new MockDtoMapper();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Random random;
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final AtomicInteger webSockets = new AtomicInteger();
+
+    private final AtomicLong uids = new AtomicLong();
+
+    private final Map<String, MockResponse> responses = Collections.synchronizedMap(
+        new LinkedHashMap<String, MockResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MockResponse> eldest) {
+                return size() > MAX_CACHED_RESPONSES;
+            }
+        });
+
+    private HttpServer server;
+
+    /**
+     * Creates a server with its own vertx instance, closed with the server.
+     *
+     * @param configuration the served chain and the server behaviour.
+     */
+    public MockCatapultServer(MockServerConfiguration configuration) {
+        this(Vertx.vertx(), true, configuration);
+    }
+
+    /**
+     * @param vertx the vertx instance the server runs on, it's not closed with the server.
+     * @param configuration the served chain and the server behaviour.
+     */
+    public MockCatapultServer(Vertx vertx, MockServerConfiguration configuration) {
+        this(vertx, false, configuration);
+    }
+
+    private MockCatapultServer(Vertx vertx, boolean ownVertx,
+        MockServerConfiguration configuration) {
+        Validate.notNull(vertx, "vertx must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.vertx = vertx;
+        this.ownVertx = ownVertx;
+        this.configuration = configuration;
+        this.chainData = new ChainDataGenerator(configuration);
+        this.random = new Random(configuration.getSeed());
+    }
+
+    /**
+     * Starts the server, waiting until it listens.
+     *
+     * @return the base url of the server, like http://localhost:3000.
+     */
+    public synchronized String start() {
+        Validate.validState(server == null, "The server has already been started");
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        server = vertx.createHttpServer(new HttpServerOptions().setHost("localhost"))
+            .requestHandler(this::handle)
+            .websocketHandler(this::handleWebSocket)
+            .listen(configuration.getPort(), result -> {
+                if (result.succeeded()) {
+                    listening.complete(result.result());
+                } else {
+                    listening.completeExceptionally(result.cause());
+                }
+            });
+        return "http://localhost:" + await(listening).actualPort();
+    }
+
+    /**
+     * @return the generator of the served chain, to compare the served data.
+     */
+    public ChainDataGenerator getChainData() {
+        return chainData;
+    }
+
+    /**
+     * @return the number of http requests received.
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return the number of open websockets.
+     */
+    public int getWebSocketCount() {
+        return webSockets.get();
+    }
+
+    /**
+     * Stops the server, and its vertx instance if it's its own, waiting until it's closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        server.close(result -> closed.complete(null));
+        await(closed);
+        server = null;
+        if (ownVertx) {
+            CompletableFuture<Void> vertxClosed = new CompletableFuture<>();
+            vertx.close(result -> vertxClosed.complete(null));
+            await(vertxClosed);
+        }
+    }
+
+    private void handle(HttpServerRequest request) {
+        requests.incrementAndGet();
+        request.bodyHandler(body -> {
+            MockResponse response = random.nextDouble() < configuration.getErrorRate()
+                ? error(configuration.getErrorStatus(), "InternalError",
+                "Injected error for " + request.path())
+                : respond(request.method(), request.uri(), request.path(), request.params(),
+                    body);
+            long latency = configuration.getLatency().toMillis();
+            if (latency > 0) {
+                vertx.setTimer(latency, id -> send(request, response));
+            } else {
+                send(request, response);
+            }
+        });
+    }
+
+    private void send(HttpServerRequest request, MockResponse response) {
+        request.response().setStatusCode(response.status)
+            .putHeader("Content-Type", "application/json").end(response.body);
+    }
+
+    /**
+     * The responses of the get requests only depend on their uri, they are cached.
+     */
+    private MockResponse respond(HttpMethod method, String uri, String path, MultiMap params,
+        Buffer body) {
+        try {
+            String[] segments = path.substring(1).split("/");
+            switch (method) {
+                case GET:
+                    return responses.computeIfAbsent(uri, key -> get(segments, params));
+                case POST:
+                    return post(segments, objectMapper.readTree(body.getBytes()));
+                case PUT:
+                    return put(segments);
+                default:
+                    return notFound(path);
+            }
+        } catch (IOException | RuntimeException e) {
+            return error(409, "InvalidArgument", e.getMessage());
+        }
+    }
+
+    private MockResponse get(String[] segments, MultiMap params) {
+        String resource = segments[0];
+        if (segments.length == 2 && resource.equals("node") && segments[1].equals("info")) {
+            NodeInfoDTO dto = new NodeInfoDTO();
+            dto.setFriendlyName("mock-catapult");
+            dto.setHost("localhost");
+            dto.setNetworkIdentifier(configuration.getNetworkType().getValue());
+            dto.setPublicKey(chainData.createBlock(BigInteger.ONE).getSignerPublicAccount()
+                .getPublicKey().toHex());
+            return ok(dto);
+        }
+        if (segments.length == 1 && resource.equals("network")) {
+            NetworkType networkType = configuration.getNetworkType();
+            NetworkTypeDTO dto = new NetworkTypeDTO();
+            dto.setName(networkType.name().toLowerCase());
+            dto.setDescription("mock catapult " + networkType.name().toLowerCase() + " network");
+            return ok(dto);
+        }
+        if (segments.length == 2 && resource.equals("chain") && segments[1].equals("height")) {
+            HeightInfoDTO dto = new HeightInfoDTO();
+            dto.setHeight(configuration.getChainHeight());
+            return ok(dto);
+        }
+        if (resource.equals("block") && segments.length >= 2) {
+            return getBlock(segments, params);
+        }
+        if (segments.length == 4 && resource.equals("blocks") && segments[2].equals("limit")) {
+            BigInteger height = new BigInteger(segments[1]);
+            int limit = Math.min(Integer.parseInt(segments[3]), 100);
+            List<Object> blocks = new ArrayList<>();
+            for (int i = 0; i < limit; i++) {
+                chainData.getBlock(height.add(BigInteger.valueOf(i)))
+                    .ifPresent(block -> blocks.add(mapper.toDto(block)));
+            }
+            return ok(blocks);
+        }
+        if (segments.length == 2 && resource.equals("account")) {
+            return ok(mapper.toDto(chainData.getAccountInfo(toAddress(segments[1]))));
+        }
+        if (resource.equals("account") && segments.length >= 3
+            && segments[2].equals("transactions")) {
+            return getAccountTransactions(segments, params);
+        }
+        if (segments.length == 2 && resource.equals("transaction")) {
+            return chainData.getTransaction(segments[1]).map(mapper::toDto).map(this::ok)
+                .orElseGet(() -> notFound(segments[1]));
+        }
+        if (segments.length == 2 && resource.equals("namespace")) {
+            return ok(mapper.toDto(chainData.getNamespace(NamespaceId.createFromId(
+                new BigInteger(segments[1], 16)))));
+        }
+        return notFound(String.join("/", segments));
+    }
+
+    private MockResponse getBlock(String[] segments, MultiMap params) {
+        BigInteger height = new BigInteger(segments[1]);
+        Optional<BlockInfo> block = chainData.getBlock(height);
+        if (!block.isPresent()) {
+            return notFound("block " + height);
+        }
+        if (segments.length == 2) {
+            return ok(mapper.toDto(block.get()));
+        }
+        if (segments[2].equals("transactions")) {
+            return ok(page(chainData.getBlockTransactions(height), params));
+        }
+        if (segments[2].equals("receipts")) {
+            return ok(mapper.toDto(chainData.getStatement(height)));
+        }
+        return notFound(String.join("/", segments));
+    }
+
+    /**
+     * The account id is a public key or an address. The account transactions are the ones it has
+     * signed, only a public key can sign.
+     */
+    private MockResponse getAccountTransactions(String[] segments, MultiMap params) {
+        String accountId = segments[1];
+        Optional<PublicAccount> account = accountId.length() == 64 ? Optional
+            .of(PublicAccount.createFromPublicKey(accountId, configuration.getNetworkType()))
+            : Optional.empty();
+        Address address = toAddress(accountId);
+        String group = segments.length == 3 ? "" : segments[3];
+        switch (group) {
+            case "":
+            case "outgoing":
+                return ok(page(account.map(chainData::getOutgoingTransactions)
+                    .orElse(Collections.emptyList()), params));
+            case "incoming":
+                return ok(page(chainData.getIncomingTransactions(address), params));
+            case "unconfirmed":
+            case "partial":
+                return ok(Collections.emptyList());
+            default:
+                return notFound(String.join("/", segments));
+        }
+    }
+
+    private MockResponse post(String[] segments, JsonNode body) {
+        if (segments.length == 1 && segments[0].equals("account")) {
+            List<String> accountIds = ids(body, "addresses");
+            accountIds.addAll(ids(body, "publicKeys"));
+            return ok(accountIds.stream().map(this::toAddress).map(chainData::getAccountInfo)
+                .map(mapper::toDto).collect(Collectors.toList()));
+        }
+        if (segments.length == 1 && segments[0].equals("transaction")) {
+            return ok(ids(body, "transactionIds").stream().map(chainData::getTransaction)
+                .filter(Optional::isPresent).map(transaction -> mapper.toDto(transaction.get()))
+                .collect(Collectors.toList()));
+        }
+        if (segments.length == 2 && segments[0].equals("namespace") && segments[1]
+            .equals("names")) {
+            return ok(ids(body, "namespaceIds").stream()
+                .map(id -> chainData.getNamespaceName(NamespaceId.createFromId(
+                    new BigInteger(id, 16)))).map(mapper::toDto).collect(Collectors.toList()));
+        }
+        return notFound(String.join("/", segments));
+    }
+
+    private MockResponse put(String[] segments) {
+        if (segments[0].equals("transaction") && segments.length <= 2) {
+            AnnounceTransactionInfoDTO dto = new AnnounceTransactionInfoDTO();
+            dto.setMessage("packet 9 was pushed to the network via /" + String.join("/",
+                segments));
+            return new MockResponse(202, mapper.print(dto));
+        }
+        return notFound(String.join("/", segments));
+    }
+
+    /**
+     * @param transactions all the transactions sorted by id.
+     * @return the page after the id param in the order of the ordering param.
+     */
+    private List<Object> page(List<Transaction> transactions, MultiMap params) {
+        List<String> types = params.getAll("type");
+        if (!types.isEmpty() && !types.contains(TRANSFER_TYPE)) {
+            return Collections.emptyList();
+        }
+        String pageSizeParam = params.get("pageSize");
+        int pageSize = Math.max(10,
+            Math.min(100, pageSizeParam == null ? 10 : Integer.parseInt(pageSizeParam)));
+        boolean ascending = "id".equals(params.get("ordering"));
+        String id = params.get("id");
+        List<Transaction> ordered = new ArrayList<>(transactions);
+        if (!ascending) {
+            Collections.reverse(ordered);
+        }
+        return ordered.stream().filter(transaction -> {
+            if (id == null) {
+                return true;
+            }
+            int comparison = getId(transaction).compareToIgnoreCase(id);
+            return ascending ? comparison > 0 : comparison < 0;
+        }).limit(pageSize).map(mapper::toDto).collect(Collectors.toList());
+    }
+
+    private void handleWebSocket(ServerWebSocket socket) {
+        if (!"/ws".equals(socket.path())) {
+            socket.reject();
+            return;
+        }
+        webSockets.incrementAndGet();
+        Map<String, String> channels = new LinkedHashMap<>();
+        ObjectNode uid = objectMapper.createObjectNode()
+            .put("uid", "mock" + uids.incrementAndGet());
+        socket.writeTextMessage(uid.toString());
+        socket.handler(buffer -> {
+            try {
+                JsonNode message = objectMapper.readTree(buffer.getBytes());
+                if (message.has("subscribe")) {
+                    String channel = message.get("subscribe").asText();
+                    channels.put(channel, createTransferMessage(channel));
+                } else if (message.has("unsubscribe")) {
+                    channels.remove(message.get("unsubscribe").asText());
+                }
+            } catch (IOException e) {
+                socket.close();
+            }
+        });
+        AtomicLong height = new AtomicLong(configuration.getChainHeight().longValue());
+        long timer = vertx.setPeriodic(configuration.getListenerInterval().toMillis(), id -> {
+            for (int i = 0; i < configuration.getListenerBatchSize(); i++) {
+                publish(socket, channels, BigInteger.valueOf(height.incrementAndGet()));
+            }
+        });
+        socket.closeHandler(v -> {
+            vertx.cancelTimer(timer);
+            webSockets.decrementAndGet();
+        });
+    }
+
+    /**
+     * Sends the new block to the block channel and the transfer message to each subscribed
+     * address channel.
+     */
+    private void publish(ServerWebSocket socket, Map<String, String> channels,
+        BigInteger height) {
+        channels.forEach((channel, transferMessage) -> {
+            if (channel.equals("block")) {
+                socket.writeTextMessage(mapper.print(mapper.toDto(chainData.createBlock(height))));
+            } else if (transferMessage != null) {
+                socket.writeTextMessage(transferMessage);
+            }
+        });
+    }
+
+    /**
+     * The same transfer is sent each time to an address channel, its generation would otherwise
+     * limit the message rate.
+     *
+     * @return the transfer message of a confirmed or unconfirmed added channel, null for the other
+     * channels.
+     */
+    private String createTransferMessage(String channel) {
+        String[] parts = channel.split("/");
+        if (parts.length != 2 || !parts[0].equals("confirmedAdded") && !parts[0]
+            .equals("unconfirmedAdded")) {
+            return null;
+        }
+        BigInteger height = configuration.getChainHeight();
+        Transaction transaction = chainData.createTransaction(
+            chainData.createBlock(height).getSignerPublicAccount(),
+            Address.createFromRawAddress(parts[1]), height, 0);
+        ObjectNode message = mapper.toTree(mapper.toDto(transaction));
+        ((ObjectNode) message.get("meta")).put("channelName", parts[0]);
+        return mapper.print(message);
+    }
+
+    private MockResponse ok(Object dto) {
+        return new MockResponse(200, mapper.print(dto));
+    }
+
+    private MockResponse notFound(String resource) {
+        return error(404, "ResourceNotFound", "no resource exists with id '" + resource + "'");
+    }
+
+    private MockResponse error(int status, String code, String message) {
+        ObjectNode json = objectMapper.createObjectNode().put("code", code)
+            .put("message", message);
+        return new MockResponse(status, json.toString());
+    }
+
+    /**
+     * @param accountId a public key or an address.
+     * @return the address of the account.
+     */
+    private Address toAddress(String accountId) {
+        return accountId.length() == 64 ? Address
+            .createFromPublicKey(accountId, configuration.getNetworkType())
+            : Address.createFromRawAddress(accountId);
+    }
+
+    private static List<String> ids(JsonNode body, String field) {
+        List<String> ids = new ArrayList<>();
+        body.path(field).forEach(id -> ids.add(id.asText()));
+        return ids;
+    }
+
+    private static String getId(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getId).orElse("");
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * A status and its json body.
+     */
+    private static class MockResponse {
+
+        private final int status;
+
+        private final String body;
+
+        private MockResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
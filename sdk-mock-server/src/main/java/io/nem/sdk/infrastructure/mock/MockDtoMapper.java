@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.nem.sdk.infrastructure.vertx.JsonHelperJackson2;
+import io.nem.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
+import io.nem.sdk.infrastructure.vertx.mappers.TransactionMapper;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Importances;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.namespace.MosaicAlias;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.namespace.NamespaceName;
+import io.nem.sdk.model.receipt.BalanceChangeReceipt;
+import io.nem.sdk.model.receipt.Receipt;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.receipt.TransactionStatement;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.openapi.vertx.model.AccountDTO;
+import io.nem.sdk.openapi.vertx.model.AccountInfoDTO;
+import io.nem.sdk.openapi.vertx.model.AccountTypeEnum;
+import io.nem.sdk.openapi.vertx.model.AliasDTO;
+import io.nem.sdk.openapi.vertx.model.AliasTypeEnum;
+import io.nem.sdk.openapi.vertx.model.BalanceChangeReceiptDTO;
+import io.nem.sdk.openapi.vertx.model.BlockDTO;
+import io.nem.sdk.openapi.vertx.model.BlockInfoDTO;
+import io.nem.sdk.openapi.vertx.model.BlockMetaDTO;
+import io.nem.sdk.openapi.vertx.model.Mosaic;
+import io.nem.sdk.openapi.vertx.model.NamespaceDTO;
+import io.nem.sdk.openapi.vertx.model.NamespaceInfoDTO;
+import io.nem.sdk.openapi.vertx.model.NamespaceMetaDTO;
+import io.nem.sdk.openapi.vertx.model.NamespaceNameDTO;
+import io.nem.sdk.openapi.vertx.model.NamespaceRegistrationTypeEnum;
+import io.nem.sdk.openapi.vertx.model.NetworkTypeEnum;
+import io.nem.sdk.openapi.vertx.model.ReceiptTypeEnum;
+import io.nem.sdk.openapi.vertx.model.SourceDTO;
+import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.vertx.model.TransactionStatementBodyDTO;
+import io.nem.sdk.openapi.vertx.model.TransactionStatementDTO;
+import java.math.BigInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Maps the generated models to the json of the rest dtos, the reverse of the client mappers.
+ */
+class MockDtoMapper {
+
+    private final ObjectMapper objectMapper = JsonHelperJackson2
+        .configureMapper(new ObjectMapper());
+
+    private final JsonHelperJackson2 jsonHelper = new JsonHelperJackson2(objectMapper);
+
+    private final TransactionMapper transactionMapper = new GeneralTransactionMapper(jsonHelper);
+
+    /**
+     * @param object a dto or a json tree.
+     * @return the json.
+     */
+    String print(Object object) {
+        return jsonHelper.print(object);
+    }
+
+    /**
+     * @param dto a dto.
+     * @return the json tree of the dto.
+     */
+    ObjectNode toTree(Object dto) {
+        return objectMapper.valueToTree(dto);
+    }
+
+    TransactionInfoDTO toDto(Transaction transaction) {
+        return transactionMapper.map(transaction);
+    }
+
+    AccountInfoDTO toDto(AccountInfo accountInfo) {
+        Importances importance = accountInfo.getImportances().get(0);
+        AccountDTO dto = new AccountDTO();
+        dto.setAddress(accountInfo.getAddress().encoded());
+        dto.setAddressHeight(accountInfo.getAddressHeight());
+        dto.setPublicKey(accountInfo.getPublicKey());
+        dto.setPublicKeyHeight(accountInfo.getPublicKeyHeight());
+        dto.setAccountType(AccountTypeEnum.fromValue(accountInfo.getAccountType().getValue()));
+        dto.setImportance(importance.getValue());
+        dto.setImportanceHeight(importance.getHeight());
+        dto.setMosaics(accountInfo.getMosaics().stream().map(mosaic -> {
+            Mosaic mosaicDto = new Mosaic();
+            mosaicDto.setId(mosaic.getId().getIdAsHex());
+            mosaicDto.setAmount(mosaic.getAmount());
+            return mosaicDto;
+        }).collect(Collectors.toList()));
+        AccountInfoDTO info = new AccountInfoDTO();
+        info.setAccount(dto);
+        return info;
+    }
+
+    BlockInfoDTO toDto(BlockInfo block) {
+        BlockMetaDTO meta = new BlockMetaDTO();
+        meta.setHash(block.getHash());
+        meta.setGenerationHash(block.getGenerationHash());
+        meta.setTotalFee(block.getTotalFee());
+        meta.setNumTransactions(block.getNumTransactions());
+        meta.setStateHashSubCacheMerkleRoots(block.getSubCacheMerkleRoots());
+        BlockDTO dto = new BlockDTO();
+        dto.setSignature(block.getSignature());
+        dto.setSignerPublicKey(block.getSignerPublicAccount().getPublicKey().toHex());
+        dto.setVersion(block.getVersion());
+        dto.setNetwork(NetworkTypeEnum.fromValue(block.getNetworkType().getValue()));
+        dto.setType(block.getType());
+        dto.setHeight(block.getHeight());
+        dto.setTimestamp(block.getTimestamp());
+        dto.setDifficulty(block.getDifficulty());
+        dto.setFeeMultiplier(block.getFeeMultiplier());
+        dto.setPreviousBlockHash(block.getPreviousBlockHash());
+        dto.setTransactionsHash(block.getBlockTransactionsHash());
+        dto.setReceiptsHash(block.getBlockReceiptsHash());
+        dto.setStateHash(block.getStateHash());
+        dto.setBeneficiaryPublicKey(
+            block.getBeneficiaryPublicAccount().getPublicKey().toHex());
+        BlockInfoDTO info = new BlockInfoDTO();
+        info.setMeta(meta);
+        info.setBlock(dto);
+        return info;
+    }
+
+    /**
+     * The mapper doesn't write empty arrays, the statements arrays are added when empty as the
+     * clients expect them.
+     */
+    ObjectNode toDto(Statement statement) {
+        ObjectNode json = objectMapper.createObjectNode();
+        json.putPOJO("transactionStatements", statement.getTransactionStatements().stream()
+            .map(this::toDto).collect(Collectors.toList()));
+        json.putArray("addressResolutionStatements");
+        json.putArray("mosaicResolutionStatements");
+        return json;
+    }
+
+    private TransactionStatementDTO toDto(TransactionStatement statement) {
+        SourceDTO source = new SourceDTO();
+        source.setPrimaryId(statement.getReceiptSource().getPrimaryId());
+        source.setSecondaryId(statement.getReceiptSource().getSecondaryId());
+        TransactionStatementBodyDTO body = new TransactionStatementBodyDTO();
+        body.setHeight(statement.getHeight());
+        body.setSource(source);
+        body.setReceipts(statement.getReceipts().stream().map(this::toDto)
+            .collect(Collectors.toList()));
+        TransactionStatementDTO dto = new TransactionStatementDTO();
+        dto.setStatement(body);
+        return dto;
+    }
+
+    /**
+     * Only the balance change receipts are generated.
+     */
+    private Object toDto(Receipt receipt) {
+        BalanceChangeReceipt balanceChange = (BalanceChangeReceipt) receipt;
+        BalanceChangeReceiptDTO dto = new BalanceChangeReceiptDTO();
+        dto.setVersion(balanceChange.getVersion().getValue());
+        dto.setType(ReceiptTypeEnum.fromValue(balanceChange.getType().getValue()));
+        dto.setTargetPublicKey(balanceChange.getAccount().getPublicKey().toHex());
+        dto.setMosaicId(balanceChange.getMosaicId().getIdAsHex());
+        dto.setAmount(balanceChange.getAmount());
+        return dto;
+    }
+
+    NamespaceInfoDTO toDto(NamespaceInfo namespace) {
+        NamespaceMetaDTO meta = new NamespaceMetaDTO();
+        meta.setId(namespace.getMetaId());
+        meta.setActive(namespace.isActive());
+        meta.setIndex(namespace.getIndex());
+        NamespaceDTO dto = new NamespaceDTO();
+        dto.setRegistrationType(
+            NamespaceRegistrationTypeEnum.fromValue(namespace.getRegistrationType().getValue()));
+        dto.setDepth(namespace.getDepth());
+        dto.setLevel0(namespace.getLevels().get(0).getIdAsHex());
+        dto.setParentId(namespace.isRoot() ? NamespaceId.createFromId(BigInteger.ZERO).getIdAsHex()
+            : namespace.parentNamespaceId().getIdAsHex());
+        dto.setOwnerPublicKey(namespace.getOwner().getPublicKey().toHex());
+        dto.setOwnerAddress(namespace.getOwner().getAddress().encoded());
+        dto.setStartHeight(namespace.getStartHeight());
+        dto.setEndHeight(namespace.getEndHeight());
+        if (namespace.getAlias() instanceof MosaicAlias) {
+            AliasDTO alias = new AliasDTO();
+            alias.setType(AliasTypeEnum.fromValue(namespace.getAlias().getType().getValue()));
+            alias.setMosaicId(((MosaicAlias) namespace.getAlias()).getAliasValue().getIdAsHex());
+            dto.setAlias(alias);
+        }
+        NamespaceInfoDTO info = new NamespaceInfoDTO();
+        info.setMeta(meta);
+        info.setNamespace(dto);
+        return info;
+    }
+
+    NamespaceNameDTO toDto(NamespaceName name) {
+        NamespaceNameDTO dto = new NamespaceNameDTO();
+        dto.setId(name.getNamespaceId().getIdAsHex());
+        dto.setName(name.getName());
+        name.getParentId().ifPresent(parentId -> dto.setParentId(parentId.getIdAsHex()));
+        return dto;
+    }
+}
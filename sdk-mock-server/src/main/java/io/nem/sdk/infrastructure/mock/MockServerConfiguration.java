@@ -0,0 +1,309 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.sdk.model.blockchain.NetworkType;
+import java.math.BigInteger;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines the chain a {@link MockCatapultServer} serves, how big its pages and messages are and
+ * how slow and unreliable the server is.
+ */
+public class MockServerConfiguration {
+
+    /**
+     * The network type of the served chain. (optional, default to MIJIN_TEST)
+     */
+    private NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    /**
+     * The height of the served chain, the blocks above it are not found. (optional, default to
+     * 1000)
+     */
+    private BigInteger chainHeight = BigInteger.valueOf(1000);
+
+    /**
+     * Number of transactions of each block. (optional, default to 25)
+     */
+    private int transactionsPerBlock = 25;
+
+    /**
+     * Number of confirmed transactions of each account. (optional, default to 100)
+     */
+    private int accountTransactions = 100;
+
+    /**
+     * Number of receipts of each block statement. (optional, default to 10)
+     */
+    private int receiptsPerBlock = 10;
+
+    /**
+     * Length of the plain message of the transfer transactions. (optional, default to 32)
+     */
+    private int messageSize = 32;
+
+    /**
+     * How long the server waits before each response. (optional, default to no latency)
+     */
+    private Duration latency = Duration.ZERO;
+
+    /**
+     * The fraction of the requests answered with the error status, between 0 and 1. (optional,
+     * default to 0)
+     */
+    private double errorRate;
+
+    /**
+     * The status of the injected errors. (optional, default to 500)
+     */
+    private int errorStatus = 500;
+
+    /**
+     * How often the subscribed websocket channels get a new message. (optional, default to 1
+     * second)
+     */
+    private Duration listenerInterval = Duration.ofSeconds(1);
+
+    /**
+     * How many messages each subscribed websocket channel gets each listener interval, with the
+     * interval it sets the message rate. (optional, default to 1)
+     */
+    private int listenerBatchSize = 1;
+
+    /**
+     * The seed of the generated data and of the injected errors, the same seed serves the same
+     * chain. (optional, default to 0)
+     */
+    private long seed;
+
+    /**
+     * The port the server listens to on localhost, 0 for a random free port. (optional, default
+     * to 0)
+     */
+    private int port;
+
+    public NetworkType getNetworkType() {
+        return networkType;
+    }
+
+    public BigInteger getChainHeight() {
+        return chainHeight;
+    }
+
+    public int getTransactionsPerBlock() {
+        return transactionsPerBlock;
+    }
+
+    public int getAccountTransactions() {
+        return accountTransactions;
+    }
+
+    public int getReceiptsPerBlock() {
+        return receiptsPerBlock;
+    }
+
+    public int getMessageSize() {
+        return messageSize;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public Duration getListenerInterval() {
+        return listenerInterval;
+    }
+
+    public int getListenerBatchSize() {
+        return listenerBatchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets the network type returning this configuration to nest configuration.
+     *
+     * @param networkType the network type of the served chain.
+     * @return this configuration
+     */
+    public MockServerConfiguration networkType(NetworkType networkType) {
+        Validate.notNull(networkType, "networkType must not be null");
+        this.networkType = networkType;
+        return this;
+    }
+
+    /**
+     * Sets the chain height returning this configuration to nest configuration.
+     *
+     * @param chainHeight the height of the served chain.
+     * @return this configuration
+     */
+    public MockServerConfiguration chainHeight(BigInteger chainHeight) {
+        Validate.isTrue(chainHeight != null && chainHeight.signum() > 0,
+            "chainHeight must be positive");
+        this.chainHeight = chainHeight;
+        return this;
+    }
+
+    /**
+     * Sets the transactions per block returning this configuration to nest configuration.
+     *
+     * @param transactionsPerBlock number of transactions of each block.
+     * @return this configuration
+     */
+    public MockServerConfiguration transactionsPerBlock(int transactionsPerBlock) {
+        Validate.isTrue(transactionsPerBlock >= 0, "transactionsPerBlock must not be negative");
+        this.transactionsPerBlock = transactionsPerBlock;
+        return this;
+    }
+
+    /**
+     * Sets the account transactions returning this configuration to nest configuration.
+     *
+     * @param accountTransactions number of confirmed transactions of each account.
+     * @return this configuration
+     */
+    public MockServerConfiguration accountTransactions(int accountTransactions) {
+        Validate.isTrue(accountTransactions >= 0, "accountTransactions must not be negative");
+        this.accountTransactions = accountTransactions;
+        return this;
+    }
+
+    /**
+     * Sets the receipts per block returning this configuration to nest configuration.
+     *
+     * @param receiptsPerBlock number of receipts of each block statement.
+     * @return this configuration
+     */
+    public MockServerConfiguration receiptsPerBlock(int receiptsPerBlock) {
+        Validate.isTrue(receiptsPerBlock >= 0, "receiptsPerBlock must not be negative");
+        this.receiptsPerBlock = receiptsPerBlock;
+        return this;
+    }
+
+    /**
+     * Sets the message size returning this configuration to nest configuration.
+     *
+     * @param messageSize length of the plain message of the transfer transactions.
+     * @return this configuration
+     */
+    public MockServerConfiguration messageSize(int messageSize) {
+        Validate.isTrue(messageSize >= 0, "messageSize must not be negative");
+        this.messageSize = messageSize;
+        return this;
+    }
+
+    /**
+     * Sets the latency returning this configuration to nest configuration.
+     *
+     * @param latency how long the server waits before each response.
+     * @return this configuration
+     */
+    public MockServerConfiguration latency(Duration latency) {
+        Validate.isTrue(latency != null && !latency.isNegative(), "latency must not be negative");
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the error rate returning this configuration to nest configuration.
+     *
+     * @param errorRate the fraction of the requests answered with the error status.
+     * @return this configuration
+     */
+    public MockServerConfiguration errorRate(double errorRate) {
+        Validate.inclusiveBetween(0.0, 1.0, errorRate, "errorRate must be between 0 and 1");
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Sets the error status returning this configuration to nest configuration.
+     *
+     * @param errorStatus the status of the injected errors.
+     * @return this configuration
+     */
+    public MockServerConfiguration errorStatus(int errorStatus) {
+        Validate.inclusiveBetween(400, 599, errorStatus, "errorStatus must be an error status");
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    /**
+     * Sets the listener interval returning this configuration to nest configuration.
+     *
+     * @param listenerInterval how often the subscribed channels get a new message.
+     * @return this configuration
+     */
+    public MockServerConfiguration listenerInterval(Duration listenerInterval) {
+        Validate.isTrue(listenerInterval != null && listenerInterval.toMillis() > 0,
+            "listenerInterval must be at least 1 millisecond");
+        this.listenerInterval = listenerInterval;
+        return this;
+    }
+
+    /**
+     * Sets the listener batch size returning this configuration to nest configuration.
+     *
+     * @param listenerBatchSize how many messages each subscribed channel gets each interval.
+     * @return this configuration
+     */
+    public MockServerConfiguration listenerBatchSize(int listenerBatchSize) {
+        Validate.isTrue(listenerBatchSize > 0, "listenerBatchSize must be positive");
+        this.listenerBatchSize = listenerBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the seed returning this configuration to nest configuration.
+     *
+     * @param seed the seed of the generated data and of the injected errors.
+     * @return this configuration
+     */
+    public MockServerConfiguration seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the port returning this configuration to nest configuration.
+     *
+     * @param port the port the server listens to, 0 for a random free port.
+     * @return this configuration
+     */
+    public MockServerConfiguration port(int port) {
+        Validate.inclusiveBetween(0, 65535, port, "port must be between 0 and 65535");
+        this.port = port;
+        return this;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.mock;
+
+import io.nem.sdk.api.AccountHistoryCheckpoints;
+import io.nem.sdk.api.Listener;
+import io.nem.sdk.api.QueryParams;
+import io.nem.sdk.api.RepositoryCallException;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.api.TransactionSearchCriteria;
+import io.nem.sdk.infrastructure.AccountHistoryServiceImpl;
+import io.nem.sdk.infrastructure.Paginator;
+import io.nem.sdk.infrastructure.okhttp.RepositoryFactoryOkHttpImpl;
+import io.nem.sdk.infrastructure.vertx.RepositoryFactoryVertxImpl;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.receipt.BalanceChangeReceipt;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.nem.sdk.model.transaction.TransferTransaction;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests of {@link MockCatapultServer} with both clients.
+ */
+public class MockCatapultServerTest {
+
+    private static final PublicAccount ACCOUNT = PublicAccount.createFromPublicKey(
+        "1DFB2FAA9E7F054168B0C5FCB84F4DEB62CC2B4D317D861F3168D161F54EA78B",
+        NetworkType.MIJIN_TEST);
+
+    private MockCatapultServer server;
+
+    private RepositoryFactory repositoryFactory;
+
+    public enum RepositoryType {
+        VERTX, OKHTTP
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (repositoryFactory != null) {
+            repositoryFactory.close();
+        }
+        server.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldServeTheChain(RepositoryType type) {
+        start(type, new MockServerConfiguration().chainHeight(BigInteger.valueOf(50)));
+
+        Assertions.assertEquals(NetworkType.MIJIN_TEST,
+            repositoryFactory.getNetworkType().blockingFirst());
+        Assertions.assertEquals(BigInteger.valueOf(50),
+            repositoryFactory.createChainRepository().getBlockchainHeight().blockingFirst());
+        BlockInfo block = repositoryFactory.createBlockRepository()
+            .getBlockByHeight(BigInteger.TEN).blockingFirst();
+        BlockInfo expected = server.getChainData().getBlock(BigInteger.TEN).get();
+        Assertions.assertEquals(expected.getHash(), block.getHash());
+        Assertions.assertEquals(expected.getPreviousBlockHash(), block.getPreviousBlockHash());
+        Assertions.assertEquals(expected.getSignerPublicAccount(),
+            block.getSignerPublicAccount());
+        Assertions.assertEquals(expected.getGenerationHash(),
+            repositoryFactory.createBlockRepository().getBlockByHeight(BigInteger.TEN)
+                .blockingFirst().getGenerationHash());
+        Assertions.assertEquals(5, repositoryFactory.createBlockRepository()
+            .getBlocksByHeightWithLimit(BigInteger.valueOf(46), 25).blockingFirst().size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldServeTheAccounts(RepositoryType type) {
+        start(type, new MockServerConfiguration());
+        List<Address> addresses = IntStream.range(1, 101).mapToObj(
+            i -> Address.createFromPublicKey(String.format("%064X", i), NetworkType.MIJIN_TEST))
+            .collect(Collectors.toList());
+
+        AccountInfo accountInfo = repositoryFactory.createAccountRepository()
+            .getAccountInfo(ACCOUNT.getAddress()).blockingFirst();
+        List<AccountInfo> accountsInfo = repositoryFactory.createAccountRepository()
+            .getAccountsInfo(addresses).blockingFirst();
+
+        AccountInfo expected = server.getChainData().getAccountInfo(ACCOUNT.getAddress());
+        Assertions.assertEquals(ACCOUNT.getAddress(), accountInfo.getAddress());
+        Assertions.assertEquals(expected.getMosaics().get(0).getAmount(),
+            accountInfo.getMosaics().get(0).getAmount());
+        Assertions.assertEquals(addresses, accountsInfo.stream().map(AccountInfo::getAddress)
+            .collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldWalkTheTransactionPages(RepositoryType type) {
+        start(type, new MockServerConfiguration().transactionsPerBlock(45).accountTransactions(33)
+            .messageSize(100));
+
+        List<Transaction> transactions = Paginator.blockTransactions(
+            repositoryFactory.createBlockRepository(), BigInteger.TEN, new QueryParams(20, null))
+            .toList().blockingGet();
+
+        Assertions.assertEquals(45, transactions.size());
+        Assertions.assertEquals(server.getChainData().getBlockTransactions(BigInteger.TEN).stream()
+            .map(MockCatapultServerTest::getHash).collect(Collectors.toList()),
+            reversedHashes(transactions));
+        TransferTransaction transfer = (TransferTransaction) transactions.get(0);
+        Assertions.assertEquals(100, transfer.getMessage().getPayload().length());
+        Assertions.assertEquals(ChainDataGenerator.MOSAIC_ID, transfer.getMosaics().get(0).getId());
+
+        List<Transaction> outgoing = Paginator.outgoingTransactions(
+            repositoryFactory.createAccountRepository(), ACCOUNT,
+            new TransactionSearchCriteria().pageSize(10).order("id")).toList().blockingGet();
+        Assertions.assertEquals(33, outgoing.size());
+        Assertions.assertTrue(outgoing.stream()
+            .allMatch(transaction -> transaction.getSigner().get().equals(ACCOUNT)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldWalkAllThePagesWhenThePageSizeIsClamped(RepositoryType type) {
+        start(type, new MockServerConfiguration().accountTransactions(250));
+
+        List<Transaction> outgoing = Paginator.outgoingTransactions(
+            repositoryFactory.createAccountRepository(), ACCOUNT,
+            new TransactionSearchCriteria().pageSize(500)).toList().blockingGet();
+
+        Assertions.assertEquals(250, outgoing.size());
+        Assertions.assertEquals(250,
+            outgoing.stream().map(MockCatapultServerTest::getHash).distinct().count());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldMergeAllThePagesWhenThePageSizeIsClamped(RepositoryType type) {
+        start(type, new MockServerConfiguration().accountTransactions(150));
+        PublicAccount other = PublicAccount.createFromPublicKey(String.format("%064X", 2),
+            NetworkType.MIJIN_TEST);
+
+        AccountHistoryCheckpoints checkpoints = new AccountHistoryCheckpoints();
+
+        List<Transaction> transactions = new AccountHistoryServiceImpl(repositoryFactory)
+            .transactions(Arrays.asList(ACCOUNT, other),
+                new TransactionSearchCriteria().pageSize(500), checkpoints)
+            .toList().blockingGet();
+
+        // The mock transactions of both accounts share their positions, the merge keeps one.
+        Assertions.assertEquals(150, transactions.size());
+        String oldest = transactions.get(149).getTransactionInfo().get().getId().get();
+        Assertions.assertEquals(oldest, checkpoints.getId(ACCOUNT.getAddress()).get());
+        Assertions.assertEquals(oldest, checkpoints.getId(other.getAddress()).get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldFindTheTransactionsByIdAndHash(RepositoryType type) {
+        start(type, new MockServerConfiguration());
+        Transaction expected = server.getChainData().getBlockTransactions(BigInteger.ONE).get(3);
+
+        Transaction byHash = repositoryFactory.createTransactionRepository()
+            .getTransaction(getHash(expected)).blockingFirst();
+
+        Assertions.assertEquals(getHash(expected), getHash(byHash));
+        Assertions.assertEquals(expected.getSigner(), byHash.getSigner());
+        Assertions.assertEquals(404, Assertions.assertThrows(RepositoryCallException.class,
+            () -> repositoryFactory.createTransactionRepository()
+                .getTransaction(getHash(expected).replaceFirst("^0", "F")).blockingFirst())
+            .getStatusCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldServeTheReceiptsAndNamespaces(RepositoryType type) {
+        start(type, new MockServerConfiguration().receiptsPerBlock(7));
+
+        Statement statement = repositoryFactory.createReceiptRepository()
+            .getBlockReceipts(BigInteger.TEN).blockingFirst();
+        Assertions.assertEquals(1, statement.getTransactionStatements().size());
+        Assertions.assertEquals(7,
+            statement.getTransactionStatements().get(0).getReceipts().size());
+        BalanceChangeReceipt receipt = (BalanceChangeReceipt) statement
+            .getTransactionStatements().get(0).getReceipts().get(6);
+        Assertions.assertEquals(BigInteger.valueOf(7), receipt.getAmount());
+
+        NamespaceId namespaceId = NamespaceId.createFromName("cat.currency");
+        NamespaceInfo namespace = repositoryFactory.createNamespaceRepository()
+            .getNamespace(namespaceId).blockingFirst();
+        Assertions.assertEquals(namespaceId, namespace.getId());
+        Assertions.assertTrue(namespace.isRoot());
+        Assertions.assertEquals(ChainDataGenerator.MOSAIC_ID,
+            namespace.getAlias().getAliasValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldInjectErrors(RepositoryType type) {
+        start(type, new MockServerConfiguration().errorRate(1).errorStatus(503));
+
+        RepositoryCallException exception = Assertions.assertThrows(
+            RepositoryCallException.class, () -> repositoryFactory.createChainRepository()
+                .getBlockchainHeight().blockingFirst());
+
+        Assertions.assertEquals(503, exception.getStatusCode());
+    }
+
+    @Test
+    void shouldWaitForTheLatency() {
+        start(RepositoryType.OKHTTP, new MockServerConfiguration().latency(Duration.ofMillis(200)));
+
+        long start = System.nanoTime();
+        repositoryFactory.createChainRepository().getBlockchainHeight().blockingFirst();
+
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertEquals(1, server.getRequestCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepositoryType.class)
+    void shouldSendTheListenerMessages(RepositoryType type) throws Exception {
+        start(type, new MockServerConfiguration().listenerInterval(Duration.ofMillis(20))
+            .listenerBatchSize(5));
+        Address address = ACCOUNT.getAddress();
+
+        try (Listener listener = repositoryFactory.createListener()) {
+            listener.open().get(5, TimeUnit.SECONDS);
+            List<BlockInfo> blocks = listener.newBlock().take(2).toList().blockingGet();
+            List<Transaction> transactions = listener.confirmed(address).take(20).toList()
+                .blockingGet();
+
+            Assertions
+                .assertTrue(blocks.get(0).getHeight().compareTo(BigInteger.valueOf(1000)) > 0);
+            Assertions.assertEquals(blocks.get(0).getHeight().add(BigInteger.ONE),
+                blocks.get(1).getHeight());
+            Assertions.assertTrue(transactions.stream().allMatch(
+                transaction -> address.equals(((TransferTransaction) transaction).getRecipient())));
+        }
+    }
+
+    private void start(RepositoryType type, MockServerConfiguration configuration) {
+        server = new MockCatapultServer(configuration);
+        String baseUrl = server.start();
+        repositoryFactory = type == RepositoryType.VERTX ? new RepositoryFactoryVertxImpl(baseUrl)
+            : new RepositoryFactoryOkHttpImpl(baseUrl);
+    }
+
+    private static List<String> reversedHashes(List<Transaction> transactions) {
+        List<String> hashes = transactions.stream().map(MockCatapultServerTest::getHash)
+            .collect(Collectors.toList());
+        Collections.reverse(hashes);
+        return hashes;
+    }
+
+    private static String getHash(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getHash).orElse(null);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransferTransactionDTO;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link DtoTypeAdapterFactory} adapters against Gson's reflective binding for the
+ * hot DTOs. Run it with {@code ./gradlew :sdk-okhttp-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoTypeAdapterBenchmark {
+
+    private static final Type PAGE_TYPE = new TypeToken<List<TransactionInfoDTO>>() {
+    }.getType();
+
+    @Param({"reflective", "adapters"})
+    private String binding;
+
+    private Gson gson;
+
+    private String page;
+
+    private List<TransactionInfoDTO> transactions;
+
+    private String statements;
+
+    private JsonObject transferTransaction;
+
+    @Setup
+    public void setup() {
+        gson = "adapters".equals(binding) ? JsonHelperGson.creatGson(false)
+            : JsonHelperGson.createReflectiveGsonBuilder(false).create();
+        String transfer = TestHelperOkHttp
+            .loadResource("TransactionMapping-shouldCreateStandaloneTransferTransaction.json");
+        String aggregate = TestHelperOkHttp
+            .loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json");
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            builder.append(i == 0 ? "" : ",").append(transfer).append(",").append(aggregate);
+        }
+        page = builder.append("]").toString();
+        transactions = gson.fromJson(page, PAGE_TYPE);
+        statements = TestHelperOkHttp.loadResource("Statements.json");
+        transferTransaction = gson.fromJson(transfer, JsonObject.class)
+            .getAsJsonObject("transaction");
+    }
+
+    @Benchmark
+    public List<TransactionInfoDTO> transactionPage() {
+        return gson.fromJson(page, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public StatementsDTO statements() {
+        return gson.fromJson(statements, StatementsDTO.class);
+    }
+
+    @Benchmark
+    public TransferTransactionDTO transferTransactionFromTree() {
+        return gson.fromJson(transferTransaction, TransferTransactionDTO.class);
+    }
+
+    @Benchmark
+    public String transactionPageToJson() {
+        return gson.toJson(transactions, PAGE_TYPE);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.receipt.Statement;
+import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes and maps a synthetic block statement of 5000 receipts (500 transaction statements of 10
+ * receipts mixing all the receipt kinds). The reflective binding reads the receipts as maps and
+ * the adapters binding reads them as json trees. Run it with {@code ./gradlew
+ * :sdk-okhttp-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReceiptMappingBenchmark {
+
+    private static final String PUBLIC_KEY =
+        "2FC3872A792933617D70E02AFF8FBDE152821A0DF0CA5FB04CB56FC3D21C8863";
+
+    private static final String[] RECEIPTS = {
+        "{\"version\":1,\"type\":8515,\"targetPublicKey\":\"" + PUBLIC_KEY
+            + "\",\"mosaicId\":\"85BBEA6CC462B244\",\"amount\":\"1000\"}",
+        "{\"version\":1,\"type\":12616,\"targetPublicKey\":\"" + PUBLIC_KEY
+            + "\",\"mosaicId\":\"85BBEA6CC462B244\",\"amount\":\"10000000\"}",
+        "{\"version\":1,\"type\":4685,\"senderPublicKey\":\"" + PUBLIC_KEY
+            + "\",\"recipientAddress\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\","
+            + "\"mosaicId\":\"85BBEA6CC462B244\",\"amount\":\"500\"}",
+        "{\"version\":1,\"type\":16717,\"artifactId\":\"941299B2B7E1291C\"}",
+        "{\"version\":1,\"type\":20803,\"mosaicId\":\"85BBEA6CC462B244\",\"amount\":\"123456\"}"};
+
+    @Param({"reflective", "adapters"})
+    private String binding;
+
+    private Gson gson;
+
+    private ReceiptMappingOkHttp mapping;
+
+    private String statementsJson;
+
+    private StatementsDTO statements;
+
+    @Setup
+    public void setup() {
+        gson = "adapters".equals(binding) ? JsonHelperGson.creatGson(false)
+            : JsonHelperGson.createReflectiveGsonBuilder(false).create();
+        mapping = new ReceiptMappingOkHttp(new JsonHelperGson(gson));
+        StringBuilder builder = new StringBuilder("{\"transactionStatements\":[");
+        for (int statement = 0; statement < 500; statement++) {
+            builder.append(statement == 0 ? "" : ",").append("{\"statement\":{\"height\":\"")
+                .append(statement + 1).append("\",\"source\":{\"primaryId\":").append(statement)
+                .append(",\"secondaryId\":0},\"receipts\":[");
+            for (int receipt = 0; receipt < 10; receipt++) {
+                builder.append(receipt == 0 ? "" : ",")
+                    .append(RECEIPTS[receipt % RECEIPTS.length]);
+            }
+            builder.append("]}}");
+        }
+        statementsJson = builder
+            .append("],\"addressResolutionStatements\":[],\"mosaicResolutionStatements\":[]}")
+            .toString();
+        statements = gson.fromJson(statementsJson, StatementsDTO.class);
+    }
+
+    @Benchmark
+    public Statement decodeAndMap() {
+        return mapping.createStatementFromDto(gson.fromJson(statementsJson, StatementsDTO.class),
+            NetworkType.MIJIN_TEST);
+    }
+
+    @Benchmark
+    public Statement map() {
+        return mapping.createStatementFromDto(statements, NetworkType.MIJIN_TEST);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiException;
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The fixed overhead of a repository call, without any I/O: the response or the error is handed
+ * to the callback as soon as the call starts and it's emitted on the trampoline scheduler. The
+ * error bodies are the json error of the rest gateway or the html error page of a proxy. Run it
+ * with {@code ./gradlew :sdk-okhttp-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryCallBenchmark {
+
+    @Param({"json", "html"})
+    private String errorBody;
+
+    private AbstractRepositoryOkHttpImpl repository;
+
+    private OkHttpClient httpClient;
+
+    private Request request;
+
+    private ApiException error;
+
+    @Setup
+    public void setup() {
+        ApiClient apiClient = new ApiClient();
+        httpClient = apiClient.getHttpClient();
+        request = new Request.Builder().url("http://localhost:3000/chain/height").build();
+        repository = new AbstractRepositoryOkHttpImpl(apiClient, Schedulers.trampoline()) {
+        };
+        String body = "json".equals(errorBody)
+            ? "{\"code\":\"ResourceNotFound\",\"message\":\"no resource exists with id 'A'\"}"
+            : "<html><head><title>502 Bad Gateway</title></head><body>nginx</body></html>";
+        error = new ApiException("Not Found", 404, Collections.emptyMap(), body);
+    }
+
+    @Benchmark
+    public String success() {
+        Function<ApiCallback<String>, Call> call = callback -> {
+            callback.onSuccess("1", 200, Collections.emptyMap());
+            return httpClient.newCall(request);
+        };
+        return repository.exceptionHandling(repository.call(call).map(String::trim))
+            .blockingFirst();
+    }
+
+    @Benchmark
+    public String failure() {
+        Function<ApiCallback<String>, Call> call = callback -> {
+            callback.onFailure(error, 404, Collections.emptyMap());
+            return httpClient.newCall(request);
+        };
+        return repository.exceptionHandling(repository.call(call))
+            .onErrorResumeNext((Throwable e) -> Observable.just(e.getMessage())).blockingFirst();
+    }
+}
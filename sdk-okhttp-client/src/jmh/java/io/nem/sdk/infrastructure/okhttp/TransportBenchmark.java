@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nem.sdk.api.ChainRepository;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import io.nem.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares OkHttp's default client against the {@link TransportConfiguration} defaults for many
+ * concurrent reads. A local server answers the chain height after a short delay, like a gateway
+ * would. Run it with {@code ./gradlew :sdk-okhttp-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+    private static final int CONCURRENT_READS = 256;
+
+    private static final long SERVER_LATENCY_MILLIS = 2;
+
+    @Param({"okhttp-defaults", "configured"})
+    private String transport;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private RepositoryFactory factory;
+
+    private ChainRepository chainRepository;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] body = JsonHelperGson.creatGson(false)
+            .toJson(new HeightInfoDTO().height(BigInteger.valueOf(1000)))
+            .getBytes(StandardCharsets.UTF_8);
+        serverExecutor = Executors.newFixedThreadPool(CONCURRENT_READS);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_READS);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(SERVER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        factory = "configured".equals(transport) ? new RepositoryFactoryOkHttpImpl(baseUrl,
+            new TransportConfiguration()) : new RepositoryFactoryOkHttpImpl(baseUrl,
+            new ApiClient().getHttpClient());
+        chainRepository = factory.createChainRepository();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<BigInteger> concurrentReads() {
+        return Observable.range(0, CONCURRENT_READS)
+            .flatMap(i -> chainRepository.getBlockchainHeight()).toList().blockingGet();
+    }
+}
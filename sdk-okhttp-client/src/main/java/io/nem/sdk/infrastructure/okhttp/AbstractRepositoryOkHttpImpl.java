@@ -16,19 +16,28 @@
 
 package io.nem.sdk.infrastructure.okhttp;
 
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.sdk.api.QueryParams;
 import io.nem.sdk.api.RepositoryCallException;
 import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.Request;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -40,22 +49,119 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 public abstract class AbstractRepositoryOkHttpImpl {
 
 
+    private final ApiClient apiClient;
+
     private final JsonHelper jsonHelper;
 
+    private final Scheduler scheduler;
+
     public AbstractRepositoryOkHttpImpl(ApiClient apiClient) {
-        jsonHelper = new JsonHelperGson(apiClient.getJSON().getGson());
+        this(apiClient, Schedulers.computation());
+    }
 
+    /**
+     * @param apiClient the api client.
+     * @param scheduler the scheduler the responses are emitted on, so they are mapped there
+     * instead of on the OkHttp dispatcher threads.
+     */
+    public AbstractRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        this.apiClient = apiClient;
+        this.jsonHelper = new JsonHelperGson(apiClient.getJSON().getGson());
+        this.scheduler = scheduler;
     }
 
-    public <T> Observable<T> call(Callable<T> callback) {
+    /**
+     * Sends the request of a generated async api method when subscribed. The call is enqueued in
+     * the OkHttp dispatcher, so the subscribing thread is not blocked and the number of concurrent
+     * requests is limited by the dispatcher max requests (per host). Disposing the subscription
+     * cancels the call. The response is emitted on the scheduler of this repository, the mapping
+     * chained by the caller runs there. The time of the call is recorded as the {@link
+     * SdkMetric#REPOSITORY_CALL} of its endpoint and as a rest call flight recorder event of
+     * {@link SdkEvents}.
+     *
+     * @param callback the function that starts the async call with the given {@link ApiCallback}.
+     * @param <T> the type of the response body.
+     * @return the observable of the response.
+     */
+    public <T> Observable<T> call(Function<ApiCallback<T>, Call> callback) {
         Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction = this::onError;
-        return Observable.defer(() -> {
-            try {
-                return Observable.just(callback.call());
-            } catch (Exception e) {
-                return onError(e);
+        return Observable.<T>create(emitter -> {
+            long start = SdkMetrics.start();
+            Object event = SdkEvents.startRestCall();
+            AtomicReference<Call> sent =
+                start == 0L && event == null ? null : new AtomicReference<>();
+            Call call = callback.apply(new ApiCallback<T>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode,
+                    Map<String, List<String>> responseHeaders) {
+                    recordCall(start, event, sent, statusCode);
+                    emitter.tryOnError(e);
+                }
+
+                @Override
+                public void onSuccess(T result, int statusCode,
+                    Map<String, List<String>> responseHeaders) {
+                    recordCall(start, event, sent, statusCode);
+                    emitter.onNext(result);
+                    emitter.onComplete();
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                    // Progress is not reported.
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                    // Progress is not reported.
+                }
+            });
+            if (sent != null) {
+                sent.set(call);
             }
-        }).onErrorResumeNext(resumeFunction);
+            emitter.setCancellable(() -> cancel(call));
+        }).observeOn(scheduler).onErrorResumeNext(resumeFunction);
+    }
+
+    /**
+     * Cancels the call of a disposed subscription, see {@link CallCancellation}.
+     *
+     * @param call the call to cancel.
+     */
+    protected void cancel(Call call) {
+        CallCancellation.cancel(apiClient.getHttpClient(), call);
+    }
+
+    /**
+     * Records the time of a call if the metrics were enabled when it started and commits its
+     * event. The endpoint is unknown if the call completed before being returned, like the calls
+     * failing right away.
+     */
+    private static void recordCall(long start, Object event, AtomicReference<Call> sent,
+        int statusCode) {
+        if (sent == null) {
+            return;
+        }
+        Call call = sent.get();
+        Request request = call == null ? null : call.request();
+        if (start != 0L) {
+            SdkMetrics.recordTime(SdkMetric.REPOSITORY_CALL,
+                request == null ? SdkMetrics.UNKNOWN : endpoint(request), start);
+        }
+        if (request == null) {
+            SdkEvents.commitRestCall(event, null, null, statusCode);
+        } else {
+            SdkEvents.commitRestCall(event, request.method(), request.url().encodedPath(),
+                statusCode);
+        }
+    }
+
+    /**
+     * @param request the request.
+     * @return the endpoint tag of the request.
+     */
+    static String endpoint(Request request) {
+        return SdkMetrics.endpoint(request.method(), request.url().encodedPath());
     }
 
     public RepositoryCallException exceptionHandling(Throwable e) {
@@ -76,7 +182,7 @@ public abstract class AbstractRepositoryOkHttpImpl {
         if (e instanceof ApiException) {
             messages.add("" + ((ApiException) e).getCode());
             String responseBody = ((ApiException) e).getResponseBody();
-            if (responseBody != null) {
+            if (isJsonObject(responseBody)) {
                 try {
                     // Extracting message from the response body.
                     Object json = jsonHelper.parse(responseBody);
@@ -85,11 +191,21 @@ public abstract class AbstractRepositoryOkHttpImpl {
                 } catch (IllegalArgumentException ignore) {
                     messages.add(StringUtils.truncate(responseBody, 100));
                 }
+            } else if (responseBody != null) {
+                messages.add(StringUtils.truncate(responseBody, 100));
             }
         }
         return messages.stream().filter(StringUtils::isNotBlank).collect(Collectors.joining(" - "));
     }
 
+    /**
+     * The error bodies that don't even start like a json object, like the error pages of proxies,
+     * are not parsed.
+     */
+    private static boolean isJsonObject(String responseBody) {
+        return StringUtils.startsWith(StringUtils.stripStart(responseBody, null), "{");
+    }
+
     public <T> Observable<T> onError(Throwable e) {
         return Observable.error(exceptionHandling(e));
     }
@@ -117,4 +233,8 @@ public abstract class AbstractRepositoryOkHttpImpl {
     public JsonHelper getJsonHelper() {
         return jsonHelper;
     }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
 }
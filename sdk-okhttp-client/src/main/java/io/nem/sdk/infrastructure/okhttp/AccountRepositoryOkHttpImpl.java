@@ -32,6 +32,7 @@ import io.nem.sdk.model.transaction.AggregateTransaction;
 import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.model.transaction.TransactionType;
 import io.nem.sdk.openapi.okhttp_gson.api.AccountRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
@@ -39,9 +40,13 @@ import io.nem.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionTypeEnum;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Created by fernando on 29/07/19.
@@ -55,32 +60,40 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     private final TransactionMapper transactionMapper;
 
+    private final TransactionPageDecoderOkHttp pageDecoder;
+
     public AccountRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public AccountRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new AccountRoutesApi(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.pageDecoder = new TransactionPageDecoderOkHttp(getJsonHelper(), transactionMapper);
     }
 
 
     @Override
     public Observable<AccountInfo> getAccountInfo(Address address) {
 
-        Callable<AccountInfoDTO> callback = () -> getClient()
-            .getAccountInfo(address.plain());
+        Function<ApiCallback<AccountInfoDTO>, Call> callback = handler -> getClient()
+            .getAccountInfoAsync(address.plain(), handler);
         return exceptionHandling(
-            call(callback).map(AccountInfoDTO::getAccount).map(this::toAccountInfo));
+            call(callback).map(AccountInfoDTO::getAccount)
+                .map(AccountRepositoryOkHttpImpl::toAccountInfo));
     }
 
     @Override
     public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        Callable<List<AccountInfoDTO>> callback = () -> getClient()
-            .getAccountsInfo(accountIds);
+        Function<ApiCallback<List<AccountInfoDTO>>, Call> callback = handler -> getClient()
+            .getAccountsInfoAsync(accountIds, handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item)
                 .map(AccountInfoDTO::getAccount)
-                .map(this::toAccountInfo).toList().toObservable());
+                .map(AccountRepositoryOkHttpImpl::toAccountInfo).toList().toObservable());
     }
 
 
@@ -93,10 +106,10 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> transactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountConfirmedTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountConfirmedTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
@@ -112,10 +125,10 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> incomingTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountIncomingTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountIncomingTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
@@ -131,16 +144,46 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> outgoingTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountOutgoingTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountOutgoingTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
     }
 
+    @Override
+    public Observable<Transaction> streamTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        Callable<Call> callback = () ->
+            getClient().getAccountConfirmedTransactionsCall(publicAccount.getPublicKey().toHex(),
+                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
+                toTransactionType(criteria.getTransactionType()), null);
+        return exceptionHandling(pageDecoder.decode(callback, this::cancel).observeOn(getScheduler()));
+    }
+
+    @Override
+    public Observable<Transaction> streamIncomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        Callable<Call> callback = () ->
+            getClient().getAccountIncomingTransactionsCall(publicAccount.getPublicKey().toHex(),
+                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
+                toTransactionType(criteria.getTransactionType()), null);
+        return exceptionHandling(pageDecoder.decode(callback, this::cancel).observeOn(getScheduler()));
+    }
+
+    @Override
+    public Observable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        Callable<Call> callback = () ->
+            getClient().getAccountOutgoingTransactionsCall(publicAccount.getPublicKey().toHex(),
+                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
+                toTransactionType(criteria.getTransactionType()), null);
+        return exceptionHandling(pageDecoder.decode(callback, this::cancel).observeOn(getScheduler()));
+    }
+
     private Transaction toTransaction(TransactionInfoDTO input) {
         return transactionMapper.map(input);
     }
@@ -156,10 +199,10 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<AggregateTransaction>> aggregateBondedTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountPartialTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountPartialTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction)
@@ -175,10 +218,10 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<List<Transaction>> unconfirmedTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountUnconfirmedTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountUnconfirmedTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
@@ -192,17 +235,17 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<List<Transaction>> partialTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountPartialTransactions(publicAccount.getPublicKey().toHex(),
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountPartialTransactionsAsync(publicAccount.getPublicKey().toHex(),
                 criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionType(criteria.getTransactionType()));
+                toTransactionType(criteria.getTransactionType()), handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
     }
 
 
-    private AccountInfo toAccountInfo(AccountDTO accountDTO) {
+    public static AccountInfo toAccountInfo(AccountDTO accountDTO) {
         return new AccountInfo(
             MapperUtils.toAddressFromEncoded(accountDTO.getAddress()),
             accountDTO.getAddressHeight(),
@@ -25,16 +25,21 @@ import io.nem.sdk.model.blockchain.MerkelProofInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.openapi.okhttp_gson.api.BlockRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.BlockInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MerkleProofInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Blockchain http repository.
@@ -48,15 +53,23 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     private final GeneralTransactionMapper transactionMapper;
 
+    private final TransactionPageDecoderOkHttp pageDecoder;
+
     public BlockRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public BlockRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new BlockRoutesApi(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.pageDecoder = new TransactionPageDecoderOkHttp(getJsonHelper(), transactionMapper);
     }
 
     @Override
     public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
-        Callable<BlockInfoDTO> callback = () -> getClient().getBlockByHeight(height);
+        Function<ApiCallback<BlockInfoDTO>, Call> callback = handler -> getClient()
+            .getBlockByHeightAsync(height, handler);
         return exceptionHandling(call(callback).map(BlockRepositoryOkHttpImpl::toBlockInfo));
     }
 
@@ -71,10 +84,23 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
         return this.getBlockTransactions(height, Optional.empty());
     }
 
+    @Override
+    public Observable<Transaction> streamBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        Optional<QueryParams> optionalQueryParams = Optional.of(queryParams);
+        Callable<Call> callback = () ->
+            getClient().getBlockTransactionsCall(height,
+                getPageSize(optionalQueryParams),
+                getId(optionalQueryParams),
+                null,
+                null);
+        return exceptionHandling(pageDecoder.decode(callback, this::cancel).observeOn(getScheduler()));
+    }
+
     @Override
     public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, int limit) {
-        Callable<List<BlockInfoDTO>> callback = () ->
-            getClient().getBlocksByHeightWithLimit(height, limit);
+        Function<ApiCallback<List<BlockInfoDTO>>, Call> callback = handler ->
+            getClient().getBlocksByHeightWithLimitAsync(height, limit, handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(BlockRepositoryOkHttpImpl::toBlockInfo)
@@ -85,19 +111,19 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<MerkelProofInfo> getMerkleTransaction(BigInteger height, String hash) {
-        Callable<MerkleProofInfoDTO> callback = () ->
-            getClient().getMerkleTransaction(height, hash);
+        Function<ApiCallback<MerkleProofInfoDTO>, Call> callback = handler ->
+            getClient().getMerkleTransactionAsync(height, hash, handler);
         return exceptionHandling(call(callback).map(this::toMerkelProofInfo));
 
     }
 
     private Observable<List<Transaction>> getBlockTransactions(
         BigInteger height, Optional<QueryParams> queryParams) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getBlockTransactions(height,
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getBlockTransactionsAsync(height,
                 getPageSize(queryParams),
                 getId(queryParams),
-                null
+                null, handler
             );
 
         return exceptionHandling(
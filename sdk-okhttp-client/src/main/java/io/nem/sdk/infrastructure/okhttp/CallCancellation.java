@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * Cancels the calls of disposed subscriptions without cancelling them while they acquire a
+ * connection.
+ *
+ * With OkHttp 3.14.2, a call cancelled after its socket has connected but before its exchange
+ * has been created releases a broken connection to the pool. The next call that acquires it spins
+ * in its retry loop forever. Hedged and timed out calls are routinely disposed at that moment, so
+ * the cancellation of a call that is acquiring a connection is postponed until its exchange
+ * exists, at most the connect timeout later. The cancelled call then fails writing its request
+ * and the connection is discarded. CallCancellationTest reproduces the defect, the workaround can
+ * be removed once that test fails with a newer OkHttp.
+ *
+ * The phases are tracked per client by the application interceptor and the network interceptor
+ * {@link #install(OkHttpClient)} adds to the repository client, the listener websocket doesn't go
+ * through them. Calls of clients without them are cancelled right away.
+ */
+final class CallCancellation implements Interceptor {
+
+    /**
+     * The calls acquiring a connection, true once they have been cancelled.
+     */
+    private final Map<Call, Boolean> connecting = new HashMap<>();
+
+    /**
+     * Marks the call as connected, cancelling it if it was disposed while connecting.
+     */
+    private final Interceptor connectedInterceptor = chain -> {
+        Boolean cancelled;
+        synchronized (connecting) {
+            cancelled = connecting.remove(chain.call());
+        }
+        if (Boolean.TRUE.equals(cancelled)) {
+            // The exchange exists, the cancelled call fails writing the request and the
+            // connection is not reused.
+            chain.call().cancel();
+        }
+        return chain.proceed(chain.request());
+    };
+
+    private CallCancellation() {
+    }
+
+    /**
+     * Marks the call as acquiring a connection until the network interceptor or the end of the
+     * call removes it.
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        synchronized (connecting) {
+            connecting.put(chain.call(), Boolean.FALSE);
+        }
+        try {
+            return chain.proceed(chain.request());
+        } finally {
+            synchronized (connecting) {
+                connecting.remove(chain.call());
+            }
+        }
+    }
+
+    /**
+     * @param httpClient the http client.
+     * @return a client sharing the dispatcher and the connection pool of the given client, with
+     * the interceptors that track the calls acquiring a connection.
+     */
+    static OkHttpClient install(OkHttpClient httpClient) {
+        CallCancellation cancellation = new CallCancellation();
+        return httpClient.newBuilder().addInterceptor(cancellation)
+            .addNetworkInterceptor(cancellation.connectedInterceptor).build();
+    }
+
+    /**
+     * Cancels the call now or, if it's acquiring a connection, once it has acquired it.
+     *
+     * @param httpClient the client that created the call.
+     * @param call the call to cancel.
+     */
+    static void cancel(OkHttpClient httpClient, Call call) {
+        for (Interceptor interceptor : httpClient.interceptors()) {
+            if (interceptor instanceof CallCancellation
+                && ((CallCancellation) interceptor).postpone(call)) {
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    private boolean postpone(Call call) {
+        synchronized (connecting) {
+            if (connecting.containsKey(call)) {
+                connecting.put(call, Boolean.TRUE);
+                return true;
+            }
+            return false;
+        }
+    }
+}
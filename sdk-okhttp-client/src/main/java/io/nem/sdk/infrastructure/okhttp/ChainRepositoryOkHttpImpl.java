@@ -19,12 +19,16 @@ package io.nem.sdk.infrastructure.okhttp;
 import io.nem.sdk.api.ChainRepository;
 import io.nem.sdk.model.blockchain.BlockchainScore;
 import io.nem.sdk.openapi.okhttp_gson.api.ChainRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.ChainScoreDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
-import java.util.concurrent.Callable;
+import okhttp3.Call;
 
 /**
  * Chain http repository.
@@ -35,7 +39,11 @@ public class ChainRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
     private final ChainRoutesApi client;
 
     public ChainRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public ChainRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new ChainRoutesApi(apiClient);
     }
 
@@ -50,7 +58,7 @@ public class ChainRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
      */
     public Observable<BigInteger> getBlockchainHeight() {
 
-        Callable<HeightInfoDTO> callback = getClient()::getChainHeight;
+        Function<ApiCallback<HeightInfoDTO>, Call> callback = getClient()::getChainHeightAsync;
         return exceptionHandling(
             call(callback).map(blockchainHeight -> (blockchainHeight.getHeight())));
 
@@ -62,7 +70,7 @@ public class ChainRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
      * @return io.reactivex.Observable of {@link BigInteger}
      */
     public Observable<BlockchainScore> getChainScore() {
-        Callable<ChainScoreDTO> callback = getClient()::getChainScore;
+        Function<ApiCallback<ChainScoreDTO>, Call> callback = getClient()::getChainScoreAsync;
         return exceptionHandling(call(callback).map(
             blockchainScoreDTO ->
                 new BlockchainScore(
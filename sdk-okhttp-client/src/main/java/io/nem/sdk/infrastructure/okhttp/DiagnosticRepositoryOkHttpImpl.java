@@ -20,12 +20,16 @@ import io.nem.sdk.api.DiagnosticRepository;
 import io.nem.sdk.model.blockchain.BlockchainStorageInfo;
 import io.nem.sdk.model.blockchain.ServerInfo;
 import io.nem.sdk.openapi.okhttp_gson.api.DiagnosticRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.ServerDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.ServerInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.StorageInfoDTO;
 import io.reactivex.Observable;
-import java.util.concurrent.Callable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import okhttp3.Call;
 
 /**
  * Diagnostic http repository.
@@ -36,7 +40,11 @@ public class DiagnosticRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     private final DiagnosticRoutesApi client;
 
     public DiagnosticRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public DiagnosticRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new DiagnosticRoutesApi(apiClient);
     }
 
@@ -46,7 +54,8 @@ public class DiagnosticRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      * @return {@link Observable} of BlockchainStorageInfo
      */
     public Observable<BlockchainStorageInfo> getBlockchainStorage() {
-        Callable<StorageInfoDTO> callback = getClient()::getDiagnosticStorage;
+        Function<ApiCallback<StorageInfoDTO>, Call> callback = getClient()
+            ::getDiagnosticStorageAsync;
         return exceptionHandling(call(callback).map(this::toBlockchainStorageInfo));
     }
 
@@ -63,7 +72,7 @@ public class DiagnosticRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      * @return {@link Observable} of ServerInfo
      */
     public Observable<ServerInfo> getServerInfo() {
-        Callable<ServerInfoDTO> callback = getClient()::getServerInfo;
+        Function<ApiCallback<ServerInfoDTO>, Call> callback = getClient()::getServerInfoAsync;
         return exceptionHandling(
             call(callback).map(ServerInfoDTO::getServerInfo).map(this::toServerInfo));
     }
@@ -0,0 +1,331 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The field table of an open api DTO. It creates {@link TypeAdapter}s that bind the json
+ * attributes through the DTO getters and setters instead of Gson's reflective field binding.
+ *
+ * Strings, integers and uint64 values are read and written by the adapters in this class. Any other
+ * attribute (enums, nested DTOs, lists and untyped objects) is delegated to the adapter the Gson
+ * instance resolves for its type.
+ *
+ * @param <T> the DTO type.
+ */
+class DtoDefinition<T> {
+
+    private static final TypeAdapter<String> STRING_ADAPTER = new TypeAdapter<String>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return in.nextString();
+        }
+    };
+
+    private static final TypeAdapter<Integer> INTEGER_ADAPTER = new TypeAdapter<Integer>() {
+        @Override
+        public void write(JsonWriter out, Integer value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Integer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return in.nextInt();
+        }
+    };
+
+    private static final TypeAdapter<BigInteger> UINT64_ADAPTER = new TypeAdapter<BigInteger>() {
+        @Override
+        public void write(JsonWriter out, BigInteger value) throws IOException {
+            out.value(value == null ? null : value.toString());
+        }
+
+        @Override
+        public BigInteger read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return parseUInt64(in.nextString());
+        }
+    };
+
+    private final Class<T> type;
+
+    private final Supplier<T> constructor;
+
+    private final List<Field<T, ?>> fields = new ArrayList<>();
+
+    DtoDefinition(Class<T> type, Supplier<T> constructor) {
+        this.type = type;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Parses an unsigned decimal string. Values that fit in a long, like every height, amount and
+     * fee in practice, are parsed without going through {@link BigInteger#BigInteger(String)}.
+     *
+     * @param value the decimal string.
+     * @return the {@link BigInteger} value.
+     */
+    static BigInteger parseUInt64(String value) {
+        int length = value.length();
+        if (length == 0 || length > 18) {
+            return new BigInteger(value);
+        }
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return new BigInteger(value);
+            }
+            result = result * 10 + digit;
+        }
+        return BigInteger.valueOf(result);
+    }
+
+    DtoDefinition<T> string(String name, Function<T, String> getter,
+        BiConsumer<T, String> setter) {
+        return add(name, gson -> STRING_ADAPTER, getter, setter);
+    }
+
+    DtoDefinition<T> integer(String name, Function<T, Integer> getter,
+        BiConsumer<T, Integer> setter) {
+        return add(name, gson -> INTEGER_ADAPTER, getter, setter);
+    }
+
+    DtoDefinition<T> uint64(String name, Function<T, BigInteger> getter,
+        BiConsumer<T, BigInteger> setter) {
+        return add(name, gson -> UINT64_ADAPTER, getter, setter);
+    }
+
+    <V> DtoDefinition<T> object(String name, Class<V> valueType, Function<T, V> getter,
+        BiConsumer<T, V> setter) {
+        return add(name, gson -> gson.getAdapter(valueType), getter, setter);
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> DtoDefinition<T> list(String name, Class<E> elementType, Function<T, List<E>> getter,
+        BiConsumer<T, List<E>> setter) {
+        Type listType = TypeToken.getParameterized(List.class, elementType).getType();
+        return add(name, gson -> (TypeAdapter<List<E>>) gson.getAdapter(TypeToken.get(listType)),
+            getter, setter);
+    }
+
+    /**
+     * Adds an untyped list attribute whose elements are read as json trees, so mappers that
+     * inspect them (like the receipt mappers) don't need to convert each element again. The list
+     * is written like any other list.
+     */
+    @SuppressWarnings("unchecked")
+    DtoDefinition<T> trees(String name, Function<T, List<Object>> getter,
+        BiConsumer<T, List<Object>> setter) {
+        Type listType = TypeToken.getParameterized(List.class, Object.class).getType();
+        return add(name, gson -> new JsonTreeListAdapter(gson.getAdapter(JsonElement.class),
+                (TypeAdapter<List<Object>>) gson.getAdapter(TypeToken.get(listType))), getter,
+            setter);
+    }
+
+    private <V> DtoDefinition<T> add(String name, Function<Gson, TypeAdapter<V>> adapter,
+        Function<T, V> getter, BiConsumer<T, V> setter) {
+        fields.add(new Field<>(name, adapter, getter, setter));
+        return this;
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return the json attribute names, in the order the DTO declares them.
+     */
+    List<String> getNames() {
+        return fields.stream().map(field -> field.name).collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the adapter for the given Gson instance, the delegated adapters are resolved once
+     * here.
+     *
+     * @param gson the gson instance.
+     * @return the {@link TypeAdapter}
+     */
+    TypeAdapter<T> createAdapter(Gson gson) {
+        List<BoundField<T, ?>> boundFields = fields.stream().map(field -> field.bind(gson))
+            .collect(Collectors.toList());
+        return new DtoTypeAdapter<>(constructor, boundFields);
+    }
+
+    private static class Field<T, V> {
+
+        private final String name;
+
+        private final Function<Gson, TypeAdapter<V>> adapter;
+
+        private final Function<T, V> getter;
+
+        private final BiConsumer<T, V> setter;
+
+        private Field(String name, Function<Gson, TypeAdapter<V>> adapter, Function<T, V> getter,
+            BiConsumer<T, V> setter) {
+            this.name = name;
+            this.adapter = adapter;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private BoundField<T, V> bind(Gson gson) {
+            return new BoundField<>(this, adapter.apply(gson));
+        }
+    }
+
+    private static class BoundField<T, V> {
+
+        private final Field<T, V> field;
+
+        private final TypeAdapter<V> adapter;
+
+        private BoundField(Field<T, V> field, TypeAdapter<V> adapter) {
+            this.field = field;
+            this.adapter = adapter;
+        }
+
+        private void read(JsonReader in, T dto) throws IOException {
+            field.setter.accept(dto, adapter.read(in));
+        }
+
+        private void write(JsonWriter out, T dto) throws IOException {
+            V value = field.getter.apply(dto);
+            if (value != null) {
+                out.name(field.name);
+                adapter.write(out, value);
+            }
+        }
+    }
+
+    private static class JsonTreeListAdapter extends TypeAdapter<List<Object>> {
+
+        private final TypeAdapter<JsonElement> elementAdapter;
+
+        private final TypeAdapter<List<Object>> listAdapter;
+
+        private JsonTreeListAdapter(TypeAdapter<JsonElement> elementAdapter,
+            TypeAdapter<List<Object>> listAdapter) {
+            this.elementAdapter = elementAdapter;
+            this.listAdapter = listAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, List<Object> value) throws IOException {
+            listAdapter.write(out, value);
+        }
+
+        @Override
+        public List<Object> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<Object> list = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                list.add(elementAdapter.read(in));
+            }
+            in.endArray();
+            return list;
+        }
+    }
+
+    private static class DtoTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final Supplier<T> constructor;
+
+        private final List<BoundField<T, ?>> fields;
+
+        private final Map<String, BoundField<T, ?>> fieldsByName = new HashMap<>();
+
+        private DtoTypeAdapter(Supplier<T> constructor, List<BoundField<T, ?>> fields) {
+            this.constructor = constructor;
+            this.fields = fields;
+            fields.forEach(field -> fieldsByName.put(field.field.name, field));
+        }
+
+        @Override
+        public void write(JsonWriter out, T dto) throws IOException {
+            if (dto == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            for (BoundField<T, ?> field : fields) {
+                field.write(out, dto);
+            }
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            T dto = constructor.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                BoundField<T, ?> field = fieldsByName.get(in.nextName());
+                if (field == null) {
+                    in.skipValue();
+                } else {
+                    field.read(in, dto);
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,786 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountAddressRestrictionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountLinkActionEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountLinkTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountMetadataTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountMosaicRestrictionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountOperationRestrictionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountRestrictionFlagsEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.ActivityBucketDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AddressAliasTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AggregateTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AliasActionEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockMetaDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.CosignatureDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.EmbeddedTransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.EmbeddedTransactionMetaDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.HashLockTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.LockHashAlgorithmEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.MessageDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MessageTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.Mosaic;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicAddressRestrictionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicAliasTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicDefinitionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicGlobalRestrictionTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicMetadataTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicRestrictionTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicSupplyChangeActionEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.MosaicSupplyChangeTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.MultisigAccountModificationTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.NamespaceMetadataTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.NamespaceRegistrationTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.NamespaceRegistrationTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.NetworkTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.ResolutionEntryDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.ResolutionStatementBodyDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.ResolutionStatementDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.SecretLockTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.SecretProofTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.SourceDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionStatementBodyDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionStatementDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.TransferTransactionDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.UnresolvedMosaic;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link TypeAdapterFactory} for the DTOs in the hot paths of the sdk: transaction pages and
+ * listener messages, blocks, accounts and receipt statements.
+ *
+ * The field tables mirror the open api DTOs of the rest api version in use, a json attribute that
+ * is not listed here is ignored. Types that are not listed keep using Gson's reflective binding.
+ */
+public class DtoTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final Map<Class<?>, DtoDefinition<?>> definitions = new LinkedHashMap<>();
+
+    public DtoTypeAdapterFactory() {
+        add(TransactionInfoDTO.class, TransactionInfoDTO::new)
+            .object("meta", TransactionMetaDTO.class, TransactionInfoDTO::getMeta,
+                TransactionInfoDTO::setMeta)
+            .object("transaction", Object.class, TransactionInfoDTO::getTransaction,
+                TransactionInfoDTO::setTransaction);
+
+        add(EmbeddedTransactionInfoDTO.class, EmbeddedTransactionInfoDTO::new)
+            .object("meta", EmbeddedTransactionMetaDTO.class, EmbeddedTransactionInfoDTO::getMeta,
+                EmbeddedTransactionInfoDTO::setMeta)
+            .object("transaction", Object.class, EmbeddedTransactionInfoDTO::getTransaction,
+                EmbeddedTransactionInfoDTO::setTransaction);
+
+        add(AccountAddressRestrictionTransactionDTO.class,
+            AccountAddressRestrictionTransactionDTO::new)
+            .string("signature", AccountAddressRestrictionTransactionDTO::getSignature,
+                AccountAddressRestrictionTransactionDTO::setSignature)
+            .string("signerPublicKey", AccountAddressRestrictionTransactionDTO::getSignerPublicKey,
+                AccountAddressRestrictionTransactionDTO::setSignerPublicKey)
+            .integer("version", AccountAddressRestrictionTransactionDTO::getVersion,
+                AccountAddressRestrictionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                AccountAddressRestrictionTransactionDTO::getNetwork,
+                AccountAddressRestrictionTransactionDTO::setNetwork)
+            .integer("type", AccountAddressRestrictionTransactionDTO::getType,
+                AccountAddressRestrictionTransactionDTO::setType)
+            .uint64("maxFee", AccountAddressRestrictionTransactionDTO::getMaxFee,
+                AccountAddressRestrictionTransactionDTO::setMaxFee)
+            .uint64("deadline", AccountAddressRestrictionTransactionDTO::getDeadline,
+                AccountAddressRestrictionTransactionDTO::setDeadline)
+            .object("restrictionFlags", AccountRestrictionFlagsEnum.class,
+                AccountAddressRestrictionTransactionDTO::getRestrictionFlags,
+                AccountAddressRestrictionTransactionDTO::setRestrictionFlags)
+            .list("restrictionAdditions", String.class,
+                AccountAddressRestrictionTransactionDTO::getRestrictionAdditions,
+                AccountAddressRestrictionTransactionDTO::setRestrictionAdditions)
+            .list("restrictionDeletions", String.class,
+                AccountAddressRestrictionTransactionDTO::getRestrictionDeletions,
+                AccountAddressRestrictionTransactionDTO::setRestrictionDeletions);
+
+        add(AccountLinkTransactionDTO.class, AccountLinkTransactionDTO::new)
+            .string("signature", AccountLinkTransactionDTO::getSignature,
+                AccountLinkTransactionDTO::setSignature)
+            .string("signerPublicKey", AccountLinkTransactionDTO::getSignerPublicKey,
+                AccountLinkTransactionDTO::setSignerPublicKey)
+            .integer("version", AccountLinkTransactionDTO::getVersion,
+                AccountLinkTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, AccountLinkTransactionDTO::getNetwork,
+                AccountLinkTransactionDTO::setNetwork)
+            .integer("type", AccountLinkTransactionDTO::getType, AccountLinkTransactionDTO::setType)
+            .uint64("maxFee", AccountLinkTransactionDTO::getMaxFee,
+                AccountLinkTransactionDTO::setMaxFee)
+            .uint64("deadline", AccountLinkTransactionDTO::getDeadline,
+                AccountLinkTransactionDTO::setDeadline)
+            .string("remotePublicKey", AccountLinkTransactionDTO::getRemotePublicKey,
+                AccountLinkTransactionDTO::setRemotePublicKey)
+            .object("linkAction", AccountLinkActionEnum.class,
+                AccountLinkTransactionDTO::getLinkAction, AccountLinkTransactionDTO::setLinkAction);
+
+        add(AccountMetadataTransactionDTO.class, AccountMetadataTransactionDTO::new)
+            .string("signature", AccountMetadataTransactionDTO::getSignature,
+                AccountMetadataTransactionDTO::setSignature)
+            .string("signerPublicKey", AccountMetadataTransactionDTO::getSignerPublicKey,
+                AccountMetadataTransactionDTO::setSignerPublicKey)
+            .integer("version", AccountMetadataTransactionDTO::getVersion,
+                AccountMetadataTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, AccountMetadataTransactionDTO::getNetwork,
+                AccountMetadataTransactionDTO::setNetwork)
+            .integer("type", AccountMetadataTransactionDTO::getType,
+                AccountMetadataTransactionDTO::setType)
+            .uint64("maxFee", AccountMetadataTransactionDTO::getMaxFee,
+                AccountMetadataTransactionDTO::setMaxFee)
+            .uint64("deadline", AccountMetadataTransactionDTO::getDeadline,
+                AccountMetadataTransactionDTO::setDeadline)
+            .string("targetPublicKey", AccountMetadataTransactionDTO::getTargetPublicKey,
+                AccountMetadataTransactionDTO::setTargetPublicKey)
+            .string("scopedMetadataKey", AccountMetadataTransactionDTO::getScopedMetadataKey,
+                AccountMetadataTransactionDTO::setScopedMetadataKey)
+            .integer("valueSizeDelta", AccountMetadataTransactionDTO::getValueSizeDelta,
+                AccountMetadataTransactionDTO::setValueSizeDelta)
+            .integer("valueSize", AccountMetadataTransactionDTO::getValueSize,
+                AccountMetadataTransactionDTO::setValueSize)
+            .string("value", AccountMetadataTransactionDTO::getValue,
+                AccountMetadataTransactionDTO::setValue);
+
+        add(AccountMosaicRestrictionTransactionDTO.class,
+            AccountMosaicRestrictionTransactionDTO::new)
+            .string("signature", AccountMosaicRestrictionTransactionDTO::getSignature,
+                AccountMosaicRestrictionTransactionDTO::setSignature)
+            .string("signerPublicKey", AccountMosaicRestrictionTransactionDTO::getSignerPublicKey,
+                AccountMosaicRestrictionTransactionDTO::setSignerPublicKey)
+            .integer("version", AccountMosaicRestrictionTransactionDTO::getVersion,
+                AccountMosaicRestrictionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                AccountMosaicRestrictionTransactionDTO::getNetwork,
+                AccountMosaicRestrictionTransactionDTO::setNetwork)
+            .integer("type", AccountMosaicRestrictionTransactionDTO::getType,
+                AccountMosaicRestrictionTransactionDTO::setType)
+            .uint64("maxFee", AccountMosaicRestrictionTransactionDTO::getMaxFee,
+                AccountMosaicRestrictionTransactionDTO::setMaxFee)
+            .uint64("deadline", AccountMosaicRestrictionTransactionDTO::getDeadline,
+                AccountMosaicRestrictionTransactionDTO::setDeadline)
+            .object("restrictionFlags", AccountRestrictionFlagsEnum.class,
+                AccountMosaicRestrictionTransactionDTO::getRestrictionFlags,
+                AccountMosaicRestrictionTransactionDTO::setRestrictionFlags)
+            .list("restrictionAdditions", String.class,
+                AccountMosaicRestrictionTransactionDTO::getRestrictionAdditions,
+                AccountMosaicRestrictionTransactionDTO::setRestrictionAdditions)
+            .list("restrictionDeletions", String.class,
+                AccountMosaicRestrictionTransactionDTO::getRestrictionDeletions,
+                AccountMosaicRestrictionTransactionDTO::setRestrictionDeletions);
+
+        add(AccountOperationRestrictionTransactionDTO.class,
+            AccountOperationRestrictionTransactionDTO::new)
+            .string("signature", AccountOperationRestrictionTransactionDTO::getSignature,
+                AccountOperationRestrictionTransactionDTO::setSignature)
+            .string("signerPublicKey",
+                AccountOperationRestrictionTransactionDTO::getSignerPublicKey,
+                AccountOperationRestrictionTransactionDTO::setSignerPublicKey)
+            .integer("version", AccountOperationRestrictionTransactionDTO::getVersion,
+                AccountOperationRestrictionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                AccountOperationRestrictionTransactionDTO::getNetwork,
+                AccountOperationRestrictionTransactionDTO::setNetwork)
+            .integer("type", AccountOperationRestrictionTransactionDTO::getType,
+                AccountOperationRestrictionTransactionDTO::setType)
+            .uint64("maxFee", AccountOperationRestrictionTransactionDTO::getMaxFee,
+                AccountOperationRestrictionTransactionDTO::setMaxFee)
+            .uint64("deadline", AccountOperationRestrictionTransactionDTO::getDeadline,
+                AccountOperationRestrictionTransactionDTO::setDeadline)
+            .object("restrictionFlags", AccountRestrictionFlagsEnum.class,
+                AccountOperationRestrictionTransactionDTO::getRestrictionFlags,
+                AccountOperationRestrictionTransactionDTO::setRestrictionFlags)
+            .list("restrictionAdditions", TransactionTypeEnum.class,
+                AccountOperationRestrictionTransactionDTO::getRestrictionAdditions,
+                AccountOperationRestrictionTransactionDTO::setRestrictionAdditions)
+            .list("restrictionDeletions", TransactionTypeEnum.class,
+                AccountOperationRestrictionTransactionDTO::getRestrictionDeletions,
+                AccountOperationRestrictionTransactionDTO::setRestrictionDeletions);
+
+        add(AddressAliasTransactionDTO.class, AddressAliasTransactionDTO::new)
+            .string("signature", AddressAliasTransactionDTO::getSignature,
+                AddressAliasTransactionDTO::setSignature)
+            .string("signerPublicKey", AddressAliasTransactionDTO::getSignerPublicKey,
+                AddressAliasTransactionDTO::setSignerPublicKey)
+            .integer("version", AddressAliasTransactionDTO::getVersion,
+                AddressAliasTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, AddressAliasTransactionDTO::getNetwork,
+                AddressAliasTransactionDTO::setNetwork)
+            .integer("type", AddressAliasTransactionDTO::getType,
+                AddressAliasTransactionDTO::setType)
+            .uint64("maxFee", AddressAliasTransactionDTO::getMaxFee,
+                AddressAliasTransactionDTO::setMaxFee)
+            .uint64("deadline", AddressAliasTransactionDTO::getDeadline,
+                AddressAliasTransactionDTO::setDeadline)
+            .string("namespaceId", AddressAliasTransactionDTO::getNamespaceId,
+                AddressAliasTransactionDTO::setNamespaceId)
+            .string("address", AddressAliasTransactionDTO::getAddress,
+                AddressAliasTransactionDTO::setAddress)
+            .object("aliasAction", AliasActionEnum.class,
+                AddressAliasTransactionDTO::getAliasAction,
+                AddressAliasTransactionDTO::setAliasAction);
+
+        add(AggregateTransactionDTO.class, AggregateTransactionDTO::new)
+            .string("signature", AggregateTransactionDTO::getSignature,
+                AggregateTransactionDTO::setSignature)
+            .string("signerPublicKey", AggregateTransactionDTO::getSignerPublicKey,
+                AggregateTransactionDTO::setSignerPublicKey)
+            .integer("version", AggregateTransactionDTO::getVersion,
+                AggregateTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, AggregateTransactionDTO::getNetwork,
+                AggregateTransactionDTO::setNetwork)
+            .integer("type", AggregateTransactionDTO::getType, AggregateTransactionDTO::setType)
+            .uint64("maxFee", AggregateTransactionDTO::getMaxFee,
+                AggregateTransactionDTO::setMaxFee)
+            .uint64("deadline", AggregateTransactionDTO::getDeadline,
+                AggregateTransactionDTO::setDeadline)
+            .string("transactionsHash", AggregateTransactionDTO::getTransactionsHash,
+                AggregateTransactionDTO::setTransactionsHash)
+            .list("cosignatures", CosignatureDTO.class, AggregateTransactionDTO::getCosignatures,
+                AggregateTransactionDTO::setCosignatures)
+            .list("transactions", EmbeddedTransactionInfoDTO.class,
+                AggregateTransactionDTO::getTransactions, AggregateTransactionDTO::setTransactions);
+
+        add(HashLockTransactionDTO.class, HashLockTransactionDTO::new)
+            .string("signature", HashLockTransactionDTO::getSignature,
+                HashLockTransactionDTO::setSignature)
+            .string("signerPublicKey", HashLockTransactionDTO::getSignerPublicKey,
+                HashLockTransactionDTO::setSignerPublicKey)
+            .integer("version", HashLockTransactionDTO::getVersion,
+                HashLockTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, HashLockTransactionDTO::getNetwork,
+                HashLockTransactionDTO::setNetwork)
+            .integer("type", HashLockTransactionDTO::getType, HashLockTransactionDTO::setType)
+            .uint64("maxFee", HashLockTransactionDTO::getMaxFee, HashLockTransactionDTO::setMaxFee)
+            .uint64("deadline", HashLockTransactionDTO::getDeadline,
+                HashLockTransactionDTO::setDeadline)
+            .string("mosaicId", HashLockTransactionDTO::getMosaicId,
+                HashLockTransactionDTO::setMosaicId)
+            .uint64("amount", HashLockTransactionDTO::getAmount, HashLockTransactionDTO::setAmount)
+            .uint64("duration", HashLockTransactionDTO::getDuration,
+                HashLockTransactionDTO::setDuration)
+            .string("hash", HashLockTransactionDTO::getHash, HashLockTransactionDTO::setHash);
+
+        add(MosaicAddressRestrictionTransactionDTO.class,
+            MosaicAddressRestrictionTransactionDTO::new)
+            .string("signature", MosaicAddressRestrictionTransactionDTO::getSignature,
+                MosaicAddressRestrictionTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicAddressRestrictionTransactionDTO::getSignerPublicKey,
+                MosaicAddressRestrictionTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicAddressRestrictionTransactionDTO::getVersion,
+                MosaicAddressRestrictionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                MosaicAddressRestrictionTransactionDTO::getNetwork,
+                MosaicAddressRestrictionTransactionDTO::setNetwork)
+            .integer("type", MosaicAddressRestrictionTransactionDTO::getType,
+                MosaicAddressRestrictionTransactionDTO::setType)
+            .uint64("maxFee", MosaicAddressRestrictionTransactionDTO::getMaxFee,
+                MosaicAddressRestrictionTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicAddressRestrictionTransactionDTO::getDeadline,
+                MosaicAddressRestrictionTransactionDTO::setDeadline)
+            .string("mosaicId", MosaicAddressRestrictionTransactionDTO::getMosaicId,
+                MosaicAddressRestrictionTransactionDTO::setMosaicId)
+            .string("restrictionKey", MosaicAddressRestrictionTransactionDTO::getRestrictionKey,
+                MosaicAddressRestrictionTransactionDTO::setRestrictionKey)
+            .uint64("previousRestrictionValue",
+                MosaicAddressRestrictionTransactionDTO::getPreviousRestrictionValue,
+                MosaicAddressRestrictionTransactionDTO::setPreviousRestrictionValue)
+            .uint64("newRestrictionValue",
+                MosaicAddressRestrictionTransactionDTO::getNewRestrictionValue,
+                MosaicAddressRestrictionTransactionDTO::setNewRestrictionValue)
+            .string("targetAddress", MosaicAddressRestrictionTransactionDTO::getTargetAddress,
+                MosaicAddressRestrictionTransactionDTO::setTargetAddress);
+
+        add(MosaicAliasTransactionDTO.class, MosaicAliasTransactionDTO::new)
+            .string("signature", MosaicAliasTransactionDTO::getSignature,
+                MosaicAliasTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicAliasTransactionDTO::getSignerPublicKey,
+                MosaicAliasTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicAliasTransactionDTO::getVersion,
+                MosaicAliasTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, MosaicAliasTransactionDTO::getNetwork,
+                MosaicAliasTransactionDTO::setNetwork)
+            .integer("type", MosaicAliasTransactionDTO::getType, MosaicAliasTransactionDTO::setType)
+            .uint64("maxFee", MosaicAliasTransactionDTO::getMaxFee,
+                MosaicAliasTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicAliasTransactionDTO::getDeadline,
+                MosaicAliasTransactionDTO::setDeadline)
+            .string("namespaceId", MosaicAliasTransactionDTO::getNamespaceId,
+                MosaicAliasTransactionDTO::setNamespaceId)
+            .string("mosaicId", MosaicAliasTransactionDTO::getMosaicId,
+                MosaicAliasTransactionDTO::setMosaicId)
+            .object("aliasAction", AliasActionEnum.class, MosaicAliasTransactionDTO::getAliasAction,
+                MosaicAliasTransactionDTO::setAliasAction);
+
+        add(MosaicDefinitionTransactionDTO.class, MosaicDefinitionTransactionDTO::new)
+            .string("signature", MosaicDefinitionTransactionDTO::getSignature,
+                MosaicDefinitionTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicDefinitionTransactionDTO::getSignerPublicKey,
+                MosaicDefinitionTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicDefinitionTransactionDTO::getVersion,
+                MosaicDefinitionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, MosaicDefinitionTransactionDTO::getNetwork,
+                MosaicDefinitionTransactionDTO::setNetwork)
+            .integer("type", MosaicDefinitionTransactionDTO::getType,
+                MosaicDefinitionTransactionDTO::setType)
+            .uint64("maxFee", MosaicDefinitionTransactionDTO::getMaxFee,
+                MosaicDefinitionTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicDefinitionTransactionDTO::getDeadline,
+                MosaicDefinitionTransactionDTO::setDeadline)
+            .string("id", MosaicDefinitionTransactionDTO::getId,
+                MosaicDefinitionTransactionDTO::setId)
+            .uint64("duration", MosaicDefinitionTransactionDTO::getDuration,
+                MosaicDefinitionTransactionDTO::setDuration)
+            .object("nonce", Long.class, MosaicDefinitionTransactionDTO::getNonce,
+                MosaicDefinitionTransactionDTO::setNonce)
+            .integer("flags", MosaicDefinitionTransactionDTO::getFlags,
+                MosaicDefinitionTransactionDTO::setFlags)
+            .integer("divisibility", MosaicDefinitionTransactionDTO::getDivisibility,
+                MosaicDefinitionTransactionDTO::setDivisibility);
+
+        add(MosaicGlobalRestrictionTransactionDTO.class, MosaicGlobalRestrictionTransactionDTO::new)
+            .string("signature", MosaicGlobalRestrictionTransactionDTO::getSignature,
+                MosaicGlobalRestrictionTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicGlobalRestrictionTransactionDTO::getSignerPublicKey,
+                MosaicGlobalRestrictionTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicGlobalRestrictionTransactionDTO::getVersion,
+                MosaicGlobalRestrictionTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                MosaicGlobalRestrictionTransactionDTO::getNetwork,
+                MosaicGlobalRestrictionTransactionDTO::setNetwork)
+            .integer("type", MosaicGlobalRestrictionTransactionDTO::getType,
+                MosaicGlobalRestrictionTransactionDTO::setType)
+            .uint64("maxFee", MosaicGlobalRestrictionTransactionDTO::getMaxFee,
+                MosaicGlobalRestrictionTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicGlobalRestrictionTransactionDTO::getDeadline,
+                MosaicGlobalRestrictionTransactionDTO::setDeadline)
+            .string("mosaicId", MosaicGlobalRestrictionTransactionDTO::getMosaicId,
+                MosaicGlobalRestrictionTransactionDTO::setMosaicId)
+            .string("referenceMosaicId",
+                MosaicGlobalRestrictionTransactionDTO::getReferenceMosaicId,
+                MosaicGlobalRestrictionTransactionDTO::setReferenceMosaicId)
+            .string("restrictionKey", MosaicGlobalRestrictionTransactionDTO::getRestrictionKey,
+                MosaicGlobalRestrictionTransactionDTO::setRestrictionKey)
+            .uint64("previousRestrictionValue",
+                MosaicGlobalRestrictionTransactionDTO::getPreviousRestrictionValue,
+                MosaicGlobalRestrictionTransactionDTO::setPreviousRestrictionValue)
+            .uint64("newRestrictionValue",
+                MosaicGlobalRestrictionTransactionDTO::getNewRestrictionValue,
+                MosaicGlobalRestrictionTransactionDTO::setNewRestrictionValue)
+            .object("previousRestrictionType", MosaicRestrictionTypeEnum.class,
+                MosaicGlobalRestrictionTransactionDTO::getPreviousRestrictionType,
+                MosaicGlobalRestrictionTransactionDTO::setPreviousRestrictionType)
+            .object("newRestrictionType", MosaicRestrictionTypeEnum.class,
+                MosaicGlobalRestrictionTransactionDTO::getNewRestrictionType,
+                MosaicGlobalRestrictionTransactionDTO::setNewRestrictionType);
+
+        add(MosaicMetadataTransactionDTO.class, MosaicMetadataTransactionDTO::new)
+            .string("signature", MosaicMetadataTransactionDTO::getSignature,
+                MosaicMetadataTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicMetadataTransactionDTO::getSignerPublicKey,
+                MosaicMetadataTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicMetadataTransactionDTO::getVersion,
+                MosaicMetadataTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, MosaicMetadataTransactionDTO::getNetwork,
+                MosaicMetadataTransactionDTO::setNetwork)
+            .integer("type", MosaicMetadataTransactionDTO::getType,
+                MosaicMetadataTransactionDTO::setType)
+            .uint64("maxFee", MosaicMetadataTransactionDTO::getMaxFee,
+                MosaicMetadataTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicMetadataTransactionDTO::getDeadline,
+                MosaicMetadataTransactionDTO::setDeadline)
+            .string("targetPublicKey", MosaicMetadataTransactionDTO::getTargetPublicKey,
+                MosaicMetadataTransactionDTO::setTargetPublicKey)
+            .string("scopedMetadataKey", MosaicMetadataTransactionDTO::getScopedMetadataKey,
+                MosaicMetadataTransactionDTO::setScopedMetadataKey)
+            .string("targetMosaicId", MosaicMetadataTransactionDTO::getTargetMosaicId,
+                MosaicMetadataTransactionDTO::setTargetMosaicId)
+            .integer("valueSizeDelta", MosaicMetadataTransactionDTO::getValueSizeDelta,
+                MosaicMetadataTransactionDTO::setValueSizeDelta)
+            .integer("valueSize", MosaicMetadataTransactionDTO::getValueSize,
+                MosaicMetadataTransactionDTO::setValueSize)
+            .string("value", MosaicMetadataTransactionDTO::getValue,
+                MosaicMetadataTransactionDTO::setValue);
+
+        add(MosaicSupplyChangeTransactionDTO.class, MosaicSupplyChangeTransactionDTO::new)
+            .string("signature", MosaicSupplyChangeTransactionDTO::getSignature,
+                MosaicSupplyChangeTransactionDTO::setSignature)
+            .string("signerPublicKey", MosaicSupplyChangeTransactionDTO::getSignerPublicKey,
+                MosaicSupplyChangeTransactionDTO::setSignerPublicKey)
+            .integer("version", MosaicSupplyChangeTransactionDTO::getVersion,
+                MosaicSupplyChangeTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, MosaicSupplyChangeTransactionDTO::getNetwork,
+                MosaicSupplyChangeTransactionDTO::setNetwork)
+            .integer("type", MosaicSupplyChangeTransactionDTO::getType,
+                MosaicSupplyChangeTransactionDTO::setType)
+            .uint64("maxFee", MosaicSupplyChangeTransactionDTO::getMaxFee,
+                MosaicSupplyChangeTransactionDTO::setMaxFee)
+            .uint64("deadline", MosaicSupplyChangeTransactionDTO::getDeadline,
+                MosaicSupplyChangeTransactionDTO::setDeadline)
+            .string("mosaicId", MosaicSupplyChangeTransactionDTO::getMosaicId,
+                MosaicSupplyChangeTransactionDTO::setMosaicId)
+            .uint64("delta", MosaicSupplyChangeTransactionDTO::getDelta,
+                MosaicSupplyChangeTransactionDTO::setDelta)
+            .object("action", MosaicSupplyChangeActionEnum.class,
+                MosaicSupplyChangeTransactionDTO::getAction,
+                MosaicSupplyChangeTransactionDTO::setAction);
+
+        add(MultisigAccountModificationTransactionDTO.class,
+            MultisigAccountModificationTransactionDTO::new)
+            .string("signature", MultisigAccountModificationTransactionDTO::getSignature,
+                MultisigAccountModificationTransactionDTO::setSignature)
+            .string("signerPublicKey",
+                MultisigAccountModificationTransactionDTO::getSignerPublicKey,
+                MultisigAccountModificationTransactionDTO::setSignerPublicKey)
+            .integer("version", MultisigAccountModificationTransactionDTO::getVersion,
+                MultisigAccountModificationTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                MultisigAccountModificationTransactionDTO::getNetwork,
+                MultisigAccountModificationTransactionDTO::setNetwork)
+            .integer("type", MultisigAccountModificationTransactionDTO::getType,
+                MultisigAccountModificationTransactionDTO::setType)
+            .uint64("maxFee", MultisigAccountModificationTransactionDTO::getMaxFee,
+                MultisigAccountModificationTransactionDTO::setMaxFee)
+            .uint64("deadline", MultisigAccountModificationTransactionDTO::getDeadline,
+                MultisigAccountModificationTransactionDTO::setDeadline)
+            .integer("minRemovalDelta",
+                MultisigAccountModificationTransactionDTO::getMinRemovalDelta,
+                MultisigAccountModificationTransactionDTO::setMinRemovalDelta)
+            .integer("minApprovalDelta",
+                MultisigAccountModificationTransactionDTO::getMinApprovalDelta,
+                MultisigAccountModificationTransactionDTO::setMinApprovalDelta)
+            .list("publicKeyAdditions", String.class,
+                MultisigAccountModificationTransactionDTO::getPublicKeyAdditions,
+                MultisigAccountModificationTransactionDTO::setPublicKeyAdditions)
+            .list("publicKeyDeletions", String.class,
+                MultisigAccountModificationTransactionDTO::getPublicKeyDeletions,
+                MultisigAccountModificationTransactionDTO::setPublicKeyDeletions);
+
+        add(NamespaceMetadataTransactionDTO.class, NamespaceMetadataTransactionDTO::new)
+            .string("signature", NamespaceMetadataTransactionDTO::getSignature,
+                NamespaceMetadataTransactionDTO::setSignature)
+            .string("signerPublicKey", NamespaceMetadataTransactionDTO::getSignerPublicKey,
+                NamespaceMetadataTransactionDTO::setSignerPublicKey)
+            .integer("version", NamespaceMetadataTransactionDTO::getVersion,
+                NamespaceMetadataTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, NamespaceMetadataTransactionDTO::getNetwork,
+                NamespaceMetadataTransactionDTO::setNetwork)
+            .integer("type", NamespaceMetadataTransactionDTO::getType,
+                NamespaceMetadataTransactionDTO::setType)
+            .uint64("maxFee", NamespaceMetadataTransactionDTO::getMaxFee,
+                NamespaceMetadataTransactionDTO::setMaxFee)
+            .uint64("deadline", NamespaceMetadataTransactionDTO::getDeadline,
+                NamespaceMetadataTransactionDTO::setDeadline)
+            .string("targetPublicKey", NamespaceMetadataTransactionDTO::getTargetPublicKey,
+                NamespaceMetadataTransactionDTO::setTargetPublicKey)
+            .string("scopedMetadataKey", NamespaceMetadataTransactionDTO::getScopedMetadataKey,
+                NamespaceMetadataTransactionDTO::setScopedMetadataKey)
+            .string("targetNamespaceId", NamespaceMetadataTransactionDTO::getTargetNamespaceId,
+                NamespaceMetadataTransactionDTO::setTargetNamespaceId)
+            .integer("valueSizeDelta", NamespaceMetadataTransactionDTO::getValueSizeDelta,
+                NamespaceMetadataTransactionDTO::setValueSizeDelta)
+            .integer("valueSize", NamespaceMetadataTransactionDTO::getValueSize,
+                NamespaceMetadataTransactionDTO::setValueSize)
+            .string("value", NamespaceMetadataTransactionDTO::getValue,
+                NamespaceMetadataTransactionDTO::setValue);
+
+        add(NamespaceRegistrationTransactionDTO.class, NamespaceRegistrationTransactionDTO::new)
+            .string("signature", NamespaceRegistrationTransactionDTO::getSignature,
+                NamespaceRegistrationTransactionDTO::setSignature)
+            .string("signerPublicKey", NamespaceRegistrationTransactionDTO::getSignerPublicKey,
+                NamespaceRegistrationTransactionDTO::setSignerPublicKey)
+            .integer("version", NamespaceRegistrationTransactionDTO::getVersion,
+                NamespaceRegistrationTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class,
+                NamespaceRegistrationTransactionDTO::getNetwork,
+                NamespaceRegistrationTransactionDTO::setNetwork)
+            .integer("type", NamespaceRegistrationTransactionDTO::getType,
+                NamespaceRegistrationTransactionDTO::setType)
+            .uint64("maxFee", NamespaceRegistrationTransactionDTO::getMaxFee,
+                NamespaceRegistrationTransactionDTO::setMaxFee)
+            .uint64("deadline", NamespaceRegistrationTransactionDTO::getDeadline,
+                NamespaceRegistrationTransactionDTO::setDeadline)
+            .uint64("duration", NamespaceRegistrationTransactionDTO::getDuration,
+                NamespaceRegistrationTransactionDTO::setDuration)
+            .string("parentId", NamespaceRegistrationTransactionDTO::getParentId,
+                NamespaceRegistrationTransactionDTO::setParentId)
+            .string("id", NamespaceRegistrationTransactionDTO::getId,
+                NamespaceRegistrationTransactionDTO::setId)
+            .object("registrationType", NamespaceRegistrationTypeEnum.class,
+                NamespaceRegistrationTransactionDTO::getRegistrationType,
+                NamespaceRegistrationTransactionDTO::setRegistrationType)
+            .string("name", NamespaceRegistrationTransactionDTO::getName,
+                NamespaceRegistrationTransactionDTO::setName);
+
+        add(SecretLockTransactionDTO.class, SecretLockTransactionDTO::new)
+            .string("signature", SecretLockTransactionDTO::getSignature,
+                SecretLockTransactionDTO::setSignature)
+            .string("signerPublicKey", SecretLockTransactionDTO::getSignerPublicKey,
+                SecretLockTransactionDTO::setSignerPublicKey)
+            .integer("version", SecretLockTransactionDTO::getVersion,
+                SecretLockTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, SecretLockTransactionDTO::getNetwork,
+                SecretLockTransactionDTO::setNetwork)
+            .integer("type", SecretLockTransactionDTO::getType, SecretLockTransactionDTO::setType)
+            .uint64("maxFee", SecretLockTransactionDTO::getMaxFee,
+                SecretLockTransactionDTO::setMaxFee)
+            .uint64("deadline", SecretLockTransactionDTO::getDeadline,
+                SecretLockTransactionDTO::setDeadline)
+            .string("secret", SecretLockTransactionDTO::getSecret,
+                SecretLockTransactionDTO::setSecret)
+            .string("mosaicId", SecretLockTransactionDTO::getMosaicId,
+                SecretLockTransactionDTO::setMosaicId)
+            .uint64("amount", SecretLockTransactionDTO::getAmount,
+                SecretLockTransactionDTO::setAmount)
+            .uint64("duration", SecretLockTransactionDTO::getDuration,
+                SecretLockTransactionDTO::setDuration)
+            .object("hashAlgorithm", LockHashAlgorithmEnum.class,
+                SecretLockTransactionDTO::getHashAlgorithm,
+                SecretLockTransactionDTO::setHashAlgorithm)
+            .string("recipientAddress", SecretLockTransactionDTO::getRecipientAddress,
+                SecretLockTransactionDTO::setRecipientAddress);
+
+        add(SecretProofTransactionDTO.class, SecretProofTransactionDTO::new)
+            .string("signature", SecretProofTransactionDTO::getSignature,
+                SecretProofTransactionDTO::setSignature)
+            .string("signerPublicKey", SecretProofTransactionDTO::getSignerPublicKey,
+                SecretProofTransactionDTO::setSignerPublicKey)
+            .integer("version", SecretProofTransactionDTO::getVersion,
+                SecretProofTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, SecretProofTransactionDTO::getNetwork,
+                SecretProofTransactionDTO::setNetwork)
+            .integer("type", SecretProofTransactionDTO::getType, SecretProofTransactionDTO::setType)
+            .uint64("maxFee", SecretProofTransactionDTO::getMaxFee,
+                SecretProofTransactionDTO::setMaxFee)
+            .uint64("deadline", SecretProofTransactionDTO::getDeadline,
+                SecretProofTransactionDTO::setDeadline)
+            .string("secret", SecretProofTransactionDTO::getSecret,
+                SecretProofTransactionDTO::setSecret)
+            .object("hashAlgorithm", LockHashAlgorithmEnum.class,
+                SecretProofTransactionDTO::getHashAlgorithm,
+                SecretProofTransactionDTO::setHashAlgorithm)
+            .string("recipientAddress", SecretProofTransactionDTO::getRecipientAddress,
+                SecretProofTransactionDTO::setRecipientAddress)
+            .string("proof", SecretProofTransactionDTO::getProof,
+                SecretProofTransactionDTO::setProof);
+
+        add(TransferTransactionDTO.class, TransferTransactionDTO::new)
+            .string("signature", TransferTransactionDTO::getSignature,
+                TransferTransactionDTO::setSignature)
+            .string("signerPublicKey", TransferTransactionDTO::getSignerPublicKey,
+                TransferTransactionDTO::setSignerPublicKey)
+            .integer("version", TransferTransactionDTO::getVersion,
+                TransferTransactionDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, TransferTransactionDTO::getNetwork,
+                TransferTransactionDTO::setNetwork)
+            .integer("type", TransferTransactionDTO::getType, TransferTransactionDTO::setType)
+            .uint64("maxFee", TransferTransactionDTO::getMaxFee, TransferTransactionDTO::setMaxFee)
+            .uint64("deadline", TransferTransactionDTO::getDeadline,
+                TransferTransactionDTO::setDeadline)
+            .string("recipientAddress", TransferTransactionDTO::getRecipientAddress,
+                TransferTransactionDTO::setRecipientAddress)
+            .list("mosaics", UnresolvedMosaic.class, TransferTransactionDTO::getMosaics,
+                TransferTransactionDTO::setMosaics)
+            .object("message", MessageDTO.class, TransferTransactionDTO::getMessage,
+                TransferTransactionDTO::setMessage);
+
+        add(BlockInfoDTO.class, BlockInfoDTO::new)
+            .object("meta", BlockMetaDTO.class, BlockInfoDTO::getMeta, BlockInfoDTO::setMeta)
+            .object("block", BlockDTO.class, BlockInfoDTO::getBlock, BlockInfoDTO::setBlock);
+
+        add(AccountInfoDTO.class, AccountInfoDTO::new)
+            .object("account", AccountDTO.class, AccountInfoDTO::getAccount,
+                AccountInfoDTO::setAccount);
+
+        add(StatementsDTO.class, StatementsDTO::new)
+            .list("transactionStatements", TransactionStatementDTO.class,
+                StatementsDTO::getTransactionStatements, StatementsDTO::setTransactionStatements)
+            .list("addressResolutionStatements", ResolutionStatementDTO.class,
+                StatementsDTO::getAddressResolutionStatements,
+                StatementsDTO::setAddressResolutionStatements)
+            .list("mosaicResolutionStatements", ResolutionStatementDTO.class,
+                StatementsDTO::getMosaicResolutionStatements,
+                StatementsDTO::setMosaicResolutionStatements);
+
+        add(TransactionMetaDTO.class, TransactionMetaDTO::new)
+            .uint64("height", TransactionMetaDTO::getHeight, TransactionMetaDTO::setHeight)
+            .string("hash", TransactionMetaDTO::getHash, TransactionMetaDTO::setHash)
+            .string("merkleComponentHash", TransactionMetaDTO::getMerkleComponentHash,
+                TransactionMetaDTO::setMerkleComponentHash)
+            .integer("index", TransactionMetaDTO::getIndex, TransactionMetaDTO::setIndex)
+            .string("id", TransactionMetaDTO::getId, TransactionMetaDTO::setId);
+
+        add(EmbeddedTransactionMetaDTO.class, EmbeddedTransactionMetaDTO::new)
+            .uint64("height", EmbeddedTransactionMetaDTO::getHeight,
+                EmbeddedTransactionMetaDTO::setHeight)
+            .string("aggregateHash", EmbeddedTransactionMetaDTO::getAggregateHash,
+                EmbeddedTransactionMetaDTO::setAggregateHash)
+            .string("aggregateId", EmbeddedTransactionMetaDTO::getAggregateId,
+                EmbeddedTransactionMetaDTO::setAggregateId)
+            .integer("index", EmbeddedTransactionMetaDTO::getIndex,
+                EmbeddedTransactionMetaDTO::setIndex)
+            .string("id", EmbeddedTransactionMetaDTO::getId, EmbeddedTransactionMetaDTO::setId);
+
+        add(CosignatureDTO.class, CosignatureDTO::new)
+            .string("signature", CosignatureDTO::getSignature, CosignatureDTO::setSignature)
+            .string("signerPublicKey", CosignatureDTO::getSignerPublicKey,
+                CosignatureDTO::setSignerPublicKey);
+
+        add(UnresolvedMosaic.class, UnresolvedMosaic::new)
+            .string("id", UnresolvedMosaic::getId, UnresolvedMosaic::setId)
+            .uint64("amount", UnresolvedMosaic::getAmount, UnresolvedMosaic::setAmount);
+
+        add(MessageDTO.class, MessageDTO::new)
+            .object("type", MessageTypeEnum.class, MessageDTO::getType, MessageDTO::setType)
+            .string("payload", MessageDTO::getPayload, MessageDTO::setPayload);
+
+        add(BlockMetaDTO.class, BlockMetaDTO::new)
+            .string("hash", BlockMetaDTO::getHash, BlockMetaDTO::setHash)
+            .uint64("totalFee", BlockMetaDTO::getTotalFee, BlockMetaDTO::setTotalFee)
+            .string("generationHash", BlockMetaDTO::getGenerationHash,
+                BlockMetaDTO::setGenerationHash)
+            .list("stateHashSubCacheMerkleRoots", String.class,
+                BlockMetaDTO::getStateHashSubCacheMerkleRoots,
+                BlockMetaDTO::setStateHashSubCacheMerkleRoots)
+            .integer("numTransactions", BlockMetaDTO::getNumTransactions,
+                BlockMetaDTO::setNumTransactions)
+            .integer("numStatements", BlockMetaDTO::getNumStatements,
+                BlockMetaDTO::setNumStatements);
+
+        add(BlockDTO.class, BlockDTO::new)
+            .string("signature", BlockDTO::getSignature, BlockDTO::setSignature)
+            .string("signerPublicKey", BlockDTO::getSignerPublicKey, BlockDTO::setSignerPublicKey)
+            .integer("version", BlockDTO::getVersion, BlockDTO::setVersion)
+            .object("network", NetworkTypeEnum.class, BlockDTO::getNetwork, BlockDTO::setNetwork)
+            .integer("type", BlockDTO::getType, BlockDTO::setType)
+            .uint64("height", BlockDTO::getHeight, BlockDTO::setHeight)
+            .uint64("timestamp", BlockDTO::getTimestamp, BlockDTO::setTimestamp)
+            .uint64("difficulty", BlockDTO::getDifficulty, BlockDTO::setDifficulty)
+            .string("previousBlockHash", BlockDTO::getPreviousBlockHash,
+                BlockDTO::setPreviousBlockHash)
+            .string("transactionsHash", BlockDTO::getTransactionsHash,
+                BlockDTO::setTransactionsHash)
+            .string("receiptsHash", BlockDTO::getReceiptsHash, BlockDTO::setReceiptsHash)
+            .string("stateHash", BlockDTO::getStateHash, BlockDTO::setStateHash)
+            .string("beneficiaryPublicKey", BlockDTO::getBeneficiaryPublicKey,
+                BlockDTO::setBeneficiaryPublicKey)
+            .integer("feeMultiplier", BlockDTO::getFeeMultiplier, BlockDTO::setFeeMultiplier);
+
+        add(AccountDTO.class, AccountDTO::new)
+            .string("address", AccountDTO::getAddress, AccountDTO::setAddress)
+            .uint64("addressHeight", AccountDTO::getAddressHeight, AccountDTO::setAddressHeight)
+            .string("publicKey", AccountDTO::getPublicKey, AccountDTO::setPublicKey)
+            .uint64("publicKeyHeight", AccountDTO::getPublicKeyHeight,
+                AccountDTO::setPublicKeyHeight)
+            .object("accountType", AccountTypeEnum.class, AccountDTO::getAccountType,
+                AccountDTO::setAccountType)
+            .string("linkedAccountKey", AccountDTO::getLinkedAccountKey,
+                AccountDTO::setLinkedAccountKey)
+            .list("activityBuckets", ActivityBucketDTO.class, AccountDTO::getActivityBuckets,
+                AccountDTO::setActivityBuckets)
+            .list("mosaics", Mosaic.class, AccountDTO::getMosaics, AccountDTO::setMosaics)
+            .uint64("importance", AccountDTO::getImportance, AccountDTO::setImportance)
+            .uint64("importanceHeight", AccountDTO::getImportanceHeight,
+                AccountDTO::setImportanceHeight);
+
+        add(TransactionStatementDTO.class, TransactionStatementDTO::new)
+            .object("statement", TransactionStatementBodyDTO.class,
+                TransactionStatementDTO::getStatement, TransactionStatementDTO::setStatement);
+
+        add(ResolutionStatementDTO.class, ResolutionStatementDTO::new)
+            .object("statement", ResolutionStatementBodyDTO.class,
+                ResolutionStatementDTO::getStatement, ResolutionStatementDTO::setStatement);
+
+        add(ActivityBucketDTO.class, ActivityBucketDTO::new)
+            .uint64("startHeight", ActivityBucketDTO::getStartHeight,
+                ActivityBucketDTO::setStartHeight)
+            .object("totalFeesPaid", Long.class, ActivityBucketDTO::getTotalFeesPaid,
+                ActivityBucketDTO::setTotalFeesPaid)
+            .integer("beneficiaryCount", ActivityBucketDTO::getBeneficiaryCount,
+                ActivityBucketDTO::setBeneficiaryCount)
+            .object("rawScore", Long.class, ActivityBucketDTO::getRawScore,
+                ActivityBucketDTO::setRawScore);
+
+        add(Mosaic.class, Mosaic::new)
+            .string("id", Mosaic::getId, Mosaic::setId)
+            .uint64("amount", Mosaic::getAmount, Mosaic::setAmount);
+
+        add(TransactionStatementBodyDTO.class, TransactionStatementBodyDTO::new)
+            .uint64("height", TransactionStatementBodyDTO::getHeight,
+                TransactionStatementBodyDTO::setHeight)
+            .object("source", SourceDTO.class, TransactionStatementBodyDTO::getSource,
+                TransactionStatementBodyDTO::setSource)
+            .trees("receipts", TransactionStatementBodyDTO::getReceipts,
+                TransactionStatementBodyDTO::setReceipts);
+
+        add(ResolutionStatementBodyDTO.class, ResolutionStatementBodyDTO::new)
+            .uint64("height", ResolutionStatementBodyDTO::getHeight,
+                ResolutionStatementBodyDTO::setHeight)
+            .object("unresolved", Object.class, ResolutionStatementBodyDTO::getUnresolved,
+                ResolutionStatementBodyDTO::setUnresolved)
+            .list("resolutionEntries", ResolutionEntryDTO.class,
+                ResolutionStatementBodyDTO::getResolutionEntries,
+                ResolutionStatementBodyDTO::setResolutionEntries);
+
+        add(SourceDTO.class, SourceDTO::new)
+            .integer("primaryId", SourceDTO::getPrimaryId, SourceDTO::setPrimaryId)
+            .integer("secondaryId", SourceDTO::getSecondaryId, SourceDTO::setSecondaryId);
+
+        add(ResolutionEntryDTO.class, ResolutionEntryDTO::new)
+            .object("source", SourceDTO.class, ResolutionEntryDTO::getSource,
+                ResolutionEntryDTO::setSource)
+            .object("resolved", Object.class, ResolutionEntryDTO::getResolved,
+                ResolutionEntryDTO::setResolved);
+    }
+
+    private <T> DtoDefinition<T> add(Class<T> type, Supplier<T> constructor) {
+        DtoDefinition<T> definition = new DtoDefinition<>(type, constructor);
+        definitions.put(type, definition);
+        return definition;
+    }
+
+    /**
+     * @return the DTO definitions handled by this factory.
+     */
+    Collection<DtoDefinition<?>> getDefinitions() {
+        return definitions.values();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        DtoDefinition<T> definition = (DtoDefinition<T>) definitions.get(type.getRawType());
+        return definition == null ? null : definition.createAdapter(gson);
+    }
+}
@@ -66,6 +66,18 @@ public class JsonHelperGson implements JsonHelper {
 
 
     public static final Gson creatGson(boolean pretty) {
+        return createReflectiveGsonBuilder(pretty)
+            .registerTypeAdapterFactory(new DtoTypeAdapterFactory()).create();
+    }
+
+    /**
+     * Creates the gson builder without the {@link DtoTypeAdapterFactory}, all the DTOs are bound
+     * reflectively.
+     *
+     * @param pretty if the json should be pretty printed.
+     * @return the {@link GsonBuilder}
+     */
+    static GsonBuilder createReflectiveGsonBuilder(boolean pretty) {
         JSON json = new JSON();
         DateTypeAdapter dateTypeAdapter = new DateTypeAdapter();
         SqlDateTypeAdapter sqlDateTypeAdapter = new SqlDateTypeAdapter();
@@ -85,7 +97,7 @@ public class JsonHelperGson implements JsonHelper {
         if (pretty) {
             builder.setPrettyPrinting();
         }
-        return builder.create();
+        return builder;
     }
 
     @Override
@@ -146,7 +158,27 @@ public class JsonHelperGson implements JsonHelper {
         if (instanceClass.isInstance(object)) {
             return (T) object;
         }
-        return parse(print(object), instanceClass);
+        // Tree to object conversion, the object is never serialized into a json string.
+        JsonElement tree = toJsonTree(object);
+        if (instanceClass.isInstance(tree)) {
+            return (T) tree;
+        }
+        try {
+            return objectMapper.fromJson(tree, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, "Json payload: " + tree);
+        }
+    }
+
+    private JsonElement toJsonTree(Object object) {
+        if (object instanceof JsonElement) {
+            return (JsonElement) object;
+        }
+        try {
+            return objectMapper.toJsonTree(object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     @Override
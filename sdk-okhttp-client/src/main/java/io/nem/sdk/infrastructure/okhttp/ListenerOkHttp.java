@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import io.nem.sdk.api.Listener;
 import io.nem.sdk.infrastructure.ListenerBase;
 import io.nem.sdk.infrastructure.ListenerSubscribeMessage;
+import io.nem.sdk.infrastructure.ListenerUnsubscribeMessage;
 import io.nem.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
 import io.nem.sdk.infrastructure.okhttp.mappers.TransactionMapper;
 import io.nem.sdk.model.blockchain.BlockInfo;
@@ -27,6 +28,7 @@ import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.openapi.okhttp_gson.invoker.JSON;
 import io.nem.sdk.openapi.okhttp_gson.model.BlockInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.concurrent.CompletableFuture;
@@ -103,8 +105,12 @@ public class ListenerOkHttp extends ListenerBase implements Listener {
 
     @Override
     protected Transaction toTransaction(Object transactionInfo) {
-        return transactionMapper
-            .map(getJsonHelper().convert(transactionInfo, TransactionInfoDTO.class));
+        JsonObject transactionInfoJson = getJsonHelper().convert(transactionInfo, JsonObject.class);
+        // The transaction body is handed to the mapper as json tree, only the meta is bound here.
+        TransactionMetaDTO meta = getJsonHelper()
+            .convert(transactionInfoJson.get("meta"), TransactionMetaDTO.class);
+        return transactionMapper.map(
+            new TransactionInfoDTO().meta(meta).transaction(transactionInfoJson.get("transaction")));
     }
 
 
@@ -126,4 +132,11 @@ public class ListenerOkHttp extends ListenerBase implements Listener {
         this.webSocket.send(getJsonHelper().print(subscribeMessage));
     }
 
+    @Override
+    protected void unsubscribeTo(String channel) {
+        final ListenerUnsubscribeMessage unsubscribeMessage = new ListenerUnsubscribeMessage(
+            this.getUid(), channel);
+        this.webSocket.send(getJsonHelper().print(unsubscribeMessage));
+    }
+
 }
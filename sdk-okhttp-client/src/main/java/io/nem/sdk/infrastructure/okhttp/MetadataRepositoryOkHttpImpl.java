@@ -26,16 +26,20 @@ import io.nem.sdk.model.metadata.MetadataType;
 import io.nem.sdk.model.mosaic.MosaicId;
 import io.nem.sdk.model.namespace.NamespaceId;
 import io.nem.sdk.openapi.okhttp_gson.api.MetadataRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.MetadataDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MetadataEntriesDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MetadataEntryDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import okhttp3.Call;
 
 
 /**
@@ -47,16 +51,20 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     private final MetadataRoutesApi client;
 
     public MetadataRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public MetadataRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new MetadataRoutesApi(apiClient);
     }
 
     @Override
     public Observable<List<Metadata>> getAccountMetadata(Address targetAddress,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getAccountMetadata(targetAddress.plain(), getPageSize(queryParams), getId(queryParams),
-                getOrder(queryParams)
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getAccountMetadataAsync(targetAddress.plain(), getPageSize(queryParams),
+                getId(queryParams), getOrder(queryParams), handler
             );
         return handleList(callback);
     }
@@ -64,8 +72,8 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     @Override
     public Observable<List<Metadata>> getAccountMetadataByKey(Address targetAddress, BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getAccountMetadataByKey(targetAddress.plain(), toHex(key));
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getAccountMetadataByKeyAsync(targetAddress.plain(), toHex(key), handler);
         return handleList(callback);
     }
 
@@ -73,24 +81,25 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<List<Metadata>> getMosaicMetadata(MosaicId targetMosaicId,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getMosaicMetadata(targetMosaicId.getIdAsHex(), getPageSize(queryParams), getId(queryParams),
-                getOrder(queryParams));
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getMosaicMetadataAsync(targetMosaicId.getIdAsHex(), getPageSize(queryParams),
+                getId(queryParams), getOrder(queryParams), handler);
         return handleList(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getMosaicMetadataByKey(MosaicId targetMosaicId, BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getMosaicMetadataByKey(targetMosaicId.getIdAsHex(), toHex(key));
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getMosaicMetadataByKeyAsync(targetMosaicId.getIdAsHex(), toHex(key), handler);
         return handleList(callback);
     }
 
     @Override
     public Observable<Metadata> getAccountMetadataByKeyAndSender(Address targetAddress, BigInteger key,
         String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getAccountMetadataByKeyAndSender(targetAddress.plain(), toHex(key), senderPublicKey);
+        Function<ApiCallback<MetadataDTO>, Call> callback = handler -> getClient()
+            .getAccountMetadataByKeyAndSenderAsync(targetAddress.plain(), toHex(key),
+                senderPublicKey, handler);
         return handleOne(callback);
     }
 
@@ -98,27 +107,27 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<Metadata> getMosaicMetadataByKeyAndSender(MosaicId targetMosaicId, BigInteger key,
         String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getMosaicMetadataByKeyAndSender(targetMosaicId.getIdAsHex(), toHex(key),
-                senderPublicKey);
+        Function<ApiCallback<MetadataDTO>, Call> callback = handler -> getClient()
+            .getMosaicMetadataByKeyAndSenderAsync(targetMosaicId.getIdAsHex(), toHex(key),
+                senderPublicKey, handler);
         return handleOne(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getNamespaceMetadata(NamespaceId targetNamespaceId,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getNamespaceMetadata(targetNamespaceId.getIdAsHex(), getPageSize(queryParams),
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getNamespaceMetadataAsync(targetNamespaceId.getIdAsHex(), getPageSize(queryParams),
                 getId(queryParams),
-                getOrder(queryParams));
+                getOrder(queryParams), handler);
         return handleList(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getNamespaceMetadataByKey(NamespaceId targetNamespaceId,
         BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getNamespaceMetadataByKey(targetNamespaceId.getIdAsHex(), toHex(key));
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback = handler -> getClient()
+            .getNamespaceMetadataByKeyAsync(targetNamespaceId.getIdAsHex(), toHex(key), handler);
         return handleList(callback);
     }
 
@@ -126,9 +135,9 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<Metadata> getNamespaceMetadataByKeyAndSender(NamespaceId targetNamespaceId,
         BigInteger key, String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getNamespaceMetadataByKeyAndSender(targetNamespaceId.getIdAsHex(),
-                MetadataRepositoryOkHttpImpl.this.toHex(key), senderPublicKey);
+        Function<ApiCallback<MetadataDTO>, Call> callback = handler -> getClient()
+            .getNamespaceMetadataByKeyAndSenderAsync(targetNamespaceId.getIdAsHex(),
+                MetadataRepositoryOkHttpImpl.this.toHex(key), senderPublicKey, handler);
         return handleOne(callback);
     }
 
@@ -144,7 +153,7 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
      * @return the {@link Observable} list of {@link Metadata}.
      */
     private Observable<List<Metadata>> handleList(
-        Callable<MetadataEntriesDTO> callback) {
+        Function<ApiCallback<MetadataEntriesDTO>, Call> callback) {
         return exceptionHandling(
             call(callback).map(MetadataEntriesDTO::getMetadataEntries).flatMapIterable(item -> item)
                 .map(this::toMetadata).toList()
@@ -159,7 +168,7 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
      * @return the {@link Observable} of {@link Metadata}.
      */
     private Observable<Metadata> handleOne(
-        Callable<MetadataDTO> callback) {
+        Function<ApiCallback<MetadataDTO>, Call> callback) {
         return exceptionHandling(call(callback)
             .map(this::toMetadata));
     }
@@ -26,6 +26,7 @@ import io.nem.sdk.model.mosaic.MosaicFlags;
 import io.nem.sdk.model.mosaic.MosaicId;
 import io.nem.sdk.model.mosaic.MosaicInfo;
 import io.nem.sdk.openapi.okhttp_gson.api.MosaicRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicDTO;
@@ -33,9 +34,12 @@ import io.nem.sdk.openapi.okhttp_gson.model.MosaicIds;
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicsInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Mosaic http repository.
@@ -51,7 +55,12 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     public MosaicRepositoryOkHttpImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public MosaicRepositoryOkHttpImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new MosaicRoutesApi(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
@@ -63,7 +72,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
-        Callable<MosaicInfoDTO> callback = () -> getClient().getMosaic(mosaicId.getIdAsHex());
+        Function<ApiCallback<MosaicInfoDTO>, Call> callback = handler -> getClient()
+            .getMosaicAsync(mosaicId.getIdAsHex(), handler);
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback).map(
             mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType))));
     }
@@ -74,8 +84,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
         mosaicIds.mosaicIds(ids.stream()
             .map(MosaicId::getIdAsHex)
             .collect(Collectors.toList()));
-        Callable<List<MosaicInfoDTO>> callback = () -> getClient()
-            .getMosaics(mosaicIds);
+        Function<ApiCallback<List<MosaicInfoDTO>>, Call> callback = handler -> getClient()
+            .getMosaicsAsync(mosaicIds, handler);
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).flatMapIterable(item -> item).map(
                 mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType)).toList()
@@ -85,8 +95,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<List<MosaicInfo>> getMosaicsFromAccount(Address address) {
-        Callable<MosaicsInfoDTO> callback = () -> getClient()
-            .getMosaicsFromAccount(address.plain());
+        Function<ApiCallback<MosaicsInfoDTO>, Call> callback = handler -> getClient()
+            .getMosaicsFromAccountAsync(address.plain(), handler);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).map(MosaicsInfoDTO::getMosaics).flatMapIterable(item -> item).map(
@@ -98,7 +108,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
     public Observable<List<MosaicInfo>> getMosaicsFromAccounts(List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        Callable<MosaicsInfoDTO> callback = () -> getClient().getMosaicsFromAccounts(accountIds);
+        Function<ApiCallback<MosaicsInfoDTO>, Call> callback = handler -> getClient()
+            .getMosaicsFromAccountsAsync(accountIds, handler);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).map(MosaicsInfoDTO::getMosaics).flatMapIterable(item -> item).map(
@@ -23,15 +23,20 @@ import io.nem.sdk.model.account.MultisigAccountInfo;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.openapi.okhttp_gson.api.MultisigRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.MultisigAccountGraphInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MultisigAccountInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MultisigDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl implements
     MultisigRepository {
@@ -42,15 +47,21 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     public MultisigRepositoryOkHttpImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public MultisigRepositoryOkHttpImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new MultisigRoutesApi(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
 
     @Override
     public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
-        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisig(address.plain()))
+        Function<ApiCallback<MultisigAccountInfoDTO>, Call> callback = handler -> getClient()
+            .getAccountMultisigAsync(address.plain(), handler);
+        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback)
             .map(MultisigAccountInfoDTO::getMultisig)
             .map(dto -> toMultisigAccountInfo(dto, networkType))));
 
@@ -58,8 +69,9 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     @Override
     public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
-        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisigGraph(address.plain()))
+        Function<ApiCallback<List<MultisigAccountGraphInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountMultisigGraphAsync(address.plain(), handler);
+        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback)
             .map(multisigAccountGraphInfoDTOList -> {
                 Map<Integer, List<MultisigAccountInfo>> multisigAccountInfoMap = new HashMap<>();
                 multisigAccountGraphInfoDTOList.forEach(
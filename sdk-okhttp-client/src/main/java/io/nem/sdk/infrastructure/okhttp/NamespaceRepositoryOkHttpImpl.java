@@ -37,6 +37,7 @@ import io.nem.sdk.model.namespace.NamespaceInfo;
 import io.nem.sdk.model.namespace.NamespaceName;
 import io.nem.sdk.model.namespace.NamespaceRegistrationType;
 import io.nem.sdk.openapi.okhttp_gson.api.NamespaceRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountNamesDTO;
@@ -50,11 +51,14 @@ import io.nem.sdk.openapi.okhttp_gson.model.NamespaceInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.NamespaceNameDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.NamespacesInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Namespace http repository.
@@ -70,7 +74,12 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
 
     public NamespaceRepositoryOkHttpImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public NamespaceRepositoryOkHttpImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new NamespaceRoutesApi(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
@@ -81,8 +90,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
 
     @Override
     public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        Function<ApiCallback<NamespaceInfoDTO>, Call> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback).map(
             namespaceInfoDTO -> toNamespaceInfo(namespaceInfoDTO, networkType))));
     }
@@ -101,10 +110,10 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     private Observable<List<NamespaceInfo>> getNamespacesFromAccount(
         Address address, Optional<QueryParams> queryParams) {
 
-        Callable<NamespacesInfoDTO> callback = () ->
-            getClient().getNamespacesFromAccount(address.plain(),
+        Function<ApiCallback<NamespacesInfoDTO>, Call> callback = handler ->
+            getClient().getNamespacesFromAccountAsync(address.plain(),
                 getPageSize(queryParams),
-                getId(queryParams)
+                getId(queryParams), handler
             );
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
@@ -120,9 +129,9 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
             .addresses(addresses.stream().map(Address::plain).collect(
                 Collectors.toList()));
 
-        Callable<NamespacesInfoDTO> callback = () ->
+        Function<ApiCallback<NamespacesInfoDTO>, Call> callback = handler ->
             getClient()
-                .getNamespacesFromAccounts(accounts);
+                .getNamespacesFromAccountsAsync(accounts, handler);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).flatMapIterable(NamespacesInfoDTO::getNamespaces)
@@ -138,8 +147,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
             .namespaceIds(namespaceIds.stream().map(NamespaceId::getIdAsHex)
                 .collect(Collectors.toList()));
 
-        Callable<List<NamespaceNameDTO>> callback = () ->
-            getClient().getNamespacesNames(ids);
+        Function<ApiCallback<List<NamespaceNameDTO>>, Call> callback = handler ->
+            getClient().getNamespacesNamesAsync(ids, handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toNamespaceName).toList()
@@ -161,8 +170,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<MosaicId> getLinkedMosaicId(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        Function<ApiCallback<NamespaceInfoDTO>, Call> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(call(callback).map(namespaceInfoDTO -> this
             .toMosaicId(namespaceInfoDTO.getNamespace())));
     }
@@ -175,8 +184,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<Address> getLinkedAddress(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        Function<ApiCallback<NamespaceInfoDTO>, Call> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(call(callback).map(namespaceInfoDTO -> this
             .toAddress(namespaceInfoDTO.getNamespace())));
     }
@@ -190,8 +199,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     }
 
     private Observable<List<AccountNames>> getAccountNames(AccountIds accountIds) {
-        Callable<AccountsNamesDTO> callback = () -> getClient()
-            .getAccountsNames(accountIds);
+        Function<ApiCallback<AccountsNamesDTO>, Call> callback = handler -> getClient()
+            .getAccountsNamesAsync(accountIds, handler);
         return exceptionHandling(
             call(callback).map(AccountsNamesDTO::getAccountNames).flatMapIterable(item -> item)
                 .map(this::toAccountNames).toList().toObservable());
@@ -215,8 +224,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
         mosaicIds.mosaicIds(ids.stream()
             .map(MosaicId::getIdAsHex)
             .collect(Collectors.toList()));
-        Callable<MosaicsNamesDTO> callback = () -> getClient()
-            .getMosaicsNames(mosaicIds);
+        Function<ApiCallback<MosaicsNamesDTO>, Call> callback = handler -> getClient()
+            .getMosaicsNamesAsync(mosaicIds, handler);
         return exceptionHandling(
             call(callback).map(MosaicsNamesDTO::getMosaicNames).flatMapIterable(item -> item)
                 .map(this::toMosaicNames).toList()
@@ -21,8 +21,15 @@ import io.nem.sdk.model.blockchain.NetworkInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.openapi.okhttp_gson.api.NetworkRoutesApi;
 import io.nem.sdk.openapi.okhttp_gson.api.NodeRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import io.nem.sdk.openapi.okhttp_gson.model.NetworkTypeDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.NodeInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import okhttp3.Call;
 
 /**
  * Created by fernando on 30/07/19.
@@ -37,22 +44,29 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     private final NodeRoutesApi nodeRoutesApi;
 
     public NetworkRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public NetworkRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         networkRoutesApi = new NetworkRoutesApi(apiClient);
         nodeRoutesApi = new NodeRoutesApi(apiClient);
     }
 
     @Override
     public Observable<NetworkType> getNetworkType() {
+        Function<ApiCallback<NodeInfoDTO>, Call> callback = getNodeRoutesApi()::getNodeInfoAsync;
         return exceptionHandling(
-            call(getNodeRoutesApi()::getNodeInfo)
+            call(callback)
                 .map(info -> NetworkType.rawValueOf(info.getNetworkIdentifier())));
     }
 
     @Override
     public Observable<NetworkInfo> getNetworkInfo() {
+        Function<ApiCallback<NetworkTypeDTO>, Call> callback = getNetworkRoutesApi()
+            ::getNetworkTypeAsync;
         return exceptionHandling(
-            call(getNetworkRoutesApi()::getNetworkType)
+            call(callback)
                 .map(info -> new NetworkInfo(info.getName(), info.getDescription())));
     }
 
@@ -22,12 +22,16 @@ import io.nem.sdk.model.node.NodeInfo;
 import io.nem.sdk.model.node.NodeTime;
 import io.nem.sdk.model.node.RoleType;
 import io.nem.sdk.openapi.okhttp_gson.api.NodeRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.NodeInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.NodeTimeDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
-import java.util.concurrent.Callable;
+import okhttp3.Call;
 
 /**
  * Node http repository.
@@ -38,7 +42,11 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
     private final NodeRoutesApi client;
 
     public NodeRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public NodeRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new NodeRoutesApi(apiClient);
     }
 
@@ -53,7 +61,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      * @return {@link Observable} of NodeInfo
      */
     public Observable<NodeInfo> getNodeInfo() {
-        return exceptionHandling(call(getClient()::getNodeInfo).map(this::toNodeInfo));
+        return exceptionHandling(call(getClient()::getNodeInfoAsync).map(this::toNodeInfo));
     }
 
     private NodeInfo toNodeInfo(NodeInfoDTO nodeInfoDTO) {
@@ -73,8 +81,8 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      * @return {@link Observable} of NodeTime
      */
     public Observable<NodeTime> getNodeTime() {
-        Callable<NodeTimeDTO> callback = () -> getClient()
-            .getNodeTime();
+        Function<ApiCallback<NodeTimeDTO>, Call> callback = handler -> getClient()
+            .getNodeTimeAsync(handler);
         return exceptionHandling(
             call(callback).map(this::toNodeTime));
     }
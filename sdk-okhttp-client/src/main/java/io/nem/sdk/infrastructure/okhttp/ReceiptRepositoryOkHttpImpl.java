@@ -22,14 +22,18 @@ import io.nem.sdk.model.blockchain.MerkelProofInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.receipt.Statement;
 import io.nem.sdk.openapi.okhttp_gson.api.ReceiptRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.MerkleProofInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 
 /**
@@ -44,15 +48,20 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     public ReceiptRepositoryOkHttpImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public ReceiptRepositoryOkHttpImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new ReceiptRoutesApi(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
 
     @Override
     public Observable<Statement> getBlockReceipts(BigInteger height) {
-        Callable<StatementsDTO> callback = () ->
-            getClient().getBlockReceipts(height);
+        Function<ApiCallback<StatementsDTO>, Call> callback = handler ->
+            getClient().getBlockReceiptsAsync(height, handler);
         return exceptionHandling(
             networkTypeObservable.flatMap(networkType -> call(callback).map(statementsDTO ->
                 new ReceiptMappingOkHttp(getJsonHelper())
@@ -62,8 +71,8 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     public Observable<MerkelProofInfo> getMerkleReceipts(BigInteger height, String hash) {
 
-        Callable<MerkleProofInfoDTO> callback = () ->
-            getClient().getMerkleReceipts(height, hash);
+        Function<ApiCallback<MerkleProofInfoDTO>, Call> callback = handler ->
+            getClient().getMerkleReceiptsAsync(height, hash, handler);
         return exceptionHandling(call(callback).map(this::toMerkelProofInfo));
     }
 
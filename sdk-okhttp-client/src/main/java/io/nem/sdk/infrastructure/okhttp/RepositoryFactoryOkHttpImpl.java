@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.okhttp;
 
+import com.google.gson.Gson;
 import io.nem.sdk.api.AccountRepository;
 import io.nem.sdk.api.BlockRepository;
 import io.nem.sdk.api.ChainRepository;
@@ -33,13 +34,23 @@ import io.nem.sdk.api.RepositoryFactory;
 import io.nem.sdk.api.RestrictionAccountRepository;
 import io.nem.sdk.api.RestrictionMosaicRepository;
 import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
 import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * OkHttp implementation of a {@link RepositoryFactory}
@@ -52,22 +63,123 @@ public class RepositoryFactoryOkHttpImpl implements RepositoryFactory {
 
     private final ApiClient apiClient;
 
+    /**
+     * The given client, without the interceptors of the repository calls.
+     */
+    private final OkHttpClient httpClient;
+
     private final String baseUrl;
 
     private final Observable<NetworkType> networkTypeObservable;
 
     private final Observable<String> generationHashObservable;
 
+    private final boolean ownsHttpClient;
+
+    private final Scheduler scheduler;
+
     public RepositoryFactoryOkHttpImpl(String baseUrl) {
+        this(baseUrl, new TransportConfiguration());
+    }
+
+    /**
+     * Creates a factory with its own http client set up from the transport configuration. OkHttp
+     * doesn't cap the open connections, the max connections are the idle connections kept in the
+     * pool. HTTP/2 is negotiated on https connections only and pipelining is not supported.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     */
+    public RepositoryFactoryOkHttpImpl(String baseUrl, TransportConfiguration configuration) {
+        this(baseUrl, configuration, new SchedulerConfiguration());
+    }
+
+    /**
+     * Creates a factory with its own http client whose repositories map the responses on the
+     * configured scheduler instead of the dispatcher threads.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     * @param schedulerConfiguration the scheduler configuration.
+     */
+    public RepositoryFactoryOkHttpImpl(String baseUrl, TransportConfiguration configuration,
+        SchedulerConfiguration schedulerConfiguration) {
+        this(baseUrl, createHttpClient(new ApiClient().getHttpClient(), configuration),
+            schedulerConfiguration, true);
+    }
+
+    /**
+     * Creates a factory that sends the requests with the given http client. The requests are
+     * enqueued in the client's {@link Dispatcher}, its max requests and max requests per host
+     * limit how many calls run concurrently. The client is not closed with the factory, so one
+     * client can be shared by many factories.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param httpClient the OkHttp client.
+     */
+    public RepositoryFactoryOkHttpImpl(String baseUrl, OkHttpClient httpClient) {
+        this(baseUrl, httpClient, new SchedulerConfiguration(), false);
+    }
+
+    private RepositoryFactoryOkHttpImpl(String baseUrl, OkHttpClient httpClient,
+        SchedulerConfiguration schedulerConfiguration, boolean ownsHttpClient) {
+        this(baseUrl, httpClient, JsonHelperGson.creatGson(false), schedulerConfiguration,
+            ownsHttpClient);
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @param httpClient the OkHttp client.
+     * @param gson the gson instance, it's thread safe and can be shared.
+     * @param schedulerConfiguration the scheduler configuration.
+     * @param ownsHttpClient if the client is closed with the factory.
+     */
+    RepositoryFactoryOkHttpImpl(String baseUrl, OkHttpClient httpClient, Gson gson,
+        SchedulerConfiguration schedulerConfiguration, boolean ownsHttpClient) {
+        Validate.notNull(schedulerConfiguration, "schedulerConfiguration must not be null");
         this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+        this.ownsHttpClient = ownsHttpClient;
+        this.scheduler = schedulerConfiguration.getMappingScheduler();
         this.apiClient = new ApiClient();
+        this.apiClient
+            .setHttpClient(ResponseBytesCounter.install(CallCancellation.install(httpClient)));
         this.apiClient.setBasePath(baseUrl);
-        this.apiClient.getJSON().setGson(JsonHelperGson.creatGson(false));
+        this.apiClient.getJSON().setGson(gson);
         this.networkTypeObservable = createNetworkRepository().getNetworkType().cache();
         this.generationHashObservable = createBlockRepository().getBlockByHeight(BigInteger.ONE)
             .map(BlockInfo::getGenerationHash).cache();
     }
 
+    /**
+     * The factory talks to a single rest gateway, so the per host limit of the dispatcher is the
+     * limit of concurrent requests, the total limit never gets in its way. A zero keep alive
+     * keeps no idle connection. OkHttp asks for gzip responses unless the request already has an
+     * Accept-Encoding header.
+     */
+    static OkHttpClient createHttpClient(OkHttpClient defaultClient,
+        TransportConfiguration configuration) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(
+            Math.max(dispatcher.getMaxRequests(), configuration.getMaxRequestsPerHost()));
+        dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        long keepAlive = configuration.getKeepAlive().toNanos();
+        int maxIdleConnections = keepAlive == 0 ? 0 : configuration.getMaxConnections();
+        OkHttpClient.Builder builder = defaultClient.newBuilder().dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxIdleConnections, Math.max(keepAlive, 1),
+                TimeUnit.NANOSECONDS))
+            .protocols(configuration.isHttp2() ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : Collections.singletonList(Protocol.HTTP_1_1))
+            .connectTimeout(configuration.getConnectTimeout())
+            .readTimeout(configuration.getReadTimeout())
+            .writeTimeout(configuration.getWriteTimeout());
+        if (!configuration.isCompression()) {
+            builder.addInterceptor(chain -> chain.proceed(
+                chain.request().newBuilder().header("Accept-Encoding", "identity").build()));
+        }
+        return builder.build();
+    }
+
     @Override
     public Observable<NetworkType> getNetworkType() {
         return networkTypeObservable;
@@ -80,77 +192,77 @@ public class RepositoryFactoryOkHttpImpl implements RepositoryFactory {
 
     @Override
     public AccountRepository createAccountRepository() {
-        return new AccountRepositoryOkHttpImpl(apiClient);
+        return new AccountRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public MultisigRepository createMultisigRepository() {
-        return new MultisigRepositoryOkHttpImpl(apiClient, getNetworkType());
+        return new MultisigRepositoryOkHttpImpl(apiClient, getNetworkType(), scheduler);
     }
 
     @Override
     public BlockRepository createBlockRepository() {
-        return new BlockRepositoryOkHttpImpl(apiClient);
+        return new BlockRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public ReceiptRepository createReceiptRepository() {
-        return new ReceiptRepositoryOkHttpImpl(apiClient, getNetworkType());
+        return new ReceiptRepositoryOkHttpImpl(apiClient, getNetworkType(), scheduler);
     }
 
     @Override
     public ChainRepository createChainRepository() {
-        return new ChainRepositoryOkHttpImpl(apiClient);
+        return new ChainRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public DiagnosticRepository createDiagnosticRepository() {
-        return new DiagnosticRepositoryOkHttpImpl(apiClient);
+        return new DiagnosticRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public MosaicRepository createMosaicRepository() {
-        return new MosaicRepositoryOkHttpImpl(apiClient, getNetworkType());
+        return new MosaicRepositoryOkHttpImpl(apiClient, getNetworkType(), scheduler);
     }
 
     @Override
     public NamespaceRepository createNamespaceRepository() {
-        return new NamespaceRepositoryOkHttpImpl(apiClient, getNetworkType());
+        return new NamespaceRepositoryOkHttpImpl(apiClient, getNetworkType(), scheduler);
     }
 
     @Override
     public NetworkRepository createNetworkRepository() {
-        return new NetworkRepositoryOkHttpImpl(apiClient);
+        return new NetworkRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public NodeRepository createNodeRepository() {
-        return new NodeRepositoryOkHttpImpl(apiClient);
+        return new NodeRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public TransactionRepository createTransactionRepository() {
-        return new TransactionRepositoryOkHttpImpl(apiClient);
+        return new TransactionRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public MetadataRepository createMetadataRepository() {
-        return new MetadataRepositoryOkHttpImpl(apiClient);
+        return new MetadataRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public RestrictionAccountRepository createRestrictionAccountRepository() {
-        return new RestrictionAccountRepositoryOkHttpImpl(apiClient);
+        return new RestrictionAccountRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public RestrictionMosaicRepository createRestrictionMosaicRepository() {
-        return new RestrictionMosaicRepositoryOkHttpImpl(apiClient);
+        return new RestrictionMosaicRepositoryOkHttpImpl(apiClient, scheduler);
     }
 
     @Override
     public Listener createListener() {
-        return new ListenerOkHttp(apiClient.getHttpClient(), baseUrl, apiClient.getJSON());
+        return new ListenerOkHttp(httpClient, baseUrl, apiClient.getJSON());
     }
 
     @Override
@@ -160,7 +272,17 @@ public class RepositoryFactoryOkHttpImpl implements RepositoryFactory {
 
     @Override
     public void close() {
-        OkHttpClient client = apiClient.getHttpClient();
+        if (ownsHttpClient) {
+            close(apiClient.getHttpClient());
+        }
+    }
+
+    /**
+     * Stops the dispatcher threads and closes the pooled connections and the cache of a client.
+     *
+     * @param client the client.
+     */
+    static void close(OkHttpClient client) {
         client.dispatcher().executorService().shutdown();
         client.connectionPool().evictAll();
         IOUtils.closeQuietly(client.cache());
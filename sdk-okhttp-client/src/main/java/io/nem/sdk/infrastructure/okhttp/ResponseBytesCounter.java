@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Counts the bytes of the rest responses as the {@link SdkMetric#REPOSITORY_RESPONSE_BYTES} of
+ * their endpoint when the metrics are enabled.
+ *
+ * It's a network interceptor, so the bytes are the ones received, before they are decompressed.
+ * They are taken from the content length, the chunked responses are not counted.
+ */
+final class ResponseBytesCounter {
+
+    private static final Interceptor INTERCEPTOR = chain -> {
+        Response response = chain.proceed(chain.request());
+        ResponseBody body = response.body();
+        if (SdkMetrics.isEnabled() && body != null && body.contentLength() >= 0) {
+            SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES,
+                AbstractRepositoryOkHttpImpl.endpoint(response.request()), body.contentLength());
+        }
+        return response;
+    };
+
+    private ResponseBytesCounter() {
+    }
+
+    /**
+     * @param httpClient the http client.
+     * @return a client sharing the dispatcher and the connection pool of the given client, with
+     * the network interceptor that counts the response bytes.
+     */
+    static OkHttpClient install(OkHttpClient httpClient) {
+        return httpClient.newBuilder().addNetworkInterceptor(INTERCEPTOR).build();
+    }
+}
@@ -23,17 +23,21 @@ import io.nem.sdk.model.account.AccountRestrictions;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.transaction.AccountRestrictionFlags;
 import io.nem.sdk.openapi.okhttp_gson.api.RestrictionAccountRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountRestrictionDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountRestrictionsDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountRestrictionsInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl implements
     RestrictionAccountRepository {
@@ -41,7 +45,11 @@ public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOk
     private final RestrictionAccountRoutesApi client;
 
     public RestrictionAccountRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public RestrictionAccountRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new RestrictionAccountRoutesApi(apiClient);
     }
 
@@ -49,8 +57,8 @@ public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOk
     @Override
     public Observable<AccountRestrictions> getAccountRestrictions(Address address) {
 
-        Callable<AccountRestrictionsInfoDTO> callback = () -> getClient()
-            .getAccountRestrictions(address.plain());
+        Function<ApiCallback<AccountRestrictionsInfoDTO>, Call> callback = handler -> getClient()
+            .getAccountRestrictionsAsync(address.plain(), handler);
         return exceptionHandling(
             call(callback).map(AccountRestrictionsInfoDTO::getAccountRestrictions)
                 .map(this::toAccountRestrictions));
@@ -66,8 +74,8 @@ public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOk
 
 
     private Observable<List<AccountRestrictions>> getAccountsRestrictions(AccountIds accountIds) {
-        Callable<List<AccountRestrictionsInfoDTO>> callback = () -> getClient()
-            .getAccountRestrictionsFromAccounts(accountIds);
+        Function<ApiCallback<List<AccountRestrictionsInfoDTO>>, Call> callback = handler ->
+            getClient().getAccountRestrictionsFromAccountsAsync(accountIds, handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item)
                 .map(AccountRestrictionsInfoDTO::getAccountRestrictions)
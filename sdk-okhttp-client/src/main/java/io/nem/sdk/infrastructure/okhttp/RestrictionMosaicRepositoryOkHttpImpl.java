@@ -26,6 +26,7 @@ import io.nem.sdk.model.restriction.MosaicGlobalRestrictionItem;
 import io.nem.sdk.model.restriction.MosaicRestrictionEntryType;
 import io.nem.sdk.model.transaction.MosaicRestrictionType;
 import io.nem.sdk.openapi.okhttp_gson.api.RestrictionMosaicRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountIds;
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicAddressRestrictionDTO;
@@ -35,10 +36,14 @@ import io.nem.sdk.openapi.okhttp_gson.model.MosaicGlobalRestrictionEntryRestrict
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicGlobalRestrictionEntryWrapperDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.MosaicIds;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl implements
     RestrictionMosaicRepository {
@@ -46,7 +51,11 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
     private final RestrictionMosaicRoutesApi client;
 
     public RestrictionMosaicRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public RestrictionMosaicRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new RestrictionMosaicRoutesApi(apiClient);
     }
 
@@ -56,8 +65,10 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         MosaicId mosaicId, List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        return exceptionHandling(call(() -> getClient()
-            .getMosaicAddressRestrictions(mosaicId.getIdAsHex(), accountIds))
+        Function<ApiCallback<List<MosaicAddressRestrictionDTO>>, Call> callback = handler ->
+            getClient().getMosaicAddressRestrictionsAsync(mosaicId.getIdAsHex(), accountIds,
+                handler);
+        return exceptionHandling(call(callback)
             .flatMapIterable(item -> item).map(this::toMosaicAddressRestriction)).toList()
             .toObservable();
     }
@@ -65,15 +76,18 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
     @Override
     public Observable<MosaicAddressRestriction> getMosaicAddressRestriction(MosaicId mosaicId,
         Address address) {
-        return exceptionHandling(call(
-            () -> getClient().getMosaicAddressRestriction(mosaicId.getIdAsHex(), address.plain()))
+        Function<ApiCallback<MosaicAddressRestrictionDTO>, Call> callback = handler -> getClient()
+            .getMosaicAddressRestrictionAsync(mosaicId.getIdAsHex(), address.plain(), handler);
+        return exceptionHandling(call(callback)
             .map(this::toMosaicAddressRestriction));
     }
 
     @Override
     public Observable<MosaicGlobalRestriction> getMosaicGlobalRestriction(MosaicId mosaicId) {
+        Function<ApiCallback<MosaicGlobalRestrictionDTO>, Call> callback = handler -> getClient()
+            .getMosaicGlobalRestrictionAsync(mosaicId.getIdAsHex(), handler);
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestriction(mosaicId.getIdAsHex()))
+            call(callback)
                 .map(this::toMosaicGlobalRestriction));
     }
 
@@ -82,8 +96,10 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         List<MosaicId> mosaicIds) {
         MosaicIds mosaicIdsParmas = new MosaicIds()
             .mosaicIds(mosaicIds.stream().map(MosaicId::getIdAsHex).collect(Collectors.toList()));
+        Function<ApiCallback<List<MosaicGlobalRestrictionDTO>>, Call> callback = handler ->
+            getClient().getMosaicGlobalRestrictionsAsync(mosaicIdsParmas, handler);
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestrictions(mosaicIdsParmas))
+            call(callback)
                 .flatMapIterable(item -> item).map(this::toMosaicGlobalRestriction)).toList()
             .toObservable();
     }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import okhttp3.OkHttpClient;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Creates {@link RepositoryFactoryOkHttpImpl} instances, one per rest gateway, that share one
+ * connection pool, one dispatcher with its executor and one Gson instance. The pool and the
+ * threads don't grow with the number of gateways: the dispatcher runs at most max(64, max
+ * requests per host) calls in total and the max requests per host for each gateway.
+ *
+ * Closing a created factory leaves the shared resources open for the other factories, they are
+ * released when this transport is closed. This makes it the factory creator of a {@link
+ * io.nem.sdk.infrastructure.MultiNodeRepositoryFactory}:
+ *
+ * <pre>{@code
+ * SharedTransportOkHttp transport = new SharedTransportOkHttp(configuration);
+ * RepositoryFactory factory = new MultiNodeRepositoryFactory(urls,
+ *     transport::createRepositoryFactory);
+ * }</pre>
+ */
+public class SharedTransportOkHttp {
+
+    private final OkHttpClient httpClient;
+
+    private final Gson gson = JsonHelperGson.creatGson(false);
+
+    private final boolean ownsHttpClient;
+
+    public SharedTransportOkHttp() {
+        this(new TransportConfiguration());
+    }
+
+    /**
+     * @param configuration the transport configuration of the shared client.
+     */
+    public SharedTransportOkHttp(TransportConfiguration configuration) {
+        Validate.notNull(configuration, "configuration must not be null");
+        this.httpClient = RepositoryFactoryOkHttpImpl
+            .createHttpClient(new ApiClient().getHttpClient(), configuration);
+        this.ownsHttpClient = true;
+    }
+
+    /**
+     * Shares an existing client, it's not closed with this transport.
+     *
+     * @param httpClient the OkHttp client.
+     */
+    public SharedTransportOkHttp(OkHttpClient httpClient) {
+        Validate.notNull(httpClient, "httpClient must not be null");
+        this.httpClient = httpClient;
+        this.ownsHttpClient = false;
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @return a factory for the gateway that uses the shared resources.
+     */
+    public RepositoryFactory createRepositoryFactory(String baseUrl) {
+        return createRepositoryFactory(baseUrl, new SchedulerConfiguration());
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @param schedulerConfiguration the scheduler the responses of the gateway are mapped on.
+     * @return a factory for the gateway that uses the shared resources.
+     */
+    public RepositoryFactory createRepositoryFactory(String baseUrl,
+        SchedulerConfiguration schedulerConfiguration) {
+        return new RepositoryFactoryOkHttpImpl(baseUrl, httpClient, gson, schedulerConfiguration,
+            false);
+    }
+
+    /**
+     * @return the shared client.
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Releases the shared resources, the created factories can't be used anymore.
+     */
+    public void close() {
+        if (ownsHttpClient) {
+            RepositoryFactoryOkHttpImpl.close(httpClient);
+        }
+    }
+}
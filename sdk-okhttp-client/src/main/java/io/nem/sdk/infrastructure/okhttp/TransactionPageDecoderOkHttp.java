@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.nem.sdk.infrastructure.okhttp.mappers.TransactionMapper;
+import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiException;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Decodes a json array of transaction infos (an account or block transaction page) reading the
+ * response body token by token with a Gson {@link JsonReader}.
+ *
+ * Only one transaction info is kept in memory at a time and each transaction is emitted as soon as
+ * it has been read, so the first results are available before the whole page is downloaded.
+ */
+public class TransactionPageDecoderOkHttp {
+
+    private final JsonHelper jsonHelper;
+
+    private final TransactionMapper transactionMapper;
+
+    public TransactionPageDecoderOkHttp(JsonHelper jsonHelper,
+        TransactionMapper transactionMapper) {
+        this.jsonHelper = jsonHelper;
+        this.transactionMapper = transactionMapper;
+    }
+
+    /**
+     * Enqueues the call when subscribed, emitting the transactions of the response page while they
+     * are read on the dispatcher thread of the call. Disposing the returned observable cancels the
+     * call.
+     *
+     * @param callSupplier the supplier of the not yet executed call.
+     * @param cancellation cancels the call when the observable is disposed.
+     * @return an observable of the transactions of the page.
+     */
+    public Observable<Transaction> decode(Callable<Call> callSupplier,
+        Consumer<Call> cancellation) {
+        return Observable.create(emitter -> {
+            Call call = callSupplier.call();
+            emitter.setCancellable(() -> cancellation.accept(call));
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    emitter.tryOnError(e);
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try (Response closeable = response) {
+                        decode(closeable, emitter);
+                    } catch (Exception e) {
+                        emitter.tryOnError(e);
+                    }
+                }
+            });
+        });
+    }
+
+    private void decode(Response response, ObservableEmitter<Transaction> emitter)
+        throws Exception {
+        ResponseBody body = response.body();
+        if (!response.isSuccessful()) {
+            throw new ApiException(response.message(), response.code(),
+                response.headers().toMultimap(), body == null ? null : body.string());
+        }
+        if (body == null) {
+            throw new IllegalArgumentException("Response has no body");
+        }
+        decode(body.charStream(), emitter);
+    }
+
+    /**
+     * Reads the page from the reader, emitting each transaction once its json has been read. The
+     * decoding stops when the emitter is disposed.
+     *
+     * @param reader the reader of the json array.
+     * @param emitter the emitter the transactions are sent to.
+     * @throws IOException if the json cannot be read.
+     */
+    void decode(Reader reader, ObservableEmitter<Transaction> emitter) throws IOException {
+        JsonParser parser = new JsonParser();
+        JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            if (emitter.isDisposed()) {
+                return;
+            }
+            JsonObject transactionInfoJson = parser.parse(jsonReader).getAsJsonObject();
+            emitter.onNext(toTransaction(transactionInfoJson));
+        }
+        jsonReader.endArray();
+        emitter.onComplete();
+    }
+
+    private Transaction toTransaction(JsonObject transactionInfoJson) {
+        // The transaction body is handed to the mapper as json tree, only the meta is bound here.
+        TransactionMetaDTO meta = jsonHelper
+            .convert(transactionInfoJson.get("meta"), TransactionMetaDTO.class);
+        return transactionMapper.map(
+            new TransactionInfoDTO().meta(meta).transaction(transactionInfoJson.get("transaction")));
+    }
+}
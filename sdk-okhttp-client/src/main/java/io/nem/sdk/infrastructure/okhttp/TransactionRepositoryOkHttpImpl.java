@@ -26,6 +26,7 @@ import io.nem.sdk.model.transaction.TransactionAnnounceResponse;
 import io.nem.sdk.model.transaction.TransactionState;
 import io.nem.sdk.model.transaction.TransactionStatus;
 import io.nem.sdk.openapi.okhttp_gson.api.TransactionRoutesApi;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.model.AnnounceTransactionInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.Cosignature;
@@ -35,8 +36,11 @@ import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionPayload;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionStatusDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import java.util.List;
-import java.util.concurrent.Callable;
+import okhttp3.Call;
 
 /**
  * Transaction http repository.
@@ -50,7 +54,11 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     private final GeneralTransactionMapper transactionMapper;
 
     public TransactionRepositoryOkHttpImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public TransactionRepositoryOkHttpImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new TransactionRoutesApi(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
     }
@@ -62,8 +70,8 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<Transaction> getTransaction(String transactionHash) {
-        Callable<TransactionInfoDTO> callback = () -> getClient()
-            .getTransaction(transactionHash);
+        Function<ApiCallback<TransactionInfoDTO>, Call> callback = handler -> getClient()
+            .getTransactionAsync(transactionHash, handler);
         return exceptionHandling(call(callback).map(this::toTransaction));
     }
 
@@ -73,8 +81,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<List<Transaction>> getTransactions(List<String> transactionHashes) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getTransactions(new TransactionIds().transactionIds(transactionHashes));
+        Function<ApiCallback<List<TransactionInfoDTO>>, Call> callback = handler ->
+            getClient().getTransactionsAsync(
+                new TransactionIds().transactionIds(transactionHashes), handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
@@ -84,12 +93,14 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
-        Callable<TransactionStatusDTO> callback = () -> getClient()
-            .getTransactionStatus(transactionHash);
-        return exceptionHandling(call(callback).map(this::toTransactionStatus));
+        Function<ApiCallback<TransactionStatusDTO>, Call> callback = handler -> getClient()
+            .getTransactionStatusAsync(transactionHash, handler);
+        return exceptionHandling(
+            call(callback).map(TransactionRepositoryOkHttpImpl::toTransactionStatus));
     }
 
-    private TransactionStatus toTransactionStatus(TransactionStatusDTO transactionStatusDTO) {
+    public static TransactionStatus toTransactionStatus(
+        TransactionStatusDTO transactionStatusDTO) {
         return new TransactionStatus(
             TransactionState.valueOf(transactionStatusDTO.getGroup().name()),
             transactionStatusDTO.getCode() == null ? null
@@ -102,10 +113,12 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<List<TransactionStatus>> getTransactionStatuses(
         List<String> transactionHashes) {
-        Callable<List<TransactionStatusDTO>> callback = () ->
-            getClient().getTransactionsStatuses(new TransactionHashes().hashes(transactionHashes));
+        Function<ApiCallback<List<TransactionStatusDTO>>, Call> callback = handler ->
+            getClient().getTransactionsStatusesAsync(
+                new TransactionHashes().hashes(transactionHashes), handler);
         return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransactionStatus).toList()
+            call(callback).flatMapIterable(item -> item)
+                .map(TransactionRepositoryOkHttpImpl::toTransactionStatus).toList()
                 .toObservable());
 
     }
@@ -113,9 +126,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announceTransaction(
-                new TransactionPayload().payload(signedTransaction.getPayload()));
+        Function<ApiCallback<AnnounceTransactionInfoDTO>, Call> callback = handler -> getClient()
+            .announceTransactionAsync(
+                new TransactionPayload().payload(signedTransaction.getPayload()), handler);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
@@ -123,9 +136,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<TransactionAnnounceResponse> announceAggregateBonded(
         SignedTransaction signedTransaction) {
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announcePartialTransaction(
-                new TransactionPayload().payload(signedTransaction.getPayload()));
+        Function<ApiCallback<AnnounceTransactionInfoDTO>, Call> callback = handler -> getClient()
+            .announcePartialTransactionAsync(
+                new TransactionPayload().payload(signedTransaction.getPayload()), handler);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
@@ -134,11 +147,11 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
         CosignatureSignedTransaction cosignatureSignedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announceCosignatureTransaction(
+        Function<ApiCallback<AnnounceTransactionInfoDTO>, Call> callback = handler -> getClient()
+            .announceCosignatureTransactionAsync(
                 new Cosignature().parentHash(cosignatureSignedTransaction.getParentHash())
                     .signature(cosignatureSignedTransaction.getSignature())
-                    .signerPublicKey(cosignatureSignedTransaction.getSigner()));
+                    .signerPublicKey(cosignatureSignedTransaction.getSigner()), handler);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
 
@@ -41,6 +41,18 @@ public class AccountAddressRestrictionTransactionMapper extends
             AccountAddressRestrictionTransactionDTO.class);
     }
 
+    @Override
+    protected AccountAddressRestrictionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AccountAddressRestrictionTransactionDTO(), fields,
+            AccountAddressRestrictionTransactionDTO::setSignerPublicKey,
+            AccountAddressRestrictionTransactionDTO::setVersion,
+            AccountAddressRestrictionTransactionDTO::setNetwork,
+            AccountAddressRestrictionTransactionDTO::setType,
+            AccountAddressRestrictionTransactionDTO::setMaxFee,
+            AccountAddressRestrictionTransactionDTO::setDeadline,
+            AccountAddressRestrictionTransactionDTO::setSignature);
+    }
+
     @Override
     protected AccountAddressRestrictionTransactionFactory createFactory(
         NetworkType networkType, AccountAddressRestrictionTransactionDTO transaction) {
@@ -40,6 +40,18 @@ public class AccountMosaicRestrictionTransactionMapper extends
         super(jsonHelper, TransactionType.ACCOUNT_MOSAIC_RESTRICTION,
             AccountMosaicRestrictionTransactionDTO.class);
     }
+
+    @Override
+    protected AccountMosaicRestrictionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AccountMosaicRestrictionTransactionDTO(), fields,
+            AccountMosaicRestrictionTransactionDTO::setSignerPublicKey,
+            AccountMosaicRestrictionTransactionDTO::setVersion,
+            AccountMosaicRestrictionTransactionDTO::setNetwork,
+            AccountMosaicRestrictionTransactionDTO::setType,
+            AccountMosaicRestrictionTransactionDTO::setMaxFee,
+            AccountMosaicRestrictionTransactionDTO::setDeadline,
+            AccountMosaicRestrictionTransactionDTO::setSignature);
+    }
     @Override
     protected AccountMosaicRestrictionTransactionFactory createFactory(
         NetworkType networkType, AccountMosaicRestrictionTransactionDTO transaction) {
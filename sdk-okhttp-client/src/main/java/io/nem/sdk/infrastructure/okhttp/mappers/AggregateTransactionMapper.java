@@ -47,6 +47,15 @@ class AggregateTransactionMapper extends
         this.transactionMapper = transactionMapper;
     }
 
+    @Override
+    protected AggregateTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AggregateTransactionDTO(), fields,
+            AggregateTransactionDTO::setSignerPublicKey, AggregateTransactionDTO::setVersion,
+            AggregateTransactionDTO::setNetwork, AggregateTransactionDTO::setType,
+            AggregateTransactionDTO::setMaxFee, AggregateTransactionDTO::setDeadline,
+            AggregateTransactionDTO::setSignature);
+    }
+
     @Override
     protected AggregateTransactionFactory createFactory(NetworkType networkType,
         AggregateTransactionDTO transaction) {
@@ -16,6 +16,9 @@
 
 package io.nem.sdk.infrastructure.okhttp.mappers;
 
+import com.google.gson.JsonObject;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.sdk.model.transaction.JsonHelper;
 import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.model.transaction.TransactionType;
@@ -77,13 +80,26 @@ public class GeneralTransactionMapper implements TransactionMapper {
     @Override
     public Transaction map(EmbeddedTransactionInfoDTO transactionInfoDTO) {
         Validate.notNull(transactionInfoDTO, "transactionInfoDTO must not be null");
-        return resolveMapper(transactionInfoDTO).map(transactionInfoDTO);
+        long start = SdkMetrics.start();
+        JsonObject transactionJson = getJsonHelper()
+            .convert(transactionInfoDTO.getTransaction(), JsonObject.class);
+        Transaction transaction = resolveMapper(transactionJson)
+            .map(new EmbeddedTransactionInfoDTO().meta(transactionInfoDTO.getMeta())
+                .transaction(transactionJson));
+        SdkMetrics.recordTime(SdkMetric.TRANSACTION_MAPPING, transaction.getType().name(), start);
+        return transaction;
     }
 
     @Override
     public Transaction map(TransactionInfoDTO transactionInfoDTO) {
         Validate.notNull(transactionInfoDTO, "transactionInfoDTO must not be null");
-        return resolveMapper(transactionInfoDTO).map(transactionInfoDTO);
+        long start = SdkMetrics.start();
+        JsonObject transactionJson = getJsonHelper()
+            .convert(transactionInfoDTO.getTransaction(), JsonObject.class);
+        Transaction transaction = resolveMapper(transactionJson).map(new TransactionInfoDTO()
+            .meta(transactionInfoDTO.getMeta()).transaction(transactionJson));
+        SdkMetrics.recordTime(SdkMetric.TRANSACTION_MAPPING, transaction.getType().name(), start);
+        return transaction;
     }
 
     @Override
@@ -104,8 +120,8 @@ public class GeneralTransactionMapper implements TransactionMapper {
         return null;
     }
 
-    private TransactionMapper resolveMapper(Object transactionInfoJson) {
-        Integer type = getJsonHelper().getInteger(transactionInfoJson, "transaction", "type");
+    private TransactionMapper resolveMapper(Object transactionJson) {
+        Integer type = getJsonHelper().getInteger(transactionJson, "type");
         if (type == null) {
             throw new IllegalArgumentException(
                 "Transaction cannot be mapped, object does not not have transaction type.");
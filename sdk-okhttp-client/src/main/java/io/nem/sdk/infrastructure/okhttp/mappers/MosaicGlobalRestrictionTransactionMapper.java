@@ -41,6 +41,18 @@ class MosaicGlobalRestrictionTransactionMapper extends
             MosaicGlobalRestrictionTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicGlobalRestrictionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicGlobalRestrictionTransactionDTO(), fields,
+            MosaicGlobalRestrictionTransactionDTO::setSignerPublicKey,
+            MosaicGlobalRestrictionTransactionDTO::setVersion,
+            MosaicGlobalRestrictionTransactionDTO::setNetwork,
+            MosaicGlobalRestrictionTransactionDTO::setType,
+            MosaicGlobalRestrictionTransactionDTO::setMaxFee,
+            MosaicGlobalRestrictionTransactionDTO::setDeadline,
+            MosaicGlobalRestrictionTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<MosaicGlobalRestrictionTransaction> createFactory(
         NetworkType networkType,
@@ -40,6 +40,17 @@ class MosaicSupplyChangeTransactionMapper extends
             MosaicSupplyChangeTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicSupplyChangeTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicSupplyChangeTransactionDTO(), fields,
+            MosaicSupplyChangeTransactionDTO::setSignerPublicKey,
+            MosaicSupplyChangeTransactionDTO::setVersion,
+            MosaicSupplyChangeTransactionDTO::setNetwork, MosaicSupplyChangeTransactionDTO::setType,
+            MosaicSupplyChangeTransactionDTO::setMaxFee,
+            MosaicSupplyChangeTransactionDTO::setDeadline,
+            MosaicSupplyChangeTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<MosaicSupplyChangeTransaction> createFactory(
         NetworkType networkType, MosaicSupplyChangeTransactionDTO transaction) {
@@ -37,6 +37,18 @@ class MultisigAccountModificationTransactionMapper extends
             MultisigAccountModificationTransactionDTO.class);
     }
 
+    @Override
+    protected MultisigAccountModificationTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MultisigAccountModificationTransactionDTO(), fields,
+            MultisigAccountModificationTransactionDTO::setSignerPublicKey,
+            MultisigAccountModificationTransactionDTO::setVersion,
+            MultisigAccountModificationTransactionDTO::setNetwork,
+            MultisigAccountModificationTransactionDTO::setType,
+            MultisigAccountModificationTransactionDTO::setMaxFee,
+            MultisigAccountModificationTransactionDTO::setDeadline,
+            MultisigAccountModificationTransactionDTO::setSignature);
+    }
+
     @Override
     protected MultisigAccountModificationTransactionFactory createFactory(
         NetworkType networkType, MultisigAccountModificationTransactionDTO transaction) {
@@ -41,6 +41,18 @@ class NamespaceRegistrationTransactionMapper extends
             NamespaceRegistrationTransactionDTO.class);
     }
 
+    @Override
+    protected NamespaceRegistrationTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new NamespaceRegistrationTransactionDTO(), fields,
+            NamespaceRegistrationTransactionDTO::setSignerPublicKey,
+            NamespaceRegistrationTransactionDTO::setVersion,
+            NamespaceRegistrationTransactionDTO::setNetwork,
+            NamespaceRegistrationTransactionDTO::setType,
+            NamespaceRegistrationTransactionDTO::setMaxFee,
+            NamespaceRegistrationTransactionDTO::setDeadline,
+            NamespaceRegistrationTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<NamespaceRegistrationTransaction> createFactory(
         NetworkType networkType, NamespaceRegistrationTransactionDTO transaction) {
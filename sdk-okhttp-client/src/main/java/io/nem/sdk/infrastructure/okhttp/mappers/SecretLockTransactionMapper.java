@@ -40,6 +40,15 @@ class SecretLockTransactionMapper extends
         super(jsonHelper, TransactionType.SECRET_LOCK, SecretLockTransactionDTO.class);
     }
 
+    @Override
+    protected SecretLockTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new SecretLockTransactionDTO(), fields,
+            SecretLockTransactionDTO::setSignerPublicKey, SecretLockTransactionDTO::setVersion,
+            SecretLockTransactionDTO::setNetwork, SecretLockTransactionDTO::setType,
+            SecretLockTransactionDTO::setMaxFee, SecretLockTransactionDTO::setDeadline,
+            SecretLockTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<SecretLockTransaction> createFactory(NetworkType networkType,
         SecretLockTransactionDTO transaction) {
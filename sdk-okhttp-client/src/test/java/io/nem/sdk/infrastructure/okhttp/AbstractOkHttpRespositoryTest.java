@@ -21,6 +21,7 @@ import io.nem.core.utils.HttpStatus;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.nem.sdk.openapi.okhttp_gson.invoker.ApiResponse;
@@ -31,6 +32,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -82,8 +89,13 @@ public abstract class AbstractOkHttpRespositoryTest {
                 Mockito.anyList(), captor.capture(), Mockito.anyMap(), Mockito.anyMap(),
                 Mockito.any(), Mockito.any());
 
-        Mockito.doReturn(apiResponse).when(apiClientMock).execute(Mockito.any(),
-            Mockito.any(Type.class));
+        Mockito.doAnswer(invocation -> {
+            ApiCallback<T> callback = (ApiCallback<T>) invocation.getArguments()[2];
+            callback.onSuccess(apiResponse.getData(), apiResponse.getStatusCode(),
+                apiResponse.getHeaders());
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class),
+            Mockito.any());
         return captor;
     }
 
@@ -120,8 +132,46 @@ public abstract class AbstractOkHttpRespositoryTest {
         ApiException exception = new ApiException(reasonPhrase,
             statusCode, headers, errorResponse);
 
-        Mockito.doThrow(exception).when(apiClientMock).execute(Mockito.any(),
-            Mockito.any(Type.class));
+        Mockito.doAnswer(invocation -> {
+            ApiCallback<?> callback = (ApiCallback<?>) invocation.getArguments()[2];
+            callback.onFailure(exception, statusCode, headers);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class),
+            Mockito.any());
+    }
+
+    /**
+     * Mocks the http client telling what would it be the next raw response. Unlike {@link
+     * #mockRemoteCall(Object)}, the response body goes through the real call, so it can be used
+     * when the repository reads the body itself.
+     *
+     * @param statusCode the status code of the response.
+     * @param body the raw response body.
+     */
+    protected void mockRemoteBody(int statusCode, String body) {
+        mockRemoteBody(statusCode, body, new CountDownLatch(0));
+    }
+
+    /**
+     * Like {@link #mockRemoteBody(int, String)} but the response is only sent once the given latch
+     * is released, so the test can check what happens while the request is in flight.
+     *
+     * @param statusCode the status code of the response.
+     * @param body the raw response body.
+     * @param release the latch the http client waits for before responding.
+     */
+    protected void mockRemoteBody(int statusCode, String body, CountDownLatch release) {
+        String reasonPhrase = HttpStatus.valueOf(statusCode).getReasonPhrase();
+        apiClientMock.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1)
+                .code(statusCode).message(reasonPhrase)
+                .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
     }
 
     protected abstract AbstractRepositoryOkHttpImpl getRepository();
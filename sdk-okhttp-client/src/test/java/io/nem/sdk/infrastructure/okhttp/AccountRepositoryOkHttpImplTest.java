@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.okhttp;
 
+import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadResource;
 import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadTransactionInfoDTO;
 
 import io.nem.core.utils.ExceptionUtils;
@@ -33,8 +34,12 @@ import io.nem.sdk.openapi.okhttp_gson.model.AccountDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
 import io.nem.sdk.openapi.okhttp_gson.model.AccountTypeEnum;
 import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.reactivex.observers.TestObserver;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,6 +102,101 @@ public class AccountRepositoryOkHttpImplTest extends AbstractOkHttpRespositoryTe
         Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
     }
 
+    @Test
+    public void streamTransactions() throws Exception {
+
+        String page = "[" + loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json") + ","
+            + loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json")
+            + "]";
+
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteBody(200, page);
+
+        List<Transaction> transactions = repository
+            .streamTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+
+        transactions = repository
+            .streamIncomingTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+
+        transactions = repository
+            .streamOutgoingTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+    }
+
+    @Test
+    public void shouldNotBlockTheSubscribingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockRemoteBody(404, "{\"code\":\"ResourceNotFound\",\"message\":\"Not found\"}",
+            release);
+        Address address = Address.createFromRawAddress("SBCPGZ3S2SCC3YHBBTYDCUZV4ZZEPHM2KGCP4QXX");
+
+        TestObserver<AccountInfo> observer = repository.getAccountInfo(address).test();
+        observer.assertNotTerminated();
+
+        release.countDown();
+        observer.await(5, TimeUnit.SECONDS);
+        observer.assertError(RepositoryCallException.class);
+    }
+
+    @Test
+    public void streamTransactionsShouldNotBlockTheSubscribingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockRemoteBody(200, "[" + loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json") + "]", release);
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        TestObserver<Transaction> observer = repository
+            .streamTransactions(publicAccount, new TransactionSearchCriteria()).test();
+        observer.assertNotTerminated();
+
+        release.countDown();
+        observer.await(5, TimeUnit.SECONDS);
+        observer.assertValueCount(1).assertComplete();
+    }
+
+    @Test
+    public void shouldCancelTheCallWhenDisposed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockRemoteBody(404, "{}", release);
+        Address address = Address.createFromRawAddress("SBCPGZ3S2SCC3YHBBTYDCUZV4ZZEPHM2KGCP4QXX");
+
+        TestObserver<AccountInfo> observer = repository.getAccountInfo(address).test();
+        List<Call> calls = apiClientMock.getHttpClient().dispatcher().runningCalls();
+        Assertions.assertEquals(1, calls.size());
+
+        observer.dispose();
+        Assertions.assertTrue(calls.get(0).isCanceled());
+        release.countDown();
+        observer.assertNotTerminated();
+    }
+
+    @Test
+    public void streamTransactionsWhenError() {
+
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteBody(404, "{\"code\":\"ResourceNotFound\",\"message\":\"Not found\"}");
+
+        RepositoryCallException exception = Assertions
+            .assertThrows(RepositoryCallException.class, () -> {
+                ExceptionUtils.propagate(() -> repository
+                    .streamTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+                    .toFuture().get());
+            });
+        Assertions.assertEquals(404, exception.getStatusCode());
+        Assertions.assertEquals("ApiException: Not Found - 404 - ResourceNotFound - Not found",
+            exception.getMessage());
+    }
+
     @Test
     public void outgoingTransactions() throws Exception {
 
@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.okhttp;
 
+import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadResource;
 import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadTransactionInfoDTO;
 
 import io.nem.sdk.api.QueryParams;
@@ -77,6 +78,19 @@ public class BlockRepositoryOkHttpImplTest extends AbstractOkHttpRespositoryTest
 
     }
 
+    @Test
+    public void streamBlockTransactions() throws Exception {
+
+        mockRemoteBody(200, "[" + loadResource(
+            "TransactionMapping-shouldCreateAggregateTransferTransaction.json") + "]");
+
+        List<Transaction> transactions = repository
+            .streamBlockTransactions(BigInteger.ONE, new QueryParams(1, "id")).toList()
+            .toFuture().get();
+        Assertions.assertEquals(1, transactions.size());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(0).getType());
+    }
+
     @Test
     public void getMerkleTransaction() throws Exception {
 
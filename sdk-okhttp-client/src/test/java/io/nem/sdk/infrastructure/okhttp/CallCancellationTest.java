@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CallCancellation}
+ */
+public class CallCancellationTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * The OkHttp defect: a call cancelled right after its socket has connected releases a broken
+     * connection, the next call spins until it's cancelled. When this test fails, the OkHttp
+     * version has fixed the defect and {@link CallCancellation} can be removed.
+     */
+    @Test
+    void shouldStallTheNextCallWhenCancelledWhileConnecting() throws Exception {
+        ConnectBarrier barrier = new ConnectBarrier();
+        OkHttpClient client = new OkHttpClient.Builder().eventListener(barrier).build();
+        Call call = client.newCall(new Request.Builder().url(getUrl()).build());
+        CompletableFuture<Response> response = enqueue(call);
+        Assertions.assertTrue(barrier.connected.await(10, TimeUnit.SECONDS));
+
+        call.cancel();
+        barrier.release.countDown();
+        Assertions.assertThrows(ExecutionException.class,
+            () -> response.get(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Response> next = enqueue(
+            client.newCall(new Request.Builder().url(getUrl()).build()));
+        Assertions.assertThrows(TimeoutException.class, () -> next.get(2, TimeUnit.SECONDS));
+        next.cancel(true);
+        client.dispatcher().cancelAll();
+        client.dispatcher().executorService().shutdown();
+    }
+
+    @Test
+    void shouldPostponeTheCancellationWhileConnecting() throws Exception {
+        ConnectBarrier barrier = new ConnectBarrier();
+        OkHttpClient client = CallCancellation
+            .install(new OkHttpClient.Builder().eventListener(barrier).build());
+        Call call = client.newCall(new Request.Builder().url(getUrl()).build());
+        CompletableFuture<Response> response = enqueue(call);
+        Assertions.assertTrue(barrier.connected.await(10, TimeUnit.SECONDS));
+
+        CallCancellation.cancel(client, call);
+        Assertions.assertFalse(call.isCanceled());
+        barrier.release.countDown();
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> response.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof IOException);
+        Assertions.assertTrue(call.isCanceled());
+
+        Call next = client.newCall(new Request.Builder().url(getUrl()).build());
+        Assertions.assertEquals(200, enqueue(next).get(2, TimeUnit.SECONDS).code());
+        client.dispatcher().executorService().shutdown();
+    }
+
+    @Test
+    void shouldCancelRightAwayWhenNotConnecting() throws Exception {
+        OkHttpClient client = CallCancellation.install(new OkHttpClient());
+        Call call = client.newCall(new Request.Builder().url(getUrl()).build());
+
+        CallCancellation.cancel(client, call);
+        Assertions.assertTrue(call.isCanceled());
+
+        Call completed = client.newCall(new Request.Builder().url(getUrl()).build());
+        Assertions.assertEquals(200, enqueue(completed).get(10, TimeUnit.SECONDS).code());
+        CallCancellation.cancel(client, completed);
+        Assertions.assertTrue(completed.isCanceled());
+        client.dispatcher().executorService().shutdown();
+    }
+
+    /**
+     * Holds the first call once its socket has connected.
+     */
+    private static class ConnectBarrier extends EventListener {
+
+        private final CountDownLatch connected = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+            Protocol protocol) {
+            if (connected.getCount() == 0) {
+                return;
+            }
+            connected.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/chain/height";
+    }
+
+    private static CompletableFuture<Response> enqueue(Call call) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+                future.complete(response);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.AccountTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.ActivityBucketDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockInfoDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.BlockMetaDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.Mosaic;
+import io.nem.sdk.openapi.okhttp_gson.model.NetworkTypeEnum;
+import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
+import io.nem.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that the {@link DtoTypeAdapterFactory} adapters read and write the DTOs like Gson's
+ * reflective binding does.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DtoTypeAdapterFactoryTest {
+
+    private final Gson gson = JsonHelperGson.creatGson(false);
+
+    private final Gson reflectiveGson = JsonHelperGson.createReflectiveGsonBuilder(false).create();
+
+    private static List<String> transactionJsonFiles() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        URL url = loader.getResource("json");
+        return Arrays.stream(new File(url.getPath()).listFiles())
+            .filter(f -> f.getName().contains("Transaction")).map(File::getName)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldDefineAllTheDtoAttributes() {
+        new DtoTypeAdapterFactory().getDefinitions().forEach(definition -> {
+            Set<String> expected = Arrays.stream(definition.getType().getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(this::getSerializedName).collect(Collectors.toCollection(TreeSet::new));
+            Assertions.assertEquals(expected, new TreeSet<>(definition.getNames()),
+                definition.getType().getSimpleName());
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("transactionJsonFiles")
+    void shouldReadTransactionsLikeReflectiveBinding(String jsonFilename) {
+        assertSameBinding(TestHelperOkHttp.loadResource(jsonFilename), TransactionInfoDTO.class);
+    }
+
+    @Test
+    void shouldReadStatementsLikeReflectiveBinding() {
+        // The receipts are read as json trees instead of sorted maps, so the json trees are
+        // compared regardless of the attribute order.
+        String json = TestHelperOkHttp.loadResource("Statements.json");
+        Assertions.assertEquals(
+            reflectiveGson.toJsonTree(reflectiveGson.fromJson(json, StatementsDTO.class)),
+            reflectiveGson.toJsonTree(gson.fromJson(json, StatementsDTO.class)));
+    }
+
+    @Test
+    void shouldWriteAccountsLikeReflectiveBinding() {
+        AccountDTO account = new AccountDTO().address("SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGWZY")
+            .addressHeight(BigInteger.ONE).publicKey("ABC").publicKeyHeight(BigInteger.TEN)
+            .accountType(AccountTypeEnum.NUMBER_1).importance(new BigInteger("123456789012345"))
+            .importanceHeight(BigInteger.valueOf(1000))
+            .activityBuckets(Collections.singletonList(
+                new ActivityBucketDTO().startHeight(BigInteger.ONE).totalFeesPaid(3L)
+                    .beneficiaryCount(1).rawScore(2L)))
+            .mosaics(Collections.singletonList(
+                new Mosaic().id("85BBEA6CC462B244").amount(new BigInteger("18446744073709551615"))));
+
+        assertSameBinding(reflectiveGson.toJson(new AccountInfoDTO().account(account)),
+            AccountInfoDTO.class);
+    }
+
+    @Test
+    void shouldWriteBlocksLikeReflectiveBinding() {
+        BlockInfoDTO block = new BlockInfoDTO()
+            .meta(new BlockMetaDTO().hash("HASH").totalFee(BigInteger.ZERO).generationHash("GEN")
+                .stateHashSubCacheMerkleRoots(Arrays.asList("A", "B")).numTransactions(2)
+                .numStatements(1))
+            .block(new BlockDTO().signature("SIGNATURE").signerPublicKey("SIGNER").version(1)
+                .network(NetworkTypeEnum.NUMBER_144).type(33091).height(BigInteger.valueOf(52))
+                .timestamp(new BigInteger("9007199254740993")).difficulty(BigInteger.TEN)
+                .previousBlockHash("PREVIOUS").transactionsHash("TRANSACTIONS")
+                .receiptsHash("RECEIPTS").stateHash("STATE").beneficiaryPublicKey("BENEFICIARY")
+                .feeMultiplier(0));
+
+        assertSameBinding(reflectiveGson.toJson(block), BlockInfoDTO.class);
+    }
+
+    @Test
+    void shouldIgnoreUnknownAttributes() {
+        AccountInfoDTO accountInfo = gson
+            .fromJson("{\"unknown\":{\"a\":[1,2]},\"account\":{\"addressHeight\":\"7\"}}",
+                AccountInfoDTO.class);
+        Assertions.assertEquals(BigInteger.valueOf(7), accountInfo.getAccount().getAddressHeight());
+    }
+
+    @Test
+    void shouldParseUInt64() {
+        Assertions.assertEquals(BigInteger.ZERO, DtoDefinition.parseUInt64("0"));
+        Assertions.assertEquals(BigInteger.valueOf(999999999999999999L),
+            DtoDefinition.parseUInt64("999999999999999999"));
+        Assertions.assertEquals(new BigInteger("9223372036854775808"),
+            DtoDefinition.parseUInt64("9223372036854775808"));
+        Assertions.assertEquals(new BigInteger("18446744073709551615"),
+            DtoDefinition.parseUInt64("18446744073709551615"));
+        Assertions.assertEquals(BigInteger.valueOf(-1), DtoDefinition.parseUInt64("-1"));
+        Assertions.assertThrows(NumberFormatException.class,
+            () -> DtoDefinition.parseUInt64("12a"));
+        Assertions.assertThrows(NumberFormatException.class,
+            () -> DtoDefinition.parseUInt64(""));
+    }
+
+    private <T> void assertSameBinding(String json, Class<T> type) {
+        T dto = gson.fromJson(json, type);
+        T reflectiveDto = reflectiveGson.fromJson(json, type);
+        Assertions.assertEquals(reflectiveGson.toJson(reflectiveDto), reflectiveGson.toJson(dto));
+        Assertions.assertEquals(reflectiveGson.toJson(reflectiveDto), gson.toJson(reflectiveDto));
+        Assertions.assertEquals(reflectiveDto, dto);
+    }
+
+    private String getSerializedName(Field field) {
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        return serializedName == null ? field.getName() : serializedName.value();
+    }
+}
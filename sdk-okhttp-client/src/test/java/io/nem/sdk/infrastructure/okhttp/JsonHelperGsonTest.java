@@ -19,6 +19,7 @@ package io.nem.sdk.infrastructure.okhttp;
 import com.google.gson.JsonObject;
 import io.nem.sdk.model.transaction.JsonHelper;
 import java.math.BigInteger;
+import java.util.Map;
 import java.util.Objects;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -115,6 +116,30 @@ public class JsonHelperGsonTest {
 
     }
 
+    @Test
+    public void shouldConvertObjectIntoTreeAndBack() {
+        Car car = new Car("Renault", "Scenic", 2005);
+
+        JsonObject tree = jsonHelper.convert(car, JsonObject.class);
+        Assertions.assertEquals("Renault", jsonHelper.getString(tree, "brand"));
+        Assertions.assertEquals(car.getYear(), jsonHelper.getBigInteger(tree, "year"));
+        Assertions.assertSame(tree, jsonHelper.convert(tree, JsonObject.class));
+
+        Assertions.assertEquals(car, jsonHelper.convert(tree, Car.class));
+
+        Map<String, Object> map = jsonHelper.convert(car, Map.class);
+        Assertions.assertEquals("Scenic", map.get("model"));
+        Assertions.assertEquals(car, jsonHelper.convert(map, Car.class));
+    }
+
+    @Test
+    public void shouldFailWhenConvertingInvalid() {
+        JsonObject tree = jsonHelper.convert(new Car("Renault", "Scenic", 2005), JsonObject.class);
+        tree.addProperty("year", "notANumber");
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> jsonHelper.convert(tree, Car.class));
+    }
+
     @Test
     public void shouldReturnValues() {
         Car car = new Car("Renault", "11", 1989);
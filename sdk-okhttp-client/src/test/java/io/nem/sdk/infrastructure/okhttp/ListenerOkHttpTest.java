@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import io.nem.sdk.api.Listener;
 import io.nem.sdk.infrastructure.ListenerChannel;
 import io.nem.sdk.infrastructure.ListenerSubscribeMessage;
+import io.nem.sdk.infrastructure.ListenerUnsubscribeMessage;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.blockchain.NetworkType;
@@ -91,7 +92,7 @@ public class ListenerOkHttpTest {
 
         simulateWebSocketStartup();
 
-        Assertions.assertNotNull(listener.newBlock());
+        Assertions.assertNotNull(listener.newBlock().subscribe());
 
         Assertions.assertEquals(wsId, listener.getUid());
 
@@ -234,6 +235,11 @@ public class ListenerOkHttpTest {
         Mockito.verify(webSocketMock)
             .send(jsonHelper
                 .print(new ListenerSubscribeMessage(this.wsId, "status" + "/" + address.plain())));
+
+        Mockito.verify(webSocketMock).send(jsonHelper.print(
+            new ListenerUnsubscribeMessage(this.wsId, channelName + "/" + address.plain())));
+        Mockito.verify(webSocketMock).send(jsonHelper
+            .print(new ListenerUnsubscribeMessage(this.wsId, "status" + "/" + address.plain())));
     }
 
     @Test
@@ -323,6 +329,11 @@ public class ListenerOkHttpTest {
         Assertions
             .assertEquals("Fail 666 processing transaction " + transactionInfo.getMeta().getHash(),
                 exceptions.get(0).getMessage());
+
+        Mockito.verify(webSocketMock).send(jsonHelper.print(
+            new ListenerUnsubscribeMessage(this.wsId, channelName + "/" + address.plain())));
+        Mockito.verify(webSocketMock).send(jsonHelper
+            .print(new ListenerUnsubscribeMessage(this.wsId, "status" + "/" + address.plain())));
     }
 
     private void simulateWebSocketStartup()
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nem.sdk.infrastructure.MultiNodeConfiguration;
+import io.nem.sdk.infrastructure.MultiNodeRepositoryFactory;
+import io.nem.sdk.infrastructure.NodeMetrics;
+import io.nem.sdk.model.blockchain.BlockchainScore;
+import io.nem.sdk.model.blockchain.NetworkType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MultiNodeRepositoryFactory} with OkHttp repository factories against local mock
+ * servers.
+ */
+public class MultiNodeRepositoryFactoryOkHttpTest {
+
+    private static final String NODE_INFO = "{\"publicKey\":"
+        + "\"2FC3872A792933617D70E02AFF8FBDE152821A0DF0CA5FB04CB56FC3D21C8863\",\"port\":3000,"
+        + "\"networkIdentifier\":144,\"version\":0,\"roles\":2,\"host\":\"localhost\","
+        + "\"friendlyName\":\"node\"}";
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    private MultiNodeRepositoryFactory factory;
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.close();
+        }
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void shouldRouteToTheFastestNodeAndFailover() throws Exception {
+        HttpServer slow = startNode(150);
+        HttpServer fast = startNode(5);
+        String dead = "http://localhost:" + getFreePort();
+        factory = new MultiNodeRepositoryFactory(Arrays.asList(dead, getUrl(slow), getUrl(fast)),
+            RepositoryFactoryOkHttpImpl::new,
+            new MultiNodeConfiguration().probeInterval(Duration.ofSeconds(1)));
+        waitForProbes();
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(BigInteger.TEN,
+                factory.createChainRepository().getChainScore().map(BlockchainScore::getScoreLow)
+                    .blockingFirst());
+        }
+        Assertions.assertEquals(NetworkType.MIJIN_TEST, factory.createNetworkRepository()
+            .getNetworkType().timeout(10, TimeUnit.SECONDS).blockingFirst());
+        List<NodeMetrics> metrics = factory.getNodeMetrics();
+        Assertions.assertFalse(metrics.get(0).isHealthy());
+        Assertions.assertEquals(6, metrics.get(2).getRequests());
+        Assertions.assertTrue(metrics.get(2).getNodeInfo().isPresent());
+
+        fast.stop(0);
+        Assertions.assertEquals(BigInteger.TEN,
+            factory.createChainRepository().getChainScore().map(BlockchainScore::getScoreLow)
+                .blockingFirst());
+        metrics = factory.getNodeMetrics();
+        Assertions.assertEquals(1, metrics.get(2).getFailovers());
+        Assertions.assertTrue(metrics.get(1).getRequests() > 0);
+    }
+
+    private void waitForProbes() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && factory.getNodeMetrics().stream()
+            .anyMatch(node -> node.getLatency() == 0 && node.getFailures() == 0)) {
+            Thread.sleep(20);
+        }
+    }
+
+    private HttpServer startNode(long delay) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String body;
+            if (path.equals("/chain/height")) {
+                body = "{\"height\":\"100\"}";
+            } else if (path.equals("/chain/score")) {
+                body = "{\"scoreHigh\":\"0\",\"scoreLow\":\"10\"}";
+            } else if (path.equals("/node/info")) {
+                body = NODE_INFO;
+            } else {
+                body = "{\"code\":\"ResourceNotFound\",\"message\":\"" + path + "\"}";
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(body.startsWith("{\"code\"") ? 404 : 200, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private static String getUrl(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
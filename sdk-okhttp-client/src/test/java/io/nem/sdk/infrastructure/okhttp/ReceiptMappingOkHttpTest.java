@@ -18,10 +18,18 @@ package io.nem.sdk.infrastructure.okhttp;
 
 import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadResource;
 
+import com.google.gson.JsonObject;
+import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.receipt.ArtifactExpiryReceipt;
+import io.nem.sdk.model.receipt.BalanceTransferReceipt;
+import io.nem.sdk.model.receipt.InflationReceipt;
+import io.nem.sdk.model.receipt.ReceiptType;
 import io.nem.sdk.model.receipt.Statement;
 import io.nem.sdk.model.transaction.JsonHelper;
 import io.nem.sdk.openapi.okhttp_gson.model.StatementsDTO;
+import java.math.BigInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +63,52 @@ public class ReceiptMappingOkHttpTest {
                 statement.getAddressResolutionStatements().get(0).generateHash(networkType));
     }
 
+    @Test
+    public void shouldReadReceiptsAsJsonTrees() {
+        StatementsDTO statementsDTO = loadResource("Statements.json", StatementsDTO.class);
+        Assertions.assertTrue(statementsDTO.getTransactionStatements().get(0).getStatement()
+            .getReceipts().get(0) instanceof JsonObject);
+    }
+
+    @Test
+    public void shouldMapReceiptsFromMaps() {
+        StatementsDTO statementsDTO = JsonHelperGson.createReflectiveGsonBuilder(false).create()
+            .fromJson(loadResource("Statements.json"), StatementsDTO.class);
+        Statement statement = new ReceiptMappingOkHttp(jsonHelper)
+            .createStatementFromDto(statementsDTO, networkType);
+        Assertions
+            .assertEquals("78E5F66EC55D1331646528F9BF7EC247C68F58E651223E7F05CBD4FBF0BF88FA",
+                statement.getTransactionStatements().get(0).generateHash());
+    }
+
+    @Test
+    public void shouldMapEachReceiptType() {
+        ReceiptMappingOkHttp mapping = new ReceiptMappingOkHttp(jsonHelper);
+        String publicKey = "2FC3872A792933617D70E02AFF8FBDE152821A0DF0CA5FB04CB56FC3D21C8863";
+
+        BalanceTransferReceipt transfer = (BalanceTransferReceipt) mapping.createReceiptFromDto(
+            jsonHelper.parse("{\"version\":1,\"type\":4685,\"senderPublicKey\":\"" + publicKey
+                + "\",\"recipientAddress\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\","
+                + "\"mosaicId\":\"85BBEA6CC462B244\",\"amount\":\"100\"}"), networkType);
+        Assertions.assertEquals(ReceiptType.MOSAIC_RENTAL_FEE, transfer.getType());
+        Assertions.assertEquals(publicKey, transfer.getSender().getPublicKey().toHex());
+        Assertions.assertEquals(Address.createFromEncoded(
+            "9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142"), transfer.getRecipient());
+        Assertions.assertEquals(BigInteger.valueOf(100), transfer.getAmount());
+
+        ArtifactExpiryReceipt<?> expiry = (ArtifactExpiryReceipt<?>) mapping.createReceiptFromDto(
+            jsonHelper.parse("{\"version\":1,\"type\":16717,\"artifactId\":\"85BBEA6CC462B244\"}"),
+            networkType);
+        Assertions.assertEquals(ReceiptType.MOSAIC_EXPIRED, expiry.getType());
+        Assertions.assertEquals(new MosaicId("85BBEA6CC462B244"), expiry.getArtifactId());
+
+        InflationReceipt inflation = (InflationReceipt) mapping.createReceiptFromDto(
+            jsonHelper.parse("{\"version\":1,\"type\":20803,\"mosaicId\":\"85BBEA6CC462B244\","
+                + "\"amount\":\"18446744073709551615\"}"), networkType);
+        Assertions.assertEquals(ReceiptType.INFLATION, inflation.getType());
+        Assertions.assertEquals(new BigInteger("18446744073709551615"), inflation.getAmount());
+    }
+
     private Statement getStatement() {
         StatementsDTO statementsDTO = loadResource("Statements.json", StatementsDTO.class);
         ReceiptMappingOkHttp receiptMappingOkHttp = new ReceiptMappingOkHttp(jsonHelper);
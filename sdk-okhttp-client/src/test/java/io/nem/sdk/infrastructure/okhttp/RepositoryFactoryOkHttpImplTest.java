@@ -19,6 +19,13 @@ package io.nem.sdk.infrastructure.okhttp;
 import io.nem.catapult.builders.GeneratorUtils;
 import io.nem.sdk.api.RepositoryCallException;
 import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +62,46 @@ public class RepositoryFactoryOkHttpImplTest {
         factory.close();
     }
 
+    @Test
+    public void shouldCreateRepositoriesWithTransportConfiguration() {
+        RepositoryFactory factory = new RepositoryFactoryOkHttpImpl("http://localhost:3000",
+            new TransportConfiguration().maxConnections(2).keepAlive(Duration.ZERO)
+                .maxRequestsPerHost(200).http2(false).compression(false)
+                .readTimeout(Duration.ofSeconds(1)));
+        Assertions.assertNotNull(factory.createAccountRepository());
+        Assertions.assertNotNull(factory.createListener());
+        factory.close();
+    }
+
+    @Test
+    public void shouldNotCloseTheSharedHttpClient() {
+        OkHttpClient httpClient = new OkHttpClient();
+
+        new RepositoryFactoryOkHttpImpl("http://localhost:3000", httpClient).close();
+        new RepositoryFactoryOkHttpImpl("http://localhost:3000", httpClient).close();
+
+        Assertions.assertFalse(httpClient.dispatcher().executorService().isShutdown());
+    }
+
+    @Test
+    public void shouldEmitTheResponsesOnTheMappingScheduler() {
+        ExecutorService executor = Executors
+            .newSingleThreadExecutor(runnable -> new Thread(runnable, "mapping"));
+        RepositoryFactory factory = new RepositoryFactoryOkHttpImpl("http://localhost:1934",
+            new TransportConfiguration(),
+            new SchedulerConfiguration().mappingScheduler(Schedulers.from(executor)));
+        try {
+            String thread = factory.createChainRepository().getBlockchainHeight()
+                .map(height -> "").onErrorReturn(e -> Thread.currentThread().getName())
+                .blockingFirst();
+
+            Assertions.assertEquals("mapping", thread);
+        } finally {
+            factory.close();
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void getNetworkTypeFailWhenInvalidServer() {
         String baseUrl = "https://localhost:1934/path";
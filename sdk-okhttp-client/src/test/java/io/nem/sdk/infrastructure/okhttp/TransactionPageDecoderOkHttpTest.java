@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.okhttp;
+
+import static io.nem.sdk.infrastructure.okhttp.TestHelperOkHttp.loadResource;
+
+import com.google.gson.Gson;
+import io.nem.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link TransactionPageDecoderOkHttp}
+ */
+public class TransactionPageDecoderOkHttpTest {
+
+    private TransactionPageDecoderOkHttp decoder;
+
+    @BeforeEach
+    public void setUp() {
+        JsonHelper jsonHelper = new JsonHelperGson(new Gson());
+        decoder = new TransactionPageDecoderOkHttp(jsonHelper,
+            new GeneralTransactionMapper(jsonHelper));
+    }
+
+    @Test
+    public void shouldDecodePage() {
+        String page = "[" + loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json") + ","
+            + loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json")
+            + "]";
+
+        List<Transaction> transactions = Observable.<Transaction>create(
+            emitter -> decoder.decode(new StringReader(page), emitter)).toList().blockingGet();
+
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+        Assertions.assertTrue(transactions.get(0).getTransactionInfo().isPresent());
+    }
+
+    @Test
+    public void shouldDecodeEmptyPage() {
+        List<Transaction> transactions = Observable.<Transaction>create(
+            emitter -> decoder.decode(new StringReader(" [ ] "), emitter)).toList().blockingGet();
+
+        Assertions.assertEquals(0, transactions.size());
+    }
+
+    @Test
+    public void shouldEmitBeforeTheWholePageIsRead() {
+        String transaction = loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json");
+        StringBuilder page = new StringBuilder("[").append(transaction);
+        for (int i = 0; i < 100; i++) {
+            page.append(",").append(transaction);
+        }
+        page.append("]");
+        AtomicInteger charsRead = new AtomicInteger();
+        FilterReader reader = new FilterReader(new StringReader(page.toString())) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                int read = super.read(cbuf, off, len);
+                charsRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+
+        Transaction first = Observable.<Transaction>create(
+            emitter -> decoder.decode(reader, emitter)).blockingFirst();
+
+        Assertions.assertEquals(TransactionType.TRANSFER, first.getType());
+        Assertions.assertTrue(charsRead.get() < page.length() / 10,
+            "Only the beginning of the page should have been read but it was " + charsRead.get());
+    }
+
+    @Test
+    public void shouldFailWhenNotAnArray() {
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> Observable.<Transaction>create(
+                emitter -> decoder.decode(new StringReader("{\"code\":\"InternalError\"}"),
+                    emitter)).toList().blockingGet());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import io.nem.sdk.openapi.vertx.invoker.ApiClient;
+import io.nem.sdk.openapi.vertx.invoker.ApiException;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The fixed overhead of a repository call for each {@link CallSiteCapture} mode, without any I/O:
+ * the response or the error is handed to the handler as soon as the call starts and it's emitted
+ * on the trampoline scheduler. The error bodies are the json error of the rest gateway or the
+ * html error page of a proxy. Run it with {@code ./gradlew :sdk-vertx-client:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryCallBenchmark {
+
+    @Param({"ALL", "SAMPLED", "NONE"})
+    private CallSiteCapture callSiteCapture;
+
+    @Param({"json", "html"})
+    private String errorBody;
+
+    private Vertx vertx;
+
+    private AbstractRepositoryVertxImpl repository;
+
+    private AsyncResult<String> success;
+
+    private AsyncResult<String> failure;
+
+    @Setup
+    public void setup() {
+        CallSiteCapture.setMode(callSiteCapture);
+        vertx = Vertx.vertx();
+        ApiClient apiClient = new ApiClient(vertx,
+            new JsonObject().put("basePath", "http://localhost:3000"));
+        repository = new AbstractRepositoryVertxImpl(apiClient, Schedulers.trampoline()) {
+        };
+        String body = "json".equals(errorBody)
+            ? "{\"code\":\"ResourceNotFound\",\"message\":\"no resource exists with id 'A'\"}"
+            : "<html><head><title>502 Bad Gateway</title></head><body>nginx</body></html>";
+        success = Future.succeededFuture("1");
+        failure = Future
+            .failedFuture(new ApiException("Not Found", 404, MultiMap.caseInsensitiveMultiMap(),
+                body));
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+        CallSiteCapture.setMode(CallSiteCapture.ALL);
+    }
+
+    @Benchmark
+    public String success() {
+        Consumer<Handler<AsyncResult<String>>> callback = handler -> handler.handle(success);
+        return repository.exceptionHandling(repository.call(callback).map(String::trim))
+            .blockingFirst();
+    }
+
+    @Benchmark
+    public String failure() {
+        Consumer<Handler<AsyncResult<String>>> callback = handler -> handler.handle(failure);
+        return repository.exceptionHandling(repository.call(callback))
+            .onErrorResumeNext((Throwable e) -> Observable.just(e.getMessage())).blockingFirst();
+    }
+}
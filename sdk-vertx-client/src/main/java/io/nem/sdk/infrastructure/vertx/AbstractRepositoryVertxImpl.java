@@ -16,19 +16,29 @@
 
 package io.nem.sdk.infrastructure.vertx;
 
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.sdk.api.QueryParams;
 import io.nem.sdk.api.RepositoryCallException;
 import io.nem.sdk.model.transaction.JsonHelper;
 import io.nem.sdk.openapi.vertx.invoker.ApiClient;
 import io.nem.sdk.openapi.vertx.invoker.ApiException;
+import io.netty.handler.codec.http.QueryStringEncoder;
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.reactivex.core.impl.AsyncResultSingle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -42,28 +52,67 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
  */
 public abstract class AbstractRepositoryVertxImpl {
 
+    private final ApiClient apiClient;
+
     private final JsonHelper jsonHelper;
 
+    private final Scheduler scheduler;
+
     public AbstractRepositoryVertxImpl(ApiClient apiClient) {
+        this(apiClient, Schedulers.computation());
+    }
+
+    /**
+     * @param apiClient the api client.
+     * @param scheduler the scheduler the responses are emitted on, so they are mapped there
+     * instead of on the event loop.
+     */
+    public AbstractRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        this.apiClient = apiClient;
         this.jsonHelper = new JsonHelperJackson2(apiClient.getObjectMapper());
+        this.scheduler = scheduler;
     }
 
+    /**
+     * Sends the request of a generated async api method when subscribed. The response is emitted
+     * on the scheduler of this repository, the mapping chained by the caller runs there. The call
+     * site is captured according to the {@link CallSiteCapture} mode. The time of the call is
+     * recorded as the {@link SdkMetric#REPOSITORY_CALL} of its endpoint and as a rest call flight
+     * recorder event of {@link SdkEvents}.
+     *
+     * @param callback the function that starts the async call with the given handler.
+     * @param <T> the type of the response body.
+     * @return the observable of the response.
+     */
     public <T> Observable<T> call(Consumer<Handler<AsyncResult<T>>> callback) {
-        IllegalArgumentException originalException = new IllegalArgumentException("Original call");
         Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction = this
-            .onError(originalException);
-        return new AsyncResultSingle<T>(callback::accept).toObservable()
-            .onErrorResumeNext(resumeFunction);
+            .onError(CallSiteCapture.capture());
+        return new AsyncResultSingle<T>(handler -> {
+            long start = SdkMetrics.start();
+            Object event = SdkEvents.startRestCall();
+            callback.accept(start == 0L && event == null ? handler
+                : new RepositoryCallTimer<>(handler, start, event));
+        }).toObservable().observeOn(scheduler).onErrorResumeNext(resumeFunction);
     }
 
+    /**
+     * @param e the error of the call.
+     * @param originalException the call site of the call, null if it was not captured.
+     * @return the repository exception, its cause is the call site or the error. When it's the
+     * call site, the error is a suppressed exception.
+     */
     public RepositoryCallException exceptionHandling(Throwable e,
         IllegalArgumentException originalException) {
         if (e instanceof RepositoryCallException) {
             return (RepositoryCallException) e;
         }
-        return new RepositoryCallException(
+        RepositoryCallException exception = new RepositoryCallException(
             extractMessageFromException(e),
-            extractStatusCodeFromException(e), originalException);
+            extractStatusCodeFromException(e), originalException == null ? e : originalException);
+        if (originalException != null) {
+            exception.addSuppressed(e);
+        }
+        return exception;
     }
 
     private String extractMessageFromException(Throwable e) {
@@ -72,7 +121,7 @@ public abstract class AbstractRepositoryVertxImpl {
         if (e instanceof ApiException) {
             messages.add("" + ((ApiException) e).getCode());
             String responseBody = ((ApiException) e).getResponseBody();
-            if (responseBody != null) {
+            if (isJsonObject(responseBody)) {
                 try {
                     // Extracting message from the response body.
                     Object json = jsonHelper.parse(responseBody);
@@ -81,11 +130,21 @@ public abstract class AbstractRepositoryVertxImpl {
                 } catch (IllegalArgumentException ignore) {
                     messages.add(StringUtils.truncate(responseBody, 100));
                 }
+            } else if (responseBody != null) {
+                messages.add(StringUtils.truncate(responseBody, 100));
             }
         }
         return messages.stream().filter(StringUtils::isNotBlank).collect(Collectors.joining(" - "));
     }
 
+    /**
+     * The error bodies that don't even start like a json object, like the error pages of proxies,
+     * are not parsed.
+     */
+    private static boolean isJsonObject(String responseBody) {
+        return StringUtils.startsWith(StringUtils.stripStart(responseBody, null), "{");
+    }
+
     private int extractStatusCodeFromException(Throwable e) {
         return (e instanceof ApiException) ? ((ApiException) e).getCode() : 0;
     }
@@ -96,13 +155,34 @@ public abstract class AbstractRepositoryVertxImpl {
     }
 
     public <T> Observable<T> exceptionHandling(Observable<T> observable) {
-
-        IllegalArgumentException originalException = new IllegalArgumentException("Original call");
         Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction = this
-            .onError(originalException);
+            .onError(CallSiteCapture.capture());
         return observable.onErrorResumeNext(resumeFunction);
     }
 
+    /**
+     * Creates a GET request to the given rest path. Unlike the generated api calls, the response
+     * body is not bound, so the caller can decode it while it's being received.
+     *
+     * @param httpClient the http client the request is sent with.
+     * @param path the path relative to the api client base path.
+     * @param queryParams the query params, the ones with null values are not sent.
+     * @return the not yet sent request.
+     */
+    protected HttpClientRequest createGetRequest(HttpClient httpClient, String path,
+        Map<String, Object> queryParams) {
+        QueryStringEncoder uri = new QueryStringEncoder(apiClient.getBasePath() + path);
+        queryParams.forEach((name, value) -> {
+            if (value != null) {
+                uri.addParam(name, apiClient.parameterToString(value));
+            }
+        });
+        HttpClientRequest request = httpClient.getAbs(uri.toString());
+        request.headers().addAll(apiClient.getDefaultHeaders());
+        request.putHeader(HttpHeaders.ACCEPT.toString(), "application/json");
+        return request;
+    }
+
     protected Integer getPageSize(Optional<QueryParams> queryParams) {
         return queryParams.map(QueryParams::getPageSize).orElse(null);
     }
@@ -118,4 +198,8 @@ public abstract class AbstractRepositoryVertxImpl {
     public JsonHelper getJsonHelper() {
         return jsonHelper;
     }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
 }
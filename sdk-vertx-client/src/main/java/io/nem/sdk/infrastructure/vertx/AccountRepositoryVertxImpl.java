@@ -40,9 +40,16 @@ import io.nem.sdk.openapi.vertx.model.AccountInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionTypeEnum;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -59,10 +66,37 @@ public class AccountRepositoryVertxImpl extends AbstractRepositoryVertxImpl impl
 
     private final TransactionMapper transactionMapper;
 
+    private final TransactionPageDecoderVertx pageDecoder;
+
+    private final HttpClient httpClient;
+
     public AccountRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public AccountRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        this(apiClient, null, scheduler);
+    }
+
+    /**
+     * @param apiClient the api client.
+     * @param httpClient the http client the transaction pages are streamed with. When null, the
+     * streamed transactions are the ones of the list calls.
+     * @param scheduler the scheduler the responses are emitted on.
+     */
+    public AccountRepositoryVertxImpl(ApiClient apiClient, HttpClient httpClient,
+        Scheduler scheduler) {
+        this(apiClient, httpClient, scheduler, new EventLoopTimer());
+    }
+
+    AccountRepositoryVertxImpl(ApiClient apiClient, HttpClient httpClient, Scheduler scheduler,
+        EventLoopTimer eventLoopTimer) {
+        super(apiClient, scheduler);
+        this.httpClient = httpClient;
         this.client = new AccountRoutesApiImpl(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.pageDecoder = new TransactionPageDecoderVertx(apiClient.getObjectMapper(),
+            getJsonHelper(), transactionMapper, scheduler, eventLoopTimer);
     }
 
     @Override
@@ -163,6 +197,45 @@ public class AccountRepositoryVertxImpl extends AbstractRepositoryVertxImpl impl
                 .toObservable());
     }
 
+    @Override
+    public Observable<Transaction> streamTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        if (httpClient == null) {
+            return AccountRepository.super.streamTransactions(publicAccount, criteria);
+        }
+        return streamTransactions(publicAccount, "/transactions", criteria);
+    }
+
+    @Override
+    public Observable<Transaction> streamIncomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        if (httpClient == null) {
+            return AccountRepository.super.streamIncomingTransactions(publicAccount, criteria);
+        }
+        return streamTransactions(publicAccount, "/transactions/incoming", criteria);
+    }
+
+    @Override
+    public Observable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        if (httpClient == null) {
+            return AccountRepository.super.streamOutgoingTransactions(publicAccount, criteria);
+        }
+        return streamTransactions(publicAccount, "/transactions/outgoing", criteria);
+    }
+
+    private Observable<Transaction> streamTransactions(PublicAccount publicAccount,
+        String transactionsPath, TransactionSearchCriteria criteria) {
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        queryParams.put("pageSize", criteria.getPageSize());
+        queryParams.put("id", criteria.getId());
+        queryParams.put("ordering", criteria.getOrder());
+        queryParams.put("type", toTransactionType(criteria.getTransactionType()));
+        Callable<HttpClientRequest> callback = () -> createGetRequest(httpClient,
+            "/account/" + publicAccount.getPublicKey().toHex() + transactionsPath, queryParams);
+        return exceptionHandling(pageDecoder.decode(callback));
+    }
+
     private Transaction toTransaction(TransactionInfoDTO input) {
         return transactionMapper.map(input);
     }
@@ -32,11 +32,18 @@ import io.nem.sdk.openapi.vertx.model.BlockInfoDTO;
 import io.nem.sdk.openapi.vertx.model.MerkleProofInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
 import java.math.BigInteger;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -52,10 +59,37 @@ public class BlockRepositoryVertxImpl extends AbstractRepositoryVertxImpl implem
 
     private final TransactionMapper transactionMapper;
 
+    private final TransactionPageDecoderVertx pageDecoder;
+
+    private final HttpClient httpClient;
+
     public BlockRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public BlockRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        this(apiClient, null, scheduler);
+    }
+
+    /**
+     * @param apiClient the api client.
+     * @param httpClient the http client the transaction pages are streamed with. When null, the
+     * streamed transactions are the ones of the list calls.
+     * @param scheduler the scheduler the responses are emitted on.
+     */
+    public BlockRepositoryVertxImpl(ApiClient apiClient, HttpClient httpClient,
+        Scheduler scheduler) {
+        this(apiClient, httpClient, scheduler, new EventLoopTimer());
+    }
+
+    BlockRepositoryVertxImpl(ApiClient apiClient, HttpClient httpClient, Scheduler scheduler,
+        EventLoopTimer eventLoopTimer) {
+        super(apiClient, scheduler);
+        this.httpClient = httpClient;
         client = new BlockRoutesApiImpl(apiClient);
         transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        pageDecoder = new TransactionPageDecoderVertx(apiClient.getObjectMapper(), getJsonHelper(),
+            transactionMapper, scheduler, eventLoopTimer);
     }
 
     @Override
@@ -76,6 +110,21 @@ public class BlockRepositoryVertxImpl extends AbstractRepositoryVertxImpl implem
         return this.getBlockTransactions(height, Optional.empty());
     }
 
+    @Override
+    public Observable<Transaction> streamBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        if (httpClient == null) {
+            return BlockRepository.super.streamBlockTransactions(height, queryParams);
+        }
+        Optional<QueryParams> optionalQueryParams = Optional.of(queryParams);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("pageSize", getPageSize(optionalQueryParams));
+        params.put("id", getId(optionalQueryParams));
+        Callable<HttpClientRequest> callback = () ->
+            createGetRequest(httpClient, "/block/" + height + "/transactions", params);
+        return exceptionHandling(pageDecoder.decode(callback));
+    }
+
     @Override
     public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, int limit) {
         Consumer<Handler<AsyncResult<List<BlockInfoDTO>>>> callback = handler ->
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines which repository calls remember where they were made. The errors of a call are raised
+ * on the event loop, the captured call site is their cause so they point to the caller. Filling
+ * the stack trace of the call site costs microseconds per call whether it fails or not.
+ *
+ * The mode is global, it's read from the {@code nem.sdk.callSiteCapture} system property, in any
+ * case, and it can be changed at any time with {@link #setMode(CallSiteCapture)}. An unknown
+ * property value is logged and ignored.
+ */
+public enum CallSiteCapture {
+
+    /**
+     * Every call captures its call site.
+     */
+    ALL,
+
+    /**
+     * One call out of {@link #SAMPLING_RATE} captures its call site, enough to find the callers
+     * of the calls that keep failing.
+     */
+    SAMPLED,
+
+    /**
+     * No call captures its call site, the errors have the original exception as cause.
+     */
+    NONE;
+
+    /**
+     * The average number of calls per captured call site in {@link #SAMPLED} mode.
+     */
+    public static final int SAMPLING_RATE = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallSiteCapture.class);
+
+    private static volatile CallSiteCapture mode = parse(
+        System.getProperty("nem.sdk.callSiteCapture"));
+
+    public static CallSiteCapture getMode() {
+        return mode;
+    }
+
+    /**
+     * @param mode the call site capture of the calls from now on.
+     */
+    public static void setMode(CallSiteCapture mode) {
+        Validate.notNull(mode, "mode must not be null");
+        CallSiteCapture.mode = mode;
+    }
+
+    /**
+     * @param value the property value, like {@code sampled}.
+     * @return the mode of the value, {@link #ALL} when it's missing or unknown.
+     */
+    static CallSiteCapture parse(String value) {
+        if (value == null) {
+            return ALL;
+        }
+        for (CallSiteCapture candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(value.trim())) {
+                return candidate;
+            }
+        }
+        LOGGER.warn("Unknown nem.sdk.callSiteCapture '" + value + "', using " + ALL);
+        return ALL;
+    }
+
+    /**
+     * @return the call site of the current call or null when it's not captured.
+     */
+    static IllegalArgumentException capture() {
+        CallSiteCapture current = mode;
+        if (current == ALL || (current == SAMPLED
+            && ThreadLocalRandom.current().nextInt(SAMPLING_RATE) == 0)) {
+            return new IllegalArgumentException("Original call");
+        }
+        return null;
+    }
+}
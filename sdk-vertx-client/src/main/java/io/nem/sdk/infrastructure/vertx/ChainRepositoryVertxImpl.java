@@ -24,6 +24,8 @@ import io.nem.sdk.openapi.vertx.invoker.ApiClient;
 import io.nem.sdk.openapi.vertx.model.ChainScoreDTO;
 import io.nem.sdk.openapi.vertx.model.HeightInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -38,7 +40,11 @@ public class ChainRepositoryVertxImpl extends AbstractRepositoryVertxImpl implem
     private final ChainRoutesApi client;
 
     public ChainRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public ChainRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new ChainRoutesApiImpl(apiClient);
     }
 
@@ -26,6 +26,8 @@ import io.nem.sdk.openapi.vertx.model.ServerDTO;
 import io.nem.sdk.openapi.vertx.model.ServerInfoDTO;
 import io.nem.sdk.openapi.vertx.model.StorageInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.function.Consumer;
@@ -39,7 +41,11 @@ public class DiagnosticRepositoryVertxImpl extends AbstractRepositoryVertxImpl i
     private final DiagnosticRoutesApi client;
 
     public DiagnosticRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public DiagnosticRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new DiagnosticRoutesApiImpl(apiClient);
     }
 
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of how long the handlers of a {@link RepositoryFactoryVertxImpl} held the event loop:
+ * the response handlers, the chunk handlers of the streamed transaction pages and the listener
+ * message handlers. The responses and the streamed transactions are mapped on the mapping
+ * scheduler, a growing blocking time means the work is done on the event loop.
+ */
+public class EventLoopMetrics {
+
+    private final long handlers;
+
+    private final long blockingNanos;
+
+    private final long maxBlockingNanos;
+
+    public EventLoopMetrics(long handlers, long blockingNanos, long maxBlockingNanos) {
+        this.handlers = handlers;
+        this.blockingNanos = blockingNanos;
+        this.maxBlockingNanos = maxBlockingNanos;
+    }
+
+    /**
+     * @return the number of handlers run on the event loop.
+     */
+    public long getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * @return the total time the handlers held the event loop.
+     */
+    public Duration getBlockingTime() {
+        return Duration.ofNanos(blockingNanos);
+    }
+
+    /**
+     * @return the longest time a single handler held the event loop.
+     */
+    public Duration getMaxBlockingTime() {
+        return Duration.ofNanos(maxBlockingNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopMetrics{handlers=" + handlers + ", blockingTime=" + getBlockingTime()
+            + ", maxBlockingTime=" + getMaxBlockingTime() + '}';
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.vertx;
+
+import io.vertx.core.Handler;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long the handlers run by the event loop held it: the response handlers of the api
+ * client, the chunk handlers of the streamed transaction pages and the listener message handlers.
+ */
+class EventLoopTimer {
+
+    private final AtomicLong handlers = new AtomicLong();
+
+    private final AtomicLong blockingNanos = new AtomicLong();
+
+    private final AtomicLong maxBlockingNanos = new AtomicLong();
+
+    /**
+     * @param handler the handler run by the event loop.
+     * @param <T> the event type.
+     * @return the handler recording how long each of its runs took.
+     */
+    <T> Handler<T> time(Handler<T> handler) {
+        return event -> {
+            long start = System.nanoTime();
+            try {
+                handler.handle(event);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                handlers.incrementAndGet();
+                blockingNanos.addAndGet(nanos);
+                maxBlockingNanos.accumulateAndGet(nanos, Math::max);
+            }
+        };
+    }
+
+    /**
+     * @return a snapshot of the recorded times.
+     */
+    EventLoopMetrics getMetrics() {
+        return new EventLoopMetrics(handlers.get(), blockingNanos.get(), maxBlockingNanos.get());
+    }
+}
@@ -24,12 +24,15 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.openapi.vertx.model.TransactionStatementBodyDTO;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -59,6 +62,8 @@ public class JsonHelperJackson2 implements JsonHelper {
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         SimpleModule module = new SimpleModule();
         module.addSerializer(BigInteger.class, new BigIntegerSerializer());
+        module.setMixInAnnotation(TransactionStatementBodyDTO.class,
+            TransactionStatementBodyMixIn.class);
         objectMapper.registerModule(module);
         objectMapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
         objectMapper.setSerializationInclusion(Include.NON_EMPTY);
@@ -125,7 +130,15 @@ public class JsonHelperJackson2 implements JsonHelper {
         if (instanceClass.isInstance(object)) {
             return (T) object;
         }
-        return parse(print(object), instanceClass);
+        // Tree to object conversion, the object is never serialized into a json string.
+        try {
+            if (object instanceof JsonNode) {
+                return objectMapper.treeToValue((JsonNode) object, instanceClass);
+            }
+            return objectMapper.convertValue(object, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, null);
+        }
     }
 
     @Override
@@ -238,4 +251,14 @@ public class JsonHelperJackson2 implements JsonHelper {
         }
     }
 
+    /**
+     * The receipts of a transaction statement are untyped. They are read as json trees instead of
+     * maps so the receipt mapper can read them without converting each receipt again.
+     */
+    private abstract static class TransactionStatementBodyMixIn {
+
+        @JsonDeserialize(contentAs = JsonNode.class)
+        private List<Object> receipts;
+    }
+
 }
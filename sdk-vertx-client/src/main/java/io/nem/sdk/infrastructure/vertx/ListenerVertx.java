@@ -20,12 +20,14 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.nem.sdk.api.Listener;
 import io.nem.sdk.infrastructure.ListenerBase;
 import io.nem.sdk.infrastructure.ListenerSubscribeMessage;
+import io.nem.sdk.infrastructure.ListenerUnsubscribeMessage;
 import io.nem.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
 import io.nem.sdk.infrastructure.vertx.mappers.TransactionMapper;
 import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.openapi.vertx.model.BlockInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.vertx.model.TransactionMetaDTO;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.core.http.WebSocket;
@@ -48,6 +50,8 @@ public class ListenerVertx extends ListenerBase implements Listener {
 
     private final TransactionMapper transactionMapper;
 
+    private final EventLoopTimer eventLoopTimer;
+
     private WebSocket webSocket;
 
 
@@ -56,6 +60,15 @@ public class ListenerVertx extends ListenerBase implements Listener {
      * @param url of the host
      */
     public ListenerVertx(HttpClient httpClient, String url) {
+        this(httpClient, url, new EventLoopTimer());
+    }
+
+    /**
+     * @param httpClient the http client instance.
+     * @param url of the host
+     * @param eventLoopTimer the timer of the message handler.
+     */
+    ListenerVertx(HttpClient httpClient, String url, EventLoopTimer eventLoopTimer) {
         super(new JsonHelperJackson2(JsonHelperJackson2.configureMapper(Json.mapper)));
         try {
             this.url = new URL(url);
@@ -65,6 +78,7 @@ public class ListenerVertx extends ListenerBase implements Listener {
         }
         this.httpClient = httpClient;
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.eventLoopTimer = eventLoopTimer;
     }
 
     /**
@@ -86,12 +100,12 @@ public class ListenerVertx extends ListenerBase implements Listener {
             requestOptions,
             ws -> {
                 this.webSocket = ws;
-                ws.handler(
+                ws.handler(eventLoopTimer.time(
                     handler -> {
                         ObjectNode message = getJsonHelper()
-                            .convert(handler.toJsonObject(), ObjectNode.class);
+                            .parse(handler.toString(), ObjectNode.class);
                         handle(message, future);
-                    });
+                    }));
             });
         return future;
     }
@@ -105,8 +119,12 @@ public class ListenerVertx extends ListenerBase implements Listener {
 
     @Override
     protected Transaction toTransaction(Object transactionInfo) {
-        return transactionMapper
-            .map(getJsonHelper().convert(transactionInfo, TransactionInfoDTO.class));
+        ObjectNode transactionInfoJson = getJsonHelper().convert(transactionInfo, ObjectNode.class);
+        // The transaction body is handed to the mapper as json tree, only the meta is bound here.
+        TransactionMetaDTO meta = getJsonHelper()
+            .convert(transactionInfoJson.get("meta"), TransactionMetaDTO.class);
+        return transactionMapper.map(
+            new TransactionInfoDTO().meta(meta).transaction(transactionInfoJson.get("transaction")));
     }
 
 
@@ -129,4 +147,11 @@ public class ListenerVertx extends ListenerBase implements Listener {
         this.webSocket.writeTextMessage(getJsonHelper().print(subscribeMessage));
     }
 
+    @Override
+    protected void unsubscribeTo(String channel) {
+        final ListenerUnsubscribeMessage unsubscribeMessage = new ListenerUnsubscribeMessage(
+            this.getUid(), channel);
+        this.webSocket.writeTextMessage(getJsonHelper().print(unsubscribeMessage));
+    }
+
 }
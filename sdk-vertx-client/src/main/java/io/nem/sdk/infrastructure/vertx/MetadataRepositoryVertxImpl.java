@@ -32,6 +32,8 @@ import io.nem.sdk.openapi.vertx.model.MetadataDTO;
 import io.nem.sdk.openapi.vertx.model.MetadataEntriesDTO;
 import io.nem.sdk.openapi.vertx.model.MetadataEntryDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -50,7 +52,11 @@ public class MetadataRepositoryVertxImpl extends AbstractRepositoryVertxImpl imp
     private final MetadataRoutesApi client;
 
     public MetadataRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public MetadataRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new MetadataRoutesApiImpl(apiClient);
     }
 
@@ -34,6 +34,8 @@ import io.nem.sdk.openapi.vertx.model.MosaicIds;
 import io.nem.sdk.openapi.vertx.model.MosaicInfoDTO;
 import io.nem.sdk.openapi.vertx.model.MosaicsInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.List;
@@ -54,7 +56,12 @@ public class MosaicRepositoryVertxImpl extends AbstractRepositoryVertxImpl imple
 
     public MosaicRepositoryVertxImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public MosaicRepositoryVertxImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new MosaicRoutesApiImpl(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
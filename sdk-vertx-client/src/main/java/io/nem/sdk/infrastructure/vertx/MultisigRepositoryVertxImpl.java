@@ -29,6 +29,8 @@ import io.nem.sdk.openapi.vertx.model.MultisigAccountGraphInfoDTO;
 import io.nem.sdk.openapi.vertx.model.MultisigAccountInfoDTO;
 import io.nem.sdk.openapi.vertx.model.MultisigDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.HashMap;
@@ -45,7 +47,12 @@ public class MultisigRepositoryVertxImpl extends AbstractRepositoryVertxImpl imp
 
     public MultisigRepositoryVertxImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public MultisigRepositoryVertxImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new MultisigRoutesApiImpl(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
@@ -52,6 +52,8 @@ import io.nem.sdk.openapi.vertx.model.NamespaceInfoDTO;
 import io.nem.sdk.openapi.vertx.model.NamespaceNameDTO;
 import io.nem.sdk.openapi.vertx.model.NamespacesInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.ArrayList;
@@ -74,7 +76,12 @@ public class NamespaceRepositoryVertxImpl extends AbstractRepositoryVertxImpl im
 
     public NamespaceRepositoryVertxImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public NamespaceRepositoryVertxImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new NamespaceRoutesApiImpl(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
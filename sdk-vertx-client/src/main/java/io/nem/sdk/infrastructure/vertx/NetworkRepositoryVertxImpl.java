@@ -27,6 +27,8 @@ import io.nem.sdk.openapi.vertx.invoker.ApiClient;
 import io.nem.sdk.openapi.vertx.model.NetworkTypeDTO;
 import io.nem.sdk.openapi.vertx.model.NodeInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.function.Consumer;
@@ -43,7 +45,11 @@ public class NetworkRepositoryVertxImpl extends AbstractRepositoryVertxImpl impl
     private final NodeRoutesApi nodeRoutesApi;
 
     public NetworkRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public NetworkRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         networkRoutesApi = new NetworkRoutesApiImpl(apiClient);
         nodeRoutesApi = new NodeRoutesApiImpl(apiClient);
     }
@@ -27,6 +27,8 @@ import io.nem.sdk.openapi.vertx.invoker.ApiClient;
 import io.nem.sdk.openapi.vertx.model.NodeInfoDTO;
 import io.nem.sdk.openapi.vertx.model.NodeTimeDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -41,7 +43,11 @@ public class NodeRepositoryVertxImpl extends AbstractRepositoryVertxImpl impleme
     private final NodeRoutesApi client;
 
     public NodeRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public NodeRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new NodeRoutesApiImpl(apiClient);
     }
 
@@ -19,6 +19,7 @@ package io.nem.sdk.infrastructure.vertx;
 import static io.nem.core.utils.MapperUtils.toAddressFromEncoded;
 import static io.nem.core.utils.MapperUtils.toMosaicId;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.nem.core.utils.MapperUtils;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
@@ -46,7 +47,10 @@ import io.nem.sdk.openapi.vertx.model.ResolutionStatementBodyDTO;
 import io.nem.sdk.openapi.vertx.model.ResolutionStatementDTO;
 import io.nem.sdk.openapi.vertx.model.StatementsDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionStatementDTO;
+import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -59,9 +63,13 @@ public class ReceiptMappingVertx {
     }
 
     public Statement createStatementFromDto(StatementsDTO input, NetworkType networkType) {
+        // The receipts of a block keep referring to the same few accounts (harvesters, lock
+        // owners), their public accounts are created once for the whole statement.
+        Map<String, PublicAccount> publicAccounts = new HashMap<>();
         List<TransactionStatement> transactionStatements =
             input.getTransactionStatements().stream()
-                .map(receiptDto -> createTransactionStatement(receiptDto, networkType))
+                .map(receiptDto -> createTransactionStatement(receiptDto, networkType,
+                    publicAccounts))
                 .collect(Collectors.toList());
         List<AddressResolutionStatement> addressResolutionStatements =
             input.getAddressResolutionStatements().stream()
@@ -112,18 +120,32 @@ public class ReceiptMappingVertx {
 
     public TransactionStatement createTransactionStatement(
         TransactionStatementDTO input, NetworkType networkType) {
+        return createTransactionStatement(input, networkType, new HashMap<>());
+    }
+
+    private TransactionStatement createTransactionStatement(
+        TransactionStatementDTO input, NetworkType networkType,
+        Map<String, PublicAccount> publicAccounts) {
         return new TransactionStatement(
             input.getStatement().getHeight(),
             new ReceiptSource(
                 input.getStatement().getSource().getPrimaryId(),
                 input.getStatement().getSource().getSecondaryId()),
             input.getStatement().getReceipts().stream()
-                .map(receipt -> createReceiptFromDto(receipt, networkType))
+                .map(receipt -> createReceiptFromDto(receipt, networkType, publicAccounts))
                 .collect(Collectors.toList()));
     }
 
     public Receipt createReceiptFromDto(Object receiptDto, NetworkType networkType) {
-        ReceiptType type = ReceiptType.rawValueOf(jsonHelper.getInteger(receiptDto, "type"));
+        return createReceiptFromDto(receiptDto, networkType, new HashMap<>());
+    }
+
+    private Receipt createReceiptFromDto(Object receiptDto, NetworkType networkType,
+        Map<String, PublicAccount> publicAccounts) {
+        // The receipt is read once as json tree and its attributes are taken from the tree
+        // depending on the type, it's not converted again into the type specific receipt dto.
+        JsonNode receipt = jsonHelper.convert(receiptDto, JsonNode.class);
+        ReceiptType type = ReceiptType.rawValueOf(jsonHelper.getInteger(receipt, "type"));
         switch (type) {
             case HARVEST_FEE:
             case LOCK_HASH_CREATED:
@@ -133,21 +155,26 @@ public class ReceiptMappingVertx {
             case LOCK_SECRET_COMPLETED:
             case LOCK_SECRET_EXPIRED:
                 return createBalanceChangeReceipt(
-                    jsonHelper.convert(receiptDto, BalanceChangeReceiptDTO.class), networkType);
+                    publicAccounts.computeIfAbsent(jsonHelper.getString(receipt, "targetPublicKey"),
+                        publicKey -> PublicAccount.createFromPublicKey(publicKey, networkType)),
+                    jsonHelper.getString(receipt, "mosaicId"),
+                    jsonHelper.getBigInteger(receipt, "amount"), type);
             case MOSAIC_RENTAL_FEE:
             case NAMESPACE_RENTAL_FEE:
-                return createBalanceTransferRecipient(
-                    jsonHelper.convert(receiptDto, BalanceTransferReceiptDTO.class), networkType);
+                return createBalanceTransferReceipt(
+                    publicAccounts.computeIfAbsent(jsonHelper.getString(receipt, "senderPublicKey"),
+                        publicKey -> PublicAccount.createFromPublicKey(publicKey, networkType)),
+                    jsonHelper.getString(receipt, "recipientAddress"),
+                    jsonHelper.getString(receipt, "mosaicId"),
+                    jsonHelper.getBigInteger(receipt, "amount"), type);
             case MOSAIC_EXPIRED:
-                return createArtifactExpiryReceipt(
-                    jsonHelper.convert(receiptDto, MosaicExpiryReceiptDTO.class), type);
             case NAMESPACE_EXPIRED:
             case NAMESPACE_DELETED:
-                return createArtifactExpiryReceipt(
-                    jsonHelper.convert(receiptDto, NamespaceExpiryReceiptDTO.class), type);
+                return createArtifactExpiryReceipt(jsonHelper.getString(receipt, "artifactId"),
+                    type);
             case INFLATION:
-                return createInflationReceipt(
-                    jsonHelper.convert(receiptDto, InflationReceiptDTO.class));
+                return createInflationReceipt(jsonHelper.getString(receipt, "mosaicId"),
+                    jsonHelper.getBigInteger(receipt, "amount"), type);
             default:
                 throw new IllegalArgumentException("Receipt type: " + type.name() + " not valid");
         }
@@ -155,46 +182,58 @@ public class ReceiptMappingVertx {
 
     public ArtifactExpiryReceipt<MosaicId> createArtifactExpiryReceipt(
         NamespaceExpiryReceiptDTO receipt, ReceiptType type) {
-        return new ArtifactExpiryReceipt<>(
-            MapperUtils.toMosaicId(receipt.getArtifactId()), type,
-            ReceiptVersion.ARTIFACT_EXPIRY);
+        return createArtifactExpiryReceipt(receipt.getArtifactId(), type);
     }
 
     public ArtifactExpiryReceipt<MosaicId> createArtifactExpiryReceipt(
         MosaicExpiryReceiptDTO receipt, ReceiptType type) {
-        return new ArtifactExpiryReceipt<>(
-            MapperUtils.toMosaicId(receipt.getArtifactId()), type,
-            ReceiptVersion.ARTIFACT_EXPIRY);
+        return createArtifactExpiryReceipt(receipt.getArtifactId(), type);
     }
 
-
     public BalanceChangeReceipt createBalanceChangeReceipt(
         BalanceChangeReceiptDTO receipt, NetworkType networkType) {
-        return new BalanceChangeReceipt(
+        return createBalanceChangeReceipt(
             PublicAccount.createFromPublicKey(receipt.getTargetPublicKey(), networkType),
-            new MosaicId(receipt.getMosaicId()),
-            receipt.getAmount(),
-            ReceiptType.rawValueOf(receipt.getType().getValue()),
-            ReceiptVersion.BALANCE_CHANGE);
+            receipt.getMosaicId(), receipt.getAmount(),
+            ReceiptType.rawValueOf(receipt.getType().getValue()));
     }
 
     public BalanceTransferReceipt createBalanceTransferRecipient(
         BalanceTransferReceiptDTO receipt, NetworkType networkType) {
-        return new BalanceTransferReceipt(
+        return createBalanceTransferReceipt(
             PublicAccount.createFromPublicKey(receipt.getSenderPublicKey(), networkType),
-            MapperUtils.toUnresolvedAddress(receipt.getRecipientAddress()),
-            new MosaicId(receipt.getMosaicId()),
-            receipt.getAmount(),
-            ReceiptType.rawValueOf(receipt.getType().getValue()),
-            ReceiptVersion.BALANCE_TRANSFER);
+            receipt.getRecipientAddress(), receipt.getMosaicId(), receipt.getAmount(),
+            ReceiptType.rawValueOf(receipt.getType().getValue()));
     }
 
     public InflationReceipt createInflationReceipt(InflationReceiptDTO receipt) {
-        return new InflationReceipt(
-            new MosaicId(receipt.getMosaicId()),
-            receipt.getAmount(),
-            ReceiptType.rawValueOf(receipt.getType().getValue()),
-            ReceiptVersion.INFLATION_RECEIPT);
+        return createInflationReceipt(receipt.getMosaicId(), receipt.getAmount(),
+            ReceiptType.rawValueOf(receipt.getType().getValue()));
     }
 
+    private static ArtifactExpiryReceipt<MosaicId> createArtifactExpiryReceipt(String artifactId,
+        ReceiptType type) {
+        return new ArtifactExpiryReceipt<>(MapperUtils.toMosaicId(artifactId), type,
+            ReceiptVersion.ARTIFACT_EXPIRY);
+    }
+
+    private static BalanceChangeReceipt createBalanceChangeReceipt(PublicAccount targetAccount,
+        String mosaicId, BigInteger amount, ReceiptType type) {
+        return new BalanceChangeReceipt(targetAccount, new MosaicId(mosaicId), amount, type,
+            ReceiptVersion.BALANCE_CHANGE);
+    }
+
+    private static BalanceTransferReceipt createBalanceTransferReceipt(
+        PublicAccount senderAccount, String recipientAddress, String mosaicId, BigInteger amount,
+        ReceiptType type) {
+        return new BalanceTransferReceipt(senderAccount,
+            MapperUtils.toUnresolvedAddress(recipientAddress), new MosaicId(mosaicId), amount,
+            type, ReceiptVersion.BALANCE_TRANSFER);
+    }
+
+    private static InflationReceipt createInflationReceipt(String mosaicId, BigInteger amount,
+        ReceiptType type) {
+        return new InflationReceipt(new MosaicId(mosaicId), amount, type,
+            ReceiptVersion.INFLATION_RECEIPT);
+    }
 }
@@ -27,6 +27,8 @@ import io.nem.sdk.openapi.vertx.invoker.ApiClient;
 import io.nem.sdk.openapi.vertx.model.MerkleProofInfoDTO;
 import io.nem.sdk.openapi.vertx.model.StatementsDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -47,7 +49,12 @@ public class ReceiptRepositoryVertxImpl extends AbstractRepositoryVertxImpl impl
 
     public ReceiptRepositoryVertxImpl(ApiClient apiClient,
         Observable<NetworkType> networkTypeObservable) {
-        super(apiClient);
+        this(apiClient, networkTypeObservable, Schedulers.computation());
+    }
+
+    public ReceiptRepositoryVertxImpl(ApiClient apiClient,
+        Observable<NetworkType> networkTypeObservable, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new ReceiptRoutesApiImpl(apiClient);
         this.networkTypeObservable = networkTypeObservable;
     }
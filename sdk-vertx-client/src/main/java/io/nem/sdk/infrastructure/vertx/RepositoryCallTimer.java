@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import io.nem.core.metrics.SdkEvents;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
+import io.nem.sdk.openapi.vertx.invoker.ApiException;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+
+/**
+ * The handler of a repository call while the metrics are enabled or its flight recorder event is
+ * recorded. It records the time of the call as the {@link SdkMetric#REPOSITORY_CALL} of its
+ * endpoint and commits the rest call event of {@link SdkEvents}.
+ *
+ * The endpoint is only known by the api client, the one of a {@link RepositoryFactoryVertxImpl}
+ * sets it when the request is sent and observes the response for its status and bytes. It's
+ * unknown for the calls of other api clients.
+ *
+ * @param <T> the type of the response body.
+ */
+final class RepositoryCallTimer<T> implements Handler<AsyncResult<T>> {
+
+    private final Handler<AsyncResult<T>> handler;
+
+    private final long start;
+
+    private final Object event;
+
+    private volatile String method;
+
+    private volatile String path;
+
+    private volatile int status;
+
+    /**
+     * @param handler the handler of the call.
+     * @param start the start of the call, 0 if the metrics are disabled.
+     * @param event the handle of the rest call event, null if it's not recorded.
+     */
+    RepositoryCallTimer(Handler<AsyncResult<T>> handler, long start, Object event) {
+        this.handler = handler;
+        this.start = start;
+        this.event = event;
+    }
+
+    /**
+     * @param method the http method of the request.
+     * @param path the path of the request.
+     */
+    void setEndpoint(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    /**
+     * @param decoder the generated response handler.
+     * @return a response handler that takes the status and counts the bytes of the response
+     * before decoding it.
+     */
+    Handler<AsyncResult<HttpResponse<Buffer>>> observe(
+        Handler<AsyncResult<HttpResponse<Buffer>>> decoder) {
+        return response -> {
+            if (response.succeeded()) {
+                status = response.result().statusCode();
+                if (SdkMetrics.isEnabled() && response.result().body() != null) {
+                    SdkMetrics.count(SdkMetric.REPOSITORY_RESPONSE_BYTES, getEndpoint(),
+                        response.result().body().length());
+                }
+            }
+            decoder.handle(response);
+        };
+    }
+
+    @Override
+    public void handle(AsyncResult<T> result) {
+        if (start != 0L) {
+            SdkMetrics.recordTime(SdkMetric.REPOSITORY_CALL, getEndpoint(), start);
+        }
+        SdkEvents.commitRestCall(event, method, path, getStatus(result));
+        handler.handle(result);
+    }
+
+    private String getEndpoint() {
+        return method == null ? SdkMetrics.UNKNOWN : SdkMetrics.endpoint(method, path);
+    }
+
+    private int getStatus(AsyncResult<T> result) {
+        if (status == 0 && result.failed() && result.cause() instanceof ApiException) {
+            return ((ApiException) result.cause()).getCode();
+        }
+        return status;
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.vertx;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import io.nem.sdk.api.AccountRepository;
 import io.nem.sdk.api.BlockRepository;
 import io.nem.sdk.api.ChainRepository;
@@ -33,15 +34,32 @@ import io.nem.sdk.api.RepositoryFactory;
 import io.nem.sdk.api.RestrictionAccountRepository;
 import io.nem.sdk.api.RestrictionMosaicRepository;
 import io.nem.sdk.api.TransactionRepository;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
 import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.openapi.vertx.invoker.ApiClient;
+import io.nem.sdk.openapi.vertx.invoker.Pair;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JdkSSLEngineOptions;
+import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Vertx implementation of a {@link RepositoryFactory}
@@ -53,6 +71,8 @@ public class RepositoryFactoryVertxImpl implements RepositoryFactory {
 
     private final ApiClient apiClient;
 
+    private final HttpClient httpClient;
+
     private final WebClient webClient;
 
     private final String baseUrl;
@@ -63,15 +83,123 @@ public class RepositoryFactoryVertxImpl implements RepositoryFactory {
 
     private final Observable<String> generationHashObservable;
 
+    private final boolean ownsVertx;
+
+    private final boolean ownsWebClient;
+
+    private final Scheduler scheduler;
+
+    private final EventLoopTimer eventLoopTimer = new EventLoopTimer();
+
     public RepositoryFactoryVertxImpl(String baseUrl) {
+        this(baseUrl, new TransportConfiguration());
+    }
+
+    /**
+     * Creates a factory with its own {@link Vertx} instance.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     */
+    public RepositoryFactoryVertxImpl(String baseUrl, TransportConfiguration configuration) {
+        this(baseUrl, configuration, new SchedulerConfiguration());
+    }
+
+    /**
+     * Creates a factory with its own {@link Vertx} instance whose repositories decode and map the
+     * responses on the configured scheduler instead of the event loop.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param configuration the transport configuration.
+     * @param schedulerConfiguration the scheduler configuration.
+     */
+    public RepositoryFactoryVertxImpl(String baseUrl, TransportConfiguration configuration,
+        SchedulerConfiguration schedulerConfiguration) {
+        this(baseUrl, Vertx.vertx(), configuration, schedulerConfiguration, true);
+    }
+
+    /**
+     * Creates a factory that runs on the given {@link Vertx} instance. The instance is not closed
+     * with the factory, so one instance can be shared by many factories.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param vertx the vertx instance.
+     * @param configuration the transport configuration.
+     */
+    public RepositoryFactoryVertxImpl(String baseUrl, Vertx vertx,
+        TransportConfiguration configuration) {
+        this(baseUrl, vertx, configuration, new SchedulerConfiguration());
+    }
+
+    /**
+     * Creates a factory that runs on the given {@link Vertx} instance and decodes and maps the
+     * responses on the configured scheduler. The instance is not closed with the factory.
+     *
+     * @param baseUrl the base url of the rest gateway.
+     * @param vertx the vertx instance.
+     * @param configuration the transport configuration.
+     * @param schedulerConfiguration the scheduler configuration.
+     */
+    public RepositoryFactoryVertxImpl(String baseUrl, Vertx vertx,
+        TransportConfiguration configuration, SchedulerConfiguration schedulerConfiguration) {
+        this(baseUrl, vertx, configuration, schedulerConfiguration, false);
+    }
+
+    private RepositoryFactoryVertxImpl(String baseUrl, Vertx vertx,
+        TransportConfiguration configuration, SchedulerConfiguration schedulerConfiguration,
+        boolean ownsVertx) {
+        this(baseUrl, vertx, vertx.createHttpClient(
+            createWebClientOptions(baseUrl.startsWith("https"), configuration)),
+            schedulerConfiguration, ownsVertx, true);
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @param vertx the vertx instance.
+     * @param httpClient the http client the web client wraps, it can be shared by the factories
+     * of many gateways. The transaction pages are streamed with it.
+     * @param schedulerConfiguration the scheduler configuration.
+     * @param ownsVertx if the vertx instance is closed with the factory.
+     * @param ownsWebClient if the web client is closed with the factory.
+     */
+    RepositoryFactoryVertxImpl(String baseUrl, Vertx vertx, HttpClient httpClient,
+        SchedulerConfiguration schedulerConfiguration, boolean ownsVertx, boolean ownsWebClient) {
+        Validate.notNull(schedulerConfiguration, "schedulerConfiguration must not be null");
         this.baseUrl = baseUrl;
-        vertx = Vertx.vertx();
-        webClient = WebClient.create(vertx);
+        this.vertx = vertx;
+        this.httpClient = httpClient;
+        this.webClient = WebClient.wrap(httpClient);
+        this.scheduler = schedulerConfiguration.getMappingScheduler();
+        this.ownsVertx = ownsVertx;
+        this.ownsWebClient = ownsWebClient;
         this.apiClient = new ApiClient(vertx, new JsonObject().put("basePath", baseUrl)) {
             @Override
-            public synchronized WebClient getWebClient() {
+            public WebClient getWebClient() {
                 return webClient;
             }
+
+            @Override
+            public <T> void invokeAPI(String path, String method, List<Pair> queryParams,
+                Object body, MultiMap headerParams, Map<String, Object> formParams,
+                String[] accepts, String[] contentTypes, String[] authNames,
+                TypeReference<T> returnType, Handler<AsyncResult<T>> handler) {
+                if (handler instanceof RepositoryCallTimer) {
+                    ((RepositoryCallTimer<T>) handler).setEndpoint(method, path);
+                }
+                super.invokeAPI(path, method, queryParams, body, headerParams, formParams,
+                    accepts, contentTypes, authNames, returnType, handler);
+            }
+
+            @Override
+            protected <T> Handler<AsyncResult<HttpResponse<Buffer>>> buildResponseHandler(
+                TypeReference<T> returnType, Handler<AsyncResult<T>> handler) {
+                Handler<AsyncResult<HttpResponse<Buffer>>> decoder = super
+                    .buildResponseHandler(returnType, handler);
+                if (handler instanceof RepositoryCallTimer) {
+                    decoder = ((RepositoryCallTimer<T>) handler).observe(decoder);
+                }
+                return handleOffEventLoop(decoder);
+            }
         };
         //Note: For some reason the generated code use to mapper instances.
         JsonHelperJackson2.configureMapper(apiClient.getObjectMapper());
@@ -81,6 +209,56 @@ public class RepositoryFactoryVertxImpl implements RepositoryFactory {
             .map(BlockInfo::getGenerationHash).cache();
     }
 
+    /**
+     * Maps the transport configuration to the web client options. HTTP/2 is negotiated with ALPN
+     * on https gateways only when the JDK supports it, all the requests then share one connection.
+     * Otherwise each connection runs one request at a time, or up to its share of the max
+     * requests per host when pipelining. Vert.x closes the connections that neither receive nor
+     * send data for the longest of the read and write timeouts, the pooled ones included, a zero
+     * keep alive closes the connections after each request instead.
+     *
+     * @param secure if the options are for https gateways.
+     * @param configuration the transport configuration.
+     * @return the web client options.
+     */
+    static WebClientOptions createWebClientOptions(boolean secure,
+        TransportConfiguration configuration) {
+        WebClientOptions options = new WebClientOptions();
+        options.setMaxPoolSize(configuration.getMaxConnections())
+            .setKeepAlive(!configuration.getKeepAlive().isZero())
+            .setPipelining(configuration.isPipelining())
+            .setTryUseCompression(configuration.isCompression())
+            .setConnectTimeout((int) configuration.getConnectTimeout().toMillis())
+            .setIdleTimeout((int) toSeconds(
+                max(configuration.getReadTimeout(), configuration.getWriteTimeout())));
+        if (configuration.isHttp2() && secure && JdkSSLEngineOptions.isAlpnAvailable()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2).setUseAlpn(true)
+                .setHttp2MultiplexingLimit(configuration.getMaxRequestsPerHost());
+        } else if (configuration.isPipelining()) {
+            options.setPipeliningLimit(Math.max(1,
+                configuration.getMaxRequestsPerHost() / configuration.getMaxConnections()));
+        }
+        return options;
+    }
+
+    /**
+     * The generated response handler decodes the body, the returned handler runs it on the
+     * mapping scheduler and records how long the event loop was held.
+     */
+    private Handler<AsyncResult<HttpResponse<Buffer>>> handleOffEventLoop(
+        Handler<AsyncResult<HttpResponse<Buffer>>> decoder) {
+        return eventLoopTimer
+            .time(response -> scheduler.scheduleDirect(() -> decoder.handle(response)));
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static long toSeconds(Duration duration) {
+        return (duration.toMillis() + 999) / 1000;
+    }
+
     @Override
     public Observable<NetworkType> getNetworkType() {
         return networkTypeObservable;
@@ -93,77 +271,77 @@ public class RepositoryFactoryVertxImpl implements RepositoryFactory {
 
     @Override
     public AccountRepository createAccountRepository() {
-        return new AccountRepositoryVertxImpl(apiClient);
+        return new AccountRepositoryVertxImpl(apiClient, httpClient, scheduler, eventLoopTimer);
     }
 
     @Override
     public MultisigRepository createMultisigRepository() {
-        return new MultisigRepositoryVertxImpl(apiClient, networkTypeObservable);
+        return new MultisigRepositoryVertxImpl(apiClient, networkTypeObservable, scheduler);
     }
 
     @Override
     public BlockRepository createBlockRepository() {
-        return new BlockRepositoryVertxImpl(apiClient);
+        return new BlockRepositoryVertxImpl(apiClient, httpClient, scheduler, eventLoopTimer);
     }
 
     @Override
     public ReceiptRepository createReceiptRepository() {
-        return new ReceiptRepositoryVertxImpl(apiClient, networkTypeObservable);
+        return new ReceiptRepositoryVertxImpl(apiClient, networkTypeObservable, scheduler);
     }
 
     @Override
     public ChainRepository createChainRepository() {
-        return new ChainRepositoryVertxImpl(apiClient);
+        return new ChainRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public DiagnosticRepository createDiagnosticRepository() {
-        return new DiagnosticRepositoryVertxImpl(apiClient);
+        return new DiagnosticRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public MosaicRepository createMosaicRepository() {
-        return new MosaicRepositoryVertxImpl(apiClient, networkTypeObservable);
+        return new MosaicRepositoryVertxImpl(apiClient, networkTypeObservable, scheduler);
     }
 
     @Override
     public NamespaceRepository createNamespaceRepository() {
-        return new NamespaceRepositoryVertxImpl(apiClient, networkTypeObservable);
+        return new NamespaceRepositoryVertxImpl(apiClient, networkTypeObservable, scheduler);
     }
 
     @Override
     public NetworkRepository createNetworkRepository() {
-        return new NetworkRepositoryVertxImpl(apiClient);
+        return new NetworkRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public NodeRepository createNodeRepository() {
-        return new NodeRepositoryVertxImpl(apiClient);
+        return new NodeRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public TransactionRepository createTransactionRepository() {
-        return new TransactionRepositoryVertxImpl(apiClient);
+        return new TransactionRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public MetadataRepository createMetadataRepository() {
-        return new MetadataRepositoryVertxImpl(apiClient);
+        return new MetadataRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public RestrictionAccountRepository createRestrictionAccountRepository() {
-        return new RestrictionAccountRepositoryVertxImpl(apiClient);
+        return new RestrictionAccountRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public RestrictionMosaicRepository createRestrictionMosaicRepository() {
-        return new RestrictionMosaicRepositoryVertxImpl(apiClient);
+        return new RestrictionMosaicRepositoryVertxImpl(apiClient, scheduler);
     }
 
     @Override
     public Listener createListener() {
-        return new ListenerVertx(vertx.createHttpClient(), baseUrl);
+        return new ListenerVertx(vertx.createHttpClient(), baseUrl, eventLoopTimer);
     }
 
     @Override
@@ -171,14 +349,24 @@ public class RepositoryFactoryVertxImpl implements RepositoryFactory {
         return new JsonSerializationVertx(apiClient.getObjectMapper());
     }
 
+    /**
+     * @return how long the handlers of the repositories and listeners held the event loop.
+     */
+    public EventLoopMetrics getEventLoopMetrics() {
+        return eventLoopTimer.getMetrics();
+    }
+
     @Override
     public void close() {
-
-        vertx.close();
-        try {
-            webClient.close();
-        } catch (IllegalStateException e) {
-            //Failing quietly
+        if (ownsVertx) {
+            vertx.close();
+        }
+        if (ownsWebClient) {
+            try {
+                webClient.close();
+            } catch (IllegalStateException e) {
+                //Failing quietly
+            }
         }
     }
 }
@@ -30,6 +30,8 @@ import io.nem.sdk.openapi.vertx.model.AccountRestrictionDTO;
 import io.nem.sdk.openapi.vertx.model.AccountRestrictionsDTO;
 import io.nem.sdk.openapi.vertx.model.AccountRestrictionsInfoDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -43,7 +45,11 @@ public class RestrictionAccountRepositoryVertxImpl extends AbstractRepositoryVer
     private final RestrictionAccountRoutesApi client;
 
     public RestrictionAccountRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public RestrictionAccountRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new RestrictionAccountRoutesApiImpl(apiClient);
     }
 
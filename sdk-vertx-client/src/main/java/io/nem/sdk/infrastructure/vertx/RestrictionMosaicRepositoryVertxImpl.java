@@ -36,6 +36,8 @@ import io.nem.sdk.openapi.vertx.model.MosaicGlobalRestrictionEntryRestrictionDTO
 import io.nem.sdk.openapi.vertx.model.MosaicGlobalRestrictionEntryWrapperDTO;
 import io.nem.sdk.openapi.vertx.model.MosaicIds;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.math.BigInteger;
@@ -49,7 +51,11 @@ public class RestrictionMosaicRepositoryVertxImpl extends AbstractRepositoryVert
     private final RestrictionMosaicRoutesApi client;
 
     public RestrictionMosaicRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public RestrictionMosaicRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         this.client = new RestrictionMosaicRoutesApiImpl(apiClient);
     }
 
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Creates {@link RepositoryFactoryVertxImpl} instances, one per rest gateway, that share one
+ * {@link Vertx} instance with its event loops and one web client with its connection pools. The
+ * event loops don't grow with the number of gateways, the web client keeps a pool per gateway
+ * limited by the max connections.
+ *
+ * Closing a created factory leaves the shared resources open for the other factories, they are
+ * released when this transport is closed. This makes it the factory creator of a {@link
+ * io.nem.sdk.infrastructure.MultiNodeRepositoryFactory}:
+ *
+ * <pre>{@code
+ * SharedTransportVertx transport = new SharedTransportVertx(configuration);
+ * RepositoryFactory factory = new MultiNodeRepositoryFactory(urls,
+ *     transport::createRepositoryFactory);
+ * }</pre>
+ */
+public class SharedTransportVertx {
+
+    private final Vertx vertx;
+
+    private final boolean ownsVertx;
+
+    private final TransportConfiguration configuration;
+
+    /**
+     * The http clients of the http and the https gateways, their HTTP/2 options differ.
+     */
+    private final HttpClient[] httpClients = new HttpClient[2];
+
+    public SharedTransportVertx() {
+        this(new TransportConfiguration());
+    }
+
+    /**
+     * @param configuration the transport configuration of the shared web client.
+     */
+    public SharedTransportVertx(TransportConfiguration configuration) {
+        this(Vertx.vertx(), configuration, true);
+    }
+
+    /**
+     * Shares an existing vertx instance, it's not closed with this transport.
+     *
+     * @param vertx the vertx instance.
+     * @param configuration the transport configuration of the shared web client.
+     */
+    public SharedTransportVertx(Vertx vertx, TransportConfiguration configuration) {
+        this(vertx, configuration, false);
+    }
+
+    private SharedTransportVertx(Vertx vertx, TransportConfiguration configuration,
+        boolean ownsVertx) {
+        Validate.notNull(vertx, "vertx must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.vertx = vertx;
+        this.configuration = configuration;
+        this.ownsVertx = ownsVertx;
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @return a factory for the gateway that uses the shared resources.
+     */
+    public RepositoryFactory createRepositoryFactory(String baseUrl) {
+        return createRepositoryFactory(baseUrl, new SchedulerConfiguration());
+    }
+
+    /**
+     * @param baseUrl the base url of the rest gateway.
+     * @param schedulerConfiguration the scheduler the responses of the gateway are mapped on.
+     * @return a factory for the gateway that uses the shared resources.
+     */
+    public RepositoryFactory createRepositoryFactory(String baseUrl,
+        SchedulerConfiguration schedulerConfiguration) {
+        return new RepositoryFactoryVertxImpl(baseUrl, vertx,
+            getHttpClient(baseUrl.startsWith("https")), schedulerConfiguration, false, false);
+    }
+
+    /**
+     * @return the shared vertx instance.
+     */
+    public Vertx getVertx() {
+        return vertx;
+    }
+
+    /**
+     * Releases the shared resources, the created factories can't be used anymore.
+     */
+    public synchronized void close() {
+        for (int i = 0; i < httpClients.length; i++) {
+            if (httpClients[i] != null) {
+                httpClients[i].close();
+                httpClients[i] = null;
+            }
+        }
+        if (ownsVertx) {
+            vertx.close();
+        }
+    }
+
+    private synchronized HttpClient getHttpClient(boolean secure) {
+        int index = secure ? 1 : 0;
+        if (httpClients[index] == null) {
+            httpClients[index] = vertx.createHttpClient(
+                RepositoryFactoryVertxImpl.createWebClientOptions(secure, configuration));
+        }
+        return httpClients[index];
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.vertx;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.nem.sdk.infrastructure.vertx.mappers.TransactionMapper;
+import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.openapi.vertx.invoker.ApiException;
+import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.nem.sdk.openapi.vertx.model.TransactionMetaDTO;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.streams.WriteStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decodes a json array of transaction infos (an account or block transaction page) while the
+ * response body chunks arrive, using a non blocking Jackson {@link JsonParser}.
+ *
+ * The event loop only parses the chunks, each transaction info is handed to the scheduler as a
+ * json tree as soon as its last token has been received and mapped there, so the first results are
+ * available before the whole page is downloaded.
+ */
+public class TransactionPageDecoderVertx {
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonHelper jsonHelper;
+
+    private final TransactionMapper transactionMapper;
+
+    private final Scheduler scheduler;
+
+    private final EventLoopTimer eventLoopTimer;
+
+    public TransactionPageDecoderVertx(ObjectMapper objectMapper, JsonHelper jsonHelper,
+        TransactionMapper transactionMapper) {
+        this(objectMapper, jsonHelper, transactionMapper, Schedulers.computation());
+    }
+
+    /**
+     * @param objectMapper the object mapper.
+     * @param jsonHelper the json helper.
+     * @param transactionMapper the transaction mapper.
+     * @param scheduler the scheduler the transactions are mapped and emitted on.
+     */
+    public TransactionPageDecoderVertx(ObjectMapper objectMapper, JsonHelper jsonHelper,
+        TransactionMapper transactionMapper, Scheduler scheduler) {
+        this(objectMapper, jsonHelper, transactionMapper, scheduler, new EventLoopTimer());
+    }
+
+    TransactionPageDecoderVertx(ObjectMapper objectMapper, JsonHelper jsonHelper,
+        TransactionMapper transactionMapper, Scheduler scheduler, EventLoopTimer eventLoopTimer) {
+        this.objectMapper = objectMapper;
+        this.jsonHelper = jsonHelper;
+        this.transactionMapper = transactionMapper;
+        this.scheduler = scheduler;
+        this.eventLoopTimer = eventLoopTimer;
+    }
+
+    /**
+     * Sends the request when subscribed, emitting the transactions of the response page while they
+     * are received. Disposing the returned observable before the response has been received resets
+     * the request, so the rest of the page is not downloaded.
+     *
+     * @param requestSupplier the supplier of the not yet sent request.
+     * @return an observable of the transactions of the page.
+     */
+    public Observable<Transaction> decode(Callable<HttpClientRequest> requestSupplier) {
+        return map(Observable.create(emitter -> {
+            PageStream pageStream = newPageStream(emitter);
+            HttpClientRequest request = requestSupplier.call();
+            AtomicBoolean received = new AtomicBoolean();
+            request.exceptionHandler(emitter::tryOnError);
+            request.handler(eventLoopTimer.time(response -> {
+                response.exceptionHandler(emitter::tryOnError);
+                response.handler(eventLoopTimer.time(pageStream::write));
+                response.endHandler(eventLoopTimer.time(end -> {
+                    received.set(true);
+                    pageStream.end();
+                    pageStream.complete(response.statusCode(), response.statusMessage(),
+                        response.headers());
+                }));
+            }));
+            emitter.setCancellable(() -> {
+                if (!received.get()) {
+                    request.reset();
+                }
+            });
+            request.end();
+        }));
+    }
+
+    /**
+     * Creates the write stream the response body of a single page is written to.
+     *
+     * @param emitter the emitter the transaction infos are sent to.
+     * @return a new {@link PageStream}
+     */
+    PageStream newPageStream(ObservableEmitter<ObjectNode> emitter) throws IOException {
+        return new PageStream(emitter);
+    }
+
+    /**
+     * @param transactionInfos the transaction infos emitted by a {@link PageStream} on the event
+     * loop.
+     * @return the transactions, mapped on the scheduler.
+     */
+    Observable<Transaction> map(Observable<ObjectNode> transactionInfos) {
+        return transactionInfos.observeOn(scheduler).map(this::toTransaction);
+    }
+
+    private Transaction toTransaction(ObjectNode transactionInfoJson) {
+        // The transaction body is handed to the mapper as json tree, only the meta is bound here.
+        TransactionMetaDTO meta = jsonHelper
+            .convert(transactionInfoJson.get("meta"), TransactionMetaDTO.class);
+        return transactionMapper.map(
+            new TransactionInfoDTO().meta(meta).transaction(transactionInfoJson.get("transaction")));
+    }
+
+    /**
+     * The {@link WriteStream} the body chunks of a page are piped to. Tokens are copied into a
+     * {@link TokenBuffer} until a transaction info is complete. A body that is not a json array,
+     * like the error body of a failed request, is kept as is to be reported once the response
+     * completes.
+     */
+    class PageStream implements WriteStream<Buffer> {
+
+        private final ObservableEmitter<ObjectNode> emitter;
+
+        private final JsonParser parser;
+
+        private final ByteArrayFeeder feeder;
+
+        private Buffer head = Buffer.buffer();
+
+        private Buffer unexpectedBody;
+
+        private TokenBuffer transactionInfo;
+
+        private int depth;
+
+        private boolean arrayCompleted;
+
+        private boolean failed;
+
+        private Handler<Throwable> exceptionHandler;
+
+        private PageStream(ObservableEmitter<ObjectNode> emitter) throws IOException {
+            this.emitter = emitter;
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        @Override
+        public PageStream write(Buffer data) {
+            if (failed || emitter.isDisposed()) {
+                return this;
+            }
+            if (unexpectedBody != null) {
+                unexpectedBody.appendBuffer(data);
+                return this;
+            }
+            if (head != null) {
+                head.appendBuffer(data);
+            }
+            try {
+                byte[] bytes = data.getBytes();
+                feeder.feedInput(bytes, 0, bytes.length);
+                readTokens();
+            } catch (Exception e) {
+                handleException(e);
+            }
+            return this;
+        }
+
+        @Override
+        public void end() {
+            if (failed || emitter.isDisposed() || unexpectedBody != null) {
+                return;
+            }
+            try {
+                feeder.endOfInput();
+                readTokens();
+            } catch (Exception e) {
+                handleException(e);
+            }
+        }
+
+        /**
+         * Completes the emitter once the response has been fully received.
+         *
+         * @param statusCode the response status code.
+         * @param statusMessage the response status message.
+         * @param headers the response headers.
+         */
+        void complete(int statusCode, String statusMessage, MultiMap headers) {
+            if (failed || emitter.isDisposed()) {
+                return;
+            }
+            String body = unexpectedBody == null ? null : unexpectedBody.toString();
+            if (statusCode < 200 || statusCode >= 300) {
+                emitter.tryOnError(new ApiException(statusMessage, statusCode, headers, body));
+            } else if (!arrayCompleted) {
+                emitter.tryOnError(new IllegalArgumentException(
+                    "Response is not a transaction page" + (body == null ? "" : ": " + body)));
+            } else {
+                emitter.onComplete();
+            }
+        }
+
+        private void readTokens() throws IOException {
+            JsonToken token;
+            while (!emitter.isDisposed() && (token = parser.nextToken()) != null
+                && token != JsonToken.NOT_AVAILABLE) {
+                if (depth == 0) {
+                    if (arrayCompleted) {
+                        throw new IllegalArgumentException(
+                            "Unexpected token " + token + " after transaction page");
+                    }
+                    if (token != JsonToken.START_ARRAY) {
+                        unexpectedBody = head;
+                        return;
+                    }
+                    head = null;
+                    depth++;
+                } else if (depth == 1) {
+                    if (token == JsonToken.END_ARRAY) {
+                        depth--;
+                        arrayCompleted = true;
+                    } else if (token == JsonToken.START_OBJECT) {
+                        transactionInfo = new TokenBuffer(parser);
+                        transactionInfo.copyCurrentEvent(parser);
+                        depth++;
+                    } else {
+                        throw new IllegalArgumentException(
+                            "Unexpected token " + token + " in transaction page");
+                    }
+                } else {
+                    transactionInfo.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        depth++;
+                    } else if (token.isStructEnd() && --depth == 1) {
+                        ObjectNode transactionInfoJson = objectMapper
+                            .readTree(transactionInfo.asParser(objectMapper));
+                        transactionInfo = null;
+                        emitter.onNext(transactionInfoJson);
+                    }
+                }
+            }
+        }
+
+        private void handleException(Exception e) {
+            if (head != null) {
+                // The body doesn't even start like json, most likely the error page of a proxy.
+                unexpectedBody = head;
+            } else {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable e) {
+            failed = true;
+            transactionInfo = null;
+            if (exceptionHandler != null) {
+                exceptionHandler.handle(e);
+            }
+            emitter.tryOnError(e);
+        }
+
+        @Override
+        public PageStream exceptionHandler(Handler<Throwable> handler) {
+            this.exceptionHandler = handler;
+            return this;
+        }
+
+        @Override
+        public PageStream setWriteQueueMaxSize(int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public PageStream drainHandler(Handler<Void> handler) {
+            return this;
+        }
+    }
+}
@@ -37,6 +37,8 @@ import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionPayload;
 import io.nem.sdk.openapi.vertx.model.TransactionStatusDTO;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import java.util.List;
@@ -55,7 +57,11 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
     private final TransactionMapper transactionMapper;
 
     public TransactionRepositoryVertxImpl(ApiClient apiClient) {
-        super(apiClient);
+        this(apiClient, Schedulers.computation());
+    }
+
+    public TransactionRepositoryVertxImpl(ApiClient apiClient, Scheduler scheduler) {
+        super(apiClient, scheduler);
         client = new TransactionRoutesApiImpl(apiClient);
         transactionMapper = new GeneralTransactionMapper(getJsonHelper());
     }
@@ -17,6 +17,7 @@
 
 package io.nem.sdk.infrastructure.vertx.mappers;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.nem.core.crypto.PublicKey;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
@@ -29,9 +30,10 @@ import io.nem.sdk.model.transaction.TransactionType;
 import io.nem.sdk.openapi.vertx.model.EmbeddedTransactionInfoDTO;
 import io.nem.sdk.openapi.vertx.model.EmbeddedTransactionMetaDTO;
 import io.nem.sdk.openapi.vertx.model.NetworkTypeEnum;
-import io.nem.sdk.openapi.vertx.model.TransactionDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.nem.sdk.openapi.vertx.model.TransactionMetaDTO;
+import java.math.BigInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Abstract transaction mapper for the transaction mappers that support a specific type of
@@ -69,23 +71,27 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
     }
 
     protected final T createModel(TransactionInfo transactionInfo, Object transactionDto) {
-        D transaction = getJsonHelper().convert(transactionDto, transactionDtoClass);
-        TransactionDTO transactionDTO = getJsonHelper()
-            .convert(transactionDto, TransactionDTO.class);
-        NetworkType networkType = NetworkType.rawValueOf(transactionDTO.getNetwork().getValue());
+        // The transaction body is decoded into a json tree once. The specific dto is bound from
+        // the tree and the common attributes are read from it directly.
+        JsonHelper helper = getJsonHelper();
+        ObjectNode transactionJson = helper.convert(transactionDto, ObjectNode.class);
+        D transaction = helper.convert(transactionJson, transactionDtoClass);
+        NetworkType networkType = NetworkType
+            .rawValueOf(helper.getInteger(transactionJson, "network"));
         TransactionFactory<T> factory = createFactory(networkType, transaction);
-        factory.version(transactionDTO.getVersion());
-        factory.deadline(new Deadline(transactionDTO.getDeadline()));
-        if (transactionDTO.getSignerPublicKey() != null) {
-            factory.signer(
-                PublicAccount
-                    .createFromPublicKey(transactionDTO.getSignerPublicKey(), networkType));
+        factory.version(helper.getInteger(transactionJson, "version"));
+        factory.deadline(new Deadline(helper.getBigInteger(transactionJson, "deadline")));
+        String signerPublicKey = helper.getString(transactionJson, "signerPublicKey");
+        if (signerPublicKey != null) {
+            factory.signer(PublicAccount.createFromPublicKey(signerPublicKey, networkType));
         }
-        if (transactionDTO.getSignature() != null) {
-            factory.signature(transactionDTO.getSignature());
+        String signature = helper.getString(transactionJson, "signature");
+        if (signature != null) {
+            factory.signature(signature);
         }
-        if (transactionDTO.getMaxFee() != null) {
-            factory.maxFee(transactionDTO.getMaxFee());
+        BigInteger maxFee = helper.getBigInteger(transactionJson, "maxFee");
+        if (maxFee != null) {
+            factory.maxFee(maxFee);
         }
         if (transactionInfo != null) {
             factory.transactionInfo(transactionInfo);
@@ -161,26 +167,51 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
     }
 
     private D mapTransaction(Transaction transaction, boolean embedded) {
-
-        TransactionDTO dto = new TransactionDTO();
-        dto.setSignerPublicKey(
-            transaction.getSigner().map(PublicAccount::getPublicKey).map(PublicKey::toHex)
-                .orElse(null));
-
-        dto.setVersion(transaction.getVersion());
-        dto.setType(transaction.getType().getValue());
-        dto.setNetwork(NetworkTypeEnum.fromValue(transaction.getNetworkType().getValue()));
-        if (!embedded) {
-            dto.setMaxFee(transaction.getMaxFee());
-            dto.setDeadline(transaction.getDeadline().toBigInteger());
-            dto.setSignature(transaction.getSignature().orElse(null));
-        }
-
-        D specificDto = getJsonHelper().parse(getJsonHelper().print(dto), transactionDtoClass);
+        D specificDto = createDto(new CommonFields(transaction, embedded));
         copyToDto((T) transaction, specificDto);
         return specificDto;
     }
 
+    /**
+     * Subclasses create their specific dto populating the attributes every transaction dto has with
+     * {@link #setCommonFields}.
+     *
+     * @param fields the common attributes of the transaction.
+     * @return the new dto.
+     */
+    protected abstract D createDto(CommonFields fields);
+
+    /**
+     * Sets the attributes every transaction dto has. The generated dtos don't share a common
+     * parent, so the mappers pass the setters of their dto.
+     *
+     * @param dto the new dto.
+     * @param fields the common attributes of the transaction.
+     * @param signerPublicKey the signer public key setter.
+     * @param version the version setter.
+     * @param network the network setter.
+     * @param type the type setter.
+     * @param maxFee the max fee setter.
+     * @param deadline the deadline setter.
+     * @param signature the signature setter.
+     * @param <D> the dto type.
+     * @return the dto.
+     */
+    protected static <D> D setCommonFields(D dto, CommonFields fields,
+        BiConsumer<D, String> signerPublicKey, BiConsumer<D, Integer> version,
+        BiConsumer<D, NetworkTypeEnum> network, BiConsumer<D, Integer> type,
+        BiConsumer<D, BigInteger> maxFee, BiConsumer<D, BigInteger> deadline,
+        BiConsumer<D, String> signature) {
+        signerPublicKey.accept(dto, fields.signerPublicKey);
+        version.accept(dto, fields.version);
+        network.accept(dto, fields.network);
+        type.accept(dto, fields.type);
+        maxFee.accept(dto, fields.maxFee);
+        deadline.accept(dto, fields.deadline);
+        signature.accept(dto, fields.signature);
+        return dto;
+    }
+
     /**
      * Subclasses need to map the values from the transaction model to the transaction dto. Only the
      * specific fields need to be mapped, not the common like maxFee or deadline as they are done in
@@ -201,4 +232,35 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
         return transactionType;
     }
 
+    /**
+     * The attributes every transaction dto has. Embedded transactions don't have maxFee, deadline
+     * or signature, they are null.
+     */
+    protected static class CommonFields {
+
+        private final String signerPublicKey;
+
+        private final Integer version;
+
+        private final NetworkTypeEnum network;
+
+        private final Integer type;
+
+        private final BigInteger maxFee;
+
+        private final BigInteger deadline;
+
+        private final String signature;
+
+        private CommonFields(Transaction transaction, boolean embedded) {
+            this.signerPublicKey = transaction.getSigner().map(PublicAccount::getPublicKey)
+                .map(PublicKey::toHex).orElse(null);
+            this.version = transaction.getVersion();
+            this.network = NetworkTypeEnum.fromValue(transaction.getNetworkType().getValue());
+            this.type = transaction.getType().getValue();
+            this.maxFee = embedded ? null : transaction.getMaxFee();
+            this.deadline = embedded ? null : transaction.getDeadline().toBigInteger();
+            this.signature = embedded ? null : transaction.getSignature().orElse(null);
+        }
+    }
 }
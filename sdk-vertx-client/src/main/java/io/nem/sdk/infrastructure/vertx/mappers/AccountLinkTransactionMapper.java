@@ -37,6 +37,15 @@ class AccountLinkTransactionMapper extends
         super(jsonHelper, TransactionType.ACCOUNT_LINK, AccountLinkTransactionDTO.class);
     }
 
+    @Override
+    protected AccountLinkTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AccountLinkTransactionDTO(), fields,
+            AccountLinkTransactionDTO::setSignerPublicKey, AccountLinkTransactionDTO::setVersion,
+            AccountLinkTransactionDTO::setNetwork, AccountLinkTransactionDTO::setType,
+            AccountLinkTransactionDTO::setMaxFee, AccountLinkTransactionDTO::setDeadline,
+            AccountLinkTransactionDTO::setSignature);
+    }
+
     @Override
     protected AccountLinkTransactionFactory createFactory(NetworkType networkType,
         AccountLinkTransactionDTO dto) {
@@ -38,6 +38,16 @@ class AccountMetadataTransactionMapper extends
             AccountMetadataTransactionDTO.class);
     }
 
+    @Override
+    protected AccountMetadataTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AccountMetadataTransactionDTO(), fields,
+            AccountMetadataTransactionDTO::setSignerPublicKey,
+            AccountMetadataTransactionDTO::setVersion, AccountMetadataTransactionDTO::setNetwork,
+            AccountMetadataTransactionDTO::setType, AccountMetadataTransactionDTO::setMaxFee,
+            AccountMetadataTransactionDTO::setDeadline,
+            AccountMetadataTransactionDTO::setSignature);
+    }
+
     @Override
     protected AccountMetadataTransactionFactory createFactory(NetworkType networkType,
         AccountMetadataTransactionDTO transaction) {
@@ -41,6 +41,18 @@ public class AccountOperationRestrictionTransactionMapper extends
             AccountOperationRestrictionTransactionDTO.class);
     }
 
+    @Override
+    protected AccountOperationRestrictionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AccountOperationRestrictionTransactionDTO(), fields,
+            AccountOperationRestrictionTransactionDTO::setSignerPublicKey,
+            AccountOperationRestrictionTransactionDTO::setVersion,
+            AccountOperationRestrictionTransactionDTO::setNetwork,
+            AccountOperationRestrictionTransactionDTO::setType,
+            AccountOperationRestrictionTransactionDTO::setMaxFee,
+            AccountOperationRestrictionTransactionDTO::setDeadline,
+            AccountOperationRestrictionTransactionDTO::setSignature);
+    }
+
     @Override
     protected AccountOperationRestrictionTransactionFactory createFactory(
         NetworkType networkType, AccountOperationRestrictionTransactionDTO transaction) {
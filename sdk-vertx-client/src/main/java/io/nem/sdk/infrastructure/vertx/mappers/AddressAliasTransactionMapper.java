@@ -42,6 +42,15 @@ class AddressAliasTransactionMapper extends
         super(jsonHelper, TransactionType.ADDRESS_ALIAS, AddressAliasTransactionDTO.class);
     }
 
+    @Override
+    protected AddressAliasTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new AddressAliasTransactionDTO(), fields,
+            AddressAliasTransactionDTO::setSignerPublicKey, AddressAliasTransactionDTO::setVersion,
+            AddressAliasTransactionDTO::setNetwork, AddressAliasTransactionDTO::setType,
+            AddressAliasTransactionDTO::setMaxFee, AddressAliasTransactionDTO::setDeadline,
+            AddressAliasTransactionDTO::setSignature);
+    }
+
     @Override
     protected AddressAliasTransactionFactory createFactory(NetworkType networkType,
         AddressAliasTransactionDTO transaction) {
@@ -39,6 +39,15 @@ class HashLockTransactionMapper extends
         super(jsonHelper, TransactionType.LOCK, HashLockTransactionDTO.class);
     }
 
+    @Override
+    protected HashLockTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new HashLockTransactionDTO(), fields,
+            HashLockTransactionDTO::setSignerPublicKey, HashLockTransactionDTO::setVersion,
+            HashLockTransactionDTO::setNetwork, HashLockTransactionDTO::setType,
+            HashLockTransactionDTO::setMaxFee, HashLockTransactionDTO::setDeadline,
+            HashLockTransactionDTO::setSignature);
+    }
+
     private Mosaic getMosaic(HashLockTransactionDTO mosaic) {
         return new Mosaic(toMosaicId(mosaic.getMosaicId()),
             mosaic.getAmount());
@@ -40,6 +40,18 @@ class MosaicAddressRestrictionTransactionMapper extends
             MosaicAddressRestrictionTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicAddressRestrictionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicAddressRestrictionTransactionDTO(), fields,
+            MosaicAddressRestrictionTransactionDTO::setSignerPublicKey,
+            MosaicAddressRestrictionTransactionDTO::setVersion,
+            MosaicAddressRestrictionTransactionDTO::setNetwork,
+            MosaicAddressRestrictionTransactionDTO::setType,
+            MosaicAddressRestrictionTransactionDTO::setMaxFee,
+            MosaicAddressRestrictionTransactionDTO::setDeadline,
+            MosaicAddressRestrictionTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<MosaicAddressRestrictionTransaction> createFactory(
         NetworkType networkType,
@@ -41,6 +41,15 @@ class MosaicAliasTransactionMapper extends
         super(jsonHelper, TransactionType.MOSAIC_ALIAS, MosaicAliasTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicAliasTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicAliasTransactionDTO(), fields,
+            MosaicAliasTransactionDTO::setSignerPublicKey, MosaicAliasTransactionDTO::setVersion,
+            MosaicAliasTransactionDTO::setNetwork, MosaicAliasTransactionDTO::setType,
+            MosaicAliasTransactionDTO::setMaxFee, MosaicAliasTransactionDTO::setDeadline,
+            MosaicAliasTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<MosaicAliasTransaction> createFactory(NetworkType networkType,
         MosaicAliasTransactionDTO transaction) {
@@ -42,6 +42,16 @@ class MosaicDefinitionTransactionMapper extends
         super(jsonHelper, TransactionType.MOSAIC_DEFINITION, MosaicDefinitionTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicDefinitionTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicDefinitionTransactionDTO(), fields,
+            MosaicDefinitionTransactionDTO::setSignerPublicKey,
+            MosaicDefinitionTransactionDTO::setVersion, MosaicDefinitionTransactionDTO::setNetwork,
+            MosaicDefinitionTransactionDTO::setType, MosaicDefinitionTransactionDTO::setMaxFee,
+            MosaicDefinitionTransactionDTO::setDeadline,
+            MosaicDefinitionTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<MosaicDefinitionTransaction> createFactory(NetworkType networkType,
         MosaicDefinitionTransactionDTO transaction) {
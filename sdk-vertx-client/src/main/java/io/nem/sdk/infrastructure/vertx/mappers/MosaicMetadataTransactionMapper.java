@@ -40,6 +40,15 @@ class MosaicMetadataTransactionMapper extends
             MosaicMetadataTransactionDTO.class);
     }
 
+    @Override
+    protected MosaicMetadataTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new MosaicMetadataTransactionDTO(), fields,
+            MosaicMetadataTransactionDTO::setSignerPublicKey,
+            MosaicMetadataTransactionDTO::setVersion, MosaicMetadataTransactionDTO::setNetwork,
+            MosaicMetadataTransactionDTO::setType, MosaicMetadataTransactionDTO::setMaxFee,
+            MosaicMetadataTransactionDTO::setDeadline, MosaicMetadataTransactionDTO::setSignature);
+    }
+
     @Override
     protected MosaicMetadataTransactionFactory createFactory(NetworkType networkType,
         MosaicMetadataTransactionDTO transaction) {
@@ -40,6 +40,17 @@ class NamespaceMetadataTransactionMapper extends
             NamespaceMetadataTransactionDTO.class);
     }
 
+    @Override
+    protected NamespaceMetadataTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new NamespaceMetadataTransactionDTO(), fields,
+            NamespaceMetadataTransactionDTO::setSignerPublicKey,
+            NamespaceMetadataTransactionDTO::setVersion,
+            NamespaceMetadataTransactionDTO::setNetwork, NamespaceMetadataTransactionDTO::setType,
+            NamespaceMetadataTransactionDTO::setMaxFee,
+            NamespaceMetadataTransactionDTO::setDeadline,
+            NamespaceMetadataTransactionDTO::setSignature);
+    }
+
     @Override
     protected NamespaceMetadataTransactionFactory createFactory(NetworkType networkType,
         NamespaceMetadataTransactionDTO transaction) {
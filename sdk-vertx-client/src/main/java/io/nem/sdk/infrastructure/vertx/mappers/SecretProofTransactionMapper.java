@@ -38,6 +38,15 @@ class SecretProofTransactionMapper extends
         super(jsonHelper, TransactionType.SECRET_PROOF, SecretProofTransactionDTO.class);
     }
 
+    @Override
+    protected SecretProofTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new SecretProofTransactionDTO(), fields,
+            SecretProofTransactionDTO::setSignerPublicKey, SecretProofTransactionDTO::setVersion,
+            SecretProofTransactionDTO::setNetwork, SecretProofTransactionDTO::setType,
+            SecretProofTransactionDTO::setMaxFee, SecretProofTransactionDTO::setDeadline,
+            SecretProofTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<SecretProofTransaction> createFactory(NetworkType networkType,
         SecretProofTransactionDTO transaction) {
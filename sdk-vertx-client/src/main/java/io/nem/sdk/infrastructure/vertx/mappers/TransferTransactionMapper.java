@@ -51,6 +51,15 @@ class TransferTransactionMapper extends
         super(jsonHelper, TransactionType.TRANSFER, TransferTransactionDTO.class);
     }
 
+    @Override
+    protected TransferTransactionDTO createDto(CommonFields fields) {
+        return setCommonFields(new TransferTransactionDTO(), fields,
+            TransferTransactionDTO::setSignerPublicKey, TransferTransactionDTO::setVersion,
+            TransferTransactionDTO::setNetwork, TransferTransactionDTO::setType,
+            TransferTransactionDTO::setMaxFee, TransferTransactionDTO::setDeadline,
+            TransferTransactionDTO::setSignature);
+    }
+
     @Override
     protected TransactionFactory<TransferTransaction> createFactory(NetworkType networkType,
         TransferTransactionDTO transaction) {
@@ -28,9 +28,15 @@ import io.reactivex.Observable;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -46,6 +52,8 @@ public abstract class AbstractVertxRespositoryTest {
 
     protected ApiClient apiClientMock;
 
+    protected HttpClient httpClientMock;
+
     protected JsonHelper jsonHelper;
 
     protected final NetworkType networkType = NetworkType.MIJIN_TEST;
@@ -55,6 +63,7 @@ public abstract class AbstractVertxRespositoryTest {
     @BeforeEach
     public void setUp() {
         apiClientMock = Mockito.mock(ApiClient.class);
+        httpClientMock = Mockito.mock(HttpClient.class);
         ObjectMapper objectMapper = JsonHelperJackson2.configureMapper(new ObjectMapper());
         jsonHelper = new JsonHelperJackson2(objectMapper);
         Mockito.when(apiClientMock.getObjectMapper()).thenReturn(objectMapper);
@@ -90,6 +99,54 @@ public abstract class AbstractVertxRespositoryTest {
 
     }
 
+    /**
+     * Mocks the http client telling what would it be the next raw response. Unlike {@link
+     * #mockRemoteCall(Object)}, the response body is written in chunks to the response handler, so
+     * it can be used when the repository reads the body itself.
+     *
+     * @param statusCode the status code of the response.
+     * @param body the raw response body.
+     * @return the mocked request.
+     */
+    @SuppressWarnings("unchecked")
+    protected HttpClientRequest mockRemoteBody(int statusCode, String body) {
+        HttpClientRequest request = Mockito.mock(HttpClientRequest.class);
+        HttpClientResponse response = Mockito.mock(HttpClientResponse.class);
+        AtomicReference<Handler<HttpClientResponse>> responseHandler = new AtomicReference<>();
+        AtomicReference<Handler<Buffer>> bodyHandler = new AtomicReference<>();
+        AtomicReference<Handler<Void>> endHandler = new AtomicReference<>();
+        Mockito.when(apiClientMock.getDefaultHeaders())
+            .thenReturn(MultiMap.caseInsensitiveMultiMap());
+        Mockito.when(httpClientMock.getAbs(Mockito.anyString())).thenReturn(request);
+        Mockito.when(request.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        Mockito.when(request.putHeader(Mockito.anyString(), Mockito.anyString()))
+            .thenReturn(request);
+        Mockito.when(request.handler(Mockito.any())).thenAnswer(invocation -> {
+            responseHandler.set((Handler<HttpClientResponse>) invocation.getArguments()[0]);
+            return request;
+        });
+        Mockito.when(response.statusCode()).thenReturn(statusCode);
+        Mockito.when(response.statusMessage())
+            .thenReturn(HttpStatus.valueOf(statusCode).getReasonPhrase());
+        Mockito.when(response.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        Mockito.when(response.handler(Mockito.any())).thenAnswer(invocation -> {
+            bodyHandler.set((Handler<Buffer>) invocation.getArguments()[0]);
+            return response;
+        });
+        Mockito.when(response.endHandler(Mockito.any())).thenAnswer(invocation -> {
+            endHandler.set((Handler<Void>) invocation.getArguments()[0]);
+            return response;
+        });
+        Mockito.doAnswer((Answer<Void>) invocation -> {
+            responseHandler.get().handle(response);
+            int middle = body.length() / 2;
+            bodyHandler.get().handle(Buffer.buffer(body.substring(0, middle)));
+            bodyHandler.get().handle(Buffer.buffer(body.substring(middle)));
+            endHandler.get().handle(null);
+            return null;
+        }).when(request).end();
+        return request;
+    }
 
     /**
      * Mocks the api client telling that the next time there is remote call, an error should be
@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.vertx;
 
+import static io.nem.sdk.infrastructure.vertx.TestHelperVertx.loadResource;
 import static io.nem.sdk.infrastructure.vertx.TestHelperVertx.loadTransactionInfoDTO;
 
 import io.nem.core.utils.ExceptionUtils;
@@ -33,6 +34,7 @@ import io.nem.sdk.openapi.vertx.model.AccountDTO;
 import io.nem.sdk.openapi.vertx.model.AccountInfoDTO;
 import io.nem.sdk.openapi.vertx.model.AccountTypeEnum;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.reactivex.schedulers.Schedulers;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -52,7 +54,8 @@ public class AccountRepositoryVertxImplTest extends AbstractVertxRespositoryTest
     @BeforeEach
     public void setUp() {
         super.setUp();
-        repository = new AccountRepositoryVertxImpl(apiClientMock);
+        repository = new AccountRepositoryVertxImpl(apiClientMock, httpClientMock,
+            Schedulers.computation());
     }
 
     @Test
@@ -120,6 +123,69 @@ public class AccountRepositoryVertxImplTest extends AbstractVertxRespositoryTest
         Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
     }
 
+    @Test
+    public void streamTransactions() throws Exception {
+
+        String page = "[" + loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json") + ","
+            + loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json")
+            + "]";
+
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteBody(200, page);
+
+        List<Transaction> transactions = repository
+            .streamTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+
+        transactions = repository
+            .streamIncomingTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+
+        transactions = repository
+            .streamOutgoingTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+    }
+
+    @Test
+    public void streamTransactionsWithoutHttpClient() throws Exception {
+        TransactionInfoDTO transferTransactionDTO = loadTransactionInfoDTO(
+            "shouldCreateStandaloneTransferTransaction.json");
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteCall(Collections.singletonList(transferTransactionDTO));
+
+        List<Transaction> transactions = new AccountRepositoryVertxImpl(apiClientMock)
+            .streamTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+            .toFuture().get();
+        Assertions.assertEquals(1, transactions.size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+    }
+
+    @Test
+    public void streamTransactionsWhenError() {
+
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteBody(404, "{\"code\":\"ResourceNotFound\",\"message\":\"Not found\"}");
+
+        RepositoryCallException exception = Assertions
+            .assertThrows(RepositoryCallException.class, () -> {
+                ExceptionUtils.propagate(() -> repository
+                    .streamTransactions(publicAccount, new TransactionSearchCriteria()).toList()
+                    .toFuture().get());
+            });
+        Assertions.assertEquals(404, exception.getStatusCode());
+        Assertions.assertEquals("ApiException: Not Found - 404 - ResourceNotFound - Not found",
+            exception.getMessage());
+    }
+
     @Test
     public void outgoingTransactions() throws Exception {
 
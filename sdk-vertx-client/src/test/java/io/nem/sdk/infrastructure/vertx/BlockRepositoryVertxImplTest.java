@@ -16,6 +16,7 @@
 
 package io.nem.sdk.infrastructure.vertx;
 
+import static io.nem.sdk.infrastructure.vertx.TestHelperVertx.loadResource;
 import static io.nem.sdk.infrastructure.vertx.TestHelperVertx.loadTransactionInfoDTO;
 
 import io.nem.sdk.api.QueryParams;
@@ -31,6 +32,7 @@ import io.nem.sdk.openapi.vertx.model.MerklePathItemDTO;
 import io.nem.sdk.openapi.vertx.model.MerkleProofInfoDTO;
 import io.nem.sdk.openapi.vertx.model.NetworkTypeEnum;
 import io.nem.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.reactivex.schedulers.Schedulers;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,7 +53,8 @@ public class BlockRepositoryVertxImplTest extends AbstractVertxRespositoryTest {
     @BeforeEach
     public void setUp() {
         super.setUp();
-        repository = new BlockRepositoryVertxImpl(apiClientMock);
+        repository = new BlockRepositoryVertxImpl(apiClientMock, httpClientMock,
+            Schedulers.computation());
     }
 
     @Test
@@ -77,6 +80,19 @@ public class BlockRepositoryVertxImplTest extends AbstractVertxRespositoryTest {
 
     }
 
+    @Test
+    public void streamBlockTransactions() throws Exception {
+
+        mockRemoteBody(200, "[" + loadResource(
+            "TransactionMapping-shouldCreateAggregateTransferTransaction.json") + "]");
+
+        List<Transaction> transactions = repository
+            .streamBlockTransactions(BigInteger.ONE, new QueryParams(1, "id")).toList()
+            .toFuture().get();
+        Assertions.assertEquals(1, transactions.size());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(0).getType());
+    }
+
     @Test
     public void getMerkleTransaction() throws Exception {
 
@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CallSiteCapture}
+ */
+public class CallSiteCaptureTest {
+
+    @Test
+    public void shouldParseTheModeInAnyCase() {
+        Assertions.assertEquals(CallSiteCapture.SAMPLED, CallSiteCapture.parse("sampled"));
+        Assertions.assertEquals(CallSiteCapture.NONE, CallSiteCapture.parse(" None "));
+        Assertions.assertEquals(CallSiteCapture.ALL, CallSiteCapture.parse("ALL"));
+    }
+
+    @Test
+    public void shouldUseAllWhenTheModeIsMissingOrUnknown() {
+        Assertions.assertEquals(CallSiteCapture.ALL, CallSiteCapture.parse(null));
+        Assertions.assertEquals(CallSiteCapture.ALL, CallSiteCapture.parse("sometimes"));
+    }
+}
@@ -16,7 +16,9 @@
 
 package io.nem.sdk.infrastructure.vertx;
 
+import io.nem.sdk.api.RepositoryCallException;
 import io.nem.sdk.model.blockchain.BlockchainScore;
+import io.nem.sdk.openapi.vertx.invoker.ApiException;
 import io.nem.sdk.openapi.vertx.model.ChainScoreDTO;
 import io.nem.sdk.openapi.vertx.model.HeightInfoDTO;
 import java.math.BigInteger;
@@ -60,4 +62,31 @@ public class ChainRepositoryVertxImplTest extends AbstractVertxRespositoryTest {
         Assertions.assertEquals((dto.getScoreHigh()), blockchainScore.getScoreHigh());
     }
 
+    @Test
+    public void shouldUseTheCallSiteAsCause() {
+        mockErrorCode(404, "Not found");
+
+        RepositoryCallException e = Assertions.assertThrows(RepositoryCallException.class,
+            () -> repository.getBlockchainHeight().blockingFirst());
+
+        Assertions.assertEquals("Original call", e.getCause().getMessage());
+        Assertions.assertEquals(404, e.getStatusCode());
+    }
+
+    @Test
+    public void shouldUseTheErrorAsCauseWhenTheCallSiteIsNotCaptured() {
+        mockErrorCode(404, "Not found");
+        CallSiteCapture.setMode(CallSiteCapture.NONE);
+        try {
+            RepositoryCallException e = Assertions.assertThrows(RepositoryCallException.class,
+                () -> repository.getBlockchainHeight().blockingFirst());
+
+            Assertions.assertTrue(e.getCause() instanceof ApiException);
+            Assertions.assertEquals("ApiException: Not Found - 404 - Code Not Found - Not found",
+                e.getMessage());
+        } finally {
+            CallSiteCapture.setMode(CallSiteCapture.ALL);
+        }
+    }
+
 }
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.nem.sdk.model.transaction.JsonHelper;
 import java.math.BigInteger;
+import java.util.Map;
 import java.util.Objects;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -113,6 +114,30 @@ public class JsonHelperJackson2Test {
         Assertions.assertEquals(json, jsonHelper.print(parsedCar));
     }
 
+    @Test
+    public void shouldConvertObjectIntoTreeAndBack() {
+        Car car = new Car("Renault", "Scenic", 2005);
+
+        ObjectNode tree = jsonHelper.convert(car, ObjectNode.class);
+        Assertions.assertEquals("Renault", jsonHelper.getString(tree, "brand"));
+        Assertions.assertEquals(car.getYear(), jsonHelper.getBigInteger(tree, "year"));
+        Assertions.assertSame(tree, jsonHelper.convert(tree, ObjectNode.class));
+
+        Assertions.assertEquals(car, jsonHelper.convert(tree, Car.class));
+
+        Map<String, Object> map = jsonHelper.convert(car, Map.class);
+        Assertions.assertEquals("Scenic", map.get("model"));
+        Assertions.assertEquals(car, jsonHelper.convert(map, Car.class));
+    }
+
+    @Test
+    public void shouldFailWhenConvertingInvalid() {
+        ObjectNode tree = jsonHelper.convert(new Car("Renault", "Scenic", 2005), ObjectNode.class);
+        tree.put("year", "notANumber");
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> jsonHelper.convert(tree, Car.class));
+    }
+
     @Test
     public void shouldReturnValues() {
         Car car = new Car("Renault", "11", 1989);
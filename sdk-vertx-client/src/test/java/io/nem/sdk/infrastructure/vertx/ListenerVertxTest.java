@@ -23,6 +23,7 @@ import io.nem.core.utils.MapperUtils;
 import io.nem.sdk.api.Listener;
 import io.nem.sdk.infrastructure.ListenerChannel;
 import io.nem.sdk.infrastructure.ListenerSubscribeMessage;
+import io.nem.sdk.infrastructure.ListenerUnsubscribeMessage;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.account.PublicAccount;
@@ -113,7 +114,7 @@ public class ListenerVertxTest {
 
         simulateWebSocketStartup();
 
-        Assertions.assertNotNull(listener.newBlock());
+        Assertions.assertNotNull(listener.newBlock().subscribe());
 
         Assertions.assertEquals(wsId, listener.getUid());
 
@@ -264,6 +265,10 @@ public class ListenerVertxTest {
             .writeTextMessage(jsonHelper
                 .print(new ListenerSubscribeMessage(this.wsId, "status" + "/" + address.plain())));
 
+        Mockito.verify(webSocketMock).writeTextMessage(jsonHelper.print(
+            new ListenerUnsubscribeMessage(this.wsId, channelName + "/" + address.plain())));
+        Mockito.verify(webSocketMock).writeTextMessage(jsonHelper
+            .print(new ListenerUnsubscribeMessage(this.wsId, "status" + "/" + address.plain())));
     }
 
     @Test
@@ -356,6 +361,10 @@ public class ListenerVertxTest {
             .writeTextMessage(jsonHelper
                 .print(new ListenerSubscribeMessage(this.wsId, "status" + "/" + address.plain())));
 
+        Mockito.verify(webSocketMock).writeTextMessage(jsonHelper.print(
+            new ListenerUnsubscribeMessage(this.wsId, channelName + "/" + address.plain())));
+        Mockito.verify(webSocketMock).writeTextMessage(jsonHelper
+            .print(new ListenerUnsubscribeMessage(this.wsId, "status" + "/" + address.plain())));
     }
 
     private void simulateWebSocketStartup()
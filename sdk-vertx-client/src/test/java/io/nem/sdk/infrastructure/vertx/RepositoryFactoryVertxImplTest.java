@@ -17,8 +17,24 @@
 package io.nem.sdk.infrastructure.vertx;
 
 import io.nem.catapult.builders.GeneratorUtils;
+import io.nem.core.metrics.MetricsRecorder;
+import io.nem.core.metrics.SdkMetric;
+import io.nem.core.metrics.SdkMetrics;
 import io.nem.sdk.api.RepositoryCallException;
 import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.SchedulerConfiguration;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.Vertx;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +71,87 @@ public class RepositoryFactoryVertxImplTest {
         factory.close();
     }
 
+    @Test
+    public void shouldCreateRepositoriesWithTransportConfiguration() {
+        RepositoryFactory factory = new RepositoryFactoryVertxImpl("https://nem.com:3000/path",
+            new TransportConfiguration().maxConnections(2).keepAlive(Duration.ZERO)
+                .pipelining(true).compression(false).readTimeout(Duration.ofMillis(1500)));
+        Assertions.assertNotNull(factory.createAccountRepository());
+        Assertions.assertNotNull(factory.createListener());
+        factory.close();
+    }
+
+    @Test
+    public void shouldNotCloseTheSharedVertx() {
+        Vertx vertx = Vertx.vertx();
+        try {
+            new RepositoryFactoryVertxImpl("http://localhost:3000", vertx,
+                new TransportConfiguration()).close();
+
+            CompletableFuture<Boolean> ran = new CompletableFuture<>();
+            vertx.runOnContext(v -> ran.complete(true));
+            Assertions.assertTrue(
+                GeneratorUtils.propagate(() -> ran.get(5, TimeUnit.SECONDS)));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void shouldHandleTheResponsesOnTheMappingScheduler() throws InterruptedException {
+        ExecutorService executor = Executors
+            .newSingleThreadExecutor(runnable -> new Thread(runnable, "mapping"));
+        RepositoryFactoryVertxImpl factory = new RepositoryFactoryVertxImpl(
+            "http://localhost:1934", new TransportConfiguration(),
+            new SchedulerConfiguration().mappingScheduler(Schedulers.from(executor)));
+        try {
+            String thread = factory.createChainRepository().getBlockchainHeight()
+                .map(height -> "").onErrorReturn(e -> Thread.currentThread().getName())
+                .blockingFirst();
+
+            Assertions.assertEquals("mapping", thread);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (factory.getEventLoopMetrics().getHandlers() == 0
+                && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            EventLoopMetrics metrics = factory.getEventLoopMetrics();
+            Assertions.assertEquals(1, metrics.getHandlers());
+            Assertions.assertEquals(metrics.getBlockingTime(), metrics.getMaxBlockingTime());
+        } finally {
+            factory.close();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRecordTheCallsPerEndpoint() {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        SdkMetrics.setRecorder(new MetricsRecorder() {
+            @Override
+            public void recordTime(SdkMetric metric, String tag, long nanos) {
+                calls.add(metric + " " + tag);
+            }
+
+            @Override
+            public void count(SdkMetric metric, String tag, long amount) {
+                calls.add(metric + " " + tag + " " + amount);
+            }
+        });
+        RepositoryFactoryVertxImpl factory = new RepositoryFactoryVertxImpl(
+            "http://localhost:1934");
+        try {
+            factory.createChainRepository().getBlockchainHeight()
+                .onErrorReturnItem(BigInteger.ZERO).blockingFirst();
+
+            Assertions.assertEquals(
+                Collections.singletonList("REPOSITORY_CALL GET /chain/height"), calls);
+        } finally {
+            SdkMetrics.setRecorder(null);
+            factory.close();
+        }
+    }
+
     @Test
     public void getNetworkTypeFailWhenInvalidServer() {
         String baseUrl = "https://localhost:1934/path";
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.sdk.infrastructure.vertx;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nem.sdk.api.RepositoryFactory;
+import io.nem.sdk.infrastructure.TransportConfiguration;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SharedTransportVertx}
+ */
+public class SharedTransportVertxTest {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    private final SharedTransportVertx transport = new SharedTransportVertx(
+        new TransportConfiguration().maxConnections(4));
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void shouldShareTheTransportBetweenTheGateways() throws IOException {
+        RepositoryFactory first = transport.createRepositoryFactory(startGateway(10));
+        RepositoryFactory second = transport.createRepositoryFactory(startGateway(20));
+
+        Assertions.assertEquals(BigInteger.valueOf(10), getHeight(first));
+        Assertions.assertEquals(BigInteger.valueOf(20), getHeight(second));
+
+        first.close();
+        Assertions.assertEquals(BigInteger.valueOf(20), getHeight(second));
+        Assertions.assertEquals(BigInteger.valueOf(10),
+            getHeight(transport.createRepositoryFactory(getUrl(servers.get(0)))));
+    }
+
+    @Test
+    void shouldReleaseTheSharedResourcesWhenClosed() throws IOException {
+        RepositoryFactory factory = transport.createRepositoryFactory(startGateway(10));
+        Assertions.assertEquals(BigInteger.valueOf(10), getHeight(factory));
+
+        transport.close();
+
+        Assertions.assertThrows(RuntimeException.class, () -> getHeight(factory));
+    }
+
+    private static BigInteger getHeight(RepositoryFactory factory) {
+        return factory.createChainRepository().getBlockchainHeight()
+            .timeout(10, TimeUnit.SECONDS).blockingFirst();
+    }
+
+    private String startGateway(int height) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/chain/height", exchange -> {
+            byte[] bytes = ("{\"height\":\"" + height + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return getUrl(server);
+    }
+
+    private static String getUrl(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2019 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure.vertx;
+
+import static io.nem.sdk.infrastructure.vertx.TestHelperVertx.loadResource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.nem.sdk.infrastructure.vertx.TransactionPageDecoderVertx.PageStream;
+import io.nem.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
+import io.nem.sdk.model.transaction.JsonHelper;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.nem.sdk.openapi.vertx.invoker.ApiException;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Unit Tests for {@link TransactionPageDecoderVertx}
+ */
+public class TransactionPageDecoderVertxTest {
+
+    private ObjectMapper objectMapper;
+
+    private JsonHelper jsonHelper;
+
+    private EventLoopTimer eventLoopTimer;
+
+    private TransactionPageDecoderVertx decoder;
+
+    private PageStream pageStream;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = JsonHelperJackson2.configureMapper(new ObjectMapper());
+        jsonHelper = new JsonHelperJackson2(objectMapper);
+        eventLoopTimer = new EventLoopTimer();
+        decoder = new TransactionPageDecoderVertx(objectMapper, jsonHelper,
+            new GeneralTransactionMapper(jsonHelper), Schedulers.trampoline(), eventLoopTimer);
+    }
+
+    @Test
+    public void shouldDecodePageInChunks() {
+        String page = "[" + loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json") + ","
+            + loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json")
+            + "]";
+
+        TestObserver<Transaction> observer = subscribe();
+        for (int i = 0; i < page.length(); i += 7) {
+            pageStream.write(Buffer.buffer(page.substring(i, Math.min(i + 7, page.length()))));
+        }
+        pageStream.end();
+        pageStream.complete(200, "OK", MultiMap.caseInsensitiveMultiMap());
+
+        observer.assertComplete();
+        observer.assertValueCount(2);
+        Assertions.assertEquals(TransactionType.TRANSFER, observer.values().get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE,
+            observer.values().get(1).getType());
+    }
+
+    @Test
+    public void shouldEmitBeforeTheWholePageIsReceived() {
+        String transaction = loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json");
+
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer("[" + transaction + ","));
+        observer.assertValueCount(1);
+        observer.assertNotComplete();
+
+        pageStream.write(Buffer.buffer(transaction + "]"));
+        pageStream.end();
+        pageStream.complete(200, "OK", MultiMap.caseInsensitiveMultiMap());
+        observer.assertValueCount(2);
+        observer.assertComplete();
+    }
+
+    @Test
+    public void shouldMapTheTransactionsOnTheScheduler() {
+        TestScheduler scheduler = new TestScheduler();
+        decoder = new TransactionPageDecoderVertx(objectMapper, jsonHelper,
+            new GeneralTransactionMapper(jsonHelper), scheduler);
+        String transaction = loadResource(
+            "TransactionMapping-shouldCreateStandaloneTransferTransaction.json");
+
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer("[" + transaction + "," + transaction + "]"));
+        pageStream.end();
+        pageStream.complete(200, "OK", MultiMap.caseInsensitiveMultiMap());
+        observer.assertNoValues();
+
+        scheduler.triggerActions();
+        observer.assertValueCount(2);
+        observer.assertComplete();
+    }
+
+    @Test
+    public void shouldReportErrorBody() {
+        String errorBody = "{\"code\":\"ResourceNotFound\",\"message\":\"Not found\"}";
+
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer(errorBody.substring(0, 10)));
+        pageStream.write(Buffer.buffer(errorBody.substring(10)));
+        pageStream.end();
+        pageStream.complete(404, "Not Found", MultiMap.caseInsensitiveMultiMap());
+
+        observer.assertError(ApiException.class);
+        ApiException exception = (ApiException) observer.errors().get(0);
+        Assertions.assertEquals(404, exception.getCode());
+        Assertions.assertEquals(errorBody, exception.getResponseBody());
+    }
+
+    @Test
+    public void shouldReportRawErrorBody() {
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer("I'm a raw error, not json"));
+        pageStream.end();
+        pageStream.complete(400, "Bad Request", MultiMap.caseInsensitiveMultiMap());
+
+        observer.assertError(ApiException.class);
+        Assertions.assertEquals("I'm a raw error, not json",
+            ((ApiException) observer.errors().get(0)).getResponseBody());
+    }
+
+    @Test
+    public void shouldFailWhenNotAnArray() {
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer("{\"some\":\"object\"}"));
+        pageStream.end();
+        pageStream.complete(200, "OK", MultiMap.caseInsensitiveMultiMap());
+
+        observer.assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldFailWhenPageIsIncomplete() {
+        TestObserver<Transaction> observer = subscribe();
+        pageStream.write(Buffer.buffer("[{\"meta\":"));
+        pageStream.end();
+        pageStream.complete(200, "OK", MultiMap.caseInsensitiveMultiMap());
+
+        observer.assertError(Exception.class);
+        observer.assertNoValues();
+    }
+
+    @Test
+    public void shouldResetTheRequestWhenDisposed() {
+        HttpClientRequest request = Mockito.mock(HttpClientRequest.class);
+
+        TestObserver<Transaction> observer = decoder.decode(() -> request).test();
+        Mockito.verify(request).end();
+        observer.dispose();
+
+        Mockito.verify(request).reset();
+    }
+
+    @Test
+    public void shouldNotResetTheRequestOnceReceived() {
+        HttpClientRequest request = Mockito.mock(HttpClientRequest.class);
+        HttpClientResponse response = Mockito.mock(HttpClientResponse.class);
+        Mockito.when(response.statusCode()).thenReturn(200);
+        Mockito.when(response.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+
+        TestObserver<Transaction> observer = decoder.decode(() -> request).test();
+        ArgumentCaptor<Handler> responseHandler = ArgumentCaptor.forClass(Handler.class);
+        Mockito.verify(request).handler(responseHandler.capture());
+        responseHandler.getValue().handle(response);
+        ArgumentCaptor<Handler> bodyHandler = ArgumentCaptor.forClass(Handler.class);
+        ArgumentCaptor<Handler> endHandler = ArgumentCaptor.forClass(Handler.class);
+        Mockito.verify(response).handler(bodyHandler.capture());
+        Mockito.verify(response).endHandler(endHandler.capture());
+        bodyHandler.getValue().handle(Buffer.buffer("[]"));
+        endHandler.getValue().handle(null);
+
+        observer.assertComplete();
+        Mockito.verify(request, Mockito.never()).reset();
+        Assertions.assertEquals(3, eventLoopTimer.getMetrics().getHandlers());
+    }
+
+    private TestObserver<Transaction> subscribe() {
+        return decoder.map(
+            Observable.<ObjectNode>create(emitter -> pageStream = decoder.newPageStream(emitter)))
+            .test();
+    }
+}